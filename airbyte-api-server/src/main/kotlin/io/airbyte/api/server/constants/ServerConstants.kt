@@ -38,4 +38,4 @@ const val MESSAGE = "message"
 
 const val PARTIAL_UPDATE_OAUTH_KEY = "PARTIAL_UPDATE_OAUTH_KEY"
 
-const val HTTP_RESPONSE_BODY_DEBUG_MESSAGE = "HttpResponse body: "
+const val HTTP_RESPONSE_BODY_DEBUG_MESSAGE = "HttpResponse body: {}"
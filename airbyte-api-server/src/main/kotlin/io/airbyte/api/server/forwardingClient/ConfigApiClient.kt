@@ -9,20 +9,17 @@ import io.airbyte.api.client.model.generated.CompleteSourceOauthRequest
 import io.airbyte.api.client.model.generated.ConnectionCreate
 import io.airbyte.api.client.model.generated.ConnectionIdRequestBody
 import io.airbyte.api.client.model.generated.ConnectionRead
-import io.airbyte.api.client.model.generated.ConnectionReadList
 import io.airbyte.api.client.model.generated.ConnectionUpdate
 import io.airbyte.api.client.model.generated.DestinationCreate
 import io.airbyte.api.client.model.generated.DestinationDefinitionIdWithWorkspaceId
 import io.airbyte.api.client.model.generated.DestinationDefinitionSpecificationRead
 import io.airbyte.api.client.model.generated.DestinationIdRequestBody
 import io.airbyte.api.client.model.generated.DestinationRead
-import io.airbyte.api.client.model.generated.DestinationReadList
 import io.airbyte.api.client.model.generated.DestinationUpdate
 import io.airbyte.api.client.model.generated.JobIdRequestBody
 import io.airbyte.api.client.model.generated.JobInfoRead
 import io.airbyte.api.client.model.generated.JobListForWorkspacesRequestBody
 import io.airbyte.api.client.model.generated.JobListRequestBody
-import io.airbyte.api.client.model.generated.JobReadList
 import io.airbyte.api.client.model.generated.ListConnectionsForWorkspacesRequestBody
 import io.airbyte.api.client.model.generated.ListResourcesForWorkspacesRequestBody
 import io.airbyte.api.client.model.generated.OAuthConsentRead
@@ -36,7 +33,6 @@ import io.airbyte.api.client.model.generated.SourceDiscoverSchemaRequestBody
 import io.airbyte.api.client.model.generated.SourceIdRequestBody
 import io.airbyte.api.client.model.generated.SourceOauthConsentRequest
 import io.airbyte.api.client.model.generated.SourceRead
-import io.airbyte.api.client.model.generated.SourceReadList
 import io.airbyte.api.client.model.generated.SourceUpdate
 import io.airbyte.api.client.model.generated.WorkspaceCreate
 import io.airbyte.api.client.model.generated.WorkspaceIdRequestBody
@@ -66,6 +62,9 @@ import io.micronaut.http.client.annotation.Client
  * Worth noting that status codes > 400 will throw an HttpClientResponseException EXCEPT 404s which
  * will just return an HttpResponse with statusCode 404
  * https://docs.micronaut.io/latest/guide/index.html#clientError
+ *
+ * List calls return the raw response body so that [ConfigApiListForwarder] can map the listed items
+ * as they are read instead of building the whole config api list model first.
  */
 @Client(INTERNAL_API_HOST)
 @Header(name = HttpHeaders.USER_AGENT, value = "Micronaut HTTP Client")
@@ -240,14 +239,14 @@ interface ConfigApiClient {
     @Body jobListRequestBody: JobListRequestBody,
     @Header(AUTH_HEADER) authorization: String?,
     @Header(ENDPOINT_API_USER_INFO_HEADER) endpointUserInfo: String?,
-  ): HttpResponse<JobReadList>
+  ): HttpResponse<ByteArray>
 
   @Post(value = "/api/v1/jobs/list_for_workspaces", processes = [MediaType.APPLICATION_JSON], produces = [MediaType.APPLICATION_JSON])
   fun getJobListForWorkspaces(
     @Body listForWorkspacesRequestBody: JobListForWorkspacesRequestBody,
     @Header(AUTH_HEADER) authorization: String?,
     @Header(ENDPOINT_API_USER_INFO_HEADER) userInfo: String?,
-  ): HttpResponse<JobReadList>
+  ): HttpResponse<ByteArray>
 
   @Post(value = "/api/v1/jobs/cancel", processes = [MediaType.APPLICATION_JSON])
   fun cancelJob(
@@ -296,21 +295,21 @@ interface ConfigApiClient {
     @Body listConnectionsForWorkspacesRequestBody: ListConnectionsForWorkspacesRequestBody,
     @Header(AUTH_HEADER) authorization: String?,
     @Header(ENDPOINT_API_USER_INFO_HEADER) endpointUserInfo: String?,
-  ): HttpResponse<ConnectionReadList>
+  ): HttpResponse<ByteArray>
 
   @Post(value = "/api/v1/sources/list_paginated", processes = [MediaType.APPLICATION_JSON], produces = [MediaType.APPLICATION_JSON])
   fun listSourcesForWorkspaces(
     @Body listResourcesForWorkspacesRequestBody: ListResourcesForWorkspacesRequestBody,
     @Header(AUTH_HEADER) authorization: String?,
     @Header(ENDPOINT_API_USER_INFO_HEADER) endpointUserInfo: String?,
-  ): HttpResponse<SourceReadList>
+  ): HttpResponse<ByteArray>
 
   @Post(value = "/api/v1/destinations/list_paginated", processes = [MediaType.APPLICATION_JSON], produces = [MediaType.APPLICATION_JSON])
   fun listDestinationsForWorkspaces(
     @Body listResourcesForWorkspacesRequestBody: ListResourcesForWorkspacesRequestBody,
     @Header(AUTH_HEADER) authorization: String?,
     @Header(ENDPOINT_API_USER_INFO_HEADER) endpointUserInfo: String?,
-  ): HttpResponse<DestinationReadList>
+  ): HttpResponse<ByteArray>
 
   @Post(value = "/api/v1/workspaces/list_paginated", processes = [MediaType.APPLICATION_JSON], produces = [MediaType.APPLICATION_JSON])
   fun listWorkspaces(
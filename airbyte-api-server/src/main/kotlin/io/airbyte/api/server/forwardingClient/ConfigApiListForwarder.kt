@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.api.server.forwardingClient
+
+import com.fasterxml.jackson.core.JsonToken
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.airbyte.api.server.errorHandlers.ConfigClientErrorHandler
+import io.micrometer.core.instrument.DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import jakarta.inject.Singleton
+import org.slf4j.LoggerFactory
+import java.util.Optional
+import java.util.concurrent.TimeUnit
+
+/**
+ * Forwards list calls to the config api and maps the listed items to the public api shape as they
+ * are read.
+ *
+ * The raw response body is read item by item, so the config api list model is never built in full;
+ * only the mapped public items are kept. Each forwarded route reports how long the config api took
+ * to answer and how large the response was.
+ */
+@Singleton
+class ConfigApiListForwarder(
+  private val objectMapper: ObjectMapper,
+  private val meterRegistry: Optional<MeterRegistry>,
+) {
+  companion object {
+    private val log = LoggerFactory.getLogger(ConfigApiListForwarder::class.java)
+
+    const val FORWARDED_DURATION_METRIC_NAME = "airbyte.api.forwarded.duration"
+    const val FORWARDED_RESPONSE_SIZE_METRIC_NAME = "airbyte.api.forwarded.response.size"
+    private const val ROUTE_TAG = "route"
+  }
+
+  /**
+   * Calls the config api and maps every item of the list found under [listField] in its response.
+   *
+   * @param route name of the forwarded config api route, used in logs and metrics
+   * @param resourceId resource ID passed in with the request, used to report errors
+   * @param listField name of the field of the response body that holds the list
+   * @param itemType config api model of the listed items
+   * @param call performs the config api call
+   * @param mapItem maps a config api item to its public api shape, or null to leave it out
+   * @return the mapped items, in the order of the response
+   */
+  fun <T, R> forward(
+    route: String,
+    resourceId: String?,
+    listField: String,
+    itemType: Class<T>,
+    call: () -> HttpResponse<ByteArray>,
+    mapItem: (T) -> R?,
+  ): List<R> {
+    val startTime = System.nanoTime()
+    val response =
+      try {
+        call()
+      } catch (e: HttpClientResponseException) {
+        log.error("Config api response error for $route: ", e)
+        @Suppress("UNCHECKED_CAST")
+        e.response as HttpResponse<ByteArray>
+      }
+    ConfigClientErrorHandler.handleError(response, resourceId)
+
+    val body = response.body() ?: ByteArray(0)
+    meterRegistry.ifPresent {
+      Timer.builder(FORWARDED_DURATION_METRIC_NAME).tag(ROUTE_TAG, route).register(it)
+        .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS)
+      DistributionSummary.builder(FORWARDED_RESPONSE_SIZE_METRIC_NAME).baseUnit("bytes").tag(ROUTE_TAG, route).register(it)
+        .record(body.size.toDouble())
+    }
+    log.debug("Forwarded {} returned {} bytes", route, body.size)
+
+    return mapList(body, listField, itemType, mapItem)
+  }
+
+  internal fun <T, R> mapList(
+    body: ByteArray,
+    listField: String,
+    itemType: Class<T>,
+    mapItem: (T) -> R?,
+  ): List<R> {
+    val mapped = mutableListOf<R>()
+    objectMapper.factory.createParser(body).use { parser ->
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return mapped
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        val fieldName = parser.currentName
+        val valueToken = parser.nextToken()
+        if (fieldName != listField || valueToken != JsonToken.START_ARRAY) {
+          parser.skipChildren()
+          continue
+        }
+        val reader = objectMapper.readerFor(itemType)
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          reader.readValue<T>(parser)?.let { item -> mapItem(item)?.let { mapped.add(it) } }
+        }
+      }
+    }
+    return mapped
+  }
+}
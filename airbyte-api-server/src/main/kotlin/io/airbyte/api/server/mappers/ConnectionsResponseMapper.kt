@@ -4,9 +4,8 @@
 
 package io.airbyte.api.server.mappers
 
+import io.airbyte.airbyte_api.model.generated.ConnectionResponse
 import io.airbyte.airbyte_api.model.generated.ConnectionsResponse
-import io.airbyte.api.client.model.generated.ConnectionRead
-import io.airbyte.api.client.model.generated.ConnectionReadList
 import io.airbyte.api.server.constants.CONNECTIONS_PATH
 import io.airbyte.api.server.constants.INCLUDE_DELETED
 import io.airbyte.api.server.constants.WORKSPACE_IDS
@@ -17,9 +16,10 @@ import java.util.UUID
  */
 object ConnectionsResponseMapper {
   /**
-   * Converts a ConnectionReadList object from the config api to a ConnectionsResponse object.
+   * Wraps the connections listed by the config api, already mapped by [ConnectionReadMapper], in a
+   * ConnectionsResponse object.
    *
-   * @param connectionReadList Output of a connection list from config api
+   * @param connections Output of a connection list from config api, mapped to the public api
    * @param workspaceIds workspaceIds requested by the user, if empty assume all workspaces requested
    * @param includeDeleted did we include deleted workspaces or not?
    * @param limit Number of JobResponses to be outputted
@@ -28,7 +28,7 @@ object ConnectionsResponseMapper {
    * @return JobsResponse List of JobResponse along with a next and previous https requests
    */
   fun from(
-    connectionReadList: ConnectionReadList,
+    connections: List<ConnectionResponse>,
     workspaceIds: List<UUID>,
     includeDeleted: Boolean,
     limit: Int,
@@ -40,11 +40,9 @@ object ConnectionsResponseMapper {
         .queryParam(WORKSPACE_IDS, PaginationMapper.uuidListToQueryString(workspaceIds))
         .queryParam(INCLUDE_DELETED, includeDeleted)
     val connectionsResponse = ConnectionsResponse()
-    connectionsResponse.setNext(PaginationMapper.getNextUrl(connectionReadList.connections, limit, offset, uriBuilder))
+    connectionsResponse.setNext(PaginationMapper.getNextUrl(connections, limit, offset, uriBuilder))
     connectionsResponse.setPrevious(PaginationMapper.getPreviousUrl(limit, offset, uriBuilder))
-    connectionsResponse.setData(
-      connectionReadList.connections.map { connectionRead: ConnectionRead -> ConnectionReadMapper.from(connectionRead, connectionRead.workspaceId) },
-    )
+    connectionsResponse.setData(connections)
     return connectionsResponse
   }
 }
@@ -4,23 +4,22 @@
 
 package io.airbyte.api.server.mappers
 
+import io.airbyte.airbyte_api.model.generated.DestinationResponse
 import io.airbyte.airbyte_api.model.generated.DestinationsResponse
-import io.airbyte.api.client.model.generated.DestinationRead
-import io.airbyte.api.client.model.generated.DestinationReadList
 import io.airbyte.api.server.constants.DESTINATIONS_PATH
 import io.airbyte.api.server.constants.INCLUDE_DELETED
 import io.airbyte.api.server.constants.WORKSPACE_IDS
 import java.util.UUID
-import java.util.function.Function
 
 /**
- * Maps config API DestinationReadLists to DestinationsResponse.
+ * Maps destinations listed by the config API to DestinationsResponse.
  */
 object DestinationsResponseMapper {
   /**
-   * Converts a SourceReadList object from the config api to a SourcesResponse object.
+   * Wraps the destinations listed by the config api, already mapped by [DestinationReadMapper], in a
+   * DestinationsResponse object.
    *
-   * @param destinationReadList Output of a destination list from config api
+   * @param destinations Output of a destination list from config api, mapped to the public api
    * @param workspaceIds workspaceIds we wanted to list
    * @param includeDeleted did we include deleted workspaces or not?
    * @param limit Number of responses to be outputted
@@ -30,7 +29,7 @@ object DestinationsResponseMapper {
    * requests
    */
   fun from(
-    destinationReadList: DestinationReadList,
+    destinations: List<DestinationResponse>,
     workspaceIds: List<UUID>,
     includeDeleted: Boolean,
     limit: Int,
@@ -42,13 +41,9 @@ object DestinationsResponseMapper {
         .queryParam(WORKSPACE_IDS, PaginationMapper.uuidListToQueryString(workspaceIds))
         .queryParam(INCLUDE_DELETED, includeDeleted)
     val destinationsResponse = DestinationsResponse()
-    destinationsResponse.setNext(PaginationMapper.getNextUrl(destinationReadList.destinations, limit, offset, uriBuilder))
+    destinationsResponse.setNext(PaginationMapper.getNextUrl(destinations, limit, offset, uriBuilder))
     destinationsResponse.setPrevious(PaginationMapper.getPreviousUrl(limit, offset, uriBuilder))
-    destinationsResponse.setData(
-      destinationReadList.destinations.stream()
-        .map(Function { obj: DestinationRead? -> DestinationReadMapper.from(obj!!) })
-        .toList(),
-    )
+    destinationsResponse.setData(destinations)
     return destinationsResponse
   }
 }
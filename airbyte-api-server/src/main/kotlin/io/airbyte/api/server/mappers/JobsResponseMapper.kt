@@ -8,11 +8,9 @@ import io.airbyte.airbyte_api.model.generated.JobResponse
 import io.airbyte.airbyte_api.model.generated.JobTypeEnum
 import io.airbyte.airbyte_api.model.generated.JobsResponse
 import io.airbyte.api.client.model.generated.JobConfigType
-import io.airbyte.api.client.model.generated.JobReadList
 import io.airbyte.api.client.model.generated.JobWithAttemptsRead
 import io.airbyte.api.server.constants.JOBS_PATH
 import java.util.UUID
-import java.util.function.Function
 
 /**
  * Mappers that help convert models from the config api to models from the public api.
@@ -21,9 +19,21 @@ object JobsResponseMapper {
   val ALLOWED_CONFIG_TYPES = java.util.List.of(JobConfigType.SYNC, JobConfigType.RESET_CONNECTION)
 
   /**
-   * Converts a JobReadList object from the config api to a JobsResponse object.
+   * Converts a JobWithAttemptsRead object from the config api to a JobResponse, if the public api
+   * exposes jobs of its type.
    *
-   * @param jobsList Output of a job list from config api
+   * @param jobWithAttemptsRead Job listed by the config api
+   * @return JobResponse, or null if the job is not of one of the [ALLOWED_CONFIG_TYPES]
+   */
+  fun toJobResponse(jobWithAttemptsRead: JobWithAttemptsRead): JobResponse? {
+    return if (ALLOWED_CONFIG_TYPES.contains(jobWithAttemptsRead.job!!.configType)) JobResponseMapper.from(jobWithAttemptsRead) else null
+  }
+
+  /**
+   * Wraps the jobs listed by the config api, already mapped by [toJobResponse], in a JobsResponse
+   * object.
+   *
+   * @param jobs Output of a job list from config api, mapped to the public api
    * @param connectionId Id of the connection
    * @param jobType Type of job e.g. sync or reset
    * @param limit Number of JobResponses to be outputted
@@ -32,21 +42,13 @@ object JobsResponseMapper {
    * @return JobsResponse List of JobResponse along with a next and previous https requests
    */
   fun from(
-    jobsList: JobReadList,
+    jobs: List<JobResponse>,
     connectionId: UUID?,
     jobType: JobTypeEnum?,
     limit: Int,
     offset: Int,
     apiHost: String,
   ): JobsResponse {
-    val jobs: List<JobResponse> =
-      jobsList.jobs.stream().filter { j: JobWithAttemptsRead ->
-        ALLOWED_CONFIG_TYPES.contains(
-          j.job!!.configType,
-        )
-      }.map<JobResponse>(
-        Function<JobWithAttemptsRead, JobResponse> { obj: JobWithAttemptsRead? -> JobResponseMapper.from(obj!!) },
-      ).toList()
     val uriBuilder =
       PaginationMapper.getBuilder(apiHost, JOBS_PATH)
         .queryParam("jobType", jobType)
@@ -59,9 +61,10 @@ object JobsResponseMapper {
   }
 
   /**
-   * Converts a JobReadList object from the config api to a JobsResponse object.
+   * Wraps the jobs listed by the config api, already mapped by [toJobResponse], in a JobsResponse
+   * object.
    *
-   * @param jobsList Output of a job list from config api
+   * @param jobs Output of a job list from config api, mapped to the public api
    * @param workspaceIds workspace Ids to filter by
    * @param jobType Type of job e.g. sync or reset
    * @param limit Number of JobResponses to be outputted
@@ -70,21 +73,13 @@ object JobsResponseMapper {
    * @return JobsResponse List of JobResponse along with a next and previous https requests
    */
   fun from(
-    jobsList: JobReadList,
+    jobs: List<JobResponse>,
     workspaceIds: List<UUID?>?,
     jobType: JobTypeEnum?,
     limit: Int,
     offset: Int,
     apiHost: String,
   ): JobsResponse {
-    val jobs: List<JobResponse> =
-      jobsList.jobs.stream().filter { j: JobWithAttemptsRead ->
-        ALLOWED_CONFIG_TYPES.contains(
-          j.job!!.configType,
-        )
-      }.map<JobResponse>(
-        Function<JobWithAttemptsRead, JobResponse> { obj: JobWithAttemptsRead? -> JobResponseMapper.from(obj!!) },
-      ).toList()
     val uriBuilder =
       PaginationMapper.getBuilder(apiHost, JOBS_PATH)
         .queryParam("jobType", jobType)
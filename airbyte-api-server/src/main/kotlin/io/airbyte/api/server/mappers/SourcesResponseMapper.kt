@@ -4,22 +4,22 @@
 
 package io.airbyte.api.server.mappers
 
+import io.airbyte.airbyte_api.model.generated.SourceResponse
 import io.airbyte.airbyte_api.model.generated.SourcesResponse
-import io.airbyte.api.client.model.generated.SourceRead
-import io.airbyte.api.client.model.generated.SourceReadList
 import io.airbyte.api.server.constants.INCLUDE_DELETED
 import io.airbyte.api.server.constants.SOURCES_PATH
 import io.airbyte.api.server.constants.WORKSPACE_IDS
 import java.util.UUID
 
 /**
- * Maps config API SourceReadList to SourcesResponse.
+ * Maps sources listed by the config API to SourcesResponse.
  */
 object SourcesResponseMapper {
   /**
-   * Converts a SourceReadList object from the config api to a SourcesResponse object.
+   * Wraps the sources listed by the config api, already mapped by [SourceReadMapper], in a
+   * SourcesResponse object.
    *
-   * @param sourceReadList Output of a source list from config api
+   * @param sources Output of a source list from config api, mapped to the public api
    * @param workspaceIds workspaceIds we wanted to list
    * @param includeDeleted did we include deleted workspaces or not?
    * @param limit Number of responses to be outputted
@@ -28,7 +28,7 @@ object SourcesResponseMapper {
    * @return SourcesResponse List of SourceResponse along with a next and previous https requests
    */
   fun from(
-    sourceReadList: SourceReadList,
+    sources: List<SourceResponse>,
     workspaceIds: List<UUID>,
     includeDeleted: Boolean,
     limit: Int,
@@ -40,9 +40,9 @@ object SourcesResponseMapper {
         .queryParam(WORKSPACE_IDS, PaginationMapper.uuidListToQueryString(workspaceIds))
         .queryParam(INCLUDE_DELETED, includeDeleted)
     val sourcesResponse = SourcesResponse()
-    sourcesResponse.next = PaginationMapper.getNextUrl(sourceReadList.sources, limit, offset, uriBuilder)
+    sourcesResponse.next = PaginationMapper.getNextUrl(sources, limit, offset, uriBuilder)
     sourcesResponse.previous = PaginationMapper.getPreviousUrl(limit, offset, uriBuilder)
-    sourcesResponse.data = sourceReadList.sources.map { obj: SourceRead? -> SourceReadMapper.from(obj!!) }
+    sourcesResponse.data = sources
     return sourcesResponse
   }
 }
@@ -0,0 +1,33 @@
+package io.airbyte.api.server.netty
+
+import java.util.concurrent.ThreadLocalRandom
+
+/**
+ * Decides which requests have their bodies captured for the request/response logs, and how much of
+ * them is kept.
+ *
+ * @param maxBytes upper bound of the request and response bytes kept per exchange, bodies past it are dropped
+ * @param sampleRate share of the matching requests that are captured, from 0 (none) to 1 (all)
+ * @param routes path prefixes of the requests that can be captured, all requests when empty
+ */
+class CaptureSettings(
+  val maxBytes: Int,
+  private val sampleRate: Double,
+  routes: List<String>,
+  private val random: () -> Double = { ThreadLocalRandom.current().nextDouble() },
+) {
+  private val routes = routes.map { it.trim() }.filter { it.isNotEmpty() }
+
+  fun shouldCapture(uri: String): Boolean {
+    if (maxBytes <= 0 || sampleRate <= 0.0) {
+      return false
+    }
+    if (routes.isNotEmpty()) {
+      val path = uri.substringBefore('?')
+      if (routes.none { path.startsWith(it) }) {
+        return false
+      }
+    }
+    return sampleRate >= 1.0 || random() < sampleRate
+  }
+}
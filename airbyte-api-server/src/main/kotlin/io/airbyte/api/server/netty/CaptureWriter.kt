@@ -3,9 +3,7 @@ package io.airbyte.api.server.netty
 import io.netty.buffer.ByteBuf
 import io.netty.buffer.Unpooled
 
-private const val MAX_BUFFER_SIZE = 1 * 1024 * 1024
-
-class CaptureWriter {
+class CaptureWriter(private val maxBytes: Int) {
   private val reqBuffer = Unpooled.buffer()
   private val resBuffer = Unpooled.buffer()
   var isReqValid = true
@@ -17,7 +15,7 @@ class CaptureWriter {
     }
     val readIndex = content.readerIndex()
     val readableBytes = content.readableBytes()
-    if (reqBuffer.readableBytes() + resBuffer.readableBytes() + readableBytes > MAX_BUFFER_SIZE) {
+    if (reqBuffer.readableBytes() + resBuffer.readableBytes() + readableBytes > maxBytes) {
       isReqValid = false
     } else if (isReqValid) {
       reqBuffer.ensureWritable(readableBytes)
@@ -32,7 +30,7 @@ class CaptureWriter {
     }
     val readIndex = content.readerIndex()
     val readableBytes = content.readableBytes()
-    if (reqBuffer.readableBytes() + resBuffer.readableBytes() + readableBytes > MAX_BUFFER_SIZE) {
+    if (reqBuffer.readableBytes() + resBuffer.readableBytes() + readableBytes > maxBytes) {
       isResValid = false
     } else if (isResValid) {
       resBuffer.ensureWritable(readableBytes)
@@ -10,7 +10,14 @@ import io.netty.handler.codec.http.HttpResponse
 import io.netty.handler.codec.http.LastHttpContent
 import org.slf4j.LoggerFactory
 
-class LoggingNettyChannelHandler : ChannelDuplexHandler() {
+/**
+ * Logs the requests handled by the api server and, for the requests picked by the [captureSettings],
+ * their bodies along with the response.
+ *
+ * Bodies are only buffered for the picked requests, up to the configured size, and are only masked
+ * once the log line is actually written.
+ */
+class LoggingNettyChannelHandler(private val captureSettings: CaptureSettings) : ChannelDuplexHandler() {
   private val droppedText = "[...dropped...]"
   companion object {
     private val log = LoggerFactory.getLogger(LoggingNettyChannelHandler::class.java)
@@ -22,6 +29,7 @@ class LoggingNettyChannelHandler : ChannelDuplexHandler() {
   private var requestCaptured = false
   private var responseCaptured = false
   private var captured = false
+  private var capturing = false
 
   override fun channelRead(
     context: ChannelHandlerContext,
@@ -31,18 +39,21 @@ class LoggingNettyChannelHandler : ChannelDuplexHandler() {
       captured = false
       requestCaptured = false
       responseCaptured = false
-      writer = CaptureWriter()
       request = NettyHttpRequest(message as HttpRequest)
-      request!!.register(writer!!)
+      capturing = log.isInfoEnabled && captureSettings.shouldCapture(request!!.requestURI)
+      if (capturing) {
+        writer = CaptureWriter(captureSettings.maxBytes)
+        request!!.register(writer!!)
+      }
       log.info("[{}] {}", request!!.method, request!!.requestURI)
     }
     if (request == null) {
       return
     }
-    if (HttpContent::class.java.isInstance(message)) {
+    if (capturing && HttpContent::class.java.isInstance(message)) {
       request!!.buffer((message as HttpContent).content())
     }
-    if (ByteBuf::class.java.isInstance(message)) {
+    if (capturing && ByteBuf::class.java.isInstance(message)) {
       request!!.buffer(message as ByteBuf)
     }
     if (LastHttpContent::class.java.isInstance(message)) {
@@ -62,16 +73,18 @@ class LoggingNettyChannelHandler : ChannelDuplexHandler() {
     if (HttpResponse::class.java.isInstance(message)) {
       val httpResponse: HttpResponse = message as HttpResponse
       response = NettyHttpResponse(httpResponse)
-      writer = CaptureWriter()
-      response!!.register(writer)
+      if (capturing) {
+        writer = CaptureWriter(captureSettings.maxBytes)
+        response!!.register(writer)
+      }
     }
     if (response == null) {
       return
     }
-    if (HttpContent::class.java.isInstance(message)) {
+    if (capturing && HttpContent::class.java.isInstance(message)) {
       response!!.buffer((message as HttpContent).content())
     }
-    if (ByteBuf::class.java.isInstance(message)) {
+    if (capturing && ByteBuf::class.java.isInstance(message)) {
       response!!.buffer(message as ByteBuf)
     }
     if (LastHttpContent::class.java.isInstance(message)) {
@@ -84,10 +97,23 @@ class LoggingNettyChannelHandler : ChannelDuplexHandler() {
   }
 
   private fun capture() {
-    log.info("Request: [{}] -- {}", request!!.requestId, request!!.getLogString())
-    log.info("Response: [{}] -- {}", request!!.requestId, response!!.getLogString())
+    if (capturing) {
+      // masking parses the whole body, so it is left to the logger to only do it if the line is written
+      val capturedRequest = request!!
+      val capturedResponse = response!!
+      log.info("Request: [{}] -- {}", capturedRequest.requestId, LazyLogString { capturedRequest.getLogString() })
+      log.info("Response: [{}] -- {}", capturedRequest.requestId, LazyLogString { capturedResponse.getLogString() })
+    }
+    capturing = false
     request = null
     response = null
     writer = null
   }
 }
+
+/**
+ * Builds its string only when asked to, e.g. by a logger about to write the line it is an argument of.
+ */
+private class LazyLogString(private val build: () -> String) {
+  override fun toString(): String = build()
+}
@@ -1,5 +1,6 @@
 package io.airbyte.api.server.netty
 
+import io.micronaut.context.annotation.Value
 import io.micronaut.context.event.BeanCreatedEvent
 import io.micronaut.context.event.BeanCreatedEventListener
 import io.micronaut.http.netty.channel.ChannelPipelineCustomizer
@@ -7,7 +8,13 @@ import io.micronaut.http.server.netty.NettyServerCustomizer
 import io.netty.channel.Channel
 
 @jakarta.inject.Singleton
-class LoggingNettyServerCustomizer() : BeanCreatedEventListener<NettyServerCustomizer.Registry> {
+class LoggingNettyServerCustomizer(
+  @Value("\${airbyte.api.capture.max-bytes:1048576}") maxBytes: Int,
+  @Value("\${airbyte.api.capture.sample-rate:1.0}") sampleRate: Double,
+  @Value("\${airbyte.api.capture.routes:}") routes: List<String>,
+) : BeanCreatedEventListener<NettyServerCustomizer.Registry> {
+  private val captureSettings = CaptureSettings(maxBytes, sampleRate, routes)
+
   override fun onCreated(event: BeanCreatedEvent<NettyServerCustomizer.Registry>): NettyServerCustomizer.Registry {
     val registry: NettyServerCustomizer.Registry = event.bean
     registry.register(Customizer(null))
@@ -26,7 +33,7 @@ class LoggingNettyServerCustomizer() : BeanCreatedEventListener<NettyServerCusto
       channel!!.pipeline().addBefore(
         ChannelPipelineCustomizer.HANDLER_HTTP_STREAM,
         "AirbyteApiLogs",
-        LoggingNettyChannelHandler(),
+        LoggingNettyChannelHandler(captureSettings),
       )
     }
   }
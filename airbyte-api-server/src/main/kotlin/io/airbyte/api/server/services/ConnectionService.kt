@@ -14,13 +14,13 @@ import io.airbyte.api.client.model.generated.AirbyteCatalog
 import io.airbyte.api.client.model.generated.ConnectionCreate
 import io.airbyte.api.client.model.generated.ConnectionIdRequestBody
 import io.airbyte.api.client.model.generated.ConnectionRead
-import io.airbyte.api.client.model.generated.ConnectionReadList
 import io.airbyte.api.client.model.generated.ConnectionUpdate
 import io.airbyte.api.client.model.generated.ListConnectionsForWorkspacesRequestBody
 import io.airbyte.api.client.model.generated.Pagination
 import io.airbyte.api.server.constants.HTTP_RESPONSE_BODY_DEBUG_MESSAGE
 import io.airbyte.api.server.errorHandlers.ConfigClientErrorHandler
 import io.airbyte.api.server.forwardingClient.ConfigApiClient
+import io.airbyte.api.server.forwardingClient.ConfigApiListForwarder
 import io.airbyte.api.server.mappers.ConnectionCreateMapper
 import io.airbyte.api.server.mappers.ConnectionReadMapper
 import io.airbyte.api.server.mappers.ConnectionUpdateMapper
@@ -85,6 +85,7 @@ class ConnectionServiceImpl(
   private val configApiClient: ConfigApiClient,
   private val userService: UserService,
   private val sourceService: SourceService,
+  private val configApiListForwarder: ConfigApiListForwarder,
 ) : ConnectionService {
   companion object {
     private val log = LoggerFactory.getLogger(ConnectionServiceImpl::class.java)
@@ -118,7 +119,7 @@ class ConnectionServiceImpl(
       }
 
     ConfigClientErrorHandler.handleCreateConnectionError(response, connectionCreateRequest)
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
 
     val objectMapper = ObjectMapper()
     return try {
@@ -152,7 +153,7 @@ class ConnectionServiceImpl(
         e.response as HttpResponse<String>
       }
     ConfigClientErrorHandler.handleError(response, connectionId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
   }
 
   /**
@@ -174,7 +175,7 @@ class ConnectionServiceImpl(
         e.response as HttpResponse<ConnectionRead>
       }
     ConfigClientErrorHandler.handleError(response, connectionId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
 
     // get workspace id from source id
     val sourceResponse: SourceResponse = sourceService.getSource(response.body()!!.sourceId, authorization, userInfo)
@@ -216,7 +217,7 @@ class ConnectionServiceImpl(
       }
 
     ConfigClientErrorHandler.handleError(response, connectionId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
 
     val objectMapper = ObjectMapper()
     return try {
@@ -253,17 +254,17 @@ class ConnectionServiceImpl(
         .includeDeleted(includeDeleted)
         .pagination(pagination)
 
-    val response =
-      try {
-        configApiClient.listConnectionsForWorkspaces(listConnectionsForWorkspacesRequestBody, authorization, userInfo)
-      } catch (e: HttpClientResponseException) {
-        log.error("Config api response error for listConnectionsForWorkspaces: ", e)
-        e.response as HttpResponse<ConnectionReadList>
-      }
-    ConfigClientErrorHandler.handleError(response, workspaceIds.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    val connections =
+      configApiListForwarder.forward(
+        "connections/list_paginated",
+        workspaceIds.toString(),
+        "connections",
+        ConnectionRead::class.java,
+        { configApiClient.listConnectionsForWorkspaces(listConnectionsForWorkspacesRequestBody, authorization, userInfo) },
+        { connectionRead -> ConnectionReadMapper.from(connectionRead, connectionRead.workspaceId) },
+      )
     return ConnectionsResponseMapper.from(
-      response.body()!!,
+      connections,
       workspaceIds,
       includeDeleted,
       limit,
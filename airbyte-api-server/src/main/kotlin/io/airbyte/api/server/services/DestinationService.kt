@@ -14,7 +14,6 @@ import io.airbyte.api.client.model.generated.DestinationDefinitionIdWithWorkspac
 import io.airbyte.api.client.model.generated.DestinationDefinitionSpecificationRead
 import io.airbyte.api.client.model.generated.DestinationIdRequestBody
 import io.airbyte.api.client.model.generated.DestinationRead
-import io.airbyte.api.client.model.generated.DestinationReadList
 import io.airbyte.api.client.model.generated.DestinationSyncMode
 import io.airbyte.api.client.model.generated.DestinationUpdate
 import io.airbyte.api.client.model.generated.ListResourcesForWorkspacesRequestBody
@@ -23,6 +22,7 @@ import io.airbyte.api.client.model.generated.PartialDestinationUpdate
 import io.airbyte.api.server.constants.HTTP_RESPONSE_BODY_DEBUG_MESSAGE
 import io.airbyte.api.server.errorHandlers.ConfigClientErrorHandler
 import io.airbyte.api.server.forwardingClient.ConfigApiClient
+import io.airbyte.api.server.forwardingClient.ConfigApiListForwarder
 import io.airbyte.api.server.helpers.getActorDefinitionIdFromActorName
 import io.airbyte.api.server.mappers.DESTINATION_NAME_TO_DEFINITION_ID
 import io.airbyte.api.server.mappers.DestinationReadMapper
@@ -93,7 +93,11 @@ interface DestinationService {
 
 @Singleton
 @Secondary
-class DestinationServiceImpl(private val configApiClient: ConfigApiClient, private val userService: UserService) : DestinationService {
+class DestinationServiceImpl(
+  private val configApiClient: ConfigApiClient,
+  private val userService: UserService,
+  private val configApiListForwarder: ConfigApiListForwarder,
+) : DestinationService {
   companion object {
     private val log = LoggerFactory.getLogger(DestinationServiceImpl::class.java)
   }
@@ -123,7 +127,7 @@ class DestinationServiceImpl(private val configApiClient: ConfigApiClient, priva
         log.error("Config api response error for createDestination: ", e)
         e.response as HttpResponse<DestinationRead>
       }
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     ConfigClientErrorHandler.handleError(response, destinationCreateRequest.workspaceId.toString())
     return DestinationReadMapper.from(response.body()!!)
   }
@@ -147,7 +151,7 @@ class DestinationServiceImpl(private val configApiClient: ConfigApiClient, priva
         log.error("Config api response error for getDestination: ", e)
         e.response as HttpResponse<DestinationRead>
       }
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     ConfigClientErrorHandler.handleError(response, destinationId.toString())
     return DestinationReadMapper.from(response.body()!!)
   }
@@ -174,7 +178,7 @@ class DestinationServiceImpl(private val configApiClient: ConfigApiClient, priva
         log.error("Config api response error for updateDestination: ", e)
         e.response as HttpResponse<DestinationRead>
       }
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     ConfigClientErrorHandler.handleError(response, destinationId.toString())
     return DestinationReadMapper.from(response.body()!!)
   }
@@ -202,7 +206,7 @@ class DestinationServiceImpl(private val configApiClient: ConfigApiClient, priva
         e.response as HttpResponse<DestinationRead>
       }
     ConfigClientErrorHandler.handleError(response, destinationId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return DestinationReadMapper.from(response.body()!!)
   }
 
@@ -223,7 +227,7 @@ class DestinationServiceImpl(private val configApiClient: ConfigApiClient, priva
         e.response as HttpResponse<String>
       }
     ConfigClientErrorHandler.handleError(response, connectionId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
   }
 
   /**
@@ -244,17 +248,17 @@ class DestinationServiceImpl(private val configApiClient: ConfigApiClient, priva
     listResourcesForWorkspacesRequestBody.pagination = pagination
     listResourcesForWorkspacesRequestBody.workspaceIds = workspaceIdsToQuery
 
-    val response =
-      try {
-        configApiClient.listDestinationsForWorkspaces(listResourcesForWorkspacesRequestBody, authorization, userInfo)
-      } catch (e: HttpClientResponseException) {
-        log.error("Config api response error for listWorkspaces: ", e)
-        e.response as HttpResponse<DestinationReadList>
-      }
-    ConfigClientErrorHandler.handleError(response, workspaceIds.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    val destinations =
+      configApiListForwarder.forward(
+        "destinations/list_paginated",
+        workspaceIds.toString(),
+        "destinations",
+        DestinationRead::class.java,
+        { configApiClient.listDestinationsForWorkspaces(listResourcesForWorkspacesRequestBody, authorization, userInfo) },
+        DestinationReadMapper::from,
+      )
     return DestinationsResponseMapper.from(
-      response.body()!!,
+      destinations,
       workspaceIds,
       includeDeleted,
       limit,
@@ -285,7 +289,7 @@ class DestinationServiceImpl(private val configApiClient: ConfigApiClient, priva
     var response: HttpResponse<DestinationDefinitionSpecificationRead>
     try {
       response = configApiClient.getDestinationSpec(destinationDefinitionIdWithWorkspaceId, authorization, userInfo)
-      log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+      log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     } catch (e: HttpClientResponseException) {
       log.error("Config api response error for getDestinationSpec: ", e)
       response = e.response as HttpResponse<DestinationDefinitionSpecificationRead>
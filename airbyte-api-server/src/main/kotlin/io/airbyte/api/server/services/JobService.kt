@@ -15,12 +15,13 @@ import io.airbyte.api.client.model.generated.JobListForWorkspacesRequestBody
 import io.airbyte.api.client.model.generated.JobListForWorkspacesRequestBody.OrderByFieldEnum
 import io.airbyte.api.client.model.generated.JobListForWorkspacesRequestBody.OrderByMethodEnum
 import io.airbyte.api.client.model.generated.JobListRequestBody
-import io.airbyte.api.client.model.generated.JobReadList
+import io.airbyte.api.client.model.generated.JobWithAttemptsRead
 import io.airbyte.api.client.model.generated.Pagination
 import io.airbyte.api.server.constants.HTTP_RESPONSE_BODY_DEBUG_MESSAGE
 import io.airbyte.api.server.errorHandlers.ConfigClientErrorHandler
 import io.airbyte.api.server.filters.JobsFilter
 import io.airbyte.api.server.forwardingClient.ConfigApiClient
+import io.airbyte.api.server.forwardingClient.ConfigApiListForwarder
 import io.airbyte.api.server.mappers.JobResponseMapper
 import io.airbyte.api.server.mappers.JobsResponseMapper
 import io.airbyte.api.server.problems.UnexpectedProblem
@@ -82,7 +83,11 @@ interface JobService {
 
 @Singleton
 @Secondary
-class JobServiceImpl(private val configApiClient: ConfigApiClient, val userService: UserService) : JobService {
+class JobServiceImpl(
+  private val configApiClient: ConfigApiClient,
+  val userService: UserService,
+  private val configApiListForwarder: ConfigApiListForwarder,
+) : JobService {
   companion object {
     private val log = LoggerFactory.getLogger(JobServiceImpl::class.java)
   }
@@ -113,7 +118,7 @@ class JobServiceImpl(private val configApiClient: ConfigApiClient, val userServi
         )
       }
     ConfigClientErrorHandler.handleError(response, connectionId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return JobResponseMapper.from(Objects.requireNonNull<JobInfoRead>(response.body()))
   }
 
@@ -134,7 +139,7 @@ class JobServiceImpl(private val configApiClient: ConfigApiClient, val userServi
         e.response as HttpResponse<JobInfoRead>
       }
     ConfigClientErrorHandler.handleError(response, connectionId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return JobResponseMapper.from(Objects.requireNonNull<JobInfoRead>(response.body()))
   }
 
@@ -155,7 +160,7 @@ class JobServiceImpl(private val configApiClient: ConfigApiClient, val userServi
         e.response as HttpResponse<JobInfoRead>
       }
     ConfigClientErrorHandler.handleError(response, jobId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return JobResponseMapper.from(Objects.requireNonNull<JobInfoRead>(response.body()))
   }
 
@@ -186,7 +191,7 @@ class JobServiceImpl(private val configApiClient: ConfigApiClient, val userServi
       }
 
     ConfigClientErrorHandler.handleError(response, jobId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return JobResponseMapper.from(Objects.requireNonNull<JobInfoRead>(response.body()))
   }
 
@@ -217,17 +222,17 @@ class JobServiceImpl(private val configApiClient: ConfigApiClient, val userServi
           JobListRequestBody.OrderByMethodEnum.valueOf(orderByMethod.name),
         )
 
-    val response =
-      try {
-        configApiClient.getJobList(jobListRequestBody, authorization, userInfo)
-      } catch (e: HttpClientResponseException) {
-        log.error("Config api response error for getJobList: ", e)
-        e.response as HttpResponse<JobReadList>
-      }
-    ConfigClientErrorHandler.handleError(response, connectionId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    val jobs =
+      configApiListForwarder.forward(
+        "jobs/list",
+        connectionId.toString(),
+        "jobs",
+        JobWithAttemptsRead::class.java,
+        { configApiClient.getJobList(jobListRequestBody, authorization, userInfo) },
+        JobsResponseMapper::toJobResponse,
+      )
     return JobsResponseMapper.from(
-      response.body()!!,
+      jobs,
       connectionId,
       jobsFilter.jobType,
       jobsFilter.limit!!,
@@ -265,17 +270,17 @@ class JobServiceImpl(private val configApiClient: ConfigApiClient, val userServi
         .orderByField(OrderByFieldEnum.valueOf(orderByField.name))
         .orderByMethod(OrderByMethodEnum.valueOf(orderByMethod.name))
 
-    val response =
-      try {
-        configApiClient.getJobListForWorkspaces(requestBody, authorization, userInfo)
-      } catch (e: HttpClientResponseException) {
-        log.error("Config api response error for getJobList: ", e)
-        e.response as HttpResponse<JobReadList>
-      }
-    ConfigClientErrorHandler.handleError(response, workspaceIds.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    val jobs =
+      configApiListForwarder.forward(
+        "jobs/list_for_workspaces",
+        workspaceIds.toString(),
+        "jobs",
+        JobWithAttemptsRead::class.java,
+        { configApiClient.getJobListForWorkspaces(requestBody, authorization, userInfo) },
+        JobsResponseMapper::toJobResponse,
+      )
     return JobsResponseMapper.from(
-      response.body()!!,
+      jobs,
       workspaceIds,
       jobsFilter.jobType,
       jobsFilter.limit!!,
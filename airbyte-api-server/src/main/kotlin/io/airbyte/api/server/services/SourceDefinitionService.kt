@@ -50,7 +50,7 @@ class SourceDefinitionServiceImpl(private val configApiClient: ConfigApiClient)
       response = e.response as HttpResponse<SourceDefinitionSpecificationRead>
     }
     ConfigClientErrorHandler.handleError(response, sourceDefinitionId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return SourceDefinitionSpecificationReadMapper.from(
       Objects.requireNonNull<SourceDefinitionSpecificationRead?>(
         response.body(),
@@ -18,11 +18,11 @@ import io.airbyte.api.client.model.generated.SourceDiscoverSchemaRead
 import io.airbyte.api.client.model.generated.SourceDiscoverSchemaRequestBody
 import io.airbyte.api.client.model.generated.SourceIdRequestBody
 import io.airbyte.api.client.model.generated.SourceRead
-import io.airbyte.api.client.model.generated.SourceReadList
 import io.airbyte.api.client.model.generated.SourceUpdate
 import io.airbyte.api.server.constants.HTTP_RESPONSE_BODY_DEBUG_MESSAGE
 import io.airbyte.api.server.errorHandlers.ConfigClientErrorHandler
 import io.airbyte.api.server.forwardingClient.ConfigApiClient
+import io.airbyte.api.server.forwardingClient.ConfigApiListForwarder
 import io.airbyte.api.server.mappers.SourceReadMapper
 import io.airbyte.api.server.mappers.SourcesResponseMapper
 import io.airbyte.api.server.problems.UnexpectedProblem
@@ -99,6 +99,7 @@ interface SourceService {
 open class SourceServiceImpl(
   private val configApiClient: ConfigApiClient,
   private val userService: UserServiceImpl,
+  private val configApiListForwarder: ConfigApiListForwarder,
 ) : SourceService {
   companion object {
     private val log = LoggerFactory.getLogger(SourceServiceImpl::class.java)
@@ -132,7 +133,7 @@ open class SourceServiceImpl(
       }
 
     ConfigClientErrorHandler.handleError(response, sourceCreateRequest.workspaceId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return SourceReadMapper.from(response.body()!!)
   }
 
@@ -160,7 +161,7 @@ open class SourceServiceImpl(
       }
 
     ConfigClientErrorHandler.handleError(response, sourceId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return SourceReadMapper.from(response.body()!!)
   }
 
@@ -189,7 +190,7 @@ open class SourceServiceImpl(
       }
 
     ConfigClientErrorHandler.handleError(response, sourceId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return SourceReadMapper.from(response.body()!!)
   }
 
@@ -210,7 +211,7 @@ open class SourceServiceImpl(
         e.response as HttpResponse<String>
       }
     ConfigClientErrorHandler.handleError(response, sourceId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
   }
 
   /**
@@ -231,7 +232,7 @@ open class SourceServiceImpl(
         e.response as HttpResponse<SourceRead>
       }
     ConfigClientErrorHandler.handleError(response, sourceId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return SourceReadMapper.from(response.body()!!)
   }
 
@@ -265,7 +266,7 @@ open class SourceServiceImpl(
         }
       }
     ConfigClientErrorHandler.handleError(response, sourceId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     if (response.body() == null || response.body()?.jobInfo?.succeeded == false) {
       var errorMessage = "Something went wrong in the connector."
       if (response.body() != null && response.body()?.jobInfo?.failureReason!!.externalMessage != null) {
@@ -296,17 +297,17 @@ open class SourceServiceImpl(
     listResourcesForWorkspacesRequestBody.pagination = pagination
     listResourcesForWorkspacesRequestBody.workspaceIds = workspaceIdsToQuery
 
-    val response =
-      try {
-        configApiClient.listSourcesForWorkspaces(listResourcesForWorkspacesRequestBody, authorization, userInfo)
-      } catch (e: HttpClientResponseException) {
-        log.error("Config api response error for listWorkspaces: ", e)
-        e.response as HttpResponse<SourceReadList>
-      }
-    ConfigClientErrorHandler.handleError(response, workspaceIds.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    val sources =
+      configApiListForwarder.forward(
+        "sources/list_paginated",
+        workspaceIds.toString(),
+        "sources",
+        SourceRead::class.java,
+        { configApiClient.listSourcesForWorkspaces(listResourcesForWorkspacesRequestBody, authorization, userInfo) },
+        SourceReadMapper::from,
+      )
     return SourcesResponseMapper.from(
-      response.body()!!,
+      sources,
       workspaceIds,
       includeDeleted,
       limit,
@@ -44,7 +44,7 @@ open class UserServiceImpl(private val configApiClient: ConfigApiClient) : UserS
     ConfigClientErrorHandler.handleError(response, "airbyte-user")
 
     val workspaces = response.body()?.workspaces.orEmpty()
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
 
     return workspaces.map { it.workspaceId }
   }
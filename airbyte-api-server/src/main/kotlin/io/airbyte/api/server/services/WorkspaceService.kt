@@ -144,7 +144,7 @@ open class WorkspaceServiceImpl(
         log.error("Config api response error for createWorkspace: ", e)
         e.response as HttpResponse<WorkspaceRead>
       }
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + workspaceReadHttpResponse.body)
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, workspaceReadHttpResponse.body)
     ConfigClientErrorHandler.handleError(workspaceReadHttpResponse, workspaceReadHttpResponse.body()?.workspaceId.toString())
     return WorkspaceResponseMapper.from(
       Objects.requireNonNull(
@@ -219,7 +219,7 @@ open class WorkspaceServiceImpl(
         e.response as HttpResponse<WorkspaceRead>
       }
     ConfigClientErrorHandler.handleError(response, workspaceId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return WorkspaceResponseMapper.from(response.body()!!)
   }
 
@@ -272,7 +272,7 @@ open class WorkspaceServiceImpl(
         e.response as HttpResponse<Unit>
       }
     ConfigClientErrorHandler.handleError(response, workspaceId.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body)
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body)
   }
 
   override fun controllerDeleteWorkspace(
@@ -328,7 +328,7 @@ open class WorkspaceServiceImpl(
         e.response as HttpResponse<WorkspaceReadList>
       }
     ConfigClientErrorHandler.handleError(response, workspaceIds.toString())
-    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE + response.body())
+    log.debug(HTTP_RESPONSE_BODY_DEBUG_MESSAGE, response.body())
     return WorkspacesResponseMapper.from(
       response.body()!!,
       workspaceIds,
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.api.server.forwardingClient
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import io.airbyte.api.client.model.generated.SourceRead
+import io.airbyte.api.server.problems.ResourceNotFoundProblem
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.micronaut.http.HttpResponse
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Test
+import java.util.Optional
+import java.util.UUID
+
+class ConfigApiListForwarderTest {
+  private val meterRegistry = SimpleMeterRegistry()
+  private val forwarder = ConfigApiListForwarder(ObjectMapper(), Optional.of(meterRegistry))
+
+  @Test
+  fun testMapsListedItemsAsTheyAreRead() {
+    val firstId = UUID.randomUUID()
+    val secondId = UUID.randomUUID()
+    val body =
+      """
+      {
+        "next": {"ignored": [1, 2, 3]},
+        "sources": [
+          {"sourceId": "$firstId", "name": "first"},
+          null,
+          {"sourceId": "$secondId", "name": "second"}
+        ],
+        "trailing": "ignored"
+      }
+      """.trimIndent().toByteArray()
+
+    val names =
+      forwarder.forward("sources/list_paginated", null, "sources", SourceRead::class.java, { HttpResponse.ok(body) }) { source ->
+        if (source.sourceId == secondId) "${source.name}!" else source.name
+      }
+
+    assertEquals(listOf("first", "second!"), names)
+    assertEquals(1, meterRegistry.timer(ConfigApiListForwarder.FORWARDED_DURATION_METRIC_NAME, "route", "sources/list_paginated").count())
+    assertEquals(
+      body.size.toDouble(),
+      meterRegistry.summary(ConfigApiListForwarder.FORWARDED_RESPONSE_SIZE_METRIC_NAME, "route", "sources/list_paginated").totalAmount(),
+    )
+  }
+
+  @Test
+  fun testItemsMappedToNullAreLeftOut() {
+    val body = """{"sources": [{"name": "kept"}, {"name": "dropped"}]}""".toByteArray()
+
+    val names =
+      forwarder.forward("sources/list_paginated", null, "sources", SourceRead::class.java, { HttpResponse.ok(body) }) { source ->
+        source.name.takeIf { it == "kept" }
+      }
+
+    assertEquals(listOf("kept"), names)
+  }
+
+  @Test
+  fun testErrorStatusesAreMappedToProblems() {
+    assertThrows(ResourceNotFoundProblem::class.java) {
+      forwarder.forward("sources/list_paginated", "id", "sources", SourceRead::class.java, { HttpResponse.notFound() }) { it }
+    }
+  }
+}
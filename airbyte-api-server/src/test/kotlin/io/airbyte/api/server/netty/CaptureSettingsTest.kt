@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.api.server.netty
+
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+
+class CaptureSettingsTest {
+  @Test
+  fun testCapturesEverythingByDefault() {
+    val settings = CaptureSettings(1024, 1.0, listOf(""))
+
+    assertTrue(settings.shouldCapture("/v1/sources?limit=20"))
+    assertTrue(settings.shouldCapture("/v1/jobs"))
+  }
+
+  @Test
+  fun testOnlyCapturesAllowedRoutes() {
+    val settings = CaptureSettings(1024, 1.0, listOf("/v1/connections", " /v1/jobs "))
+
+    assertTrue(settings.shouldCapture("/v1/connections/123"))
+    assertTrue(settings.shouldCapture("/v1/jobs?jobType=sync"))
+    assertFalse(settings.shouldCapture("/v1/sources"))
+    assertFalse(settings.shouldCapture("/v1/sources?next=/v1/jobs"))
+  }
+
+  @Test
+  fun testSamplesRequests() {
+    var draw = 0.0
+    val settings = CaptureSettings(1024, 0.25, listOf()) { draw }
+
+    draw = 0.1
+    assertTrue(settings.shouldCapture("/v1/sources"))
+    draw = 0.5
+    assertFalse(settings.shouldCapture("/v1/sources"))
+  }
+
+  @Test
+  fun testCapturesNothingWithoutBudget() {
+    assertFalse(CaptureSettings(0, 1.0, listOf()).shouldCapture("/v1/sources"))
+    assertFalse(CaptureSettings(1024, 0.0, listOf()).shouldCapture("/v1/sources"))
+  }
+}
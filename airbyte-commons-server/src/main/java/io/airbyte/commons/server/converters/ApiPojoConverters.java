@@ -29,10 +29,13 @@ import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
 import io.airbyte.config.BasicSchedule;
 import io.airbyte.config.Schedule;
+import io.airbyte.config.ScheduleData;
 import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSync.ScheduleType;
 import io.airbyte.config.State;
 import io.airbyte.config.StateWrapper;
 import io.airbyte.config.helpers.StateMessageHelper;
+import io.airbyte.data.services.shared.ConnectionSummary;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
@@ -275,8 +278,17 @@ public class ApiPojoConverters {
   }
 
   public static io.airbyte.api.model.generated.ConnectionScheduleType toApiConnectionScheduleType(final StandardSync standardSync) {
-    if (standardSync.getScheduleType() != null) {
-      switch (standardSync.getScheduleType()) {
+    return toApiConnectionScheduleType(standardSync.getScheduleType(), standardSync.getManual());
+  }
+
+  public static io.airbyte.api.model.generated.ConnectionScheduleType toApiConnectionScheduleType(final ConnectionSummary connectionSummary) {
+    return toApiConnectionScheduleType(connectionSummary.scheduleType(), connectionSummary.manual());
+  }
+
+  private static io.airbyte.api.model.generated.ConnectionScheduleType toApiConnectionScheduleType(final ScheduleType scheduleType,
+                                                                                                 final Boolean manual) {
+    if (scheduleType != null) {
+      switch (scheduleType) {
         case MANUAL -> {
           return io.airbyte.api.model.generated.ConnectionScheduleType.MANUAL;
         }
@@ -286,9 +298,9 @@ public class ApiPojoConverters {
         case CRON -> {
           return io.airbyte.api.model.generated.ConnectionScheduleType.CRON;
         }
-        default -> throw new RuntimeException("Unexpected scheduleType " + standardSync.getScheduleType());
+        default -> throw new RuntimeException("Unexpected scheduleType " + scheduleType);
       }
-    } else if (standardSync.getManual()) {
+    } else if (manual) {
       // Legacy schema, manual sync.
       return io.airbyte.api.model.generated.ConnectionScheduleType.MANUAL;
     } else {
@@ -298,34 +310,47 @@ public class ApiPojoConverters {
   }
 
   public static io.airbyte.api.model.generated.ConnectionScheduleData toApiConnectionScheduleData(final StandardSync standardSync) {
-    if (standardSync.getScheduleType() != null) {
-      switch (standardSync.getScheduleType()) {
+    return toApiConnectionScheduleData(standardSync.getScheduleType(), standardSync.getManual(), standardSync.getScheduleData(),
+        standardSync.getSchedule());
+  }
+
+  public static io.airbyte.api.model.generated.ConnectionScheduleData toApiConnectionScheduleData(final ConnectionSummary connectionSummary) {
+    return toApiConnectionScheduleData(connectionSummary.scheduleType(), connectionSummary.manual(), connectionSummary.scheduleData(),
+        connectionSummary.schedule());
+  }
+
+  private static io.airbyte.api.model.generated.ConnectionScheduleData toApiConnectionScheduleData(final ScheduleType scheduleType,
+                                                                                                 final Boolean manual,
+                                                                                                 final ScheduleData scheduleData,
+                                                                                                 final Schedule schedule) {
+    if (scheduleType != null) {
+      switch (scheduleType) {
         case MANUAL -> {
           return null;
         }
         case BASIC_SCHEDULE -> {
           return new ConnectionScheduleData()
               .basicSchedule(new ConnectionScheduleDataBasicSchedule()
-                  .timeUnit(toApiBasicScheduleTimeUnit(standardSync.getScheduleData().getBasicSchedule().getTimeUnit()))
-                  .units(standardSync.getScheduleData().getBasicSchedule().getUnits()));
+                  .timeUnit(toApiBasicScheduleTimeUnit(scheduleData.getBasicSchedule().getTimeUnit()))
+                  .units(scheduleData.getBasicSchedule().getUnits()));
         }
         case CRON -> {
           return new ConnectionScheduleData()
               .cron(new ConnectionScheduleDataCron()
-                  .cronExpression(standardSync.getScheduleData().getCron().getCronExpression())
-                  .cronTimeZone(standardSync.getScheduleData().getCron().getCronTimeZone()));
+                  .cronExpression(scheduleData.getCron().getCronExpression())
+                  .cronTimeZone(scheduleData.getCron().getCronTimeZone()));
         }
-        default -> throw new RuntimeException("Unexpected scheduleType " + standardSync.getScheduleType());
+        default -> throw new RuntimeException("Unexpected scheduleType " + scheduleType);
       }
-    } else if (standardSync.getManual()) {
+    } else if (manual) {
       // Legacy schema, manual sync.
       return null;
     } else {
       // Legacy schema, basic schedule.
       return new ConnectionScheduleData()
           .basicSchedule(new ConnectionScheduleDataBasicSchedule()
-              .timeUnit(toApiBasicScheduleTimeUnit(standardSync.getSchedule().getTimeUnit()))
-              .units(standardSync.getSchedule().getUnits()));
+              .timeUnit(toApiBasicScheduleTimeUnit(schedule.getTimeUnit()))
+              .units(schedule.getUnits()));
     }
   }
 
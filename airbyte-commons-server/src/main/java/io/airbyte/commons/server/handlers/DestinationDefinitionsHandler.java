@@ -39,6 +39,7 @@ import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.specs.RemoteDefinitionsProvider;
 import io.airbyte.featureflag.DestinationDefinition;
 import io.airbyte.featureflag.FeatureFlagClient;
+import io.airbyte.featureflag.FlagSnapshot;
 import io.airbyte.featureflag.HideActorDefinitionFromList;
 import io.airbyte.featureflag.Multi;
 import io.airbyte.featureflag.RunSupportStateUpdater;
@@ -96,8 +97,15 @@ public class DestinationDefinitionsHandler {
   @VisibleForTesting
   DestinationDefinitionRead buildDestinationDefinitionRead(final StandardDestinationDefinition standardDestinationDefinition,
                                                            final ActorDefinitionVersion destinationVersion) {
+    return buildDestinationDefinitionRead(standardDestinationDefinition, destinationVersion,
+        ActorDefinitionHandlerHelper.anonymousFlags(featureFlagClient));
+  }
+
+  private DestinationDefinitionRead buildDestinationDefinitionRead(final StandardDestinationDefinition standardDestinationDefinition,
+                                                                   final ActorDefinitionVersion destinationVersion,
+                                                                   final FlagSnapshot anonymousFlags) {
     try {
-      final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+      final boolean iconUrlFeatureFlag = anonymousFlags.boolVariation(UseIconUrlInApiResponse.INSTANCE);
       return new DestinationDefinitionRead()
           .destinationDefinitionId(standardDestinationDefinition.getDestinationDefinitionId())
           .name(standardDestinationDefinition.getName())
@@ -127,8 +135,9 @@ public class DestinationDefinitionsHandler {
 
   private DestinationDefinitionReadList toDestinationDefinitionReadList(final List<StandardDestinationDefinition> defs,
                                                                         final Map<UUID, ActorDefinitionVersion> defIdToVersionMap) {
+    final FlagSnapshot anonymousFlags = ActorDefinitionHandlerHelper.anonymousFlags(featureFlagClient);
     final List<DestinationDefinitionRead> reads = defs.stream()
-        .map(d -> buildDestinationDefinitionRead(d, defIdToVersionMap.get(d.getDestinationDefinitionId())))
+        .map(d -> buildDestinationDefinitionRead(d, defIdToVersionMap.get(d.getDestinationDefinitionId()), anonymousFlags))
         .collect(Collectors.toList());
     return new DestinationDefinitionReadList().destinationDefinitions(reads);
   }
@@ -193,9 +202,11 @@ public class DestinationDefinitionsHandler {
   private PrivateDestinationDefinitionReadList toPrivateDestinationDefinitionReadList(
                                                                                       final List<Entry<StandardDestinationDefinition, Boolean>> defs,
                                                                                       final Map<UUID, ActorDefinitionVersion> defIdToVersionMap) {
+    final FlagSnapshot anonymousFlags = ActorDefinitionHandlerHelper.anonymousFlags(featureFlagClient);
     final List<PrivateDestinationDefinitionRead> reads = defs.stream()
         .map(entry -> new PrivateDestinationDefinitionRead()
-            .destinationDefinition(buildDestinationDefinitionRead(entry.getKey(), defIdToVersionMap.get(entry.getKey().getDestinationDefinitionId())))
+            .destinationDefinition(
+                buildDestinationDefinitionRead(entry.getKey(), defIdToVersionMap.get(entry.getKey().getDestinationDefinitionId()), anonymousFlags))
             .granted(entry.getValue()))
         .collect(Collectors.toList());
     return new PrivateDestinationDefinitionReadList().destinationDefinitions(reads);
@@ -8,7 +8,6 @@ import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.DestinationCloneConfiguration;
 import io.airbyte.api.model.generated.DestinationCloneRequestBody;
@@ -32,6 +31,7 @@ import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
 import io.airbyte.config.persistence.ConfigRepository.ResourcesQueryPaginated;
 import io.airbyte.config.secrets.JsonSecretsProcessor;
 import io.airbyte.data.services.DestinationService;
@@ -46,9 +46,12 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * DestinationHandler. Javadocs suppressed because api docs should be used as source of truth.
@@ -263,58 +266,43 @@ public class DestinationHandler {
   public DestinationReadList listDestinationsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
-    final List<DestinationRead> destinationReads = new ArrayList<>();
     final List<DestinationConnection> destinationConnections =
         configRepository.listWorkspaceDestinationConnection(workspaceIdRequestBody.getWorkspaceId());
-    for (final DestinationConnection destinationConnection : destinationConnections) {
-      destinationReads.add(buildDestinationRead(destinationConnection));
-    }
 
-    return new DestinationReadList().destinations(destinationReads);
+    return new DestinationReadList().destinations(buildDestinationReads(destinationConnections));
   }
 
   public DestinationReadList listDestinationsForWorkspaces(final ListResourcesForWorkspacesRequestBody listResourcesForWorkspacesRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
-    final List<DestinationRead> reads = Lists.newArrayList();
     final List<DestinationConnection> destinationConnections = configRepository.listWorkspacesDestinationConnections(
         new ResourcesQueryPaginated(
             listResourcesForWorkspacesRequestBody.getWorkspaceIds(),
             listResourcesForWorkspacesRequestBody.getIncludeDeleted(),
             listResourcesForWorkspacesRequestBody.getPagination().getPageSize(),
             listResourcesForWorkspacesRequestBody.getPagination().getRowOffset(), null));
-    for (final DestinationConnection destinationConnection : destinationConnections) {
-      reads.add(buildDestinationRead(destinationConnection));
-    }
-    return new DestinationReadList().destinations(reads);
+    return new DestinationReadList().destinations(buildDestinationReads(destinationConnections));
   }
 
   public DestinationReadList listDestinationsForDestinationDefinition(final DestinationDefinitionIdRequestBody destinationDefinitionIdRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
-    final List<DestinationRead> reads = Lists.newArrayList();
-
-    for (final DestinationConnection destinationConnection : configRepository
-        .listDestinationsForDefinition(destinationDefinitionIdRequestBody.getDestinationDefinitionId())) {
-      reads.add(buildDestinationRead(destinationConnection));
-    }
+    final List<DestinationConnection> destinationConnections =
+        configRepository.listDestinationsForDefinition(destinationDefinitionIdRequestBody.getDestinationDefinitionId());
 
-    return new DestinationReadList().destinations(reads);
+    return new DestinationReadList().destinations(buildDestinationReads(destinationConnections));
   }
 
   public DestinationReadList searchDestinations(final DestinationSearch destinationSearch)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-    final List<DestinationRead> reads = Lists.newArrayList();
-
-    for (final DestinationConnection dci : configRepository.listDestinationConnection()) {
-      if (!dci.getTombstone()) {
-        final DestinationRead destinationRead = buildDestinationRead(dci);
-        if (MatchSearchHandler.matchSearch(destinationSearch, destinationRead)) {
-          reads.add(destinationRead);
-        }
-      }
-    }
-
-    return new DestinationReadList().destinations(reads);
+    final List<DestinationConnection> destinationConnections =
+        configRepository.searchDestinationConnections(MatchSearchHandler.toActorSearchQuery(destinationSearch));
+    final List<DestinationRead> reads = buildDestinationReads(destinationConnections).stream()
+        .filter(destinationRead -> MatchSearchHandler.matchSearch(destinationSearch, destinationRead))
+        .toList();
+
+    // the database already returned the requested page unless some criteria are only matched in memory
+    return new DestinationReadList().destinations(
+        MatchSearchHandler.isIndexedSearch(destinationSearch) ? reads : MatchSearchHandler.page(reads, destinationSearch.getPagination()));
   }
 
   private void validateDestination(final ConnectorSpecification spec, final JsonNode configuration) throws JsonValidationException {
@@ -385,6 +373,44 @@ public class DestinationHandler {
     return toDestinationRead(dci, standardDestinationDefinition);
   }
 
+  /**
+   * Build the reads of a page of destinations with a constant number of queries: the definitions and
+   * the default versions of all the destinations are loaded at once, instead of a few queries per
+   * destination.
+   */
+  private List<DestinationRead> buildDestinationReads(final List<DestinationConnection> destinationConnections)
+      throws IOException, ConfigNotFoundException {
+    if (destinationConnections.isEmpty()) {
+      return new ArrayList<>();
+    }
+    final Map<UUID, StandardDestinationDefinition> definitionsByDestinationId = configRepository
+        .getDestinationAndDefinitionsFromDestinationIds(destinationConnections.stream().map(DestinationConnection::getDestinationId).toList())
+        .stream()
+        .collect(Collectors.toMap(destinationAndDefinition -> destinationAndDefinition.destination().getDestinationId(),
+            DestinationAndDefinition::definition));
+    final Map<UUID, ActorDefinitionVersion> versionsByDestinationId =
+        actorDefinitionVersionHelper.getDestinationVersions(destinationConnections, definitionsByDestinationId);
+    final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+    final Map<UUID, String> iconsByDefinitionId = new HashMap<>();
+
+    final List<DestinationRead> reads = new ArrayList<>();
+    for (final DestinationConnection destinationConnection : destinationConnections) {
+      final StandardDestinationDefinition destinationDefinition = definitionsByDestinationId.get(destinationConnection.getDestinationId());
+      final ConnectorSpecification spec = versionsByDestinationId.get(destinationConnection.getDestinationId()).getSpec();
+      // remove secrets from config before returning the read
+      final DestinationConnection dci = Jsons.clone(destinationConnection);
+      dci.setConfiguration(secretsProcessor.prepareSecretsForOutput(dci.getConfiguration(), spec.getConnectionSpecification()));
+      if (!iconUrlFeatureFlag && !iconsByDefinitionId.containsKey(destinationDefinition.getDestinationDefinitionId())) {
+        iconsByDefinitionId.put(destinationDefinition.getDestinationDefinitionId(),
+            DestinationDefinitionsHandler.loadIcon(destinationDefinition.getIcon()));
+      }
+      final String icon =
+          iconUrlFeatureFlag ? destinationDefinition.getIconUrl() : iconsByDefinitionId.get(destinationDefinition.getDestinationDefinitionId());
+      reads.add(toDestinationRead(dci, destinationDefinition, icon));
+    }
+    return reads;
+  }
+
   @SuppressWarnings("PMD.PreserveStackTrace")
   private DestinationRead buildDestinationReadWithSecrets(final UUID destinationId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
@@ -404,7 +430,13 @@ public class DestinationHandler {
   protected DestinationRead toDestinationRead(final DestinationConnection destinationConnection,
                                               final StandardDestinationDefinition standardDestinationDefinition) {
     final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+    return toDestinationRead(destinationConnection, standardDestinationDefinition, iconUrlFeatureFlag ? standardDestinationDefinition.getIconUrl()
+        : DestinationDefinitionsHandler.loadIcon(standardDestinationDefinition.getIcon()));
+  }
 
+  private static DestinationRead toDestinationRead(final DestinationConnection destinationConnection,
+                                                   final StandardDestinationDefinition standardDestinationDefinition,
+                                                   final String icon) {
     return new DestinationRead()
         .destinationDefinitionId(standardDestinationDefinition.getDestinationDefinitionId())
         .destinationId(destinationConnection.getDestinationId())
@@ -413,21 +445,47 @@ public class DestinationHandler {
         .connectionConfiguration(destinationConnection.getConfiguration())
         .name(destinationConnection.getName())
         .destinationName(standardDestinationDefinition.getName())
-        .icon(iconUrlFeatureFlag ? standardDestinationDefinition.getIconUrl()
-            : DestinationDefinitionsHandler.loadIcon(standardDestinationDefinition.getIcon()));
+        .icon(icon);
   }
 
   protected DestinationSnippetRead toDestinationSnippetRead(final DestinationConnection destinationConnection,
                                                             final StandardDestinationDefinition standardDestinationDefinition) {
     final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+    return toDestinationSnippetRead(destinationConnection, standardDestinationDefinition, iconUrlFeatureFlag
+        ? standardDestinationDefinition.getIconUrl()
+        : DestinationDefinitionsHandler.loadIcon(standardDestinationDefinition.getIcon()));
+  }
+
+  /**
+   * Build the snippets of a batch of destinations, evaluating the icon feature flag once and loading
+   * each definition icon only once.
+   */
+  protected List<DestinationSnippetRead> toDestinationSnippetReads(final List<DestinationAndDefinition> destinationAndDefinitions) {
+    final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+    final Map<UUID, String> iconsByDefinitionId = new HashMap<>();
+    final List<DestinationSnippetRead> snippets = new ArrayList<>();
+    for (final DestinationAndDefinition destinationAndDefinition : destinationAndDefinitions) {
+      final StandardDestinationDefinition destinationDefinition = destinationAndDefinition.definition();
+      if (!iconUrlFeatureFlag && !iconsByDefinitionId.containsKey(destinationDefinition.getDestinationDefinitionId())) {
+        iconsByDefinitionId.put(destinationDefinition.getDestinationDefinitionId(),
+            DestinationDefinitionsHandler.loadIcon(destinationDefinition.getIcon()));
+      }
+      final String icon =
+          iconUrlFeatureFlag ? destinationDefinition.getIconUrl() : iconsByDefinitionId.get(destinationDefinition.getDestinationDefinitionId());
+      snippets.add(toDestinationSnippetRead(destinationAndDefinition.destination(), destinationDefinition, icon));
+    }
+    return snippets;
+  }
 
+  private static DestinationSnippetRead toDestinationSnippetRead(final DestinationConnection destinationConnection,
+                                                                 final StandardDestinationDefinition standardDestinationDefinition,
+                                                                 final String icon) {
     return new DestinationSnippetRead()
         .destinationId(destinationConnection.getDestinationId())
         .name(destinationConnection.getName())
         .destinationDefinitionId(standardDestinationDefinition.getDestinationDefinitionId())
         .destinationName(standardDestinationDefinition.getName())
-        .icon(iconUrlFeatureFlag ? standardDestinationDefinition.getIconUrl()
-            : DestinationDefinitionsHandler.loadIcon(standardDestinationDefinition.getIcon()));
+        .icon(icon);
   }
 
 }
@@ -10,6 +10,7 @@ import io.airbyte.api.model.generated.ConnectionReadList;
 import io.airbyte.api.model.generated.ConnectionSearch;
 import io.airbyte.api.model.generated.DestinationRead;
 import io.airbyte.api.model.generated.DestinationSearch;
+import io.airbyte.api.model.generated.Pagination;
 import io.airbyte.api.model.generated.SourceRead;
 import io.airbyte.api.model.generated.SourceSearch;
 import io.airbyte.commons.server.converters.ApiPojoConverters;
@@ -23,11 +24,17 @@ import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.data.services.shared.ConnectionSearchQuery;
 import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.logging.log4j.util.Strings;
 
 /**
  * Handles matching connections to search criteria.
@@ -63,40 +70,146 @@ public class MatchSearchHandler {
     return (destinationReadFromSearch == null || destinationReadFromSearch.equals(destinationRead));
   }
 
-  public boolean matchSearch(final ConnectionSearch connectionSearch, final ConnectionRead connectionRead)
-      throws JsonValidationException, ConfigNotFoundException, IOException {
-
-    final SourceConnection sourceConnection = configRepository.getSourceConnection(connectionRead.getSourceId());
-    final StandardSourceDefinition sourceDefinition =
-        configRepository.getStandardSourceDefinition(sourceConnection.getSourceDefinitionId());
-    final SourceRead sourceRead = sourceHandler.toSourceRead(sourceConnection, sourceDefinition);
+  public ConnectionReadList searchConnections(final ConnectionSearch connectionSearch)
+      throws JsonValidationException, IOException, ConfigNotFoundException {
+    final List<ConnectionRead> reads = Lists.newArrayList();
+    final Map<UUID, SourceRead> sourceReads = new HashMap<>();
+    final Map<UUID, DestinationRead> destinationReads = new HashMap<>();
+    for (final StandardSync standardSync : configRepository.searchStandardSyncs(toConnectionSearchQuery(connectionSearch))) {
+      final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
+      if (matchSearch(connectionSearch, connectionRead, sourceReads, destinationReads)) {
+        reads.add(connectionRead);
+      }
+    }
 
-    final DestinationConnection destinationConnection = configRepository.getDestinationConnection(connectionRead.getDestinationId());
-    final StandardDestinationDefinition destinationDefinition =
-        configRepository.getStandardDestinationDefinition(destinationConnection.getDestinationDefinitionId());
-    final DestinationRead destinationRead = destinationHandler.toDestinationRead(destinationConnection, destinationDefinition);
+    // the database already returned the requested page unless some criteria are only matched in memory
+    return new ConnectionReadList().connections(isIndexedSearch(connectionSearch) ? reads : page(reads, connectionSearch.getPagination()));
+  }
 
+  private boolean matchSearch(final ConnectionSearch connectionSearch,
+                              final ConnectionRead connectionRead,
+                              final Map<UUID, SourceRead> sourceReads,
+                              final Map<UUID, DestinationRead> destinationReads)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
     final ConnectionMatcher connectionMatcher = new ConnectionMatcher(connectionSearch);
     final ConnectionRead connectionReadFromSearch = connectionMatcher.match(connectionRead);
+    if (connectionReadFromSearch != null && !connectionReadFromSearch.equals(connectionRead)) {
+      return false;
+    }
 
-    return (connectionReadFromSearch == null || connectionReadFromSearch.equals(connectionRead))
-        && matchSearch(connectionSearch.getSource(), sourceRead)
-        && matchSearch(connectionSearch.getDestination(), destinationRead);
+    // the indexed source and destination criteria are applied by the database, the source and
+    // destination only have to be read for the other ones, once per actor
+    if (!isIndexedSearch(connectionSearch.getSource())) {
+      SourceRead sourceRead = sourceReads.get(connectionRead.getSourceId());
+      if (sourceRead == null) {
+        final SourceConnection sourceConnection = configRepository.getSourceConnection(connectionRead.getSourceId());
+        final StandardSourceDefinition sourceDefinition =
+            configRepository.getStandardSourceDefinition(sourceConnection.getSourceDefinitionId());
+        sourceRead = sourceHandler.toSourceRead(sourceConnection, sourceDefinition);
+        sourceReads.put(connectionRead.getSourceId(), sourceRead);
+      }
+      if (!matchSearch(connectionSearch.getSource(), sourceRead)) {
+        return false;
+      }
+    }
+    if (!isIndexedSearch(connectionSearch.getDestination())) {
+      DestinationRead destinationRead = destinationReads.get(connectionRead.getDestinationId());
+      if (destinationRead == null) {
+        final DestinationConnection destinationConnection = configRepository.getDestinationConnection(connectionRead.getDestinationId());
+        final StandardDestinationDefinition destinationDefinition =
+            configRepository.getStandardDestinationDefinition(destinationConnection.getDestinationDefinitionId());
+        destinationRead = destinationHandler.toDestinationRead(destinationConnection, destinationDefinition);
+        destinationReads.put(connectionRead.getDestinationId(), destinationRead);
+      }
+      return matchSearch(connectionSearch.getDestination(), destinationRead);
+    }
+    return true;
   }
 
-  public ConnectionReadList searchConnections(final ConnectionSearch connectionSearch)
-      throws JsonValidationException, IOException, ConfigNotFoundException {
-    final List<ConnectionRead> reads = Lists.newArrayList();
-    for (final StandardSync standardSync : configRepository.listStandardSyncs()) {
-      if (standardSync.getStatus() != StandardSync.Status.DEPRECATED) {
-        final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
-        if (matchSearch(connectionSearch, connectionRead)) {
-          reads.add(connectionRead);
-        }
-      }
+  /**
+   * Whether all the criteria of a search are applied by the database, in which case the database
+   * can also apply its pagination. Otherwise, the database returns every candidate and the page is
+   * cut once the other criteria are matched in memory.
+   */
+  static boolean isIndexedSearch(final ConnectionSearch connectionSearch) {
+    if (connectionSearch == null) {
+      return true;
     }
+    return connectionSearch.getNamespaceDefinition() == null
+        && (Strings.isBlank(connectionSearch.getNamespaceFormat()) || "null".equals(connectionSearch.getNamespaceFormat()))
+        && Strings.isBlank(connectionSearch.getPrefix())
+        && connectionSearch.getSchedule() == null
+        && connectionSearch.getScheduleType() == null
+        && connectionSearch.getScheduleData() == null
+        && isIndexedSearch(connectionSearch.getSource())
+        && isIndexedSearch(connectionSearch.getDestination());
+  }
+
+  static boolean isIndexedSearch(final SourceSearch sourceSearch) {
+    return sourceSearch == null || (Strings.isBlank(sourceSearch.getSourceName()) && sourceSearch.getConnectionConfiguration() == null);
+  }
 
-    return new ConnectionReadList().connections(reads);
+  static boolean isIndexedSearch(final DestinationSearch destinationSearch) {
+    return destinationSearch == null
+        || (Strings.isBlank(destinationSearch.getDestinationName()) && destinationSearch.getConnectionConfiguration() == null);
+  }
+
+  /**
+   * Cut a page out of the results that were matched in memory.
+   */
+  static <T> List<T> page(final List<T> matches, final Pagination pagination) {
+    if (pagination == null || pagination.getPageSize() == null) {
+      return matches;
+    }
+    return matches.stream()
+        .skip(pagination.getRowOffset() == null ? 0 : pagination.getRowOffset())
+        .limit(pagination.getPageSize())
+        .toList();
+  }
+
+  static ConnectionSearchQuery toConnectionSearchQuery(final ConnectionSearch connectionSearch) {
+    if (connectionSearch == null) {
+      return new ConnectionSearchQuery(null, null, null, null, null, null, null, null, null);
+    }
+    final Pagination pagination = isIndexedSearch(connectionSearch) ? connectionSearch.getPagination() : null;
+    return new ConnectionSearchQuery(
+        connectionSearch.getConnectionId(),
+        connectionSearch.getName(),
+        connectionSearch.getSourceId(),
+        connectionSearch.getDestinationId(),
+        connectionSearch.getStatus() == null ? null : ApiPojoConverters.toPersistenceStatus(connectionSearch.getStatus()),
+        toActorSearchQuery(connectionSearch.getSource()),
+        toActorSearchQuery(connectionSearch.getDestination()),
+        pagination == null ? null : pagination.getPageSize(),
+        pagination == null ? null : pagination.getRowOffset());
+  }
+
+  static ActorSearchQuery toActorSearchQuery(final SourceSearch sourceSearch) {
+    if (sourceSearch == null) {
+      return new ActorSearchQuery(null, null, null, null, null, null);
+    }
+    final Pagination pagination = isIndexedSearch(sourceSearch) ? sourceSearch.getPagination() : null;
+    return new ActorSearchQuery(
+        sourceSearch.getSourceId(),
+        sourceSearch.getSourceDefinitionId(),
+        sourceSearch.getWorkspaceId(),
+        sourceSearch.getName(),
+        pagination == null ? null : pagination.getPageSize(),
+        pagination == null ? null : pagination.getRowOffset());
+  }
+
+  static ActorSearchQuery toActorSearchQuery(final DestinationSearch destinationSearch) {
+    if (destinationSearch == null) {
+      return new ActorSearchQuery(null, null, null, null, null, null);
+    }
+    final Pagination pagination = isIndexedSearch(destinationSearch) ? destinationSearch.getPagination() : null;
+    return new ActorSearchQuery(
+        destinationSearch.getDestinationId(),
+        destinationSearch.getDestinationDefinitionId(),
+        destinationSearch.getWorkspaceId(),
+        destinationSearch.getName(),
+        pagination == null ? null : pagination.getPageSize(),
+        pagination == null ? null : pagination.getRowOffset());
   }
 
 }
@@ -39,6 +39,7 @@ import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.specs.RemoteDefinitionsProvider;
 import io.airbyte.featureflag.FeatureFlagClient;
+import io.airbyte.featureflag.FlagSnapshot;
 import io.airbyte.featureflag.HideActorDefinitionFromList;
 import io.airbyte.featureflag.Multi;
 import io.airbyte.featureflag.RunSupportStateUpdater;
@@ -96,7 +97,13 @@ public class SourceDefinitionsHandler {
   @VisibleForTesting
   SourceDefinitionRead buildSourceDefinitionRead(final StandardSourceDefinition standardSourceDefinition,
                                                  final ActorDefinitionVersion sourceVersion) {
-    final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+    return buildSourceDefinitionRead(standardSourceDefinition, sourceVersion, ActorDefinitionHandlerHelper.anonymousFlags(featureFlagClient));
+  }
+
+  private SourceDefinitionRead buildSourceDefinitionRead(final StandardSourceDefinition standardSourceDefinition,
+                                                         final ActorDefinitionVersion sourceVersion,
+                                                         final FlagSnapshot anonymousFlags) {
+    final boolean iconUrlFeatureFlag = anonymousFlags.boolVariation(UseIconUrlInApiResponse.INSTANCE);
 
     try {
       return new SourceDefinitionRead()
@@ -144,8 +151,9 @@ public class SourceDefinitionsHandler {
 
   private SourceDefinitionReadList toSourceDefinitionReadList(final List<StandardSourceDefinition> defs,
                                                               final Map<UUID, ActorDefinitionVersion> defIdToVersionMap) {
+    final FlagSnapshot anonymousFlags = ActorDefinitionHandlerHelper.anonymousFlags(featureFlagClient);
     final List<SourceDefinitionRead> reads = defs.stream()
-        .map(d -> buildSourceDefinitionRead(d, defIdToVersionMap.get(d.getSourceDefinitionId())))
+        .map(d -> buildSourceDefinitionRead(d, defIdToVersionMap.get(d.getSourceDefinitionId()), anonymousFlags))
         .collect(Collectors.toList());
     return new SourceDefinitionReadList().sourceDefinitions(reads);
   }
@@ -197,9 +205,11 @@ public class SourceDefinitionsHandler {
 
   private PrivateSourceDefinitionReadList toPrivateSourceDefinitionReadList(final List<Entry<StandardSourceDefinition, Boolean>> defs,
                                                                             final Map<UUID, ActorDefinitionVersion> defIdToVersionMap) {
+    final FlagSnapshot anonymousFlags = ActorDefinitionHandlerHelper.anonymousFlags(featureFlagClient);
     final List<PrivateSourceDefinitionRead> reads = defs.stream()
         .map(entry -> new PrivateSourceDefinitionRead()
-            .sourceDefinition(buildSourceDefinitionRead(entry.getKey(), defIdToVersionMap.get(entry.getKey().getSourceDefinitionId())))
+            .sourceDefinition(
+                buildSourceDefinitionRead(entry.getKey(), defIdToVersionMap.get(entry.getKey().getSourceDefinitionId()), anonymousFlags))
             .granted(entry.getValue()))
         .collect(Collectors.toList());
     return new PrivateSourceDefinitionReadList().sourceDefinitions(reads);
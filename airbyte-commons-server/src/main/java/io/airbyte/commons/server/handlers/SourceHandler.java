@@ -40,6 +40,7 @@ import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.ConfigRepository.ResourcesQueryPaginated;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.config.secrets.JsonSecretsProcessor;
 import io.airbyte.config.secrets.SecretCoordinate;
 import io.airbyte.config.secrets.SecretsRepositoryReader;
@@ -60,10 +61,13 @@ import io.airbyte.validation.json.JsonValidationException;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * SourceHandler. Javadocs suppressed because api docs should be used as source of truth.
@@ -286,12 +290,7 @@ public class SourceHandler {
 
     final List<SourceConnection> sourceConnections = configRepository.listWorkspaceSourceConnection(workspaceIdRequestBody.getWorkspaceId());
 
-    final List<SourceRead> reads = Lists.newArrayList();
-    for (final SourceConnection sc : sourceConnections) {
-      reads.add(buildSourceRead(sc));
-    }
-
-    return new SourceReadList().sources(reads);
+    return new SourceReadList().sources(buildSourceReads(sourceConnections));
   }
 
   public SourceReadList listSourcesForWorkspaces(final ListResourcesForWorkspacesRequestBody listResourcesForWorkspacesRequestBody)
@@ -303,39 +302,27 @@ public class SourceHandler {
             listResourcesForWorkspacesRequestBody.getPagination().getPageSize(),
             listResourcesForWorkspacesRequestBody.getPagination().getRowOffset(), null));
 
-    final List<SourceRead> reads = Lists.newArrayList();
-    for (final SourceConnection sc : sourceConnections) {
-      reads.add(buildSourceRead(sc));
-    }
-
-    return new SourceReadList().sources(reads);
+    return new SourceReadList().sources(buildSourceReads(sourceConnections));
   }
 
   public SourceReadList listSourcesForSourceDefinition(final SourceDefinitionIdRequestBody sourceDefinitionIdRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
 
-    final List<SourceRead> reads = Lists.newArrayList();
-    for (final SourceConnection sourceConnection : configRepository.listSourcesForDefinition(sourceDefinitionIdRequestBody.getSourceDefinitionId())) {
-      reads.add(buildSourceRead(sourceConnection));
-    }
+    final List<SourceConnection> sourceConnections = configRepository.listSourcesForDefinition(sourceDefinitionIdRequestBody.getSourceDefinitionId());
 
-    return new SourceReadList().sources(reads);
+    return new SourceReadList().sources(buildSourceReads(sourceConnections));
   }
 
   public SourceReadList searchSources(final SourceSearch sourceSearch)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-    final List<SourceRead> reads = Lists.newArrayList();
-
-    for (final SourceConnection sci : configRepository.listSourceConnection()) {
-      if (!sci.getTombstone()) {
-        final SourceRead sourceRead = buildSourceRead(sci);
-        if (MatchSearchHandler.matchSearch(sourceSearch, sourceRead)) {
-          reads.add(sourceRead);
-        }
-      }
-    }
+    final List<SourceConnection> sourceConnections = configRepository.searchSourceConnections(MatchSearchHandler.toActorSearchQuery(sourceSearch));
+    final List<SourceRead> reads = buildSourceReads(sourceConnections).stream()
+        .filter(sourceRead -> MatchSearchHandler.matchSearch(sourceSearch, sourceRead))
+        .toList();
 
-    return new SourceReadList().sources(reads);
+    // the database already returned the requested page unless some criteria are only matched in memory
+    return new SourceReadList().sources(
+        MatchSearchHandler.isIndexedSearch(sourceSearch) ? reads : MatchSearchHandler.page(reads, sourceSearch.getPagination()));
   }
 
   public void deleteSource(final SourceIdRequestBody sourceIdRequestBody)
@@ -424,6 +411,39 @@ public class SourceHandler {
     return toSourceRead(sourceConnection, standardSourceDefinition);
   }
 
+  /**
+   * Build the reads of a page of sources with a constant number of queries: the definitions and the
+   * default versions of all the sources are loaded at once, instead of a few queries per source.
+   */
+  private List<SourceRead> buildSourceReads(final List<SourceConnection> sourceConnections) throws IOException, ConfigNotFoundException {
+    if (sourceConnections.isEmpty()) {
+      return Lists.newArrayList();
+    }
+    final Map<UUID, StandardSourceDefinition> definitionsBySourceId =
+        configRepository.getSourceAndDefinitionsFromSourceIds(sourceConnections.stream().map(SourceConnection::getSourceId).toList())
+            .stream()
+            .collect(Collectors.toMap(sourceAndDefinition -> sourceAndDefinition.source().getSourceId(), SourceAndDefinition::definition));
+    final Map<UUID, ActorDefinitionVersion> versionsBySourceId =
+        actorDefinitionVersionHelper.getSourceVersions(sourceConnections, definitionsBySourceId);
+    final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+    final Map<UUID, String> iconsByDefinitionId = new HashMap<>();
+
+    final List<SourceRead> reads = Lists.newArrayList();
+    for (final SourceConnection sourceConnection : sourceConnections) {
+      final StandardSourceDefinition sourceDefinition = definitionsBySourceId.get(sourceConnection.getSourceId());
+      final ConnectorSpecification spec = versionsBySourceId.get(sourceConnection.getSourceId()).getSpec();
+      // remove secrets from config before returning the read
+      final SourceConnection sci = Jsons.clone(sourceConnection);
+      sci.setConfiguration(secretsProcessor.prepareSecretsForOutput(sci.getConfiguration(), spec.getConnectionSpecification()));
+      if (!iconUrlFeatureFlag && !iconsByDefinitionId.containsKey(sourceDefinition.getSourceDefinitionId())) {
+        iconsByDefinitionId.put(sourceDefinition.getSourceDefinitionId(), SourceDefinitionsHandler.loadIcon(sourceDefinition.getIcon()));
+      }
+      final String icon = iconUrlFeatureFlag ? sourceDefinition.getIconUrl() : iconsByDefinitionId.get(sourceDefinition.getSourceDefinitionId());
+      reads.add(toSourceRead(sci, sourceDefinition, icon));
+    }
+    return reads;
+  }
+
   @SuppressWarnings("PMD.PreserveStackTrace")
   private SourceRead buildSourceReadWithSecrets(final UUID sourceId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
@@ -488,6 +508,13 @@ public class SourceHandler {
                                     final StandardSourceDefinition standardSourceDefinition) {
 
     final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+    return toSourceRead(sourceConnection, standardSourceDefinition,
+        iconUrlFeatureFlag ? standardSourceDefinition.getIconUrl() : SourceDefinitionsHandler.loadIcon(standardSourceDefinition.getIcon()));
+  }
+
+  private static SourceRead toSourceRead(final SourceConnection sourceConnection,
+                                         final StandardSourceDefinition standardSourceDefinition,
+                                         final String icon) {
     return new SourceRead()
         .sourceDefinitionId(standardSourceDefinition.getSourceDefinitionId())
         .sourceName(standardSourceDefinition.getName())
@@ -496,17 +523,43 @@ public class SourceHandler {
         .sourceDefinitionId(sourceConnection.getSourceDefinitionId())
         .connectionConfiguration(sourceConnection.getConfiguration())
         .name(sourceConnection.getName())
-        .icon(iconUrlFeatureFlag ? standardSourceDefinition.getIconUrl() : SourceDefinitionsHandler.loadIcon(standardSourceDefinition.getIcon()));
+        .icon(icon);
   }
 
   protected SourceSnippetRead toSourceSnippetRead(final SourceConnection source, final StandardSourceDefinition sourceDefinition) {
     final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+    return toSourceSnippetRead(source, sourceDefinition,
+        iconUrlFeatureFlag ? sourceDefinition.getIconUrl() : SourceDefinitionsHandler.loadIcon(sourceDefinition.getIcon()));
+  }
+
+  /**
+   * Build the snippets of a batch of sources, evaluating the icon feature flag once and loading each
+   * definition icon only once.
+   */
+  protected List<SourceSnippetRead> toSourceSnippetReads(final List<SourceAndDefinition> sourceAndDefinitions) {
+    final boolean iconUrlFeatureFlag = featureFlagClient.boolVariation(UseIconUrlInApiResponse.INSTANCE, new Workspace(ANONYMOUS));
+    final Map<UUID, String> iconsByDefinitionId = new HashMap<>();
+    final List<SourceSnippetRead> snippets = Lists.newArrayList();
+    for (final SourceAndDefinition sourceAndDefinition : sourceAndDefinitions) {
+      final StandardSourceDefinition sourceDefinition = sourceAndDefinition.definition();
+      if (!iconUrlFeatureFlag && !iconsByDefinitionId.containsKey(sourceDefinition.getSourceDefinitionId())) {
+        iconsByDefinitionId.put(sourceDefinition.getSourceDefinitionId(), SourceDefinitionsHandler.loadIcon(sourceDefinition.getIcon()));
+      }
+      final String icon = iconUrlFeatureFlag ? sourceDefinition.getIconUrl() : iconsByDefinitionId.get(sourceDefinition.getSourceDefinitionId());
+      snippets.add(toSourceSnippetRead(sourceAndDefinition.source(), sourceDefinition, icon));
+    }
+    return snippets;
+  }
+
+  private static SourceSnippetRead toSourceSnippetRead(final SourceConnection source,
+                                                       final StandardSourceDefinition sourceDefinition,
+                                                       final String icon) {
     return new SourceSnippetRead()
         .sourceId(source.getSourceId())
         .name(source.getName())
         .sourceDefinitionId(sourceDefinition.getSourceDefinitionId())
         .sourceName(sourceDefinition.getName())
-        .icon(iconUrlFeatureFlag ? sourceDefinition.getIconUrl() : SourceDefinitionsHandler.loadIcon(sourceDefinition.getIcon()));
+        .icon(icon);
   }
 
   @VisibleForTesting
@@ -58,11 +58,11 @@ import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.StandardSourceDefinition;
-import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
+import io.airbyte.data.services.shared.ConnectionSummary;
 import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
@@ -151,10 +151,11 @@ public class WebBackendConnectionsHandler {
         // passing 'false' so that deleted connections are not included
         false);
 
-    final List<StandardSync> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncs(query);
-    final List<UUID> sourceIds = standardSyncs.stream().map(StandardSync::getSourceId).toList();
-    final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).toList();
-    final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
+    // the list only shows names, schedules and statuses, so skip reading the (potentially large) catalogs
+    final List<ConnectionSummary> connectionSummaries = configRepositoryDoNotUse.listWorkspaceConnectionSummaries(query);
+    final List<UUID> sourceIds = connectionSummaries.stream().map(ConnectionSummary::sourceId).toList();
+    final List<UUID> destinationIds = connectionSummaries.stream().map(ConnectionSummary::destinationId).toList();
+    final List<UUID> connectionIds = connectionSummaries.stream().map(ConnectionSummary::connectionId).toList();
 
     // Fetching all the related objects we need for the final output
     final Map<UUID, SourceSnippetRead> sourceReadById = getSourceSnippetReadById(sourceIds);
@@ -168,15 +169,15 @@ public class WebBackendConnectionsHandler {
 
     final List<WebBackendConnectionListItem> connectionItems = Lists.newArrayList();
 
-    for (final StandardSync standardSync : standardSyncs) {
+    for (final ConnectionSummary connectionSummary : connectionSummaries) {
       connectionItems.add(
           buildWebBackendConnectionListItem(
-              standardSync,
+              connectionSummary,
               sourceReadById,
               destinationReadById,
               latestJobByConnectionId,
               runningJobByConnectionId,
-              Optional.ofNullable(newestFetchEventsByActorId.get(standardSync.getSourceId()))));
+              Optional.ofNullable(newestFetchEventsByActorId.get(connectionSummary.sourceId()))));
     }
 
     return new WebBackendConnectionReadList().connections(connectionItems);
@@ -193,17 +194,14 @@ public class WebBackendConnectionsHandler {
   }
 
   private Map<UUID, SourceSnippetRead> getSourceSnippetReadById(final List<UUID> sourceIds) throws IOException {
-    return configRepositoryDoNotUse.getSourceAndDefinitionsFromSourceIds(sourceIds)
+    return sourceHandler.toSourceSnippetReads(configRepositoryDoNotUse.getSourceAndDefinitionsFromSourceIds(sourceIds))
         .stream()
-        .map(sourceAndDefinition -> sourceHandler.toSourceSnippetRead(sourceAndDefinition.source(), sourceAndDefinition.definition()))
         .collect(Collectors.toMap(SourceSnippetRead::getSourceId, Function.identity()));
   }
 
   private Map<UUID, DestinationSnippetRead> getDestinationSnippetReadById(final List<UUID> destinationIds) throws IOException {
-    return configRepositoryDoNotUse.getDestinationAndDefinitionsFromDestinationIds(destinationIds)
+    return destinationHandler.toDestinationSnippetReads(configRepositoryDoNotUse.getDestinationAndDefinitionsFromDestinationIds(destinationIds))
         .stream()
-        .map(destinationAndDefinition -> destinationHandler.toDestinationSnippetRead(destinationAndDefinition.destination(),
-            destinationAndDefinition.definition()))
         .collect(Collectors.toMap(DestinationSnippetRead::getDestinationId, Function.identity()));
   }
 
@@ -236,28 +234,32 @@ public class WebBackendConnectionsHandler {
   }
 
   private static WebBackendConnectionListItem buildWebBackendConnectionListItem(
-                                                                                final StandardSync standardSync,
+                                                                                final ConnectionSummary connectionSummary,
                                                                                 final Map<UUID, SourceSnippetRead> sourceReadById,
                                                                                 final Map<UUID, DestinationSnippetRead> destinationReadById,
                                                                                 final Map<UUID, JobStatusSummary> latestJobByConnectionId,
                                                                                 final Map<UUID, JobRead> runningJobByConnectionId,
                                                                                 final Optional<ActorCatalogFetchEvent> latestFetchEvent) {
 
-    final SourceSnippetRead source = sourceReadById.get(standardSync.getSourceId());
-    final DestinationSnippetRead destination = destinationReadById.get(standardSync.getDestinationId());
-    final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(standardSync.getConnectionId()));
-    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(standardSync.getConnectionId()));
-    final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
-    final Optional<UUID> currentCatalogId = connectionRead == null ? Optional.empty() : Optional.ofNullable(connectionRead.getSourceCatalogId());
+    final SourceSnippetRead source = sourceReadById.get(connectionSummary.sourceId());
+    final DestinationSnippetRead destination = destinationReadById.get(connectionSummary.destinationId());
+    final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(connectionSummary.connectionId()));
+    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(connectionSummary.connectionId()));
+    // the summary has no catalog, only the fields needed to detect schema changes are set
+    final ConnectionRead connectionRead = new ConnectionRead()
+        .connectionId(connectionSummary.connectionId())
+        .sourceCatalogId(connectionSummary.sourceCatalogId())
+        .breakingChange(connectionSummary.breakingChange());
+    final Optional<UUID> currentCatalogId = Optional.ofNullable(connectionRead.getSourceCatalogId());
 
     final SchemaChange schemaChange = getSchemaChange(connectionRead, currentCatalogId, latestFetchEvent);
 
     final WebBackendConnectionListItem listItem = new WebBackendConnectionListItem()
-        .connectionId(standardSync.getConnectionId())
-        .status(ApiPojoConverters.toApiStatus(standardSync.getStatus()))
-        .name(standardSync.getName())
-        .scheduleType(ApiPojoConverters.toApiConnectionScheduleType(standardSync))
-        .scheduleData(ApiPojoConverters.toApiConnectionScheduleData(standardSync))
+        .connectionId(connectionSummary.connectionId())
+        .status(ApiPojoConverters.toApiStatus(connectionSummary.status()))
+        .name(connectionSummary.name())
+        .scheduleType(ApiPojoConverters.toApiConnectionScheduleType(connectionSummary))
+        .scheduleData(ApiPojoConverters.toApiConnectionScheduleData(connectionSummary))
         .source(source)
         .destination(destination)
         .isSyncing(latestRunningSyncJob.isPresent())
@@ -4,6 +4,8 @@
 
 package io.airbyte.commons.server.handlers.helpers;
 
+import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
+
 import io.airbyte.commons.server.ServerConstants;
 import io.airbyte.commons.server.converters.SpecFetcher;
 import io.airbyte.commons.server.errors.UnsupportedProtocolVersionException;
@@ -20,6 +22,11 @@ import io.airbyte.config.ConnectorRegistrySourceDefinition;
 import io.airbyte.config.helpers.ConnectorRegistryConverters;
 import io.airbyte.config.persistence.ActorDefinitionVersionResolver;
 import io.airbyte.config.specs.RemoteDefinitionsProvider;
+import io.airbyte.featureflag.FeatureFlagClient;
+import io.airbyte.featureflag.FlagSnapshot;
+import io.airbyte.featureflag.SnapshotKt;
+import io.airbyte.featureflag.UseIconUrlInApiResponse;
+import io.airbyte.featureflag.Workspace;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import jakarta.inject.Singleton;
 import java.io.IOException;
@@ -53,6 +60,17 @@ public class ActorDefinitionHandlerHelper {
     this.remoteDefinitionsProvider = remoteDefinitionsProvider;
   }
 
+  /**
+   * Flags evaluated for the anonymous workspace are the same for every definition, so a request only
+   * needs to evaluate them once.
+   *
+   * @param featureFlagClient - the feature flag client
+   * @return - a snapshot of the flags for the anonymous workspace
+   */
+  public static FlagSnapshot anonymousFlags(final FeatureFlagClient featureFlagClient) {
+    return SnapshotKt.snapshot(featureFlagClient, new Workspace(ANONYMOUS), UseIconUrlInApiResponse.INSTANCE);
+  }
+
   /**
    * Create a new actor definition version to set as default for a new connector from a create
    * request.
@@ -58,6 +58,7 @@ import io.airbyte.api.model.generated.FieldAdd;
 import io.airbyte.api.model.generated.FieldTransform;
 import io.airbyte.api.model.generated.InternalOperationResult;
 import io.airbyte.api.model.generated.NamespaceDefinitionType;
+import io.airbyte.api.model.generated.Pagination;
 import io.airbyte.api.model.generated.ResourceRequirements;
 import io.airbyte.api.model.generated.SelectedFieldInfo;
 import io.airbyte.api.model.generated.SourceSearch;
@@ -112,6 +113,8 @@ import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SecretPersistenceConfigService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.data.services.shared.ConnectionSearchQuery;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.persistence.job.JobNotifier;
 import io.airbyte.persistence.job.JobPersistence;
@@ -505,8 +508,14 @@ class ConnectionsHandlerTest {
           .withName(DESTINATION_TEST)
           .withDestinationDefinitionId(UUID.randomUUID());
 
-      when(configRepository.listStandardSyncs())
-          .thenReturn(Lists.newArrayList(standardSync, standardSync2));
+      // the database only returns the connections of the searched source, the other criteria are
+      // checked in memory again
+      when(configRepository.searchStandardSyncs(any())).thenAnswer(invocation -> {
+        final ConnectionSearchQuery query = invocation.getArgument(0);
+        return query.source().actorId() == null || query.source().actorId().equals(sourceId)
+            ? Lists.newArrayList(standardSync, standardSync2)
+            : List.of();
+      });
       when(configRepository.getSourceConnection(source.getSourceId()))
           .thenReturn(source);
       when(configRepository.getDestinationConnection(destination.getDestinationId()))
@@ -613,6 +622,41 @@ class ConnectionsHandlerTest {
       assertEquals(connectionRead2, actualConnectionReadList.getConnections().get(0));
     }
 
+    @Test
+    void testSearchConnectionsPushesDownIndexedCriteria() {
+      final UUID workspaceId = UUID.randomUUID();
+      final ConnectionSearch connectionSearch = new ConnectionSearch()
+          .name("test connection")
+          .status(ConnectionStatus.ACTIVE)
+          .sourceId(sourceId)
+          .source(new SourceSearch().workspaceId(workspaceId))
+          .pagination(new Pagination().pageSize(20).rowOffset(40));
+
+      assertEquals(new ConnectionSearchQuery(null, "test connection", sourceId, null, StandardSync.Status.ACTIVE,
+          new ActorSearchQuery(null, null, workspaceId, null, null, null), new ActorSearchQuery(null, null, null, null, null, null), 20, 40),
+          MatchSearchHandler.toConnectionSearchQuery(connectionSearch));
+    }
+
+    @Test
+    void testSearchConnectionsPagesAfterMatchingInMemory() throws JsonValidationException, ConfigNotFoundException, IOException {
+      final StandardSync filteredOut = Jsons.clone(standardSync)
+          .withConnectionId(UUID.randomUUID())
+          .withPrefix("other_prefix");
+      final ActorSearchQuery anyActor = new ActorSearchQuery(null, null, null, null, null, null);
+      // the prefix is only matched in memory, so the database has to return every candidate
+      when(configRepository.searchStandardSyncs(new ConnectionSearchQuery(null, null, null, null, null, anyActor, anyActor, null, null)))
+          .thenReturn(List.of(filteredOut, standardSync));
+
+      final ConnectionSearch connectionSearch = new ConnectionSearch()
+          .prefix(standardSync.getPrefix())
+          .pagination(new Pagination().pageSize(1).rowOffset(0));
+      assertEquals(List.of(ConnectionHelpers.connectionReadFromStandardSync(standardSync)),
+          matchSearchHandler.searchConnections(connectionSearch).getConnections());
+
+      connectionSearch.pagination(new Pagination().pageSize(1).rowOffset(1));
+      assertEquals(List.of(), matchSearchHandler.searchConnections(connectionSearch).getConnections());
+    }
+
     @Test
     void testDeleteConnection() throws JsonValidationException, ConfigNotFoundException, IOException {
       connectionsHandler.deleteConnection(connectionId);
@@ -34,8 +34,10 @@ import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
 import io.airbyte.config.secrets.JsonSecretsProcessor;
 import io.airbyte.data.services.DestinationService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.featureflag.UseIconUrlInApiResponse;
 import io.airbyte.featureflag.Workspace;
@@ -44,6 +46,8 @@ import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -293,9 +297,11 @@ class DestinationHandlerTest {
         .thenReturn(Lists.newArrayList(destinationConnection));
     when(configRepository.getStandardDestinationDefinition(standardDestinationDefinition.getDestinationDefinitionId()))
         .thenReturn(standardDestinationDefinition);
-    when(actorDefinitionVersionHelper.getDestinationVersion(standardDestinationDefinition, destinationConnection.getWorkspaceId(),
-        destinationConnection.getDestinationId()))
-            .thenReturn(destinationDefinitionVersion);
+    when(configRepository.getDestinationAndDefinitionsFromDestinationIds(List.of(destinationConnection.getDestinationId())))
+        .thenReturn(List.of(new DestinationAndDefinition(destinationConnection, standardDestinationDefinition)));
+    when(actorDefinitionVersionHelper.getDestinationVersions(List.of(destinationConnection),
+        Map.of(destinationConnection.getDestinationId(), standardDestinationDefinition)))
+            .thenReturn(Map.of(destinationConnection.getDestinationId(), destinationDefinitionVersion));
     when(secretsProcessor.prepareSecretsForOutput(destinationConnection.getConfiguration(),
         destinationDefinitionSpecificationRead.getConnectionSpecification()))
             .thenReturn(destinationConnection.getConfiguration());
@@ -303,8 +309,8 @@ class DestinationHandlerTest {
     final DestinationReadList actualDestinationRead = destinationHandler.listDestinationsForWorkspace(workspaceIdRequestBody);
 
     assertEquals(expectedDestinationRead, actualDestinationRead.getDestinations().get(0));
-    verify(actorDefinitionVersionHelper).getDestinationVersion(standardDestinationDefinition, destinationConnection.getWorkspaceId(),
-        destinationConnection.getDestinationId());
+    verify(actorDefinitionVersionHelper).getDestinationVersions(List.of(destinationConnection),
+        Map.of(destinationConnection.getDestinationId(), standardDestinationDefinition));
     verify(secretsProcessor)
         .prepareSecretsForOutput(destinationConnection.getConfiguration(), destinationDefinitionSpecificationRead.getConnectionSpecification());
   }
@@ -321,12 +327,15 @@ class DestinationHandlerTest {
         .icon(ICON_URL);
 
     when(configRepository.getDestinationConnection(destinationConnection.getDestinationId())).thenReturn(destinationConnection);
-    when(configRepository.listDestinationConnection()).thenReturn(Lists.newArrayList(destinationConnection));
+    when(configRepository.searchDestinationConnections(new ActorSearchQuery(null, null, null, destinationConnection.getName(), null, null)))
+        .thenReturn(Lists.newArrayList(destinationConnection));
     when(configRepository.getStandardDestinationDefinition(standardDestinationDefinition.getDestinationDefinitionId()))
         .thenReturn(standardDestinationDefinition);
-    when(actorDefinitionVersionHelper.getDestinationVersion(standardDestinationDefinition, destinationConnection.getWorkspaceId(),
-        destinationConnection.getDestinationId()))
-            .thenReturn(destinationDefinitionVersion);
+    when(configRepository.getDestinationAndDefinitionsFromDestinationIds(List.of(destinationConnection.getDestinationId())))
+        .thenReturn(List.of(new DestinationAndDefinition(destinationConnection, standardDestinationDefinition)));
+    when(actorDefinitionVersionHelper.getDestinationVersions(List.of(destinationConnection),
+        Map.of(destinationConnection.getDestinationId(), standardDestinationDefinition)))
+            .thenReturn(Map.of(destinationConnection.getDestinationId(), destinationDefinitionVersion));
     when(secretsProcessor.prepareSecretsForOutput(destinationConnection.getConfiguration(),
         destinationDefinitionSpecificationRead.getConnectionSpecification()))
             .thenReturn(destinationConnection.getConfiguration());
@@ -341,6 +350,7 @@ class DestinationHandlerTest {
     final DestinationSearch invalidDestinationSearch = new DestinationSearch().name("invalid");
     actualDestinationRead = destinationHandler.searchDestinations(invalidDestinationSearch);
     assertEquals(0, actualDestinationRead.getDestinations().size());
+    verify(configRepository).searchDestinationConnections(new ActorSearchQuery(null, null, null, "invalid", null, null));
   }
 
   @Test
@@ -48,12 +48,14 @@ import io.airbyte.config.SuggestedStreams;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.config.secrets.JsonSecretsProcessor;
 import io.airbyte.config.secrets.SecretCoordinate;
 import io.airbyte.config.secrets.SecretsRepositoryReader;
 import io.airbyte.data.services.SecretPersistenceConfigService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.featureflag.UseIconUrlInApiResponse;
 import io.airbyte.featureflag.Workspace;
@@ -68,6 +70,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -353,9 +356,10 @@ class SourceHandlerTest {
     when(configRepository.listWorkspaceSourceConnection(sourceConnection.getWorkspaceId())).thenReturn(Lists.newArrayList(sourceConnection));
     when(configRepository.getStandardSourceDefinition(sourceDefinitionSpecificationRead.getSourceDefinitionId()))
         .thenReturn(standardSourceDefinition);
-    when(actorDefinitionVersionHelper.getSourceVersion(standardSourceDefinition, sourceConnection.getWorkspaceId(), sourceConnection.getSourceId()))
-        .thenReturn(sourceDefinitionVersion);
-    when(configRepository.getSourceDefinitionFromSource(sourceConnection.getSourceId())).thenReturn(standardSourceDefinition);
+    when(configRepository.getSourceAndDefinitionsFromSourceIds(List.of(sourceConnection.getSourceId())))
+        .thenReturn(List.of(new SourceAndDefinition(sourceConnection, standardSourceDefinition)));
+    when(actorDefinitionVersionHelper.getSourceVersions(List.of(sourceConnection), Map.of(sourceConnection.getSourceId(), standardSourceDefinition)))
+        .thenReturn(Map.of(sourceConnection.getSourceId(), sourceDefinitionVersion));
     when(
         secretsProcessor.prepareSecretsForOutput(sourceConnection.getConfiguration(), sourceDefinitionSpecificationRead.getConnectionSpecification()))
             .thenReturn(sourceConnection.getConfiguration());
@@ -365,8 +369,8 @@ class SourceHandlerTest {
     assertEquals(expectedSourceRead, actualSourceReadList.getSources().get(0));
     verify(secretsProcessor).prepareSecretsForOutput(sourceConnection.getConfiguration(),
         sourceDefinitionSpecificationRead.getConnectionSpecification());
-    verify(actorDefinitionVersionHelper).getSourceVersion(standardSourceDefinition, sourceConnection.getWorkspaceId(),
-        sourceConnection.getSourceId());
+    verify(actorDefinitionVersionHelper).getSourceVersions(List.of(sourceConnection),
+        Map.of(sourceConnection.getSourceId(), standardSourceDefinition));
   }
 
   @Test
@@ -379,9 +383,10 @@ class SourceHandlerTest {
     when(configRepository.listSourcesForDefinition(sourceConnection.getSourceDefinitionId())).thenReturn(Lists.newArrayList(sourceConnection));
     when(configRepository.getStandardSourceDefinition(sourceDefinitionSpecificationRead.getSourceDefinitionId()))
         .thenReturn(standardSourceDefinition);
-    when(actorDefinitionVersionHelper.getSourceVersion(standardSourceDefinition, sourceConnection.getWorkspaceId(), sourceConnection.getSourceId()))
-        .thenReturn(sourceDefinitionVersion);
-    when(configRepository.getSourceDefinitionFromSource(sourceConnection.getSourceId())).thenReturn(standardSourceDefinition);
+    when(configRepository.getSourceAndDefinitionsFromSourceIds(List.of(sourceConnection.getSourceId())))
+        .thenReturn(List.of(new SourceAndDefinition(sourceConnection, standardSourceDefinition)));
+    when(actorDefinitionVersionHelper.getSourceVersions(List.of(sourceConnection), Map.of(sourceConnection.getSourceId(), standardSourceDefinition)))
+        .thenReturn(Map.of(sourceConnection.getSourceId(), sourceDefinitionVersion));
     when(
         secretsProcessor.prepareSecretsForOutput(sourceConnection.getConfiguration(), sourceDefinitionSpecificationRead.getConnectionSpecification()))
             .thenReturn(sourceConnection.getConfiguration());
@@ -398,12 +403,14 @@ class SourceHandlerTest {
     final SourceRead expectedSourceRead = SourceHelpers.getSourceRead(sourceConnection, standardSourceDefinition);
 
     when(configRepository.getSourceConnection(sourceConnection.getSourceId())).thenReturn(sourceConnection);
-    when(configRepository.listSourceConnection()).thenReturn(Lists.newArrayList(sourceConnection));
+    when(configRepository.searchSourceConnections(new ActorSearchQuery(null, null, null, sourceConnection.getName(), null, null)))
+        .thenReturn(Lists.newArrayList(sourceConnection));
     when(configRepository.getStandardSourceDefinition(sourceDefinitionSpecificationRead.getSourceDefinitionId()))
         .thenReturn(standardSourceDefinition);
-    when(actorDefinitionVersionHelper.getSourceVersion(standardSourceDefinition, sourceConnection.getWorkspaceId(), sourceConnection.getSourceId()))
-        .thenReturn(sourceDefinitionVersion);
-    when(configRepository.getSourceDefinitionFromSource(sourceConnection.getSourceId())).thenReturn(standardSourceDefinition);
+    when(configRepository.getSourceAndDefinitionsFromSourceIds(List.of(sourceConnection.getSourceId())))
+        .thenReturn(List.of(new SourceAndDefinition(sourceConnection, standardSourceDefinition)));
+    when(actorDefinitionVersionHelper.getSourceVersions(List.of(sourceConnection), Map.of(sourceConnection.getSourceId(), standardSourceDefinition)))
+        .thenReturn(Map.of(sourceConnection.getSourceId(), sourceDefinitionVersion));
     when(
         secretsProcessor.prepareSecretsForOutput(sourceConnection.getConfiguration(), sourceDefinitionSpecificationRead.getConnectionSpecification()))
             .thenReturn(sourceConnection.getConfiguration());
@@ -416,6 +423,7 @@ class SourceHandlerTest {
     final SourceSearch invalidSourceSearch = new SourceSearch().name("invalid");
     actualSourceReadList = sourceHandler.searchSources(invalidSourceSearch);
     assertEquals(0, actualSourceReadList.getSources().size());
+    verify(configRepository).searchSourceConnections(new ActorSearchQuery(null, null, null, "invalid", null, null));
   }
 
   @Test
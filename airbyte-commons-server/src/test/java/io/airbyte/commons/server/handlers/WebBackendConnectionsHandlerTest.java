@@ -240,8 +240,8 @@ class WebBackendConnectionsHandlerTest {
     final StandardSync brokenStandardSync =
         ConnectionHelpers.generateSyncWithSourceAndDestinationId(source.getSourceId(), destination.getDestinationId(), true, Status.INACTIVE);
 
-    when(configRepository.listWorkspaceStandardSyncs(new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false)))
-        .thenReturn(Collections.singletonList(standardSync));
+    when(configRepository.listWorkspaceConnectionSummaries(new StandardSyncQuery(sourceRead.getWorkspaceId(), null, null, false)))
+        .thenReturn(Collections.singletonList(ConnectionHelpers.generateConnectionSummary(standardSync)));
     when(configRepository.getSourceAndDefinitionsFromSourceIds(Collections.singletonList(source.getSourceId())))
         .thenReturn(Collections.singletonList(new SourceAndDefinition(source, sourceDefinition)));
     when(configRepository.getDestinationAndDefinitionsFromDestinationIds(Collections.singletonList(destination.getDestinationId())))
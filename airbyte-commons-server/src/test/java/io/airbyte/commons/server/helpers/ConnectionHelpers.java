@@ -39,6 +39,7 @@ import io.airbyte.config.Schedule.TimeUnit;
 import io.airbyte.config.ScheduleData;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSync.Status;
+import io.airbyte.data.services.shared.ConnectionSummary;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
@@ -266,6 +267,21 @@ public class ConnectionHelpers {
     return connectionRead;
   }
 
+  public static ConnectionSummary generateConnectionSummary(final StandardSync standardSync) {
+    return new ConnectionSummary(
+        standardSync.getConnectionId(),
+        standardSync.getName(),
+        standardSync.getSourceId(),
+        standardSync.getDestinationId(),
+        standardSync.getStatus(),
+        standardSync.getManual(),
+        standardSync.getSchedule(),
+        standardSync.getScheduleType(),
+        standardSync.getScheduleData(),
+        standardSync.getSourceCatalogId(),
+        standardSync.getBreakingChange());
+  }
+
   public static WebBackendConnectionListItem generateExpectedWebBackendConnectionListItem(
                                                                                           final StandardSync standardSync,
                                                                                           final SourceRead source,
@@ -10,6 +10,8 @@ import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsResponse;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsRequest;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsResponse;
 import io.temporal.serviceclient.WorkflowServiceStubs;
 
 /**
@@ -55,6 +57,14 @@ public class WorkflowServiceStubsWrapped {
     return withRetries(() -> workflowServiceStubs.blockingStub().listOpenWorkflowExecutions(request), "listOpenWorkflowExecutions");
   }
 
+  /**
+   * ListWorkflowExecutions is a visibility API to list the executions matching a query in a specific
+   * namespace.
+   */
+  public ListWorkflowExecutionsResponse blockingStubListWorkflowExecutions(final ListWorkflowExecutionsRequest request) {
+    return withRetries(() -> workflowServiceStubs.blockingStub().listWorkflowExecutions(request), "listWorkflowExecutions");
+  }
+
   /**
    * Where the magic happens.
    * <p>
@@ -15,6 +15,8 @@ import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsResponse;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsRequest;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.WorkflowServiceGrpc.WorkflowServiceBlockingStub;
 import io.temporal.serviceclient.WorkflowServiceStubs;
 import org.junit.jupiter.api.BeforeEach;
@@ -64,6 +66,18 @@ class WorkflowServiceStubsWrappedTest {
     assertEquals(response, actual);
   }
 
+  @Test
+  void testListWorkflowExecutions() {
+    final var request = ListWorkflowExecutionsRequest.newBuilder().setQuery("WorkflowType = 'ConnectionManagerWorkflow'").build();
+    final var response = ListWorkflowExecutionsResponse.newBuilder().build();
+    when(temporalWorkflowServiceBlockingStub.listWorkflowExecutions(request))
+        .thenThrow(unavailable())
+        .thenReturn(response);
+
+    final var actual = serviceStubsWrapped.blockingStubListWorkflowExecutions(request);
+    assertEquals(response, actual);
+  }
+
   private static StatusRuntimeException unavailable() {
     return new StatusRuntimeException(Status.UNAVAILABLE);
   }
@@ -30,12 +30,17 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.protocol.models.StreamDescriptor;
-import io.temporal.api.common.v1.WorkflowType;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
+import io.temporal.api.filter.v1.StatusFilter;
+import io.temporal.api.filter.v1.WorkflowTypeFilter;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsResponse;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsRequest;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsResponse;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
@@ -47,8 +52,11 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -72,6 +80,13 @@ public class TemporalClient {
    */
   private static final int DELAY_BETWEEN_QUERY_MS = 10;
 
+  /**
+   * Maximum number of connection manager workflows restarted concurrently by
+   * {@link #restartClosedWorkflowByStatus(WorkflowExecutionStatus)}.
+   */
+  private static final int RESTART_PARALLELISM = 10;
+  private static final int LIST_WORKFLOWS_PAGE_SIZE = 1000;
+
   private final Path workspaceRoot;
   private final WorkflowClientWrapped workflowClientWrapped;
   private final WorkflowServiceStubsWrapped serviceStubsWrapped;
@@ -99,91 +114,179 @@ public class TemporalClient {
     this.metricClient = metricClient;
   }
 
-  private final Set<String> workflowNames = new HashSet<>();
+  // Set once the visibility store rejected a visibility query, the standard SQL visibility store
+  // cannot combine several filters in one query.
+  private volatile boolean combinedVisibilityQueriesUnsupported = false;
 
   /**
    * Restart workflows stuck in a certain status.
    *
    * @param executionStatus execution status
-   * @return set of connection ids that were restarted, primarily used for tracking purposes
+   * @return number of connections whose workflow was restarted, primarily used for tracking purposes
    */
   public int restartClosedWorkflowByStatus(final WorkflowExecutionStatus executionStatus) {
+    final StopWatch scanWatch = StopWatch.createStarted();
     final Set<UUID> workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus);
-
     final Set<UUID> nonRunningWorkflow = filterOutRunningWorkspaceId(workflowExecutionInfos);
-    nonRunningWorkflow.forEach(connectionId -> {
-      connectionManagerUtils.safeTerminateWorkflow(connectionId,
-          "Terminating workflow in unreachable state before starting a new workflow for this connection");
-      connectionManagerUtils.startConnectionManagerNoSignal(connectionId);
-    });
+    scanWatch.stop();
+    metricClient.distribution(OssMetricsRegistry.WORKFLOWS_HEALED_SCAN_DURATION_MS, scanWatch.getTime());
+
+    final StopWatch restartWatch = StopWatch.createStarted();
+    final int restarted = restartConnectionManagerWorkflows(nonRunningWorkflow);
+    restartWatch.stop();
+    metricClient.distribution(OssMetricsRegistry.WORKFLOWS_HEALED_RESTART_DURATION_MS, restartWatch.getTime());
 
-    return nonRunningWorkflow.size();
+    return restarted;
   }
 
+  /**
+   * Restart the connection manager workflows of the given connections, at most
+   * {@link #RESTART_PARALLELISM} at a time. A connection that fails to restart does not prevent the
+   * others from being restarted; it is picked up again by the next run.
+   */
+  private int restartConnectionManagerWorkflows(final Set<UUID> connectionIds) {
+    if (connectionIds.isEmpty()) {
+      return 0;
+    }
+
+    final AtomicInteger restarted = new AtomicInteger();
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(RESTART_PARALLELISM, connectionIds.size()));
+    try {
+      final CompletableFuture<?>[] restarts = connectionIds.stream()
+          .map(connectionId -> CompletableFuture.runAsync(() -> {
+            try {
+              connectionManagerUtils.safeTerminateWorkflow(connectionId,
+                  "Terminating workflow in unreachable state before starting a new workflow for this connection");
+              connectionManagerUtils.startConnectionManagerNoSignal(connectionId);
+              restarted.incrementAndGet();
+            } catch (final RuntimeException e) {
+              log.error("Failed to restart the connection manager workflow for connection {}", connectionId, e);
+            }
+          }, executor))
+          .toArray(CompletableFuture[]::new);
+      CompletableFuture.allOf(restarts).join();
+    } finally {
+      executor.shutdown();
+    }
+    return restarted.get();
+  }
+
+  /**
+   * List the connections whose connection manager workflow closed with the given status. The
+   * filtering is done by the Temporal visibility store when it supports visibility queries filtering
+   * on both the workflow type and status. Otherwise, the closed executions are listed by status and
+   * filtered by type here.
+   */
   Set<UUID> fetchClosedWorkflowsByStatus(final WorkflowExecutionStatus executionStatus) {
-    ByteString token;
-    ListClosedWorkflowExecutionsRequest workflowExecutionsRequest =
-        ListClosedWorkflowExecutionsRequest.newBuilder()
-            .setNamespace(workflowClientWrapped.getNamespace())
-            .build();
+    if (!combinedVisibilityQueriesUnsupported) {
+      try {
+        return listConnectionManagerWorkflows(toVisibilityExecutionStatus(executionStatus));
+      } catch (final StatusRuntimeException e) {
+        if (e.getStatus().getCode() != Status.Code.INVALID_ARGUMENT) {
+          throw e;
+        }
+        log.info("The Temporal visibility store does not support visibility queries on several filters, listing closed workflows by status instead",
+            e);
+        combinedVisibilityQueriesUnsupported = true;
+      }
+    }
+    return listClosedConnectionManagerWorkflows(executionStatus);
+  }
+
+  @VisibleForTesting
+  Set<UUID> filterOutRunningWorkspaceId(final Set<UUID> workflowIds) {
+    if (workflowIds.isEmpty()) {
+      return workflowIds;
+    }
+
+    final Set<UUID> runningWorkflowByUUID = listRunningConnectionManagerWorkflows();
 
-    final Set<UUID> workflowExecutionInfos = new HashSet<>();
+    return workflowIds.stream().filter(workflowId -> !runningWorkflowByUUID.contains(workflowId)).collect(Collectors.toSet());
+  }
+
+  private Set<UUID> listConnectionManagerWorkflows(final String visibilityExecutionStatus) {
+    final String query = String.format("WorkflowType = '%s' AND ExecutionStatus = '%s'",
+        ConnectionManagerWorkflow.class.getSimpleName(), visibilityExecutionStatus);
+
+    ByteString token = ByteString.EMPTY;
+    final Set<UUID> connectionIds = new HashSet<>();
     do {
-      final ListClosedWorkflowExecutionsResponse listOpenWorkflowExecutionsRequest =
-          serviceStubsWrapped.blockingStubListClosedWorkflowExecutions(workflowExecutionsRequest);
-      final WorkflowType connectionManagerWorkflowType = WorkflowType.newBuilder().setName(ConnectionManagerWorkflow.class.getSimpleName()).build();
-      workflowExecutionInfos.addAll(listOpenWorkflowExecutionsRequest.getExecutionsList().stream()
-          .filter(workflowExecutionInfo -> workflowExecutionInfo.getType() == connectionManagerWorkflowType
-              || workflowExecutionInfo.getStatus() == executionStatus)
-          .flatMap((workflowExecutionInfo -> extractConnectionIdFromWorkflowId(workflowExecutionInfo.getExecution().getWorkflowId()).stream()))
-          .collect(Collectors.toSet()));
-      token = listOpenWorkflowExecutionsRequest.getNextPageToken();
-
-      workflowExecutionsRequest =
-          ListClosedWorkflowExecutionsRequest.newBuilder()
+      final ListWorkflowExecutionsResponse response = serviceStubsWrapped.blockingStubListWorkflowExecutions(
+          ListWorkflowExecutionsRequest.newBuilder()
               .setNamespace(workflowClientWrapped.getNamespace())
+              .setQuery(query)
+              .setPageSize(LIST_WORKFLOWS_PAGE_SIZE)
               .setNextPageToken(token)
-              .build();
-
+              .build());
+      response.getExecutionsList().forEach(
+          workflowExecutionInfo -> extractConnectionIdFromWorkflowId(workflowExecutionInfo.getExecution().getWorkflowId())
+              .ifPresent(connectionIds::add));
+      token = response.getNextPageToken();
     } while (token != null && token.size() > 0);
 
-    return workflowExecutionInfos;
+    return connectionIds;
   }
 
-  @VisibleForTesting
-  Set<UUID> filterOutRunningWorkspaceId(final Set<UUID> workflowIds) {
-    refreshRunningWorkflow();
-
-    final Set<UUID> runningWorkflowByUUID =
-        workflowNames.stream().flatMap(name -> extractConnectionIdFromWorkflowId(name).stream()).collect(Collectors.toSet());
+  private Set<UUID> listClosedConnectionManagerWorkflows(final WorkflowExecutionStatus executionStatus) {
+    ByteString token = ByteString.EMPTY;
+    final Set<UUID> connectionIds = new HashSet<>();
+    do {
+      final ListClosedWorkflowExecutionsResponse response = serviceStubsWrapped.blockingStubListClosedWorkflowExecutions(
+          ListClosedWorkflowExecutionsRequest.newBuilder()
+              .setNamespace(workflowClientWrapped.getNamespace())
+              .setStatusFilter(StatusFilter.newBuilder().setStatus(executionStatus))
+              .setMaximumPageSize(LIST_WORKFLOWS_PAGE_SIZE)
+              .setNextPageToken(token)
+              .build());
+      response.getExecutionsList().stream()
+          .filter(workflowExecutionInfo -> ConnectionManagerWorkflow.class.getSimpleName().equals(workflowExecutionInfo.getType().getName()))
+          .forEach(workflowExecutionInfo -> extractConnectionIdFromWorkflowId(workflowExecutionInfo.getExecution().getWorkflowId())
+              .ifPresent(connectionIds::add));
+      token = response.getNextPageToken();
+    } while (token != null && token.size() > 0);
 
-    return workflowIds.stream().filter(workflowId -> !runningWorkflowByUUID.contains(workflowId)).collect(Collectors.toSet());
+    return connectionIds;
   }
 
+  /**
+   * List the connections whose connection manager workflow is running. Listing the open workflows of
+   * a type is supported by every visibility store.
+   */
   @VisibleForTesting
-  void refreshRunningWorkflow() {
-    workflowNames.clear();
-    ByteString token;
-    ListOpenWorkflowExecutionsRequest openWorkflowExecutionsRequest =
-        ListOpenWorkflowExecutionsRequest.newBuilder()
-            .setNamespace(workflowClientWrapped.getNamespace())
-            .build();
+  Set<UUID> listRunningConnectionManagerWorkflows() {
+    ByteString token = ByteString.EMPTY;
+    final Set<UUID> connectionIds = new HashSet<>();
     do {
-      final ListOpenWorkflowExecutionsResponse listOpenWorkflowExecutionsRequest =
-          serviceStubsWrapped.blockingStubListOpenWorkflowExecutions(openWorkflowExecutionsRequest);
-      final Set<String> workflowExecutionInfos = listOpenWorkflowExecutionsRequest.getExecutionsList().stream()
-          .map((workflowExecutionInfo -> workflowExecutionInfo.getExecution().getWorkflowId()))
-          .collect(Collectors.toSet());
-      workflowNames.addAll(workflowExecutionInfos);
-      token = listOpenWorkflowExecutionsRequest.getNextPageToken();
-
-      openWorkflowExecutionsRequest =
+      final ListOpenWorkflowExecutionsResponse response = serviceStubsWrapped.blockingStubListOpenWorkflowExecutions(
           ListOpenWorkflowExecutionsRequest.newBuilder()
               .setNamespace(workflowClientWrapped.getNamespace())
+              .setTypeFilter(WorkflowTypeFilter.newBuilder().setName(ConnectionManagerWorkflow.class.getSimpleName()))
+              .setMaximumPageSize(LIST_WORKFLOWS_PAGE_SIZE)
               .setNextPageToken(token)
-              .build();
-
+              .build());
+      response.getExecutionsList().forEach(
+          workflowExecutionInfo -> extractConnectionIdFromWorkflowId(workflowExecutionInfo.getExecution().getWorkflowId())
+              .ifPresent(connectionIds::add));
+      token = response.getNextPageToken();
     } while (token != null && token.size() > 0);
+
+    return connectionIds;
+  }
+
+  /**
+   * Name of an execution status in Temporal visibility queries.
+   */
+  private static String toVisibilityExecutionStatus(final WorkflowExecutionStatus executionStatus) {
+    return switch (executionStatus) {
+      case WORKFLOW_EXECUTION_STATUS_RUNNING -> "Running";
+      case WORKFLOW_EXECUTION_STATUS_COMPLETED -> "Completed";
+      case WORKFLOW_EXECUTION_STATUS_FAILED -> "Failed";
+      case WORKFLOW_EXECUTION_STATUS_CANCELED -> "Canceled";
+      case WORKFLOW_EXECUTION_STATUS_TERMINATED -> "Terminated";
+      case WORKFLOW_EXECUTION_STATUS_CONTINUED_AS_NEW -> "ContinuedAsNew";
+      case WORKFLOW_EXECUTION_STATUS_TIMED_OUT -> "TimedOut";
+      default -> throw new IllegalArgumentException("Unsupported workflow execution status: " + executionStatus);
+    };
   }
 
   Optional<UUID> extractConnectionIdFromWorkflowId(final String workflowId) {
@@ -463,24 +566,24 @@ public class TemporalClient {
   public void migrateSyncIfNeeded(final Set<UUID> connectionIds) {
     final StopWatch globalMigrationWatch = new StopWatch();
     globalMigrationWatch.start();
-    refreshRunningWorkflow();
+    Set<UUID> runningConnectionIds = listRunningConnectionManagerWorkflows();
 
-    connectionIds.forEach((connectionId) -> {
+    for (final UUID connectionId : connectionIds) {
       final StopWatch singleSyncMigrationWatch = new StopWatch();
       singleSyncMigrationWatch.start();
-      if (!isInRunningWorkflowCache(connectionManagerUtils.getConnectionManagerName(connectionId))) {
+      if (!runningConnectionIds.contains(connectionId)) {
         log.info("Migrating: " + connectionId);
         try {
           submitConnectionUpdaterAsync(connectionId);
         } catch (final Exception e) {
           log.error("New workflow submission failed, retrying", e);
-          refreshRunningWorkflow();
+          runningConnectionIds = listRunningConnectionManagerWorkflows();
           submitConnectionUpdaterAsync(connectionId);
         }
       }
       singleSyncMigrationWatch.stop();
       log.info("Sync migration took: " + singleSyncMigrationWatch.formatTime());
-    });
+    }
     globalMigrationWatch.stop();
 
     log.info("The migration to the new scheduler took: " + globalMigrationWatch.formatTime());
@@ -610,8 +713,4 @@ public class TemporalClient {
     }
   }
 
-  boolean isInRunningWorkflowCache(final String workflowName) {
-    return workflowNames.contains(workflowName);
-  }
-
 }
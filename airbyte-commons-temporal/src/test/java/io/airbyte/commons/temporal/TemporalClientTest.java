@@ -12,8 +12,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Sets;
+import com.google.protobuf.ByteString;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.temporal.TemporalClient.ManualOperationResult;
 import io.airbyte.commons.temporal.scheduling.CheckConnectionWorkflow;
@@ -44,9 +45,19 @@ import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.protocol.models.StreamDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.temporal.api.common.v1.WorkflowExecution;
+import io.temporal.api.common.v1.WorkflowType;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
 import io.temporal.api.workflow.v1.WorkflowExecutionInfo;
 import io.temporal.api.workflowservice.v1.DescribeWorkflowExecutionResponse;
+import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
+import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
+import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsRequest;
+import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsResponse;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsRequest;
+import io.temporal.api.workflowservice.v1.ListWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.WorkflowServiceGrpc.WorkflowServiceBlockingStub;
 import io.temporal.client.BatchRequest;
 import io.temporal.client.WorkflowClient;
@@ -171,6 +182,89 @@ public class TemporalClientTest {
       verify(mConnectionManagerUtils).startConnectionManagerNoSignal(eq(connectionId));
     }
 
+    @Test
+    void testRestartFailureDoesNotBlockOtherRestarts() {
+      final UUID failingConnectionId = UUID.randomUUID();
+      final Set<UUID> workflowIds = Set.of(failingConnectionId, UUID.randomUUID(), UUID.randomUUID());
+
+      doReturn(workflowIds)
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+      doReturn(workflowIds)
+          .when(temporalClient).filterOutRunningWorkspaceId(workflowIds);
+      doThrow(new IllegalStateException("boom")).when(mConnectionManagerUtils).startConnectionManagerNoSignal(failingConnectionId);
+
+      assertEquals(2, temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED));
+      workflowIds.forEach(connectionId -> verify(mConnectionManagerUtils).startConnectionManagerNoSignal(connectionId));
+    }
+
+    @Test
+    void testFetchClosedWorkflowsUsesVisibilityQuery() {
+      final UUID firstConnectionId = UUID.randomUUID();
+      final UUID secondConnectionId = UUID.randomUUID();
+      final ByteString nextPageToken = ByteString.copyFromUtf8("next-page");
+      when(workflowServiceBlockingStub.listWorkflowExecutions(any()))
+          .thenReturn(ListWorkflowExecutionsResponse.newBuilder()
+              .addExecutions(connectionManagerExecution(firstConnectionId))
+              .setNextPageToken(nextPageToken)
+              .build())
+          .thenReturn(ListWorkflowExecutionsResponse.newBuilder()
+              .addExecutions(connectionManagerExecution(secondConnectionId))
+              .build());
+
+      assertEquals(Set.of(firstConnectionId, secondConnectionId),
+          temporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED));
+
+      final ArgumentCaptor<ListWorkflowExecutionsRequest> requests = ArgumentCaptor.forClass(ListWorkflowExecutionsRequest.class);
+      verify(workflowServiceBlockingStub, times(2)).listWorkflowExecutions(requests.capture());
+      assertEquals("WorkflowType = 'ConnectionManagerWorkflow' AND ExecutionStatus = 'Failed'", requests.getAllValues().get(0).getQuery());
+      assertEquals(NAMESPACE, requests.getAllValues().get(0).getNamespace());
+      assertEquals(nextPageToken, requests.getAllValues().get(1).getNextPageToken());
+    }
+
+    @Test
+    void testFetchClosedWorkflowsFallsBackToStatusFilter() {
+      final UUID connectionId = UUID.randomUUID();
+      when(workflowServiceBlockingStub.listWorkflowExecutions(any()))
+          .thenThrow(new StatusRuntimeException(Status.INVALID_ARGUMENT.withDescription("operator AND not allowed")));
+      when(workflowServiceBlockingStub.listClosedWorkflowExecutions(any()))
+          .thenReturn(ListClosedWorkflowExecutionsResponse.newBuilder()
+              .addExecutions(connectionManagerExecution(connectionId))
+              .addExecutions(WorkflowExecutionInfo.newBuilder()
+                  .setExecution(WorkflowExecution.newBuilder().setWorkflowId("connection_manager_" + UUID.randomUUID()))
+                  .setType(WorkflowType.newBuilder().setName("SyncWorkflow")))
+              .build());
+
+      assertEquals(Set.of(connectionId), temporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED));
+      assertEquals(Set.of(connectionId), temporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED));
+
+      // the unsupported query is only tried once
+      verify(workflowServiceBlockingStub).listWorkflowExecutions(any());
+      final ArgumentCaptor<ListClosedWorkflowExecutionsRequest> requests = ArgumentCaptor.forClass(ListClosedWorkflowExecutionsRequest.class);
+      verify(workflowServiceBlockingStub, times(2)).listClosedWorkflowExecutions(requests.capture());
+      assertEquals(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, requests.getValue().getStatusFilter().getStatus());
+    }
+
+    @Test
+    void testFilterOutRunningWorkflows() {
+      final UUID runningConnectionId = UUID.randomUUID();
+      final UUID closedConnectionId = UUID.randomUUID();
+      when(workflowServiceBlockingStub.listOpenWorkflowExecutions(any()))
+          .thenReturn(ListOpenWorkflowExecutionsResponse.newBuilder().addExecutions(connectionManagerExecution(runningConnectionId)).build());
+
+      assertEquals(Set.of(closedConnectionId), temporalClient.filterOutRunningWorkspaceId(Set.of(runningConnectionId, closedConnectionId)));
+
+      final ArgumentCaptor<ListOpenWorkflowExecutionsRequest> request = ArgumentCaptor.forClass(ListOpenWorkflowExecutionsRequest.class);
+      verify(workflowServiceBlockingStub).listOpenWorkflowExecutions(request.capture());
+      assertEquals(ConnectionManagerWorkflow.class.getSimpleName(), request.getValue().getTypeFilter().getName());
+    }
+
+    private WorkflowExecutionInfo connectionManagerExecution(final UUID connectionId) {
+      return WorkflowExecutionInfo.newBuilder()
+          .setExecution(WorkflowExecution.newBuilder().setWorkflowId("connection_manager_" + connectionId))
+          .setType(WorkflowType.newBuilder().setName(ConnectionManagerWorkflow.class.getSimpleName()))
+          .build();
+    }
+
   }
 
   @Nested
@@ -288,11 +382,8 @@ public class TemporalClientTest {
       final UUID nonMigratedId = UUID.randomUUID();
       final UUID migratedId = UUID.randomUUID();
 
-      when(temporalClient.isInRunningWorkflowCache(connectionManagerUtils.getConnectionManagerName(nonMigratedId))).thenReturn(false);
-      when(temporalClient.isInRunningWorkflowCache(connectionManagerUtils.getConnectionManagerName(migratedId))).thenReturn(true);
-
-      doNothing()
-          .when(temporalClient).refreshRunningWorkflow();
+      doReturn(Set.of(migratedId))
+          .when(temporalClient).listRunningConnectionManagerWorkflows();
       final ConnectionManagerWorkflow mConnectionManagerWorkflow = mock(ConnectionManagerWorkflow.class);
       doReturn(mConnectionManagerWorkflow)
           .when(temporalClient).submitConnectionUpdaterAsync(nonMigratedId);
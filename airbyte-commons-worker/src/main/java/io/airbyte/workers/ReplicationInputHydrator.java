@@ -5,33 +5,27 @@
 package io.airbyte.workers;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.api.client.AirbyteApiClient;
 import io.airbyte.api.client.generated.ConnectionApi;
 import io.airbyte.api.client.generated.JobsApi;
-import io.airbyte.api.client.generated.SecretsPersistenceConfigApi;
 import io.airbyte.api.client.generated.StateApi;
-import io.airbyte.api.client.invoker.generated.ApiException;
 import io.airbyte.api.client.model.generated.ConnectionIdRequestBody;
 import io.airbyte.api.client.model.generated.ConnectionRead;
 import io.airbyte.api.client.model.generated.ConnectionState;
 import io.airbyte.api.client.model.generated.ConnectionStateCreateOrUpdate;
 import io.airbyte.api.client.model.generated.ConnectionStateType;
 import io.airbyte.api.client.model.generated.JobOptionalRead;
-import io.airbyte.api.client.model.generated.ScopeType;
-import io.airbyte.api.client.model.generated.SecretPersistenceConfig;
-import io.airbyte.api.client.model.generated.SecretPersistenceConfigGetRequestBody;
 import io.airbyte.api.client.model.generated.StreamDescriptor;
 import io.airbyte.commons.converters.CatalogClientConverters;
 import io.airbyte.commons.converters.ProtocolConverters;
 import io.airbyte.commons.converters.StateConverter;
-import io.airbyte.commons.enums.Enums;
-import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.functional.CheckedSupplier;
 import io.airbyte.commons.protocol.CatalogTransforms;
 import io.airbyte.config.State;
 import io.airbyte.config.StateWrapper;
 import io.airbyte.config.helpers.StateMessageHelper;
 import io.airbyte.config.secrets.SecretsRepositoryReader;
-import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.Organization;
 import io.airbyte.featureflag.ResetBackfillState;
@@ -40,12 +34,20 @@ import io.airbyte.featureflag.Workspace;
 import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.helper.BackfillHelper;
+import io.airbyte.workers.helper.SecretPersistenceConfigCache;
 import io.airbyte.workers.models.RefreshSchemaActivityOutput;
 import io.airbyte.workers.models.ReplicationActivityInput;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 public class ReplicationInputHydrator {
 
@@ -56,20 +58,36 @@ public class ReplicationInputHydrator {
   private final StateApi stateApi;
   private final SecretsRepositoryReader secretsRepositoryReader;
   private final FeatureFlagClient featureFlagClient;
-  private final SecretsPersistenceConfigApi secretsPersistenceConfigApi;
+  private final SecretPersistenceConfigCache secretPersistenceConfigCache;
+  private final ExecutorService fetchExecutor;
 
   public ReplicationInputHydrator(final ConnectionApi connectionApi,
                                   final JobsApi jobsApi,
                                   final StateApi stateApi,
-                                  final SecretsPersistenceConfigApi secretsPersistenceConfigApi,
+                                  final SecretPersistenceConfigCache secretPersistenceConfigCache,
                                   final SecretsRepositoryReader secretsRepositoryReader,
-                                  final FeatureFlagClient featureFlagClient) {
+                                  final FeatureFlagClient featureFlagClient,
+                                  final ExecutorService fetchExecutor) {
     this.connectionApi = connectionApi;
     this.jobsApi = jobsApi;
     this.stateApi = stateApi;
     this.secretsRepositoryReader = secretsRepositoryReader;
     this.featureFlagClient = featureFlagClient;
-    this.secretsPersistenceConfigApi = secretsPersistenceConfigApi;
+    this.secretPersistenceConfigCache = secretPersistenceConfigCache;
+    this.fetchExecutor = fetchExecutor;
+  }
+
+  /**
+   * Create the executor fetching the catalog, state, reset info and both configs of a hydration
+   * concurrently, as they are independent of each other. It is meant to be shared by all the
+   * hydrators of an application, and shut down with it.
+   *
+   * @param parallelism maximum number of concurrent fetches across all hydrations
+   * @return executor of the fetches
+   */
+  public static ExecutorService newFetchExecutor(final int parallelism) {
+    return Executors.newFixedThreadPool(parallelism,
+        new ThreadFactoryBuilder().setNameFormat("replication-input-hydrator-%d").setDaemon(true).build());
   }
 
   /**
@@ -83,41 +101,44 @@ public class ReplicationInputHydrator {
    * @throws Exception from the Airbyte API
    */
   public ReplicationInput getHydratedReplicationInput(final ReplicationActivityInput replicationActivityInput) throws Exception {
-    final ConfiguredAirbyteCatalog catalog = retrieveCatalog(replicationActivityInput);
+    final CompletableFuture<ConfiguredAirbyteCatalog> catalogFuture = fetchAsync(() -> retrieveCatalog(replicationActivityInput));
+    final CompletableFuture<State> stateFuture = fetchAsync(() -> retrieveState(replicationActivityInput));
+    final CompletableFuture<JobOptionalRead> lastReplicationJobFuture = replicationActivityInput.getIsReset()
+        ? fetchAsync(() -> retrieveLastReplicationJob(replicationActivityInput))
+        : CompletableFuture.completedFuture(null);
+
+    // Hydrate the secrets.
+    final UUID organizationId = replicationActivityInput.getConnectionContext().getOrganizationId();
+    final CompletableFuture<JsonNode> fullSourceConfigFuture;
+    final CompletableFuture<JsonNode> fullDestinationConfigFuture;
+    if (organizationId != null && featureFlagClient.boolVariation(UseRuntimeSecretPersistence.INSTANCE, new Organization(organizationId))) {
+      fullSourceConfigFuture = fetchAsync(() -> secretPersistenceConfigCache.withSecretPersistence(organizationId,
+          runtimeSecretPersistence -> secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(
+              replicationActivityInput.getSourceConfiguration(), runtimeSecretPersistence)));
+      fullDestinationConfigFuture = fetchAsync(() -> secretPersistenceConfigCache.withSecretPersistence(organizationId,
+          runtimeSecretPersistence -> secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(
+              replicationActivityInput.getDestinationConfiguration(), runtimeSecretPersistence)));
+    } else {
+      fullSourceConfigFuture = fetchAsync(
+          () -> secretsRepositoryReader.hydrateConfigFromDefaultSecretPersistence(replicationActivityInput.getSourceConfiguration()));
+      fullDestinationConfigFuture = fetchAsync(
+          () -> secretsRepositoryReader.hydrateConfigFromDefaultSecretPersistence(replicationActivityInput.getDestinationConfiguration()));
+    }
+
+    final ConfiguredAirbyteCatalog catalog = await(catalogFuture);
     if (replicationActivityInput.getIsReset()) {
       // If this is a reset, we need to set the streams being reset to Full Refresh | Overwrite.
-      updateCatalogForReset(replicationActivityInput, catalog);
+      updateCatalogForReset(await(lastReplicationJobFuture), catalog);
     }
     // Retrieve the state.
-    State state = retrieveState(replicationActivityInput);
+    State state = await(stateFuture);
     if (replicationActivityInput.getSchemaRefreshOutput() != null) {
       state = getUpdatedStateForBackfill(state, replicationActivityInput.getSchemaRefreshOutput(),
           replicationActivityInput.getWorkspaceId(), replicationActivityInput.getConnectionId(), catalog);
     }
 
-    // Hydrate the secrets.
-    final JsonNode fullDestinationConfig;
-    final JsonNode fullSourceConfig;
-    final UUID organizationId = replicationActivityInput.getConnectionContext().getOrganizationId();
-    if (organizationId != null && featureFlagClient.boolVariation(UseRuntimeSecretPersistence.INSTANCE, new Organization(organizationId))) {
-      try {
-        final SecretPersistenceConfig secretPersistenceConfig = secretsPersistenceConfigApi.getSecretsPersistenceConfig(
-            new SecretPersistenceConfigGetRequestBody().scopeType(ScopeType.ORGANIZATION).scopeId(organizationId));
-        final RuntimeSecretPersistence runtimeSecretPersistence = new RuntimeSecretPersistence(
-            fromApiSecretPersistenceConfig(secretPersistenceConfig));
-        fullSourceConfig = secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(replicationActivityInput.getSourceConfiguration(),
-            runtimeSecretPersistence);
-        fullDestinationConfig =
-            secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(replicationActivityInput.getDestinationConfiguration(),
-                runtimeSecretPersistence);
-      } catch (final ApiException e) {
-        throw new RuntimeException(e);
-      }
-    } else {
-      fullSourceConfig = secretsRepositoryReader.hydrateConfigFromDefaultSecretPersistence(replicationActivityInput.getSourceConfiguration());
-      fullDestinationConfig =
-          secretsRepositoryReader.hydrateConfigFromDefaultSecretPersistence(replicationActivityInput.getDestinationConfiguration());
-    }
+    final JsonNode fullSourceConfig = await(fullSourceConfigFuture);
+    final JsonNode fullDestinationConfig = await(fullDestinationConfigFuture);
     return new ReplicationInput()
         .withNamespaceDefinition(replicationActivityInput.getNamespaceDefinition())
         .withNamespaceFormat(replicationActivityInput.getNamespaceFormat())
@@ -197,12 +218,14 @@ public class ReplicationInputHydrator {
     return state;
   }
 
-  private void updateCatalogForReset(final ReplicationActivityInput replicationActivityInput, final ConfiguredAirbyteCatalog catalog)
-      throws Exception {
-    final JobOptionalRead jobInfo = AirbyteApiClient.retryWithJitterThrows(
+  private JobOptionalRead retrieveLastReplicationJob(final ReplicationActivityInput replicationActivityInput) throws Exception {
+    return AirbyteApiClient.retryWithJitterThrows(
         () -> jobsApi.getLastReplicationJob(
             new ConnectionIdRequestBody().connectionId(replicationActivityInput.getConnectionId())),
         "get job info to retrieve streams to reset");
+  }
+
+  private void updateCatalogForReset(final JobOptionalRead jobInfo, final ConfiguredAirbyteCatalog catalog) {
     final boolean hasStreamsToReset = jobInfo != null && jobInfo.getJob() != null && jobInfo.getJob().getResetConfig() != null
         && jobInfo.getJob().getResetConfig().getStreamsToReset() != null;
     if (hasStreamsToReset) {
@@ -212,15 +235,35 @@ public class ReplicationInputHydrator {
     }
   }
 
-  private io.airbyte.config.SecretPersistenceConfig fromApiSecretPersistenceConfig(final SecretPersistenceConfig apiSecretPersistenceConfig) {
-    return new io.airbyte.config.SecretPersistenceConfig()
-        .withScopeType(Enums.convertTo(apiSecretPersistenceConfig.getScopeType(), io.airbyte.config.ScopeType.class))
-        .withScopeId(apiSecretPersistenceConfig.getScopeId())
-        .withConfiguration(Jsons.deserializeToStringMap(apiSecretPersistenceConfig.getConfiguration()))
-        .withSecretPersistenceType(
-            Enums.convertTo(
-                apiSecretPersistenceConfig.getSecretPersistenceType(),
-                io.airbyte.config.SecretPersistenceConfig.SecretPersistenceType.class));
+  private <T> CompletableFuture<T> fetchAsync(final CheckedSupplier<T, Exception> fetch) {
+    // Keep the job and connection ids of the caller in the logs of the fetches.
+    final Map<String, String> mdc = MDC.getCopyOfContextMap();
+    return CompletableFuture.supplyAsync(() -> {
+      if (mdc != null) {
+        MDC.setContextMap(mdc);
+      }
+      try {
+        return fetch.get();
+      } catch (final Exception e) {
+        throw new CompletionException(e);
+      } finally {
+        MDC.clear();
+      }
+    }, fetchExecutor);
+  }
+
+  /**
+   * Wait for a fetch and rethrow its original exception if it failed.
+   */
+  private static <T> T await(final CompletableFuture<T> future) throws Exception {
+    try {
+      return future.get();
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw e;
+    }
   }
 
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.helper;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.airbyte.api.client.generated.SecretsPersistenceConfigApi;
+import io.airbyte.api.client.invoker.generated.ApiException;
+import io.airbyte.api.client.model.generated.ScopeType;
+import io.airbyte.api.client.model.generated.SecretPersistenceConfig;
+import io.airbyte.api.client.model.generated.SecretPersistenceConfigGetRequestBody;
+import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Short-lived, size-bounded cache of the runtime secret persistence of an organization.
+ * <p>
+ * Every check and every sync attempt of an organization using its own secret persistence needs the
+ * same persistence config. It changes rarely, so re-launches and retries can reuse it for a few
+ * minutes instead of going back to the config API each time. Callers that fail to hydrate secrets
+ * with a cached persistence should {@link #invalidate(UUID)} it so that rotated credentials are
+ * picked up right away.
+ * <p>
+ * Fetching a config is only retried on transient API errors (I/O errors, throttling and server
+ * errors); any other error, e.g. an unknown organization, fails right away.
+ */
+public class SecretPersistenceConfigCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SecretPersistenceConfigCache.class);
+
+  private static final Duration DEFAULT_EXPIRY = Duration.ofMinutes(5);
+  private static final long DEFAULT_MAX_SIZE = 1000;
+  private static final int MAX_FETCH_ATTEMPTS = 3;
+  private static final Duration FETCH_RETRY_BACKOFF = Duration.ofMillis(500);
+
+  private final SecretsPersistenceConfigApi secretsPersistenceConfigApi;
+  private final LoadingCache<UUID, RuntimeSecretPersistence> organizationToSecretPersistence;
+
+  public SecretPersistenceConfigCache(final SecretsPersistenceConfigApi secretsPersistenceConfigApi) {
+    this(secretsPersistenceConfigApi, DEFAULT_EXPIRY, DEFAULT_MAX_SIZE);
+  }
+
+  @VisibleForTesting
+  public SecretPersistenceConfigCache(final SecretsPersistenceConfigApi secretsPersistenceConfigApi,
+                                      final Duration expiry,
+                                      final long maxSize) {
+    this.secretsPersistenceConfigApi = secretsPersistenceConfigApi;
+    this.organizationToSecretPersistence = CacheBuilder.newBuilder()
+        .expireAfterWrite(expiry)
+        .maximumSize(maxSize)
+        .build(new CacheLoader<>() {
+
+          @Override
+          public RuntimeSecretPersistence load(final UUID organizationId) throws Exception {
+            return fetch(organizationId);
+          }
+
+        });
+  }
+
+  /**
+   * Get the runtime secret persistence of an organization, fetching its config if it is not cached.
+   *
+   * @param organizationId organization id
+   * @return runtime secret persistence
+   */
+  public RuntimeSecretPersistence getForOrganization(final UUID organizationId) {
+    try {
+      return organizationToSecretPersistence.getUnchecked(organizationId);
+    } catch (final UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * Run an operation against the secret persistence of an organization. If it fails with a
+   * persistence that was already cached, the entry may be stale (e.g. rotated credentials), so it is
+   * dropped and the operation is retried once against a freshly fetched secret persistence. Failures
+   * with a freshly fetched secret persistence are not retried.
+   *
+   * @param organizationId organization id
+   * @param operation operation to run, typically a secret hydration
+   * @param <T> type of the result
+   * @return result of the operation
+   */
+  public <T> T withSecretPersistence(final UUID organizationId, final Function<RuntimeSecretPersistence, T> operation) {
+    final boolean cached = organizationToSecretPersistence.getIfPresent(organizationId) != null;
+    try {
+      return operation.apply(getForOrganization(organizationId));
+    } catch (final RuntimeException e) {
+      if (!cached) {
+        throw e;
+      }
+      LOGGER.warn("Operation using the cached secret persistence of organization {} failed, retrying with a fresh one.", organizationId, e);
+      invalidate(organizationId);
+      return operation.apply(getForOrganization(organizationId));
+    }
+  }
+
+  /**
+   * Drop the cached secret persistence of an organization.
+   *
+   * @param organizationId organization id
+   */
+  public void invalidate(final UUID organizationId) {
+    organizationToSecretPersistence.invalidate(organizationId);
+  }
+
+  private RuntimeSecretPersistence fetch(final UUID organizationId) throws Exception {
+    final SecretPersistenceConfigGetRequestBody request =
+        new SecretPersistenceConfigGetRequestBody().scopeType(ScopeType.ORGANIZATION).scopeId(organizationId);
+    for (int attempt = 1;; attempt++) {
+      try {
+        final SecretPersistenceConfig secretPersistenceConfig = secretsPersistenceConfigApi.getSecretsPersistenceConfig(request);
+        return SecretPersistenceConfigHelper.fromApiSecretPersistenceConfig(secretPersistenceConfig);
+      } catch (final ApiException e) {
+        if (!isTransient(e) || attempt >= MAX_FETCH_ATTEMPTS) {
+          throw e;
+        }
+        LOGGER.warn("Attempt {} to get the secret persistence config of organization {} failed with status {}, retrying.",
+            attempt, organizationId, e.getCode());
+        Thread.sleep(FETCH_RETRY_BACKOFF.multipliedBy(attempt).toMillis());
+      }
+    }
+  }
+
+  /**
+   * Whether a call to the config API may succeed if it is retried: I/O errors (reported without a
+   * status code), throttling and server errors.
+   */
+  @VisibleForTesting
+  static boolean isTransient(final ApiException e) {
+    return e.getCode() == 0 || e.getCode() == 429 || e.getCode() >= 500;
+  }
+
+}
@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.process;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ResourceRequirements;
@@ -31,6 +32,10 @@ import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import java.io.BufferedOutputStream;
@@ -43,10 +48,14 @@ import java.nio.file.Path;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 
@@ -61,6 +70,10 @@ import lombok.extern.slf4j.Slf4j;
  * <p>
  * The document store is considered to be the truth when retrieving the status for an async pod
  * process. If the store isn't updated by the underlying pod, it will appear as failed.
+ * <p>
+ * The orchestrator exits right after writing its terminal status, so while waiting, the pod is
+ * watched and the document store is read as soon as the main container terminates. Polling the
+ * document store is only a slow fallback in case a pod event is missed.
  */
 @Slf4j
 public class AsyncOrchestratorPodProcess implements KubePod {
@@ -69,7 +82,14 @@ public class AsyncOrchestratorPodProcess implements KubePod {
   public static final String NO_OP = "NO_OP";
   // TODO Ths frequency should be configured and injected rather hard coded here.
   public static final long JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS = 5000;
+  // Used instead of JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS while the pod is being watched.
+  public static final long JOB_STATUS_FALLBACK_POLLING_FREQUENCY_IN_MILLIS = 60_000;
   private static final String JAVA_OOM_EXCEPTION_STRING = "java.lang.OutOfMemoryError";
+  private static final List<AsyncKubePodStatus> DOC_STORE_STATUS_CHECK_ORDER = List.of(
+      AsyncKubePodStatus.FAILED,
+      AsyncKubePodStatus.SUCCEEDED,
+      AsyncKubePodStatus.RUNNING,
+      AsyncKubePodStatus.INITIALIZING);
 
   private final KubePodInfo kubePodInfo;
   private final DocumentStoreClient documentStoreClient;
@@ -306,23 +326,81 @@ public class AsyncOrchestratorPodProcess implements KubePod {
       return false;
     }
 
-    final long deadline = System.nanoTime() + remainingNanos;
-    do {
-      // The remainingNanos bit is about calculating how much time left for the actual timeout.
-      // Most of the time we should be sleeping for 500ms except when we get to the actual timeout.
-      // We are waiting polling every 5000ms for status. The trade-off here is between how often
-      // we poll our status storage (GCS) and how reactive we are to detect that a process is done.
-      // Setting the polling time bellow 5000ms is putting us at risk of increasing the load on the
-      // kubeApi which might
-      // lead to 429 errors
-      Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS));
-      if (hasExited()) {
-        return true;
+    final PodTerminationWatcher podWatcher = new PodTerminationWatcher();
+    final Optional<Watch> podWatch = watchPod(podWatcher);
+    try {
+      final long deadline = System.nanoTime() + remainingNanos;
+      do {
+        // The remainingNanos bit is about calculating how much time left for the actual timeout.
+        // While the pod is watched, we wake up as soon as it terminates and only fall back to polling
+        // the status storage (GCS) every minute. Without a watch, we poll every 5000ms: setting the
+        // polling time bellow 5000ms is putting us at risk of increasing the load on the kubeApi which
+        // might lead to 429 errors
+        final long pollingFrequencyMillis =
+            podWatcher.isOpen() ? JOB_STATUS_FALLBACK_POLLING_FREQUENCY_IN_MILLIS : JOB_STATUS_POLLING_FREQUENCY_IN_MILLIS;
+        podWatcher.awaitEvent(Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, pollingFrequencyMillis));
+        if (hasExited()) {
+          return true;
+        }
+        remainingNanos = deadline - System.nanoTime();
+      } while (remainingNanos > 0);
+
+      return false;
+    } finally {
+      podWatch.ifPresent(Watch::close);
+    }
+  }
+
+  private Optional<Watch> watchPod(final PodTerminationWatcher podWatcher) {
+    try {
+      return Optional.of(kubernetesClient.pods()
+          .inNamespace(getInfo().namespace())
+          .withName(getInfo().name())
+          .watch(podWatcher));
+    } catch (final KubernetesClientException e) {
+      log.warn("Unable to watch orchestrator pod {}, falling back to polling the State Store.", getInfo().name(), e);
+      podWatcher.onClose(new WatcherException(e.getMessage(), e));
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Wakes up {@link #waitFor(long, TimeUnit)} as soon as the orchestrator pod's main container
+   * terminates or the pod is deleted.
+   */
+  @VisibleForTesting
+  static class PodTerminationWatcher implements Watcher<Pod> {
+
+    private final Semaphore events = new Semaphore(0);
+    private final AtomicBoolean open = new AtomicBoolean(true);
+
+    @Override
+    public void eventReceived(final Action action, final Pod pod) {
+      if (action == Action.DELETED || pod != null && KubePodResourceHelper.isTerminal(pod)) {
+        events.release();
       }
-      remainingNanos = deadline - System.nanoTime();
-    } while (remainingNanos > 0);
+    }
+
+    @Override
+    public void onClose(final WatcherException cause) {
+      open.set(false);
+      // let the waiter check the status and switch back to regular polling
+      events.release();
+    }
+
+    boolean isOpen() {
+      return open.get();
+    }
+
+    /**
+     * Wait until the pod terminates or the timeout elapses.
+     */
+    void awaitEvent(final long timeoutMillis) throws InterruptedException {
+      if (events.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        events.drainPermits();
+      }
+    }
 
-    return false;
   }
 
   @Override
@@ -391,31 +469,29 @@ public class AsyncOrchestratorPodProcess implements KubePod {
     };
   }
 
-  private Optional<String> getDocument(final String key) {
-    return documentStoreClient.read(getInfo().namespace() + "/" + getInfo().name() + "/" + key);
+  private String getDocumentPrefix() {
+    return getInfo().namespace() + "/" + getInfo().name() + "/";
   }
 
-  private boolean checkStatus(final AsyncKubePodStatus status) {
-    return getDocument(status.name()).isPresent();
+  private Optional<String> getDocument(final String key) {
+    return documentStoreClient.read(getDocumentPrefix() + key);
   }
 
   /**
    * Checks terminal states first, then running, then initialized. Defaults to not started.
    * <p>
-   * The order matters here!
+   * The order matters here! All written states are fetched with a single listing of the document
+   * store.
    */
   public AsyncKubePodStatus getDocStoreStatus() {
-    if (checkStatus(AsyncKubePodStatus.FAILED)) {
-      return AsyncKubePodStatus.FAILED;
-    } else if (checkStatus(AsyncKubePodStatus.SUCCEEDED)) {
-      return AsyncKubePodStatus.SUCCEEDED;
-    } else if (checkStatus(AsyncKubePodStatus.RUNNING)) {
-      return AsyncKubePodStatus.RUNNING;
-    } else if (checkStatus(AsyncKubePodStatus.INITIALIZING)) {
-      return AsyncKubePodStatus.INITIALIZING;
-    } else {
-      return AsyncKubePodStatus.NOT_STARTED;
+    final String prefix = getDocumentPrefix();
+    final Set<String> writtenKeys = new HashSet<>(documentStoreClient.list(prefix));
+    for (final AsyncKubePodStatus status : DOC_STORE_STATUS_CHECK_ORDER) {
+      if (writtenKeys.contains(prefix + status.name())) {
+        return status;
+      }
     }
+    return AsyncKubePodStatus.NOT_STARTED;
   }
 
   /**
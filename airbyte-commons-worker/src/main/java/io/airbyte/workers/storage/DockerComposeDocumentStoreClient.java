@@ -10,7 +10,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Document store for when all we have is an FS. This should only be used in the docker-compose
@@ -74,4 +76,25 @@ public class DockerComposeDocumentStoreClient implements DocumentStoreClient {
     }
   }
 
+  @Override
+  public List<String> list(final String prefix) {
+    // only walk the deepest directory that can hold the matching documents
+    final int lastSeparator = prefix.lastIndexOf('/');
+    final Path directory = lastSeparator < 0 ? getRoot() : getPath(prefix.substring(0, lastSeparator));
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+
+    try (final Stream<Path> paths = Files.walk(directory)) {
+      return paths
+          .filter(Files::isRegularFile)
+          .map(path -> getRoot().relativize(path).toString().replace(File.separatorChar, '/'))
+          .filter(id -> id.startsWith(prefix))
+          .sorted()
+          .toList();
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
 }
@@ -4,6 +4,9 @@
 
 package io.airbyte.workers.storage;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -36,4 +39,53 @@ public interface DocumentStoreClient {
    */
   boolean delete(String id);
 
+  /**
+   * Lists the ids of all documents whose id starts with the provided prefix, using a single listing
+   * of the store rather than one request per candidate id.
+   *
+   * @param prefix of the ids to list, e.g. {@code namespace/name/}
+   * @return matching ids, in lexicographical order
+   */
+  List<String> list(String prefix);
+
+  /**
+   * Reads all documents whose id starts with the provided prefix.
+   *
+   * @param prefix of the ids to read
+   * @return documents by id, in lexicographical order of id
+   */
+  default Map<String, String> readAll(final String prefix) {
+    final Map<String, String> documents = new LinkedHashMap<>();
+    for (final String id : list(prefix)) {
+      // a document may be deleted between the listing and the read
+      read(id).ifPresent(document -> documents.put(id, document));
+    }
+    return documents;
+  }
+
+  /**
+   * Writes several documents. Documents already existing at any of these ids are overwritten.
+   *
+   * @param documents to write, by id
+   */
+  default void writeAll(final Map<String, String> documents) {
+    documents.forEach(this::write);
+  }
+
+  /**
+   * Deletes all documents whose id starts with the provided prefix.
+   *
+   * @param prefix of the ids to delete
+   * @return number of deleted documents
+   */
+  default int deleteAll(final String prefix) {
+    int deleted = 0;
+    for (final String id : list(prefix)) {
+      if (delete(id)) {
+        deleted++;
+      }
+    }
+    return deleted;
+  }
+
 }
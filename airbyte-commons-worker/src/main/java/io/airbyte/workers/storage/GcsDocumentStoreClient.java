@@ -12,6 +12,10 @@ import io.airbyte.config.storage.CloudStorageConfigs.GcsConfig;
 import io.airbyte.config.storage.DefaultGcsClientFactory;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -47,6 +51,10 @@ public class GcsDocumentStoreClient implements DocumentStoreClient {
     return root + "/" + id;
   }
 
+  private String getId(final Blob blob) {
+    return blob.getName().substring(getKey("").length());
+  }
+
   BlobId getBlobId(final String id) {
     return BlobId.of(bucketName, getKey(id));
   }
@@ -72,4 +80,35 @@ public class GcsDocumentStoreClient implements DocumentStoreClient {
     return gcsClient.delete(BlobId.of(bucketName, getKey(id)));
   }
 
+  @Override
+  public List<String> list(final String prefix) {
+    final List<String> ids = new ArrayList<>();
+    // blobs are returned in lexicographical order
+    listBlobs(prefix).forEach(blob -> ids.add(getId(blob)));
+    return ids;
+  }
+
+  @Override
+  public Map<String, String> readAll(final String prefix) {
+    // the listing already resolves the blobs, so only their content has to be fetched
+    final Map<String, String> documents = new LinkedHashMap<>();
+    listBlobs(prefix).forEach(blob -> documents.put(getId(blob), new String(blob.getContent(), StandardCharsets.UTF_8)));
+    return documents;
+  }
+
+  @Override
+  public int deleteAll(final String prefix) {
+    final List<BlobId> blobIds = new ArrayList<>();
+    listBlobs(prefix).forEach(blob -> blobIds.add(blob.getBlobId()));
+    if (blobIds.isEmpty()) {
+      return 0;
+    }
+    // deletes are sent as a single batch request
+    return (int) gcsClient.delete(blobIds).stream().filter(Boolean::booleanValue).count();
+  }
+
+  private Iterable<Blob> listBlobs(final String prefix) {
+    return gcsClient.list(bucketName, Storage.BlobListOption.prefix(getKey(prefix))).iterateAll();
+  }
+
 }
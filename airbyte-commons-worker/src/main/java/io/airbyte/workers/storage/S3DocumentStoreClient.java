@@ -10,18 +10,25 @@ import io.airbyte.config.storage.DefaultS3ClientFactory;
 import io.airbyte.config.storage.MinioS3ClientFactory;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
  * Document store on top of the S3Client.
@@ -29,6 +36,8 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 public class S3DocumentStoreClient implements DocumentStoreClient {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3DocumentStoreClient.class);
+  // maximum number of keys accepted by a single DeleteObjects request
+  private static final int MAX_KEYS_PER_DELETE = 1000;
 
   private final String bucketName;
   private final Path root;
@@ -72,6 +81,10 @@ public class S3DocumentStoreClient implements DocumentStoreClient {
     return root + "/" + id;
   }
 
+  private String getId(final String key) {
+    return key.substring(getKey("").length());
+  }
+
   @Override
   public void write(final String id, final String document) {
     final PutObjectRequest request = PutObjectRequest.builder()
@@ -109,4 +122,37 @@ public class S3DocumentStoreClient implements DocumentStoreClient {
     return keyExists;
   }
 
+  @Override
+  public List<String> list(final String prefix) {
+    final ListObjectsV2Request request = ListObjectsV2Request.builder()
+        .bucket(bucketName)
+        .prefix(getKey(prefix))
+        .build();
+
+    // keys are returned in lexicographical order
+    return s3Client.listObjectsV2Paginator(request).contents().stream()
+        .map(S3Object::key)
+        .map(this::getId)
+        .toList();
+  }
+
+  @Override
+  public int deleteAll(final String prefix) {
+    final List<ObjectIdentifier> objects = list(prefix).stream()
+        .map(id -> ObjectIdentifier.builder().key(getKey(id)).build())
+        .toList();
+
+    int deleted = 0;
+    for (int start = 0; start < objects.size(); start += MAX_KEYS_PER_DELETE) {
+      final List<ObjectIdentifier> batch = objects.subList(start, Math.min(start + MAX_KEYS_PER_DELETE, objects.size()));
+      final DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+          .bucket(bucketName)
+          .delete(Delete.builder().objects(batch).quiet(false).build())
+          .build());
+      response.errors().forEach(error -> LOGGER.warn("Could not delete record with key {}: {}", error.key(), error.message()));
+      deleted += response.deleted().size();
+    }
+    return deleted;
+  }
+
 }
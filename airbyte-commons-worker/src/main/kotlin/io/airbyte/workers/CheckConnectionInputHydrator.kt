@@ -1,23 +1,17 @@
 package io.airbyte.workers
 
 import com.fasterxml.jackson.databind.JsonNode
-import io.airbyte.api.client.generated.SecretsPersistenceConfigApi
-import io.airbyte.api.client.invoker.generated.ApiException
-import io.airbyte.api.client.model.generated.ScopeType
-import io.airbyte.api.client.model.generated.SecretPersistenceConfig
-import io.airbyte.api.client.model.generated.SecretPersistenceConfigGetRequestBody
 import io.airbyte.config.StandardCheckConnectionInput
 import io.airbyte.config.secrets.SecretsRepositoryReader
 import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.featureflag.Organization
 import io.airbyte.featureflag.UseRuntimeSecretPersistence
-import io.airbyte.workers.helper.SecretPersistenceConfigHelper
-import java.lang.RuntimeException
+import io.airbyte.workers.helper.SecretPersistenceConfigCache
 import java.util.UUID
 
 class CheckConnectionInputHydrator(
   private val secretsRepositoryReader: SecretsRepositoryReader,
-  private val secretsApiClient: SecretsPersistenceConfigApi,
+  private val secretPersistenceConfigCache: SecretPersistenceConfigCache,
   private val featureFlagClient: FeatureFlagClient,
 ) {
   fun getHydratedStandardCheckInput(rawInput: StandardCheckConnectionInput): StandardCheckConnectionInput {
@@ -41,29 +35,14 @@ class CheckConnectionInputHydrator(
   private fun hydrateFromRuntimePersistence(
     jsonConfig: JsonNode,
     organizationId: UUID,
-  ): JsonNode? {
-    val secretPersistenceConfig: SecretPersistenceConfig
-    try {
-      secretPersistenceConfig =
-        secretsApiClient.getSecretsPersistenceConfig(
-          SecretPersistenceConfigGetRequestBody()
-            .scopeType(ScopeType.ORGANIZATION)
-            .scopeId(organizationId),
-        )
-    } catch (e: ApiException) {
-      throw RuntimeException(e)
+  ): JsonNode? =
+    secretPersistenceConfigCache.withSecretPersistence(organizationId) { runtimeSecretPersistence ->
+      secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(
+        jsonConfig,
+        runtimeSecretPersistence,
+      )
     }
 
-    val runtimeSecretPersistence =
-      SecretPersistenceConfigHelper
-        .fromApiSecretPersistenceConfig(secretPersistenceConfig)
-
-    return secretsRepositoryReader.hydrateConfigFromRuntimeSecretPersistence(
-      jsonConfig,
-      runtimeSecretPersistence,
-    )
-  }
-
   private fun useRuntimeHydration(organizationId: UUID?): Boolean =
     organizationId != null && featureFlagClient.boolVariation(UseRuntimeSecretPersistence, Organization(organizationId))
 }
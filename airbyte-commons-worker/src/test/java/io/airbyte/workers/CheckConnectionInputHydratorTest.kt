@@ -13,6 +13,7 @@ import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
 import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.featureflag.Organization
 import io.airbyte.featureflag.UseRuntimeSecretPersistence
+import io.airbyte.workers.helper.SecretPersistenceConfigCache
 import io.airbyte.workers.helper.SecretPersistenceConfigHelper
 import io.mockk.every
 import io.mockk.mockk
@@ -31,7 +32,7 @@ class CheckConnectionInputHydratorTest {
     val hydrator =
       CheckConnectionInputHydrator(
         secretsRepositoryReader,
-        secretsApiClient,
+        SecretPersistenceConfigCache(secretsApiClient),
         featureFlagClient,
       )
 
@@ -81,7 +82,7 @@ class CheckConnectionInputHydratorTest {
     val hydrator =
       CheckConnectionInputHydrator(
         secretsRepositoryReader,
-        secretsApiClient,
+        SecretPersistenceConfigCache(secretsApiClient),
         featureFlagClient,
       )
 
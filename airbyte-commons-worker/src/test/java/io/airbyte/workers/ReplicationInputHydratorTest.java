@@ -5,6 +5,9 @@
 package io.airbyte.workers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -42,12 +45,19 @@ import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
+import io.airbyte.workers.helper.SecretPersistenceConfigCache;
 import io.airbyte.workers.models.RefreshSchemaActivityOutput;
 import io.airbyte.workers.models.ReplicationActivityInput;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 
 /**
  * Tests for the replication activity specifically.
@@ -115,6 +125,7 @@ class ReplicationInputHydratorTest {
   private static JobsApi jobsApi;
   private static FeatureFlagClient featureFlagClient;
   private SecretsPersistenceConfigApi secretsPersistenceConfigApi;
+  private ExecutorService fetchExecutor;
 
   @BeforeEach
   void setup() throws ApiException {
@@ -125,6 +136,7 @@ class ReplicationInputHydratorTest {
     jobsApi = mock(JobsApi.class);
     featureFlagClient = mock(TestClient.class);
     secretsPersistenceConfigApi = mock(SecretsPersistenceConfigApi.class);
+    fetchExecutor = ReplicationInputHydrator.newFetchExecutor(10);
     when(airbyteApiClient.getConnectionApi()).thenReturn(connectionApi);
     when(airbyteApiClient.getStateApi()).thenReturn(stateApi);
     when(airbyteApiClient.getJobsApi()).thenReturn(jobsApi);
@@ -135,13 +147,21 @@ class ReplicationInputHydratorTest {
     when(stateApi.getState(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenReturn(CONNECTION_STATE_RESPONSE);
   }
 
+  @AfterEach
+  void tearDown() {
+    fetchExecutor.shutdownNow();
+    MDC.clear();
+  }
+
   private ReplicationInputHydrator getReplicationInputHydrator() {
     return new ReplicationInputHydrator(
         airbyteApiClient.getConnectionApi(),
         airbyteApiClient.getJobsApi(),
         airbyteApiClient.getStateApi(),
-        secretsPersistenceConfigApi, secretsRepositoryReader,
-        featureFlagClient);
+        new SecretPersistenceConfigCache(secretsPersistenceConfigApi),
+        secretsRepositoryReader,
+        featureFlagClient,
+        fetchExecutor);
   }
 
   private ReplicationActivityInput getDefaultReplicationActivityInputForTest() {
@@ -209,4 +229,42 @@ class ReplicationInputHydratorTest {
     assertEquals(JsonNodeFactory.instance.nullNode(), typedState.get().getStateMessages().get(0).getStream().getStreamState());
   }
 
+  @Test
+  void testGenerateReplicationInputFetchesConcurrently() throws Exception {
+    // The catalog and the state are only returned once both are being fetched, so a hydration fetching
+    // them one after the other would time out.
+    final CountDownLatch bothFetching = new CountDownLatch(2);
+    final AtomicBoolean fetchedConcurrently = new AtomicBoolean(true);
+    final AtomicBoolean keptMdc = new AtomicBoolean(true);
+    when(connectionApi.getConnection(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenAnswer(invocation -> {
+      bothFetching.countDown();
+      fetchedConcurrently.compareAndSet(true, bothFetching.await(10, TimeUnit.SECONDS));
+      keptMdc.compareAndSet(true, CONNECTION_ID.toString().equals(MDC.get("connection_id")));
+      return new ConnectionRead().connectionId(CONNECTION_ID).syncCatalog(SYNC_CATALOG);
+    });
+    when(stateApi.getState(new ConnectionIdRequestBody().connectionId(CONNECTION_ID))).thenAnswer(invocation -> {
+      bothFetching.countDown();
+      fetchedConcurrently.compareAndSet(true, bothFetching.await(10, TimeUnit.SECONDS));
+      return CONNECTION_STATE_RESPONSE;
+    });
+    MDC.put("connection_id", CONNECTION_ID.toString());
+
+    final var replicationInput = getReplicationInputHydrator().getHydratedReplicationInput(getDefaultReplicationActivityInputForTest());
+
+    assertTrue(fetchedConcurrently.get());
+    assertTrue(keptMdc.get());
+    assertEquals(EXPECTED_STATE, replicationInput.getState());
+  }
+
+  @Test
+  void testGenerateReplicationInputPropagatesFetchFailures() {
+    final IllegalStateException failure = new IllegalStateException("secrets are unavailable");
+    when(secretsRepositoryReader.hydrateConfigFromDefaultSecretPersistence(any())).thenThrow(failure);
+    final ReplicationInputHydrator replicationInputHydrator = getReplicationInputHydrator();
+
+    final var thrown = assertThrows(IllegalStateException.class,
+        () -> replicationInputHydrator.getHydratedReplicationInput(getDefaultReplicationActivityInputForTest()));
+    assertEquals(failure, thrown);
+  }
+
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.workers.storage.DocumentStoreClient;
+import io.airbyte.workers.workload.JobOutputDocStore;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.Watcher.Action;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncOrchestratorPodProcessTest {
+
+  private static final String NAMESPACE = "jobs";
+  private static final String POD_NAME = "orchestrator-repl-job-1-attempt-0";
+
+  private final AtomicBoolean succeeded = new AtomicBoolean(false);
+  private final AtomicReference<Watcher<Pod>> podWatcher = new AtomicReference<>();
+  private PodResource podResource;
+  private Watch watch;
+  private AsyncOrchestratorPodProcess process;
+  private ExecutorService executor;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    final DocumentStoreClient documentStoreClient = mock(DocumentStoreClient.class);
+    when(documentStoreClient.read(anyString())).thenAnswer(invocation -> {
+      final String key = invocation.getArgument(0);
+      return succeeded.get() && key.endsWith("/" + AsyncKubePodStatus.SUCCEEDED.name()) ? Optional.of("") : Optional.empty();
+    });
+    when(documentStoreClient.list(anyString())).thenAnswer(invocation -> {
+      final String prefix = invocation.getArgument(0);
+      return succeeded.get() ? List.of(prefix + AsyncKubePodStatus.SUCCEEDED.name()) : List.of();
+    });
+
+    final KubernetesClient kubernetesClient = mock(KubernetesClient.class);
+    final MixedOperation<Pod, PodList, PodResource> pods = mock(MixedOperation.class);
+    final NonNamespaceOperation<Pod, PodList, PodResource> namespacedPods = mock(NonNamespaceOperation.class);
+    podResource = mock(PodResource.class);
+    watch = mock(Watch.class);
+    when(kubernetesClient.pods()).thenReturn(pods);
+    when(pods.inNamespace(NAMESPACE)).thenReturn(namespacedPods);
+    when(namespacedPods.withName(POD_NAME)).thenReturn(podResource);
+    when(podResource.get()).thenReturn(new PodBuilder().withNewMetadata().withName(POD_NAME).endMetadata().build());
+
+    process = new AsyncOrchestratorPodProcess(
+        new KubePodInfo(NAMESPACE, POD_NAME, new KubeContainerInfo("airbyte/container-orchestrator", "IfNotPresent")),
+        documentStoreClient,
+        kubernetesClient,
+        null,
+        null,
+        null,
+        null,
+        null,
+        Map.of(),
+        Map.of(),
+        9000,
+        null,
+        null,
+        mock(MetricClient.class),
+        "launcher",
+        mock(JobOutputDocStore.class),
+        "workload-id");
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testWaitForReturnsAsSoonAsThePodTerminates() throws Exception {
+    when(podResource.watch(any())).thenAnswer(invocation -> {
+      podWatcher.set(invocation.getArgument(0));
+      return watch;
+    });
+
+    final Future<Boolean> exited = executor.submit(() -> process.waitFor(1, TimeUnit.HOURS));
+    while (podWatcher.get() == null) {
+      Thread.sleep(10);
+    }
+    succeeded.set(true);
+    podWatcher.get().eventReceived(Action.MODIFIED, terminatedPod());
+
+    // well below both polling frequencies: the pod event is what wakes the waiter up
+    assertTrue(exited.get(2, TimeUnit.SECONDS));
+    assertEquals(0, process.exitValue());
+    verify(watch).close();
+  }
+
+  @Test
+  void testWaitForTimesOutAndClosesTheWatch() throws Exception {
+    when(podResource.watch(any())).thenReturn(watch);
+
+    assertFalse(process.waitFor(200, TimeUnit.MILLISECONDS));
+    verify(watch).close();
+  }
+
+  @Test
+  void testWaitForFallsBackToPollingWhenThePodCannotBeWatched() throws Exception {
+    when(podResource.watch(any())).thenThrow(new KubernetesClientException("forbidden"));
+
+    assertFalse(process.waitFor(200, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void testWatcherWakesUpOnTerminationAndClose() throws InterruptedException {
+    final var watcher = new AsyncOrchestratorPodProcess.PodTerminationWatcher();
+    watcher.eventReceived(Action.MODIFIED, new PodBuilder().build());
+    assertFalse(wakesUpEarly(watcher));
+
+    watcher.eventReceived(Action.MODIFIED, terminatedPod());
+    watcher.eventReceived(Action.MODIFIED, terminatedPod());
+    assertTrue(wakesUpEarly(watcher));
+    // repeated events are coalesced into a single wake up
+    assertFalse(wakesUpEarly(watcher));
+
+    watcher.eventReceived(Action.DELETED, null);
+    assertTrue(wakesUpEarly(watcher));
+
+    assertTrue(watcher.isOpen());
+    watcher.onClose(null);
+    assertFalse(watcher.isOpen());
+    assertTrue(wakesUpEarly(watcher));
+  }
+
+  private static boolean wakesUpEarly(final AsyncOrchestratorPodProcess.PodTerminationWatcher watcher) throws InterruptedException {
+    final long start = System.nanoTime();
+    watcher.awaitEvent(100);
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100;
+  }
+
+  private static Pod terminatedPod() {
+    return new PodBuilder()
+        .withNewMetadata().withName(POD_NAME).endMetadata()
+        .withNewStatus()
+        .addNewContainerStatus()
+        .withName(KubePodProcess.MAIN_CONTAINER_NAME)
+        .withNewState().withNewTerminated().withExitCode(0).endTerminated().endState()
+        .endContainerStatus()
+        .endStatus()
+        .build();
+  }
+
+}
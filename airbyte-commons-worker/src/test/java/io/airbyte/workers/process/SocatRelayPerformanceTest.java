@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.process;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of the socat relay that moves a connector's stdout to the orchestrator,
+ * between two processes over loopback: a socat child process reads records from its stdin as the
+ * relay sidecar reads the stdout pipe, and this process receives them on a relay server socket as
+ * {@link KubePodProcess} does. The relay is measured with socat's default block size as a baseline
+ * and with {@link KubePodProcess#SOCAT_BLOCK_SIZE}.
+ * <p>
+ * Requires socat on the PATH.
+ */
+public class SocatRelayPerformanceTest {
+
+  private static final Logger log = LoggerFactory.getLogger(SocatRelayPerformanceTest.class);
+
+  private static final int SOCAT_DEFAULT_BLOCK_SIZE = 8192;
+  private static final long RECORDS = 5_000_000;
+  private static final byte[] RECORD = ("{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"emitted_at\":1700000000000,"
+      + "\"data\":{\"id\":1,\"name\":\"someone\",\"email\":\"someone@example.com\",\"created_at\":\"2023-01-01T00:00:00Z\"}}}\n")
+          .getBytes(StandardCharsets.UTF_8);
+
+  long relay(final int blockSize) throws IOException, InterruptedException {
+    try (final ServerSocket serverSocket = KubePodProcess.bindRelayServerSocket(0)) {
+      final Process socat = new ProcessBuilder(List.of(
+          "socat", "-b" + blockSize, "-t", "60", "-", "TCP:127.0.0.1:" + serverSocket.getLocalPort()))
+              .redirectError(ProcessBuilder.Redirect.INHERIT)
+              .start();
+
+      final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+        try (final OutputStream stdin = socat.getOutputStream()) {
+          for (long i = 0; i < RECORDS; i++) {
+            stdin.write(RECORD);
+          }
+        } catch (final IOException e) {
+          throw new RuntimeException(e);
+        }
+      });
+
+      final long start = System.nanoTime();
+      long received = 0;
+      try (final Socket socket = serverSocket.accept(); final InputStream in = socket.getInputStream()) {
+        final byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+          received += read;
+        }
+      }
+      final long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+      producer.join();
+      socat.waitFor();
+
+      log.info("block size {}: relayed {} MB in {} ms ({} MB/s)", blockSize, received / 1_000_000, elapsedMs, received / 1000 / elapsedMs);
+      return received;
+    }
+  }
+
+  public static void main(final String[] args) throws IOException, InterruptedException {
+    // Run this main class from the test classpath to benchmark the relay.
+    final var test = new SocatRelayPerformanceTest();
+    test.relay(SOCAT_DEFAULT_BLOCK_SIZE);
+    test.relay(KubePodProcess.SOCAT_BLOCK_SIZE);
+  }
+
+}
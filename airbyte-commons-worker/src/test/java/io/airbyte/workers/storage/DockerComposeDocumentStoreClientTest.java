@@ -11,6 +11,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,4 +54,22 @@ class DockerComposeDocumentStoreClientTest {
     assertFalse(emptyResponseAfterDeletion.isPresent());
   }
 
+  @Test
+  void testBatchOperations() {
+    assertEquals(List.of(), client.list("pod/"));
+    assertEquals(Map.of(), client.readAll("pod/"));
+
+    client.writeAll(Map.of("pod/b", DOCUMENT2, "pod/a", DOCUMENT, "pod2/a", DOCUMENT, KEY, DOCUMENT));
+
+    assertEquals(List.of("pod/a", "pod/b"), client.list("pod/"));
+    assertEquals(List.of("pod/a", "pod/b", "pod2/a"), client.list("pod"));
+    assertEquals(Map.of("pod/a", DOCUMENT, "pod/b", DOCUMENT2), client.readAll("pod/"));
+
+    assertEquals(2, client.deleteAll("pod/"));
+    assertEquals(0, client.deleteAll("pod/"));
+    assertEquals(List.of(), client.list("pod/"));
+    assertEquals(List.of("pod2/a"), client.list("pod2/"));
+    assertTrue(client.read(KEY).isPresent());
+  }
+
 }
@@ -11,6 +11,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -57,4 +59,22 @@ class GcsDocumentStoreClientTest {
     assertFalse(emptyResponseAfterDeletion.isPresent());
   }
 
+  @Test
+  void testBatchOperations() {
+    assertEquals(List.of(), client.list("pod/"));
+    assertEquals(Map.of(), client.readAll("pod/"));
+
+    client.writeAll(Map.of("pod/b", DOCUMENT2, "pod/a", DOCUMENT, "pod2/a", DOCUMENT, KEY, DOCUMENT));
+
+    assertEquals(List.of("pod/a", "pod/b"), client.list("pod/"));
+    assertEquals(List.of("pod/a", "pod/b", "pod2/a"), client.list("pod"));
+    assertEquals(Map.of("pod/a", DOCUMENT, "pod/b", DOCUMENT2), client.readAll("pod/"));
+
+    assertEquals(2, client.deleteAll("pod/"));
+    assertEquals(0, client.deleteAll("pod/"));
+    assertEquals(List.of(), client.list("pod/"));
+    assertEquals(List.of("pod2/a"), client.list("pod2/"));
+    assertTrue(client.read(KEY).isPresent());
+  }
+
 }
@@ -9,6 +9,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -58,4 +60,22 @@ class S3DocumentStoreClientTest {
     assertFalse(emptyResponseAfterDeletion.isPresent());
   }
 
+  @Test
+  void testBatchOperations() {
+    assertEquals(List.of(), client.list("pod/"));
+    assertEquals(Map.of(), client.readAll("pod/"));
+
+    client.writeAll(Map.of("pod/b", DOCUMENT2, "pod/a", DOCUMENT, "pod2/a", DOCUMENT, KEY, DOCUMENT));
+
+    assertEquals(List.of("pod/a", "pod/b"), client.list("pod/"));
+    assertEquals(List.of("pod/a", "pod/b", "pod2/a"), client.list("pod"));
+    assertEquals(Map.of("pod/a", DOCUMENT, "pod/b", DOCUMENT2), client.readAll("pod/"));
+
+    assertEquals(2, client.deleteAll("pod/"));
+    assertEquals(0, client.deleteAll("pod/"));
+    assertEquals(List.of(), client.list("pod/"));
+    assertEquals(List.of("pod2/a"), client.list("pod2/"));
+    assertTrue(client.read(KEY).isPresent());
+  }
+
 }
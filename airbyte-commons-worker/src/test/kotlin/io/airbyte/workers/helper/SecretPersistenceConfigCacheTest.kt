@@ -0,0 +1,115 @@
+package io.airbyte.workers.helper
+
+import io.airbyte.api.client.generated.SecretsPersistenceConfigApi
+import io.airbyte.api.client.invoker.generated.ApiException
+import io.airbyte.api.client.model.generated.ScopeType
+import io.airbyte.api.client.model.generated.SecretPersistenceConfig
+import io.airbyte.api.client.model.generated.SecretPersistenceType
+import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkStatic
+import io.mockk.unmockkStatic
+import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.UUID
+
+class SecretPersistenceConfigCacheTest {
+  private val orgId = UUID.randomUUID()
+  private val secretConfig =
+    SecretPersistenceConfig()
+      .scopeId(orgId)
+      .scopeType(ScopeType.ORGANIZATION)
+      .secretPersistenceType(SecretPersistenceType.AWS)
+
+  private lateinit var secretsApiClient: SecretsPersistenceConfigApi
+  private lateinit var cache: SecretPersistenceConfigCache
+
+  @BeforeEach
+  fun setup() {
+    secretsApiClient = mockk()
+    every { secretsApiClient.getSecretsPersistenceConfig(any()) } returns secretConfig
+    mockkStatic(SecretPersistenceConfigHelper::class)
+    every { SecretPersistenceConfigHelper.fromApiSecretPersistenceConfig(secretConfig) } answers { RuntimeSecretPersistence(mockk()) }
+    cache = SecretPersistenceConfigCache(secretsApiClient, Duration.ofMinutes(5), 10)
+  }
+
+  @AfterEach
+  fun tearDown() {
+    unmockkStatic(SecretPersistenceConfigHelper::class)
+  }
+
+  @Test
+  fun `secret persistence config is only fetched once per organization`() {
+    val first = cache.getForOrganization(orgId)
+    val second = cache.getForOrganization(orgId)
+
+    assertSame(first, second)
+    verify(exactly = 1) { secretsApiClient.getSecretsPersistenceConfig(any()) }
+  }
+
+  @Test
+  fun `invalidation forces a new fetch`() {
+    val first = cache.getForOrganization(orgId)
+    cache.invalidate(orgId)
+    val second = cache.getForOrganization(orgId)
+
+    assert(first !== second)
+    verify(exactly = 2) { secretsApiClient.getSecretsPersistenceConfig(any()) }
+  }
+
+  @Test
+  fun `failed operations are retried once with a freshly fetched secret persistence`() {
+    val stale = cache.getForOrganization(orgId)
+
+    val result =
+      cache.withSecretPersistence(orgId) { persistence ->
+        if (persistence === stale) {
+          throw IllegalStateException("stale credentials")
+        }
+        "hydrated"
+      }
+
+    assertEquals("hydrated", result)
+    verify(exactly = 2) { secretsApiClient.getSecretsPersistenceConfig(any()) }
+  }
+
+  @Test
+  fun `failed operations with a freshly fetched secret persistence are not retried`() {
+    var calls = 0
+
+    assertThrows(IllegalStateException::class.java) {
+      cache.withSecretPersistence(orgId) {
+        calls++
+        throw IllegalStateException("bad credentials")
+      }
+    }
+
+    assertEquals(1, calls)
+    verify(exactly = 1) { secretsApiClient.getSecretsPersistenceConfig(any()) }
+  }
+
+  @Test
+  fun `transient api errors are retried`() {
+    every { secretsApiClient.getSecretsPersistenceConfig(any()) } throws ApiException(503, "Unavailable") andThen secretConfig
+
+    cache.getForOrganization(orgId)
+
+    verify(exactly = 2) { secretsApiClient.getSecretsPersistenceConfig(any()) }
+  }
+
+  @Test
+  fun `non transient api errors are not retried`() {
+    every { secretsApiClient.getSecretsPersistenceConfig(any()) } throws ApiException(404, "Not Found")
+
+    assertThrows(RuntimeException::class.java) { cache.getForOrganization(orgId) }
+
+    verify(exactly = 1) { secretsApiClient.getSecretsPersistenceConfig(any()) }
+  }
+}
@@ -4,6 +4,7 @@
 
 package io.airbyte.commons.io;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.concurrency.VoidCallable;
 import io.airbyte.commons.logging.MdcScope;
 import java.io.BufferedReader;
@@ -12,8 +13,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,11 +26,23 @@ import org.slf4j.MDC;
 
 /**
  * Abstraction to consume an {@link InputStream} to completion.
+ * <p>
+ * Streams are consumed by a shared pool of at most {@link #MAX_THREADS} threads, which can be
+ * overridden with the LINE_GOBBLER_MAX_THREADS env var. Idle threads are released after a minute.
+ * A stream is never queued: it may only end with a long-running process, and the process writing
+ * to an unread stream blocks on a full pipe. When all threads are busy, the stream is consumed by a
+ * dedicated thread instead.
  */
 public class LineGobbler implements VoidCallable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LineGobbler.class);
   private static final String GENERIC = "generic";
+  static final String THREAD_NAME_PREFIX = "line-gobbler-";
+  static final String OVERFLOW_THREAD_NAME_PREFIX = "line-gobbler-overflow-";
+  static final int MAX_THREADS = Optional.ofNullable(System.getenv("LINE_GOBBLER_MAX_THREADS"))
+      .map(Integer::parseInt)
+      .orElse(128);
+  private static final ThreadPoolExecutor EXECUTOR = newExecutor(MAX_THREADS);
 
   /**
    * Connect an input stream to be consumed by consumer.
@@ -68,16 +85,45 @@ public class LineGobbler implements VoidCallable {
    * @param mdcScopeBuilder mdc scope to be used during consumption
    */
   public static void gobble(final InputStream is, final Consumer<String> consumer, final String caller, final MdcScope.Builder mdcScopeBuilder) {
+    gobble(EXECUTOR, is, consumer, caller, mdcScopeBuilder);
+  }
+
+  @VisibleForTesting
+  static void gobble(final ThreadPoolExecutor executor,
+                     final InputStream is,
+                     final Consumer<String> consumer,
+                     final String caller,
+                     final MdcScope.Builder mdcScopeBuilder) {
     if (is != null) {
-      final ExecutorService executor = Executors.newSingleThreadExecutor();
       final Map<String, String> mdc = MDC.getCopyOfContextMap();
-      final var gobbler = new LineGobbler(is, consumer, executor, mdc, caller, mdcScopeBuilder);
-      executor.submit(gobbler);
+      executor.submit(new LineGobbler(is, consumer, null, mdc, caller, mdcScopeBuilder));
     } else {
       LOGGER.warn("Unable to gobble line(s) from input stream provided by {}:  input stream is null.", caller);
     }
   }
 
+  /**
+   * Create a pool of at most maxThreads daemon threads, which hands the streams it has no thread for
+   * to a dedicated daemon thread.
+   */
+  @VisibleForTesting
+  static ThreadPoolExecutor newExecutor(final int maxThreads) {
+    final AtomicInteger threadCount = new AtomicInteger();
+    final AtomicInteger overflowThreadCount = new AtomicInteger();
+    return new ThreadPoolExecutor(0, maxThreads, 1, TimeUnit.MINUTES, new SynchronousQueue<>(),
+        runnable -> newDaemonThread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet()),
+        (runnable, executor) -> {
+          LOGGER.warn("All {} line gobbler threads are busy, consuming the stream on a dedicated thread.", executor.getMaximumPoolSize());
+          newDaemonThread(runnable, OVERFLOW_THREAD_NAME_PREFIX + overflowThreadCount.incrementAndGet()).start();
+        });
+  }
+
+  private static Thread newDaemonThread(final Runnable runnable, final String name) {
+    final Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+
   /**
    * Connect a message to be consumed by LOGGER.info.
    *
@@ -109,6 +155,7 @@ public class LineGobbler implements VoidCallable {
 
   private final BufferedReader is;
   private final Consumer<String> consumer;
+  // only set when the gobbler owns its executor, which is then shut down once the stream is consumed
   private final ExecutorService executor;
   private final Map<String, String> mdc;
   private final String caller;
@@ -145,7 +192,11 @@ public class LineGobbler implements VoidCallable {
 
   @Override
   public void voidCall() {
-    MDC.setContextMap(mdc);
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    } else {
+      MDC.clear();
+    }
     try {
       String line = is.readLine();
       while (line != null) {
@@ -159,7 +210,11 @@ public class LineGobbler implements VoidCallable {
     } catch (final Exception e) {
       LOGGER.error("{} gobbler error when reading stream", caller, e);
     } finally {
-      executor.shutdown();
+      // pooled threads move on to other streams, which must not inherit this stream's context
+      MDC.clear();
+      if (executor != null) {
+        executor.shutdown();
+      }
     }
   }
 
@@ -5,6 +5,8 @@
 package io.airbyte.commons.io;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -16,11 +18,24 @@ import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.commons.logging.MdcScope.Builder;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.slf4j.MDC;
 
 class LineGobblerTest {
 
@@ -80,4 +95,91 @@ class LineGobblerTest {
     verify(consumer, times(0)).accept(anyString());
   }
 
+  @Test
+  void gobblesManyConcurrentStreamsWithoutQueueingThem() throws Exception {
+    final int maxThreads = 8;
+    final int streams = 200;
+    final ThreadPoolExecutor executor = LineGobbler.newExecutor(maxThreads);
+    try {
+      final List<PipedOutputStream> producers = new ArrayList<>();
+      final Map<Integer, List<String>> consumed = new ConcurrentHashMap<>();
+      final Map<Integer, String> mdcSeen = new ConcurrentHashMap<>();
+      for (int i = 0; i < streams; i++) {
+        final int stream = i;
+        final PipedOutputStream producer = new PipedOutputStream();
+        final PipedInputStream is = new PipedInputStream(producer);
+        producers.add(producer);
+        consumed.put(stream, Collections.synchronizedList(new ArrayList<>()));
+        MDC.put("stream", String.valueOf(stream));
+        LineGobbler.gobble(executor, is, line -> {
+          consumed.get(stream).add(line);
+          mdcSeen.put(stream, MDC.get("stream"));
+        }, "stream-" + stream, MdcScope.DEFAULT_BUILDER);
+        MDC.clear();
+      }
+
+      // every pool thread is blocked on an open stream, the other streams have a dedicated thread
+      assertEquals(maxThreads, executor.getPoolSize());
+      assertTrue(executor.getQueue().isEmpty());
+
+      final ExecutorService writers = Executors.newFixedThreadPool(16);
+      final List<Future<?>> writes = new ArrayList<>();
+      for (final PipedOutputStream producer : producers) {
+        writes.add(writers.submit(() -> {
+          try (producer) {
+            for (int line = 0; line < 100; line++) {
+              producer.write(("line " + line + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+          }
+          return null;
+        }));
+      }
+      for (final Future<?> write : writes) {
+        write.get(30, TimeUnit.SECONDS);
+      }
+      writers.shutdown();
+
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+      assertEquals(maxThreads, executor.getLargestPoolSize());
+      awaitUntil(() -> consumed.values().stream().allMatch(lines -> lines.size() == 100));
+      for (int i = 0; i < streams; i++) {
+        assertEquals(100, consumed.get(i).size());
+        assertEquals("line 99", consumed.get(i).get(99));
+        // each stream is consumed with the MDC of the thread that started gobbling it
+        assertEquals(String.valueOf(i), mdcSeen.get(i));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void gobblesNewStreamWhileEveryThreadIsBusy() throws Exception {
+    final ThreadPoolExecutor executor = LineGobbler.newExecutor(1);
+    final PipedOutputStream neverEnding = new PipedOutputStream();
+    try {
+      LineGobbler.gobble(executor, new PipedInputStream(neverEnding), line -> {}, "never-ending", MdcScope.DEFAULT_BUILDER);
+      assertEquals(1, executor.getPoolSize());
+
+      final List<String> consumed = Collections.synchronizedList(new ArrayList<>());
+      LineGobbler.gobble(executor, new ByteArrayInputStream("short\nstream\n".getBytes(StandardCharsets.UTF_8)), consumed::add, "short",
+          MdcScope.DEFAULT_BUILDER);
+
+      awaitUntil(() -> consumed.size() == 2);
+      assertEquals(List.of("short", "stream"), consumed);
+    } finally {
+      neverEnding.close();
+      executor.shutdownNow();
+    }
+  }
+
+  private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Timed out waiting for the streams to be consumed");
+      Thread.sleep(10);
+    }
+  }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a log stored as a sequence of cloud storage objects as one stream. Used by the S3 log client
+ * to download a log to a file without buffering whole objects.
+ *
+ * <p>
+ * Objects are streamed one after the other, so only the buffers of the open objects are held in
+ * memory no matter how large the log is. While an object is being read, the next one is opened in
+ * the background, so its first bytes are usually ready by the time the current object ends.
+ *
+ * @param <T> type of the stored objects
+ */
+@SuppressWarnings("PMD.CloseResource")
+final class CloudLogStream<T> extends InputStream {
+
+  // Each stream has at most one object being opened at a time. Prefetches beyond this many
+  // concurrent streams wait in the queue, and the threads go away once no log is being read.
+  private static final int PREFETCH_THREADS = 4;
+  private static final ThreadPoolExecutor PREFETCH_EXECUTOR = newPrefetchExecutor();
+
+  /**
+   * Opens a stored object for reading.
+   *
+   * @param <T> type of the stored objects
+   */
+  @FunctionalInterface
+  interface Opener<T> {
+
+    InputStream open(T object) throws IOException;
+
+  }
+
+  private final Iterator<T> objects;
+  private final Opener<T> opener;
+  private InputStream current;
+  private CompletableFuture<InputStream> next;
+  private boolean closed;
+
+  CloudLogStream(final List<T> ascendingObjects, final Opener<T> opener) {
+    this.objects = ascendingObjects.iterator();
+    this.opener = opener;
+    this.next = prefetchNext();
+  }
+
+  @Override
+  public int read() throws IOException {
+    final byte[] single = new byte[1];
+    final int read = read(single, 0, 1);
+    return read < 0 ? -1 : single[0] & 0xFF;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    if (len == 0) {
+      return 0;
+    }
+    while (current != null || next != null) {
+      if (current == null) {
+        current = await(next);
+        next = prefetchNext();
+      }
+      final int read = current.read(b, off, len);
+      if (read >= 0) {
+        return read;
+      }
+      current.close();
+      current = null;
+    }
+    return -1;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (next != null) {
+      // close the prefetched object whenever it finishes opening
+      next.thenAccept(CloudLogStream::closeQuietly);
+      next = null;
+    }
+    if (current != null) {
+      current.close();
+      current = null;
+    }
+  }
+
+  private CompletableFuture<InputStream> prefetchNext() {
+    if (!objects.hasNext()) {
+      return null;
+    }
+    final T object = objects.next();
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return opener.open(object);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }, PREFETCH_EXECUTOR);
+  }
+
+  private static ThreadPoolExecutor newPrefetchExecutor() {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(PREFETCH_THREADS, PREFETCH_THREADS, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder().setNameFormat("cloud-log-prefetch-%d").setDaemon(true).build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static InputStream await(final CompletableFuture<InputStream> future) throws IOException {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  private static void closeQuietly(final InputStream stream) {
+    try {
+      stream.close();
+    } catch (final IOException e) {
+      CloudLogs.LOGGER.debug("Unable to close prefetched log object", e);
+    }
+  }
+
+}
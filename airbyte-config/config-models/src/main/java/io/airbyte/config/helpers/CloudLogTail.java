@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reads the last lines of a log stored as a sequence of cloud storage objects, shared by the S3 and
+ * GCS log clients.
+ *
+ * <p>
+ * Objects are read backwards in ranged chunks, starting from the end of the newest object, and
+ * reading stops as soon as enough lines are collected. Only the chunks holding the tail are ever
+ * downloaded, and each line is copied once. Lines are collected newest first and reversed once at
+ * the end.
+ *
+ * <p>
+ * Each object holds whole lines: a line never spans two objects, and a newline at the very end of
+ * an object only terminates its last line.
+ */
+final class CloudLogTail {
+
+  static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+  private static final byte NEW_LINE = '\n';
+  private static final byte CARRIAGE_RETURN = '\r';
+  private static final byte[] EMPTY = new byte[0];
+
+  /**
+   * Reads a range of bytes of a stored object.
+   *
+   * @param <T> type of the stored objects
+   */
+  @FunctionalInterface
+  interface RangeReader<T> {
+
+    /**
+     * Read {@code length} bytes of the object, starting at {@code offset}.
+     */
+    byte[] read(T object, long offset, int length) throws IOException;
+
+  }
+
+  private CloudLogTail() {}
+
+  static <T> List<String> tail(final List<T> ascendingObjects,
+                               final ToLongFunction<T> sizeOf,
+                               final RangeReader<T> reader,
+                               final int numLines)
+      throws IOException {
+    return tail(ascendingObjects, sizeOf, reader, numLines, DEFAULT_CHUNK_SIZE);
+  }
+
+  static <T> List<String> tail(final List<T> ascendingObjects,
+                               final ToLongFunction<T> sizeOf,
+                               final RangeReader<T> reader,
+                               final int numLines,
+                               final int chunkSize)
+      throws IOException {
+    final var descendingLines = new ArrayList<String>();
+    for (var i = ascendingObjects.size() - 1; i >= 0 && descendingLines.size() < numLines; i--) {
+      readObjectBackwards(ascendingObjects.get(i), sizeOf.applyAsLong(ascendingObjects.get(i)), reader, numLines, chunkSize, descendingLines);
+    }
+    Collections.reverse(descendingLines);
+    return descendingLines;
+  }
+
+  private static <T> void readObjectBackwards(final T object,
+                                              final long size,
+                                              final RangeReader<T> reader,
+                                              final int numLines,
+                                              final int chunkSize,
+                                              final List<String> descendingLines)
+      throws IOException {
+    if (size <= 0) {
+      return;
+    }
+
+    // the start of the line that ends where the previously read chunk began
+    byte[] carry = EMPTY;
+    long end = size;
+    while (end > 0) {
+      final long start = Math.max(0, end - chunkSize);
+      final byte[] data = concat(reader.read(object, start, (int) (end - start)), carry);
+
+      int lineEnd = data.length;
+      if (end == size && data[lineEnd - 1] == NEW_LINE) {
+        lineEnd--;
+      }
+      for (var j = lineEnd - 1; j >= 0; j--) {
+        if (data[j] == NEW_LINE) {
+          descendingLines.add(decode(data, j + 1, lineEnd));
+          if (descendingLines.size() >= numLines) {
+            return;
+          }
+          lineEnd = j;
+        }
+      }
+
+      carry = lineEnd == data.length ? data : Arrays.copyOf(data, lineEnd);
+      end = start;
+    }
+    // the first line of the object has no newline in front of it
+    descendingLines.add(decode(carry, 0, carry.length));
+  }
+
+  private static byte[] concat(final byte[] first, final byte[] second) {
+    if (second.length == 0) {
+      return first;
+    }
+    final byte[] result = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+
+  private static String decode(final byte[] data, final int from, final int to) {
+    final int end = to > from && data[to - 1] == CARRIAGE_RETURN ? to - 1 : to;
+    return new String(data, from, end - from, StandardCharsets.UTF_8);
+  }
+
+}
@@ -5,18 +5,14 @@
 package io.airbyte.config.helpers;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.config.storage.CloudStorageConfigs;
 import io.airbyte.config.storage.CloudStorageConfigs.S3ApiWorkerStorageConfig;
 import io.airbyte.config.storage.CloudStorageConfigs.WorkerStorageType;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
@@ -29,11 +25,12 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
  * S3 logs.
  */
-@SuppressWarnings({"PMD.ShortVariable", "PMD.CloseResource", "PMD.AvoidFileStream"})
+@SuppressWarnings({"PMD.ShortVariable", "PMD.CloseResource"})
 public class S3Logs implements CloudLogs {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3Logs.class);
@@ -71,30 +68,34 @@ public class S3Logs implements CloudLogs {
   static File getFile(final S3Client s3Client, final LogConfigs configs, final String logPath, final int pageSize) throws IOException {
     LOGGER.debug("Retrieving logs from S3 path: {}", logPath);
 
-    final var s3Bucket = getBucketName(configs.getStorageConfigs());
     final var randomName = Strings.addRandomSuffix("logs", "-", 5);
     final var tmpOutputFile = new File("/tmp/" + randomName);
-    final var os = new FileOutputStream(tmpOutputFile);
+    try (final var is = getStream(s3Client, configs, logPath, pageSize)) {
+      Files.copy(is, tmpOutputFile.toPath());
+    }
+
+    LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
+    return tmpOutputFile;
+  }
 
+  private static InputStream getStream(final S3Client s3Client, final LogConfigs configs, final String logPath, final int pageSize) {
+    final var s3Bucket = getBucketName(configs.getStorageConfigs());
     LOGGER.debug("Start S3 list request.");
     final var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket)
         .prefix(logPath).maxKeys(pageSize).build();
-    LOGGER.debug("Start getting S3 objects.");
+    final var ascendingKeys = new ArrayList<String>();
     // Objects are returned in lexicographical order.
     for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
       for (final var objMetadata : page.contents()) {
-        final var getObjReq = GetObjectRequest.builder()
-            .key(objMetadata.key())
-            .bucket(s3Bucket)
-            .build();
-        final var data = s3Client.getObjectAsBytes(getObjReq).asByteArray();
-        os.write(data);
+        ascendingKeys.add(objMetadata.key());
       }
     }
-    os.close();
 
-    LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
-    return tmpOutputFile;
+    LOGGER.debug("Start getting S3 objects.");
+    return new CloudLogStream<>(ascendingKeys, key -> s3Client.getObject(GetObjectRequest.builder()
+        .key(key)
+        .bucket(s3Bucket)
+        .build()));
   }
 
   @Override
@@ -104,24 +105,11 @@ public class S3Logs implements CloudLogs {
 
     final var s3Bucket = getBucketName(configs.getStorageConfigs());
     LOGGER.debug("Start making S3 list request.");
-    final List<String> ascendingTimestampKeys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
-    final var descendingTimestampKeys = Lists.reverse(ascendingTimestampKeys);
-
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
+    final List<S3Object> ascendingTimestampObjs = getAscendingObjects(s3Client, logPath, s3Bucket);
 
     LOGGER.debug("Start getting S3 objects.");
-    while (linesRead <= numLines && !descendingTimestampKeys.isEmpty()) {
-      final var poppedKey = descendingTimestampKeys.remove(0);
-      final List<String> currFileLinesReversed = Lists.reverse(getCurrFile(s3Client, s3Bucket, poppedKey));
-      for (final var line : currFileLinesReversed) {
-        if (linesRead == numLines) {
-          break;
-        }
-        lines.add(0, line);
-        linesRead++;
-      }
-    }
+    final List<String> lines = CloudLogTail.tail(ascendingTimestampObjs, S3Object::size,
+        (obj, offset, length) -> getRange(s3Client, s3Bucket, obj.key(), offset, length), numLines);
 
     LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
     return lines;
@@ -156,35 +144,29 @@ public class S3Logs implements CloudLogs {
   }
 
   private static List<String> getAscendingObjectKeys(final S3Client s3Client, final String logPath, final String s3Bucket) {
+    return getAscendingObjects(s3Client, logPath, s3Bucket).stream().map(S3Object::key).collect(Collectors.toList());
+  }
+
+  private static List<S3Object> getAscendingObjects(final S3Client s3Client, final String logPath, final String s3Bucket) {
     final var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).build();
-    final var ascendingTimestampObjs = new ArrayList<String>();
+    final var ascendingTimestampObjs = new ArrayList<S3Object>();
 
     // Objects are returned in lexicographical order.
     for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
-      for (final var objMetadata : page.contents()) {
-        ascendingTimestampObjs.add(objMetadata.key());
-      }
+      ascendingTimestampObjs.addAll(page.contents());
     }
     return ascendingTimestampObjs;
   }
 
-  private static List<String> getCurrFile(final S3Client s3Client, final String s3Bucket, final String poppedKey) throws IOException {
+  private static byte[] getRange(final S3Client s3Client, final String s3Bucket, final String key, final long offset, final int length) {
     final var getObjReq = GetObjectRequest.builder()
-        .key(poppedKey)
+        .key(key)
         .bucket(s3Bucket)
+        // the end of an http byte range is inclusive
+        .range("bytes=" + offset + "-" + (offset + length - 1))
         .build();
 
-    final var data = s3Client.getObjectAsBytes(getObjReq).asByteArray();
-    final var is = new ByteArrayInputStream(data);
-    final var currentFileLines = new ArrayList<String>();
-    try (final var reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-      String temp = reader.readLine();
-      while (temp != null) {
-        currentFileLines.add(temp);
-        temp = reader.readLine();
-      }
-    }
-    return currentFileLines;
+    return s3Client.getObjectAsBytes(getObjReq).asByteArray();
   }
 
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CloudLogStreamTest {
+
+  private static InputStream open(final String contents) {
+    return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testStreamsObjectsInOrder() throws IOException {
+    try (final var stream = new CloudLogStream<>(List.of("line 1\n", "", "line 2\nline 3\n"), CloudLogStreamTest::open)) {
+      assertEquals("line 1\nline 2\nline 3\n", new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+      assertEquals(-1, stream.read());
+    }
+  }
+
+  @Test
+  void testEmptyLog() throws IOException {
+    try (final var stream = new CloudLogStream<>(List.<String>of(), CloudLogStreamTest::open)) {
+      assertEquals(-1, stream.read());
+    }
+  }
+
+  @Test
+  void testOpensNextObjectWhileReadingCurrent() throws Exception {
+    final var opened = new CopyOnWriteArrayList<String>();
+    final var secondOpened = new CountDownLatch(1);
+    try (final var stream = new CloudLogStream<>(List.of("first", "second"), contents -> {
+      opened.add(contents);
+      if ("second".equals(contents)) {
+        secondOpened.countDown();
+      }
+      return open(contents);
+    })) {
+      assertEquals('f', stream.read());
+      assertTrue(secondOpened.await(10, TimeUnit.SECONDS), "the next object should be opened before the current one is done");
+      assertEquals(List.of("first", "second"), opened);
+    }
+  }
+
+  @Test
+  void testOpenFailuresAreRethrown() throws IOException {
+    try (final var stream = new CloudLogStream<>(List.of("missing"), contents -> {
+      throw new IOException("not found: " + contents);
+    })) {
+      assertEquals("not found: missing", assertThrows(IOException.class, stream::read).getMessage());
+    }
+  }
+
+}
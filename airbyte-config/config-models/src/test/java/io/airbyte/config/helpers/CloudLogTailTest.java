@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CloudLogTailTest {
+
+  private final List<String> reads = new ArrayList<>();
+
+  private List<String> tail(final List<String> objects, final int numLines, final int chunkSize) throws IOException {
+    final List<byte[]> contents = objects.stream().map(o -> o.getBytes(StandardCharsets.UTF_8)).toList();
+    return CloudLogTail.tail(contents, c -> c.length, (c, offset, length) -> {
+      reads.add(contents.indexOf(c) + ":" + offset + "+" + length);
+      return Arrays.copyOfRange(c, (int) offset, (int) offset + length);
+    }, numLines, chunkSize);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 1024})
+  void testReturnsLastLinesInOrderForAnyChunkSize(final int chunkSize) throws IOException {
+    final var objects = List.of("line 1\nline 2\nline 3\n", "line 4\nline 5\nline 6\n", "line 7\nline 8\nline 9\n");
+
+    assertEquals(List.of("line 4", "line 5", "line 6", "line 7", "line 8", "line 9"), tail(objects, 6, chunkSize));
+    assertEquals(List.of("line 9"), tail(objects, 1, chunkSize));
+    assertEquals(List.of("line 1", "line 2", "line 3", "line 4", "line 5", "line 6", "line 7", "line 8", "line 9"),
+        tail(objects, 1000, chunkSize));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 5, 1024})
+  void testMatchesReadingLineByLine(final int chunkSize) throws IOException {
+    final var objects = List.of("", "first\n\nno trailing newline", "\n", "crlf\r\nünïcödé ✓\n");
+
+    assertEquals(List.of("first", "", "no trailing newline", "", "crlf", "ünïcödé ✓"), tail(objects, 100, chunkSize));
+  }
+
+  @Test
+  void testOnlyReadsTheChunksHoldingTheTail() throws IOException {
+    final var objects = List.of("old 1\nold 2\n", "aaaa\nbbbb\ncccc\n");
+
+    assertEquals(List.of("bbbb", "cccc"), tail(objects, 2, 5));
+    assertEquals(List.of("1:10+5", "1:5+5", "1:0+5"), reads);
+  }
+
+  @Test
+  void testNoLines() throws IOException {
+    assertEquals(List.of(), tail(List.of("line\n"), 0, 1024));
+    assertEquals(List.of(), tail(List.of(), 10, 1024));
+    assertEquals(List.of(), reads);
+  }
+
+}
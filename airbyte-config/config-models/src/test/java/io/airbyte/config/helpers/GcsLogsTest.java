@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
@@ -19,6 +20,7 @@ import io.airbyte.config.storage.CloudStorageConfigs;
 import io.airbyte.config.storage.CloudStorageConfigs.GcsConfig;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.Consumer;
@@ -71,11 +73,6 @@ class GcsLogsTest {
 
   @Test
   void testTailCloudLog() throws IOException {
-    final var blob1 = mock(Blob.class);
-    final var blob2 = mock(Blob.class);
-    final var blob3 = mock(Blob.class);
-
-    // Ensure the Blob mocks write to the outputstream that is passed to their downloadTo method.
     // The first blob will contain the file contents:
     // line 1
     // line 2
@@ -88,20 +85,9 @@ class GcsLogsTest {
     // line 7
     // line 8
     // line 9
-    doAnswer(i -> {
-      ((OutputStream) i.getArgument(0)).write("line 1\nline 2\nline 3\n".getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob1).downloadTo(Mockito.any(OutputStream.class));
-
-    doAnswer(i -> {
-      ((OutputStream) i.getArgument(0)).write("line 4\nline 5\nline 6\n".getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob2).downloadTo(Mockito.any(OutputStream.class));
-
-    doAnswer(i -> {
-      ((OutputStream) i.getArgument(0)).write("line 7\nline 8\nline 9\n".getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob3).downloadTo(Mockito.any(OutputStream.class));
+    final var blob1 = mockReadableBlob("line 1\nline 2\nline 3\n");
+    final var blob2 = mockReadableBlob("line 4\nline 5\nline 6\n");
+    final var blob3 = mockReadableBlob("line 7\nline 8\nline 9\n");
 
     when(storage.list(bucketName, Storage.BlobListOption.prefix(logPath))).thenReturn(page);
     when(page.iterateAll()).thenReturn(iterable);
@@ -208,4 +194,33 @@ class GcsLogsTest {
     assertEquals(expected, Files.readLines(logs, StandardCharsets.UTF_8));
   }
 
+  /**
+   * Mock a blob whose reader serves the given contents, from wherever it is seeked to.
+   */
+  private static Blob mockReadableBlob(final String contents) {
+    final byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+    final var blob = mock(Blob.class);
+    when(blob.getSize()).thenReturn((long) bytes.length);
+    when(blob.reader()).thenAnswer(r -> {
+      final var channel = mock(ReadChannel.class);
+      final long[] position = {0};
+      doAnswer(i -> {
+        position[0] = i.getArgument(0);
+        return null;
+      }).when(channel).seek(Mockito.anyLong());
+      when(channel.read(Mockito.any(ByteBuffer.class))).thenAnswer(i -> {
+        if (position[0] >= bytes.length) {
+          return -1;
+        }
+        final ByteBuffer buffer = i.getArgument(0);
+        final int length = (int) Math.min(buffer.remaining(), bytes.length - position[0]);
+        buffer.put(bytes, (int) position[0], length);
+        position[0] += length;
+        return length;
+      });
+      return channel;
+    });
+    return blob;
+  }
+
 }
@@ -6,6 +6,7 @@ package io.airbyte.config.persistence;
 
 import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.ActorType;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.ReleaseStage;
 import io.airbyte.config.SourceConnection;
@@ -22,11 +23,15 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import kotlin.Pair;
 import org.slf4j.Logger;
@@ -111,26 +116,27 @@ public class ActorDefinitionVersionHelper {
     return configRepository.getActorDefinitionVersion(versionId);
   }
 
-  /**
-   * Get the actor definition version to use for a source, and whether an override was applied.
-   *
-   * @param sourceDefinition source definition
-   * @param workspaceId workspace id
-   * @param actorId source id
-   * @return actor definition version with override status
-   */
-  public ActorDefinitionVersionWithOverrideStatus getSourceVersionWithOverrideStatus(final StandardSourceDefinition sourceDefinition,
-                                                                                     final UUID workspaceId,
-                                                                                     @Nullable final UUID actorId)
-      throws ConfigNotFoundException, IOException, JsonValidationException {
-    final ActorDefinitionVersion defaultVersion = getDefaultSourceVersion(sourceDefinition, workspaceId, actorId);
+  private ActorDefinitionVersionWithOverrideStatus applyOverride(final ActorType actorType,
+                                                                final UUID actorDefinitionId,
+                                                                final UUID workspaceId,
+                                                                @Nullable final UUID actorId,
+                                                                final ActorDefinitionVersion defaultVersion) {
+    return applyOverride(actorType, actorDefinitionId, workspaceId, actorId, defaultVersion,
+        featureFlagClient.boolVariation(EnableConfigurationOverrideProvider.INSTANCE, new Workspace(workspaceId)));
+  }
 
+  private ActorDefinitionVersionWithOverrideStatus applyOverride(final ActorType actorType,
+                                                                final UUID actorDefinitionId,
+                                                                final UUID workspaceId,
+                                                                @Nullable final UUID actorId,
+                                                                final ActorDefinitionVersion defaultVersion,
+                                                                final boolean useConfigOverrideProvider) {
     Optional<ActorDefinitionVersion> versionOverride = Optional.empty();
 
-    if (featureFlagClient.boolVariation(EnableConfigurationOverrideProvider.INSTANCE, new Workspace(workspaceId))) {
+    if (useConfigOverrideProvider) {
       versionOverride = configOverrideProvider.getOverride(
-          ActorType.SOURCE,
-          sourceDefinition.getSourceDefinitionId(),
+          actorType,
+          actorDefinitionId,
           workspaceId,
           actorId,
           defaultVersion);
@@ -138,8 +144,8 @@ public class ActorDefinitionVersionHelper {
 
     if (versionOverride.isEmpty()) {
       versionOverride = ffOverrideProvider.getOverride(
-          ActorType.SOURCE,
-          sourceDefinition.getSourceDefinitionId(),
+          actorType,
+          actorDefinitionId,
           workspaceId,
           actorId,
           defaultVersion);
@@ -148,6 +154,136 @@ public class ActorDefinitionVersionHelper {
     return new ActorDefinitionVersionWithOverrideStatus(versionOverride.orElse(defaultVersion), versionOverride.isPresent());
   }
 
+  /**
+   * Load the given default versions with a single query. The same version object is returned for
+   * every actor using it, so that its spec is only deserialized once per batch.
+   */
+  private Map<UUID, ActorDefinitionVersion> getVersionsById(final Collection<UUID> versionIds) throws IOException {
+    if (versionIds.isEmpty()) {
+      return Map.of();
+    }
+    return configRepository.getActorDefinitionVersions(List.copyOf(versionIds)).stream()
+        .collect(Collectors.toMap(ActorDefinitionVersion::getVersionId, Function.identity()));
+  }
+
+  private static ActorDefinitionVersion getLoadedVersion(final Map<UUID, ActorDefinitionVersion> versionsById, final UUID versionId)
+      throws ConfigNotFoundException {
+    final ActorDefinitionVersion version = versionsById.get(versionId);
+    if (version == null) {
+      throw new ConfigNotFoundException(ConfigSchema.ACTOR_DEFINITION_VERSION, versionId);
+    }
+    return version;
+  }
+
+  private boolean useConfigOverrideProvider(final Map<UUID, Boolean> configOverrideProviderByWorkspace, final UUID workspaceId) {
+    return configOverrideProviderByWorkspace.computeIfAbsent(workspaceId,
+        id -> featureFlagClient.boolVariation(EnableConfigurationOverrideProvider.INSTANCE, new Workspace(id)));
+  }
+
+  private UUID getDefaultVersionId(final Map<UUID, Boolean> actorScopedDefaultVersionsByWorkspace,
+                                   final UUID workspaceId,
+                                   final UUID actorDefaultVersionId,
+                                   final UUID definitionDefaultVersionId) {
+    final boolean useActorScopedDefaultVersion = actorScopedDefaultVersionsByWorkspace.computeIfAbsent(workspaceId,
+        id -> featureFlagClient.boolVariation(UseActorScopedDefaultVersions.INSTANCE, new Workspace(id)));
+    return useActorScopedDefaultVersion ? actorDefaultVersionId : definitionDefaultVersionId;
+  }
+
+  /**
+   * Get the actor definition versions to use for a batch of sources. This is equivalent to calling
+   * {@link #getSourceVersion(StandardSourceDefinition, UUID, UUID)} for each source, but the default
+   * versions of all the sources are loaded with a single query. Overrides are still resolved for each
+   * source, as they can be scoped to a single actor.
+   *
+   * @param sources sources
+   * @param definitionsBySourceId source definition of each source, by source id
+   * @return actor definition version by source id
+   * @throws ConfigNotFoundException if the default version of a source does not exist
+   */
+  public Map<UUID, ActorDefinitionVersion> getSourceVersions(final List<SourceConnection> sources,
+                                                             final Map<UUID, StandardSourceDefinition> definitionsBySourceId)
+      throws IOException, ConfigNotFoundException {
+    final Map<UUID, Boolean> actorScopedDefaultVersionsByWorkspace = new HashMap<>();
+    final Map<UUID, UUID> defaultVersionIdBySourceId = new HashMap<>();
+    for (final SourceConnection source : sources) {
+      final StandardSourceDefinition sourceDefinition = definitionsBySourceId.get(source.getSourceId());
+      final UUID versionId = getDefaultVersionId(actorScopedDefaultVersionsByWorkspace, source.getWorkspaceId(),
+          source.getDefaultVersionId(), sourceDefinition.getDefaultVersionId());
+      if (versionId == null) {
+        throw new RuntimeException(String.format("Default version for source is not set (Definition ID: %s, Source ID: %s)",
+            sourceDefinition.getSourceDefinitionId(), source.getSourceId()));
+      }
+      defaultVersionIdBySourceId.put(source.getSourceId(), versionId);
+    }
+
+    final Map<UUID, ActorDefinitionVersion> versionsById = getVersionsById(new HashSet<>(defaultVersionIdBySourceId.values()));
+    final Map<UUID, Boolean> configOverrideProviderByWorkspace = new HashMap<>();
+    final Map<UUID, ActorDefinitionVersion> versionsBySourceId = new HashMap<>();
+    for (final SourceConnection source : sources) {
+      final ActorDefinitionVersion defaultVersion = getLoadedVersion(versionsById, defaultVersionIdBySourceId.get(source.getSourceId()));
+      versionsBySourceId.put(source.getSourceId(), applyOverride(ActorType.SOURCE, source.getSourceDefinitionId(), source.getWorkspaceId(),
+          source.getSourceId(), defaultVersion, useConfigOverrideProvider(configOverrideProviderByWorkspace, source.getWorkspaceId()))
+              .actorDefinitionVersion());
+    }
+    return versionsBySourceId;
+  }
+
+  /**
+   * Get the actor definition versions to use for a batch of destinations. This is equivalent to
+   * calling {@link #getDestinationVersion(StandardDestinationDefinition, UUID, UUID)} for each
+   * destination, but the default versions of all the destinations are loaded with a single query.
+   * Overrides are still resolved for each destination, as they can be scoped to a single actor.
+   *
+   * @param destinations destinations
+   * @param definitionsByDestinationId destination definition of each destination, by destination id
+   * @return actor definition version by destination id
+   * @throws ConfigNotFoundException if the default version of a destination does not exist
+   */
+  public Map<UUID, ActorDefinitionVersion> getDestinationVersions(final List<DestinationConnection> destinations,
+                                                                  final Map<UUID, StandardDestinationDefinition> definitionsByDestinationId)
+      throws IOException, ConfigNotFoundException {
+    final Map<UUID, Boolean> actorScopedDefaultVersionsByWorkspace = new HashMap<>();
+    final Map<UUID, UUID> defaultVersionIdByDestinationId = new HashMap<>();
+    for (final DestinationConnection destination : destinations) {
+      final StandardDestinationDefinition destinationDefinition = definitionsByDestinationId.get(destination.getDestinationId());
+      final UUID versionId = getDefaultVersionId(actorScopedDefaultVersionsByWorkspace, destination.getWorkspaceId(),
+          destination.getDefaultVersionId(), destinationDefinition.getDefaultVersionId());
+      if (versionId == null) {
+        throw new RuntimeException(String.format("Default version for destination is not set (Definition ID: %s, Destination ID: %s)",
+            destinationDefinition.getDestinationDefinitionId(), destination.getDestinationId()));
+      }
+      defaultVersionIdByDestinationId.put(destination.getDestinationId(), versionId);
+    }
+
+    final Map<UUID, ActorDefinitionVersion> versionsById = getVersionsById(new HashSet<>(defaultVersionIdByDestinationId.values()));
+    final Map<UUID, Boolean> configOverrideProviderByWorkspace = new HashMap<>();
+    final Map<UUID, ActorDefinitionVersion> versionsByDestinationId = new HashMap<>();
+    for (final DestinationConnection destination : destinations) {
+      final ActorDefinitionVersion defaultVersion =
+          getLoadedVersion(versionsById, defaultVersionIdByDestinationId.get(destination.getDestinationId()));
+      versionsByDestinationId.put(destination.getDestinationId(), applyOverride(ActorType.DESTINATION, destination.getDestinationDefinitionId(),
+          destination.getWorkspaceId(), destination.getDestinationId(), defaultVersion,
+          useConfigOverrideProvider(configOverrideProviderByWorkspace, destination.getWorkspaceId())).actorDefinitionVersion());
+    }
+    return versionsByDestinationId;
+  }
+
+  /**
+   * Get the actor definition version to use for a source, and whether an override was applied.
+   *
+   * @param sourceDefinition source definition
+   * @param workspaceId workspace id
+   * @param actorId source id
+   * @return actor definition version with override status
+   */
+  public ActorDefinitionVersionWithOverrideStatus getSourceVersionWithOverrideStatus(final StandardSourceDefinition sourceDefinition,
+                                                                                     final UUID workspaceId,
+                                                                                     @Nullable final UUID actorId)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final ActorDefinitionVersion defaultVersion = getDefaultSourceVersion(sourceDefinition, workspaceId, actorId);
+    return applyOverride(ActorType.SOURCE, sourceDefinition.getSourceDefinitionId(), workspaceId, actorId, defaultVersion);
+  }
+
   /**
    * Get the actor definition version to use for a source.
    *
@@ -188,28 +324,7 @@ public class ActorDefinitionVersionHelper {
                                                                                           @Nullable final UUID actorId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final ActorDefinitionVersion defaultVersion = getDefaultDestinationVersion(destinationDefinition, workspaceId, actorId);
-
-    Optional<ActorDefinitionVersion> versionOverride = Optional.empty();
-
-    if (featureFlagClient.boolVariation(EnableConfigurationOverrideProvider.INSTANCE, new Workspace(workspaceId))) {
-      versionOverride = configOverrideProvider.getOverride(
-          ActorType.DESTINATION,
-          destinationDefinition.getDestinationDefinitionId(),
-          workspaceId,
-          actorId,
-          defaultVersion);
-    }
-
-    if (versionOverride.isEmpty()) {
-      versionOverride = ffOverrideProvider.getOverride(
-          ActorType.DESTINATION,
-          destinationDefinition.getDestinationDefinitionId(),
-          workspaceId,
-          actorId,
-          defaultVersion);
-    }
-
-    return new ActorDefinitionVersionWithOverrideStatus(versionOverride.orElse(defaultVersion), versionOverride.isPresent());
+    return applyOverride(ActorType.DESTINATION, destinationDefinition.getDestinationDefinitionId(), workspaceId, actorId, defaultVersion);
   }
 
   /**
@@ -40,6 +40,9 @@ import io.airbyte.data.services.OperationService;
 import io.airbyte.data.services.OrganizationService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.data.services.shared.ConnectionSearchQuery;
+import io.airbyte.data.services.shared.ConnectionSummary;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConnectorSpecification;
@@ -543,6 +546,17 @@ public class ConfigRepository {
     }
   }
 
+  /**
+   * Update multiple source definitions in one transaction. The definitions must already exist.
+   *
+   * @param sourceDefinitions source definitions
+   * @throws IOException - you never know when you IO
+   */
+  @Deprecated
+  public void updateStandardSourceDefinitions(final List<StandardSourceDefinition> sourceDefinitions) throws IOException {
+    sourceService.updateStandardSourceDefinitions(sourceDefinitions);
+  }
+
   /**
    * Update the docker image tag for multiple actor definitions at once.
    *
@@ -665,6 +679,17 @@ public class ConfigRepository {
     }
   }
 
+  /**
+   * Update multiple destination definitions in one transaction. The definitions must already exist.
+   *
+   * @param destinationDefinitions destination definitions
+   * @throws IOException - you never know when you IO
+   */
+  @Deprecated
+  public void updateStandardDestinationDefinitions(final List<StandardDestinationDefinition> destinationDefinitions) throws IOException {
+    destinationService.updateStandardDestinationDefinitions(destinationDefinitions);
+  }
+
   /**
    * Write metadata for a destination connector. Writes global metadata (destination definition) and
    * versioned metadata (info for actor definition version to set as default). Sets the new version as
@@ -948,6 +973,18 @@ public class ConfigRepository {
     return sourceService.listWorkspaceSourceConnection(workspaceId);
   }
 
+  /**
+   * Returns the sources matching a search. Does not contain secrets.
+   *
+   * @param actorSearchQuery - search criteria and pagination
+   * @return sources
+   * @throws IOException - you never know when you IO
+   */
+  @Deprecated
+  public List<SourceConnection> searchSourceConnections(final ActorSearchQuery actorSearchQuery) throws IOException {
+    return sourceService.searchSourceConnections(actorSearchQuery);
+  }
+
   /**
    * Returns all sources for a set of workspaces. Does not contain secrets.
    *
@@ -1024,6 +1061,18 @@ public class ConfigRepository {
     return destinationService.listWorkspaceDestinationConnection(workspaceId);
   }
 
+  /**
+   * Returns the destinations matching a search. Does not contain secrets.
+   *
+   * @param actorSearchQuery - search criteria and pagination
+   * @return destinations
+   * @throws IOException - you never know when you IO
+   */
+  @Deprecated
+  public List<DestinationConnection> searchDestinationConnections(final ActorSearchQuery actorSearchQuery) throws IOException {
+    return destinationService.searchDestinationConnections(actorSearchQuery);
+  }
+
   /**
    * Returns all destinations for a list of workspaces. Does not contain secrets.
    *
@@ -1184,6 +1233,35 @@ public class ConfigRepository {
     return connectionService.listWorkspaceStandardSyncs(query);
   }
 
+  /**
+   * List summaries of the connections for workspace via a query, without their configured catalog.
+   *
+   * @param standardSyncQuery query
+   * @return list of connection summaries
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public List<ConnectionSummary> listWorkspaceConnectionSummaries(final StandardSyncQuery standardSyncQuery) throws IOException {
+    final var query = new io.airbyte.data.services.shared.StandardSyncQuery(
+        standardSyncQuery.workspaceId(),
+        standardSyncQuery.sourceId(),
+        standardSyncQuery.destinationId(),
+        standardSyncQuery.includeDeleted());
+    return connectionService.listWorkspaceConnectionSummaries(query);
+  }
+
+  /**
+   * Search connections across all workspaces.
+   *
+   * @param connectionSearchQuery search criteria and pagination
+   * @return non-deprecated connections matching the search
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public List<StandardSync> searchStandardSyncs(final ConnectionSearchQuery connectionSearchQuery) throws IOException {
+    return connectionService.searchStandardSyncs(connectionSearchQuery);
+  }
+
   /**
    * List connection IDs for active syncs based on the given query.
    *
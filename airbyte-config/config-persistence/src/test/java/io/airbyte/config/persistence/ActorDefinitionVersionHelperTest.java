@@ -167,6 +167,51 @@ class ActorDefinitionVersionHelperTest {
     verify(mFFOverrideProvider).getOverride(ActorType.SOURCE, ACTOR_DEFINITION_ID, WORKSPACE_ID, ACTOR_ID, DEFAULT_VERSION);
   }
 
+  @Test
+  void testGetSourceVersions() throws IOException, ConfigNotFoundException {
+    final UUID overriddenSourceId = UUID.randomUUID();
+    final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
+        .withSourceDefinitionId(ACTOR_DEFINITION_ID)
+        .withDefaultVersionId(DEFAULT_VERSION_ID);
+    final SourceConnection source = new SourceConnection()
+        .withSourceId(ACTOR_ID)
+        .withSourceDefinitionId(ACTOR_DEFINITION_ID)
+        .withWorkspaceId(WORKSPACE_ID);
+    final SourceConnection overriddenSource = new SourceConnection()
+        .withSourceId(overriddenSourceId)
+        .withSourceDefinitionId(ACTOR_DEFINITION_ID)
+        .withWorkspaceId(WORKSPACE_ID);
+
+    when(mConfigRepository.getActorDefinitionVersions(List.of(DEFAULT_VERSION_ID))).thenReturn(List.of(DEFAULT_VERSION));
+    when(mFFOverrideProvider.getOverride(ActorType.SOURCE, ACTOR_DEFINITION_ID, WORKSPACE_ID, overriddenSourceId, DEFAULT_VERSION))
+        .thenReturn(Optional.of(OVERRIDDEN_VERSION));
+
+    final Map<UUID, ActorDefinitionVersion> versions = actorDefinitionVersionHelper.getSourceVersions(
+        List.of(source, overriddenSource),
+        Map.of(ACTOR_ID, sourceDefinition, overriddenSourceId, sourceDefinition));
+
+    assertEquals(Map.of(ACTOR_ID, DEFAULT_VERSION, overriddenSourceId, OVERRIDDEN_VERSION), versions);
+    // the default version shared by both sources is only loaded once
+    verify(mConfigRepository).getActorDefinitionVersions(List.of(DEFAULT_VERSION_ID));
+    verify(mConfigRepository, times(0)).getActorDefinitionVersion(any());
+  }
+
+  @Test
+  void testGetDestinationVersionsWithMissingDefaultVersion() throws IOException {
+    final StandardDestinationDefinition destinationDefinition = new StandardDestinationDefinition()
+        .withDestinationDefinitionId(ACTOR_DEFINITION_ID)
+        .withDefaultVersionId(DEFAULT_VERSION_ID);
+    final DestinationConnection destination = new DestinationConnection()
+        .withDestinationId(ACTOR_ID)
+        .withDestinationDefinitionId(ACTOR_DEFINITION_ID)
+        .withWorkspaceId(WORKSPACE_ID);
+
+    when(mConfigRepository.getActorDefinitionVersions(List.of(DEFAULT_VERSION_ID))).thenReturn(List.of());
+
+    assertThrows(ConfigNotFoundException.class,
+        () -> actorDefinitionVersionHelper.getDestinationVersions(List.of(destination), Map.of(ACTOR_ID, destinationDefinition)));
+  }
+
   @Test
   void testGetSourceVersionForWorkspace() throws ConfigNotFoundException, IOException, JsonValidationException {
     final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
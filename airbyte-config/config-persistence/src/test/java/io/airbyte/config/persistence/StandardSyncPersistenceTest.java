@@ -49,6 +49,9 @@ import io.airbyte.data.services.impls.jooq.OperationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.OrganizationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.SourceServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.WorkspaceServiceJooqImpl;
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.data.services.shared.ConnectionSearchQuery;
+import io.airbyte.data.services.shared.ConnectionSummary;
 import io.airbyte.db.instance.configs.jooq.generated.enums.AutoPropagationStatus;
 import io.airbyte.db.instance.configs.jooq.generated.enums.NotificationType;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.NotificationConfigurationRecord;
@@ -64,6 +67,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -384,6 +388,65 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(activeSyncsForDestination1.get(0), sync1.getConnectionId());
   }
 
+  @Test
+  void testListWorkspaceConnectionSummaries() throws JsonValidationException, IOException {
+    createBaseObjects();
+
+    final StandardSync sync1 = createStandardSync(source1, destination1);
+    standardSyncPersistence.writeStandardSync(sync1);
+
+    final StandardSync sync2 = createStandardSync(source2, destination2);
+    standardSyncPersistence.writeStandardSync(sync2);
+
+    final StandardSyncQuery syncQueryBySource = new StandardSyncQuery(workspaceId, List.of(source1.getSourceId()), null, false);
+    final List<ConnectionSummary> summaries = configRepository.listWorkspaceConnectionSummaries(syncQueryBySource);
+
+    final ConnectionSummary expectedSummary = new ConnectionSummary(
+        sync1.getConnectionId(),
+        sync1.getName(),
+        sync1.getSourceId(),
+        sync1.getDestinationId(),
+        sync1.getStatus(),
+        sync1.getManual(),
+        sync1.getSchedule(),
+        sync1.getScheduleType(),
+        sync1.getScheduleData(),
+        sync1.getSourceCatalogId(),
+        sync1.getBreakingChange());
+    assertEquals(List.of(expectedSummary), summaries);
+  }
+
+  @Test
+  void testSearchStandardSyncs() throws JsonValidationException, IOException {
+    createBaseObjects();
+
+    final StandardSync sync1 = createStandardSync(source1, destination1);
+    standardSyncPersistence.writeStandardSync(sync1);
+
+    final StandardSync sync2 = createStandardSync(source2, destination2);
+    standardSyncPersistence.writeStandardSync(sync2);
+
+    final StandardSync sync1Deprecated = createStandardSync(source1, destination1);
+    standardSyncPersistence.writeStandardSync(sync1Deprecated.withStatus(Status.DEPRECATED));
+
+    final List<StandardSync> bySource = configRepository.searchStandardSyncs(
+        new ConnectionSearchQuery(null, null, source1.getSourceId(), null, null, null, null, null, null));
+    assertEquals(List.of(sync1.getConnectionId()), bySource.stream().map(StandardSync::getConnectionId).toList());
+
+    final List<StandardSync> byDestinationDefinition = configRepository.searchStandardSyncs(
+        new ConnectionSearchQuery(null, null, null, null, Status.ACTIVE, null,
+            new ActorSearchQuery(null, destDef2.getDestinationDefinitionId(), workspaceId, null, null, null), null, null));
+    assertEquals(List.of(sync2.getConnectionId()), byDestinationDefinition.stream().map(StandardSync::getConnectionId).toList());
+
+    final List<UUID> firstPage = configRepository.searchStandardSyncs(
+        new ConnectionSearchQuery(null, null, null, null, null, null, null, 1, 0)).stream().map(StandardSync::getConnectionId).toList();
+    final List<UUID> secondPage = configRepository.searchStandardSyncs(
+        new ConnectionSearchQuery(null, null, null, null, null, null, null, 1, 1)).stream().map(StandardSync::getConnectionId).toList();
+    assertEquals(1, firstPage.size());
+    assertEquals(1, secondPage.size());
+    assertEquals(Set.of(sync1.getConnectionId(), sync2.getConnectionId()), Set.of(firstPage.get(0), secondPage.get(0)));
+  }
+
   @Test
   void testDisableConnectionsById() throws IOException, JsonValidationException, ConfigNotFoundException {
     createBaseObjects();
@@ -10,14 +10,10 @@ import com.fasterxml.jackson.databind.node.ObjectNode
 import com.google.common.annotations.VisibleForTesting
 import com.google.common.base.Preconditions
 import io.airbyte.commons.constants.AirbyteSecretConstants
-import io.airbyte.commons.json.JsonPaths
-import io.airbyte.commons.json.JsonSchemas
 import io.airbyte.commons.json.Jsons
-import io.airbyte.commons.util.MoreIterators
 import io.airbyte.validation.json.JsonSchemaValidator
 import io.github.oshai.kotlinlogging.KotlinLogging
 import java.util.Optional
-import java.util.stream.Collectors
 
 private val logger = KotlinLogging.logger {}
 
@@ -42,26 +38,8 @@ class JsonSecretsProcessor(val copySecrets: Boolean = false) {
       json: JsonNode,
       schema: JsonNode?,
     ): JsonNode {
-      val pathsWithSecrets =
-        JsonSchemas.collectPathsThatMeetCondition(
-          schema,
-        ) { node: JsonNode ->
-          MoreIterators.toList(node.fields())
-            .stream()
-            .anyMatch { (key): Map.Entry<String, JsonNode> -> AirbyteSecretConstants.AIRBYTE_SECRET_FIELD == key }
-        }
-          .stream()
-          .map { jsonSchemaPath: List<JsonSchemas.FieldNameOrList?>? ->
-            JsonPaths.mapJsonSchemaPathToJsonPath(
-              jsonSchemaPath,
-            )
-          }
-          .collect(Collectors.toSet())
-      var copy = Jsons.clone(json)
-      for (path in pathsWithSecrets) {
-        copy = JsonPaths.replaceAtString(copy, path, AirbyteSecretConstants.SECRETS_MASK)
-      }
-      return copy
+      val mask = Jsons.jsonNode(AirbyteSecretConstants.SECRETS_MASK)
+      return SecretPaths.forSpec(schema).replaceInPlace(Jsons.clone(json), null) { _, _ -> mask }
     }
 
     fun isSecret(obj: JsonNode): Boolean {
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.node.ArrayNode
+import com.fasterxml.jackson.databind.node.ObjectNode
+import com.google.common.cache.CacheBuilder
+import com.google.common.cache.CacheLoader
+import com.google.common.cache.LoadingCache
+import io.airbyte.commons.constants.AirbyteSecretConstants
+import io.airbyte.commons.json.JsonPaths
+import io.airbyte.commons.json.JsonSchemas
+import io.airbyte.commons.util.MoreIterators
+
+/**
+ * The locations of every airbyte_secret field declared by a connector spec, compiled once per spec.
+ *
+ * Finding the secrets of a spec means walking the whole json schema, and applying them through
+ * JsonPath means parsing a path string and cloning the config for every secret. Specs only change
+ * with the actor definition version, so the compiled paths are cached by spec content and applied
+ * by walking the config directly. Each path only visits the nodes along it.
+ */
+internal class SecretPaths private constructor(
+  private val paths: List<CompiledPath>,
+) {
+  /**
+   * JsonPaths of the secrets, unique and in ascending alphabetical order.
+   */
+  val jsonPaths: List<String> = paths.map { it.jsonPath }
+
+  /**
+   * Replace every secret found in the config, in the order of [jsonPaths]. The config is modified in
+   * place.
+   *
+   * @param config config to replace secrets in. must be a copy owned by the caller.
+   * @param persistedConfig config to read the node at the same location from, if any
+   * @param replacement given the secret node and the node at the same location in the persisted
+   * config, returns the node to put in place of the secret
+   * @return the config, which is the same instance as the one passed in
+   */
+  fun replaceInPlace(
+    config: JsonNode,
+    persistedConfig: JsonNode?,
+    replacement: (JsonNode, JsonNode?) -> JsonNode,
+  ): JsonNode {
+    for (path in paths) {
+      // an empty path would point at the whole config, which json path never replaces either
+      if (path.segments.isNotEmpty()) {
+        replaceAt(config, persistedConfig, path.segments, 0, replacement)
+      }
+    }
+    return config
+  }
+
+  private fun replaceAt(
+    node: JsonNode,
+    persistedNode: JsonNode?,
+    segments: List<JsonSchemas.FieldNameOrList>,
+    index: Int,
+    replacement: (JsonNode, JsonNode?) -> JsonNode,
+  ) {
+    val segment = segments[index]
+    val isLast = index == segments.size - 1
+    if (segment.isList) {
+      if (node !is ArrayNode) {
+        return
+      }
+      for (i in 0 until node.size()) {
+        if (isLast) {
+          node.set(i, replacement(node[i], persistedNode?.get(i)))
+        } else {
+          replaceAt(node[i], persistedNode?.get(i), segments, index + 1, replacement)
+        }
+      }
+    } else {
+      val child = (node as? ObjectNode)?.get(segment.fieldName) ?: return
+      if (isLast) {
+        node.set<JsonNode>(segment.fieldName, replacement(child, persistedNode?.get(segment.fieldName)))
+      } else {
+        replaceAt(child, persistedNode?.get(segment.fieldName), segments, index + 1, replacement)
+      }
+    }
+  }
+
+  private data class CompiledPath(val jsonPath: String, val segments: List<JsonSchemas.FieldNameOrList>)
+
+  companion object {
+    private const val MAX_CACHED_SPECS = 1000L
+
+    private val cache: LoadingCache<JsonNode, SecretPaths> =
+      CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_SPECS)
+        .build(CacheLoader.from { spec: JsonNode -> compile(spec) })
+
+    /**
+     * Get the compiled secret paths of a spec. Specs with the same content share the same instance.
+     */
+    fun forSpec(spec: JsonNode?): SecretPaths {
+      if (spec == null) {
+        return compile(null)
+      }
+      val cached = cache.getIfPresent(spec)
+      if (cached != null) {
+        return cached
+      }
+      // key on a copy so later changes to the caller's spec can't corrupt the cache
+      return cache.getUnchecked(spec.deepCopy())
+    }
+
+    private fun compile(spec: JsonNode?): SecretPaths {
+      val paths =
+        JsonSchemas.collectPathsThatMeetCondition(spec) { node: JsonNode ->
+          MoreIterators.toList(node.fields())
+            .stream()
+            .anyMatch { (key): Map.Entry<String, JsonNode> -> AirbyteSecretConstants.AIRBYTE_SECRET_FIELD == key }
+        }
+          .map { CompiledPath(JsonPaths.mapJsonSchemaPathToJsonPath(it), it.toList()) }
+          .distinctBy { it.jsonPath }
+          .sortedBy { it.jsonPath }
+      return SecretPaths(paths)
+    }
+  }
+}
@@ -10,11 +10,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory
 import com.fasterxml.jackson.databind.node.ObjectNode
 import com.fasterxml.jackson.databind.node.TextNode
 import com.google.common.annotations.VisibleForTesting
-import io.airbyte.commons.constants.AirbyteSecretConstants
-import io.airbyte.commons.json.JsonPaths
-import io.airbyte.commons.json.JsonSchemas
 import io.airbyte.commons.json.Jsons
-import io.airbyte.commons.util.MoreIterators
 import io.airbyte.config.secrets.persistence.ReadOnlySecretPersistence
 import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence
 import io.airbyte.config.secrets.persistence.SecretPersistence
@@ -219,24 +215,7 @@ object SecretsHelpers {
    * return in an ascending alphabetical order.
    */
   fun getSortedSecretPaths(spec: JsonNode?): List<String> {
-    return JsonSchemas.collectPathsThatMeetCondition(
-      spec,
-    ) { node: JsonNode ->
-      MoreIterators.toList(
-        node.fields(),
-      )
-        .stream()
-        .anyMatch { (key): Map.Entry<String, JsonNode> -> AirbyteSecretConstants.AIRBYTE_SECRET_FIELD == key }
-    }
-      .stream()
-      .map { jsonSchemaPath: List<JsonSchemas.FieldNameOrList?>? ->
-        JsonPaths.mapJsonSchemaPathToJsonPath(
-          jsonSchemaPath,
-        )
-      }
-      .distinct()
-      .sorted()
-      .toList()
+    return SecretPaths.forSpec(spec).jsonPaths
   }
 
   private fun getExistingCoordinateIfExists(json: JsonNode?): String? {
@@ -293,34 +272,29 @@ object SecretsHelpers {
     newFullConfig: JsonNode,
     spec: JsonNode?,
   ): SplitSecretConfig {
-    var fullConfigCopy = newFullConfig.deepCopy<JsonNode>()
     val secretMap: HashMap<SecretCoordinate, String> =
       HashMap<SecretCoordinate, String>()
-    val paths = getSortedSecretPaths(spec)
-    logger.debug { "SortedSecretPaths: $paths" }
-    for (path in paths) {
-      fullConfigCopy =
-        JsonPaths.replaceAt(
-          fullConfigCopy,
-          path,
-        ) { json: JsonNode, pathOfNode: String? ->
-          val persistedNode =
-            JsonPaths.getSingleValue(persistedPartialConfig, pathOfNode)
-          val coordinate: SecretCoordinate =
-            getOrCreateCoordinate(
-              secretReader,
-              workspaceId,
-              uuidSupplier,
-              json,
-              persistedNode.orElse(null),
-            )
-          secretMap[coordinate] = json.asText()
-          Jsons.jsonNode(
-            mapOf(COORDINATE_FIELD to coordinate.fullCoordinate),
+    val secretPaths = SecretPaths.forSpec(spec)
+    logger.debug { "SortedSecretPaths: ${secretPaths.jsonPaths}" }
+    val partialConfig =
+      secretPaths.replaceInPlace(
+        newFullConfig.deepCopy<JsonNode>(),
+        persistedPartialConfig,
+      ) { json: JsonNode, persistedNode: JsonNode? ->
+        val coordinate: SecretCoordinate =
+          getOrCreateCoordinate(
+            secretReader,
+            workspaceId,
+            uuidSupplier,
+            json,
+            persistedNode,
           )
-        }
-    }
-    return SplitSecretConfig(fullConfigCopy, secretMap)
+        secretMap[coordinate] = json.asText()
+        Jsons.jsonNode(
+          mapOf(COORDINATE_FIELD to coordinate.fullCoordinate),
+        )
+      }
+    return SplitSecretConfig(partialConfig, secretMap)
   }
 
   /**
@@ -353,34 +327,29 @@ object SecretsHelpers {
     spec: JsonNode?,
     runtimeSecretPersistence: RuntimeSecretPersistence,
   ): SplitSecretConfig {
-    var fullConfigCopy = newFullConfig.deepCopy<JsonNode>()
     val secretMap: HashMap<SecretCoordinate, String> =
       HashMap<SecretCoordinate, String>()
-    val paths = getSortedSecretPaths(spec)
-    logger.debug { "SortedSecretPaths: $paths" }
-    for (path in paths) {
-      fullConfigCopy =
-        JsonPaths.replaceAt(
-          fullConfigCopy,
-          path,
-        ) { json: JsonNode, pathOfNode: String? ->
-          val persistedNode =
-            JsonPaths.getSingleValue(persistedPartialConfig, pathOfNode)
-          val coordinate: SecretCoordinate =
-            getOrCreateCoordinate(
-              runtimeSecretPersistence,
-              workspaceId,
-              uuidSupplier,
-              json,
-              persistedNode.orElse(null),
-            )
-          secretMap[coordinate] = json.asText()
-          Jsons.jsonNode(
-            mapOf(COORDINATE_FIELD to coordinate.fullCoordinate),
+    val secretPaths = SecretPaths.forSpec(spec)
+    logger.debug { "SortedSecretPaths: ${secretPaths.jsonPaths}" }
+    val partialConfig =
+      secretPaths.replaceInPlace(
+        newFullConfig.deepCopy<JsonNode>(),
+        persistedPartialConfig,
+      ) { json: JsonNode, persistedNode: JsonNode? ->
+        val coordinate: SecretCoordinate =
+          getOrCreateCoordinate(
+            runtimeSecretPersistence,
+            workspaceId,
+            uuidSupplier,
+            json,
+            persistedNode,
           )
-        }
-    }
-    return SplitSecretConfig(fullConfigCopy, secretMap)
+        secretMap[coordinate] = json.asText()
+        Jsons.jsonNode(
+          mapOf(COORDINATE_FIELD to coordinate.fullCoordinate),
+        )
+      }
+    return SplitSecretConfig(partialConfig, secretMap)
   }
 
   /**
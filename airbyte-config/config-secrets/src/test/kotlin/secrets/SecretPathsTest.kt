@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets
+
+import com.fasterxml.jackson.databind.node.ObjectNode
+import io.airbyte.commons.json.Jsons
+import org.junit.jupiter.api.Assertions
+import org.junit.jupiter.api.Test
+
+internal class SecretPathsTest {
+  companion object {
+    private val SPEC =
+      Jsons.deserialize(
+        """
+        {
+          "type": "object",
+          "properties": {
+            "password": { "type": "string", "airbyte_secret": true },
+            "tunnel": {
+              "type": "object",
+              "properties": {
+                "key": { "type": "string", "airbyte_secret": true }
+              }
+            },
+            "tokens": {
+              "type": "array",
+              "items": { "type": "string", "airbyte_secret": true }
+            }
+          }
+        }
+        """.trimIndent(),
+      )
+  }
+
+  @Test
+  fun `specs with the same content share compiled paths`() {
+    val secretPaths = SecretPaths.forSpec(SPEC)
+
+    Assertions.assertSame(secretPaths, SecretPaths.forSpec(SPEC.deepCopy()))
+    Assertions.assertEquals(listOf("$.password", "$.tokens[*]", "$.tunnel.key"), secretPaths.jsonPaths)
+  }
+
+  @Test
+  fun `cached paths are not affected by changes to the spec they were compiled from`() {
+    val spec = SPEC.deepCopy<ObjectNode>().also { it.put("description", "a spec that will change") }
+    val secretPaths = SecretPaths.forSpec(spec)
+
+    (spec["properties"] as ObjectNode).remove("password")
+
+    Assertions.assertSame(secretPaths, SecretPaths.forSpec(SPEC.deepCopy<ObjectNode>().put("description", "a spec that will change")))
+    Assertions.assertEquals(listOf("$.tokens[*]", "$.tunnel.key"), SecretPaths.forSpec(spec).jsonPaths)
+  }
+
+  @Test
+  fun `replaces secrets along each path with the persisted node at the same location`() {
+    val config = Jsons.deserialize("""{"password": "p", "tunnel": {"key": "k"}, "tokens": ["t0", "t1"], "host": "h"}""")
+    val persisted = Jsons.deserialize("""{"password": "old_p", "tokens": ["old_t0"]}""")
+    val seen = mutableListOf<Pair<String, String?>>()
+
+    val replaced =
+      SecretPaths.forSpec(SPEC).replaceInPlace(config.deepCopy(), persisted) { node, persistedNode ->
+        seen.add(node.asText() to persistedNode?.asText())
+        Jsons.jsonNode("*")
+      }
+
+    Assertions.assertEquals(Jsons.deserialize("""{"password": "*", "tunnel": {"key": "*"}, "tokens": ["*", "*"], "host": "h"}"""), replaced)
+    Assertions.assertEquals(listOf("p" to "old_p", "t0" to "old_t0", "t1" to null, "k" to null), seen)
+  }
+}
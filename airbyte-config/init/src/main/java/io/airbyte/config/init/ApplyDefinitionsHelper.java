@@ -7,6 +7,9 @@ package io.airbyte.config.init;
 import static io.airbyte.featureflag.ContextKt.ANONYMOUS;
 import static io.airbyte.metrics.lib.OssMetricsRegistry.CONNECTOR_REGISTRY_DEFINITION_PROCESSED;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.version.AirbyteProtocolVersion;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
 import io.airbyte.config.ActorDefinitionBreakingChange;
@@ -29,14 +32,25 @@ import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.validation.json.JsonValidationException;
 import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +58,16 @@ import org.slf4j.LoggerFactory;
 /**
  * Helper class used to apply actor definitions from a DefinitionsProvider to the database. This is
  * here to enable easy reuse of definition application logic in bootloader and cron.
+ * <p>
+ * Only definitions that differ from the persisted ones are written, and definition-only updates are
+ * written together in one transaction per actor type. A fingerprint of the applied registry and of
+ * the resulting default versions is stored, so that a run that would not change anything is skipped
+ * entirely.
+ * <p>
+ * The fingerprint does not cover the persisted definitions themselves, so changes made to them
+ * directly in the database would go unnoticed while it matches. To repair such drift, the
+ * fingerprint expires after {@link #APPLIED_FINGERPRINT_MAX_AGE}, and {@link #apply()} (run by the
+ * bootloader) always compares every definition with the registry.
  */
 @Singleton
 @Requires(bean = JobPersistence.class)
@@ -58,36 +82,72 @@ public class ApplyDefinitionsHelper {
   private final FeatureFlagClient featureFlagClient;
   private final SupportStateUpdater supportStateUpdater;
   private final MetricClient metricClient;
+  private final Supplier<Instant> timeSupplier;
   private int newConnectorCount;
   private int changedConnectorCount;
   private static final Logger LOGGER = LoggerFactory.getLogger(ApplyDefinitionsHelper.class);
 
+  // How long a fingerprint can skip runs, which bounds how long manual changes to the definitions
+  // persist before being overwritten with the registry.
+  static final Duration APPLIED_FINGERPRINT_MAX_AGE = Duration.ofHours(6);
+
+  @Inject
   public ApplyDefinitionsHelper(@Named("seedDefinitionsProvider") final DefinitionsProvider definitionsProvider,
                                 final JobPersistence jobPersistence,
                                 final ConfigRepository configRepository,
                                 final FeatureFlagClient featureFlagClient,
                                 final MetricClient metricClient,
                                 final SupportStateUpdater supportStateUpdater) {
+    this(definitionsProvider, jobPersistence, configRepository, featureFlagClient, metricClient, supportStateUpdater, Instant::now);
+  }
+
+  @VisibleForTesting
+  ApplyDefinitionsHelper(final DefinitionsProvider definitionsProvider,
+                         final JobPersistence jobPersistence,
+                         final ConfigRepository configRepository,
+                         final FeatureFlagClient featureFlagClient,
+                         final MetricClient metricClient,
+                         final SupportStateUpdater supportStateUpdater,
+                         final Supplier<Instant> timeSupplier) {
     this.definitionsProvider = definitionsProvider;
     this.jobPersistence = jobPersistence;
     this.configRepository = configRepository;
     this.metricClient = metricClient;
     this.supportStateUpdater = supportStateUpdater;
     this.featureFlagClient = featureFlagClient;
+    this.timeSupplier = timeSupplier;
   }
 
+  /**
+   * Apply the latest definitions from the provider to the repository, comparing every definition
+   * with the registry even if nothing changed since they were last applied.
+   */
   public void apply() throws JsonValidationException, IOException, ConfigNotFoundException {
-    apply(false);
+    apply(false, true);
   }
 
   /**
-   * Apply the latest definitions from the provider to the repository.
+   * Apply the latest definitions from the provider to the repository. The run is skipped if nothing
+   * changed since definitions were last applied, less than {@link #APPLIED_FINGERPRINT_MAX_AGE} ago.
    *
    * @param updateAll - Whether we should overwrite all stored definitions. If true, we do not
    *        consider whether a definition is in use before updating the definition and default
    *        version.
    */
   public void apply(final boolean updateAll) throws JsonValidationException, IOException, ConfigNotFoundException {
+    apply(updateAll, false);
+  }
+
+  /**
+   * Apply the latest definitions from the provider to the repository.
+   *
+   * @param updateAll - Whether we should overwrite all stored definitions. If true, we do not
+   *        consider whether a definition is in use before updating the definition and default
+   *        version.
+   * @param force - Whether to compare every definition with the registry even if nothing changed
+   *        since they were last applied, e.g. to repair definitions changed directly in the database.
+   */
+  public void apply(final boolean updateAll, final boolean force) throws JsonValidationException, IOException, ConfigNotFoundException {
     final List<ConnectorRegistrySourceDefinition> latestSourceDefinitions = definitionsProvider.getSourceDefinitions();
     final List<ConnectorRegistryDestinationDefinition> latestDestinationDefinitions = definitionsProvider.getDestinationDefinitions();
 
@@ -99,28 +159,80 @@ public class ApplyDefinitionsHelper {
 
     final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsToDefaultVersionsMap = configRepository.getActorDefinitionIdsToDefaultVersionsMap();
     final Set<UUID> actorDefinitionIdsInUse = configRepository.getActorDefinitionIdsInUse();
+    final Optional<String> airbyteVersion = jobPersistence.getVersion();
 
-    newConnectorCount = 0;
-    changedConnectorCount = 0;
+    final Map<UUID, String> defaultVersionTags = new HashMap<>();
+    actorDefinitionIdsToDefaultVersionsMap.forEach((id, adv) -> defaultVersionTags.put(id, adv.getDockerImageTag()));
 
-    for (final ConnectorRegistrySourceDefinition def : protocolCompatibleSourceDefinitions) {
-      applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
-    }
-    for (final ConnectorRegistryDestinationDefinition def : protocolCompatibleDestinationDefinitions) {
-      applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll);
+    final long fingerprintPeriod = timeSupplier.get().getEpochSecond() / APPLIED_FINGERPRINT_MAX_AGE.toSeconds();
+    final String registryFingerprint = computeFingerprint(protocolCompatibleSourceDefinitions, protocolCompatibleDestinationDefinitions,
+        currentProtocolRange, defaultVersionTags, actorDefinitionIdsInUse, airbyteVersion, fingerprintPeriod);
+    if (!updateAll && !force && jobPersistence.getAppliedDefinitionsFingerprint().filter(registryFingerprint::equals).isPresent()) {
+      LOGGER.info("Connector definitions are unchanged since they were last applied; skipping.");
+    } else {
+      final Map<UUID, StandardSourceDefinition> persistedSourceDefinitions = configRepository.listStandardSourceDefinitions(true).stream()
+          .collect(Collectors.toMap(StandardSourceDefinition::getSourceDefinitionId, Function.identity()));
+      final Map<UUID, StandardDestinationDefinition> persistedDestinationDefinitions = configRepository.listStandardDestinationDefinitions(true)
+          .stream()
+          .collect(Collectors.toMap(StandardDestinationDefinition::getDestinationDefinitionId, Function.identity()));
+      final List<StandardSourceDefinition> sourceDefinitionsToUpdate = new ArrayList<>();
+      final List<StandardDestinationDefinition> destinationDefinitionsToUpdate = new ArrayList<>();
+
+      newConnectorCount = 0;
+      changedConnectorCount = 0;
+
+      for (final ConnectorRegistrySourceDefinition def : protocolCompatibleSourceDefinitions) {
+        applySourceDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, persistedSourceDefinitions,
+            sourceDefinitionsToUpdate, defaultVersionTags);
+      }
+      for (final ConnectorRegistryDestinationDefinition def : protocolCompatibleDestinationDefinitions) {
+        applyDestinationDefinition(actorDefinitionIdsToDefaultVersionsMap, def, actorDefinitionIdsInUse, updateAll, persistedDestinationDefinitions,
+            destinationDefinitionsToUpdate, defaultVersionTags);
+      }
+      configRepository.updateStandardSourceDefinitions(sourceDefinitionsToUpdate);
+      configRepository.updateStandardDestinationDefinitions(destinationDefinitionsToUpdate);
+
+      // Fingerprint the state this run leaves behind, so the next run with the same registry is skipped.
+      jobPersistence.setAppliedDefinitionsFingerprint(computeFingerprint(protocolCompatibleSourceDefinitions,
+          protocolCompatibleDestinationDefinitions, currentProtocolRange, defaultVersionTags, actorDefinitionIdsInUse, airbyteVersion,
+          fingerprintPeriod));
+
+      LOGGER.info("New connectors added: {}", newConnectorCount);
+      LOGGER.info("Version changes applied: {}", changedConnectorCount);
+      LOGGER.info("Definitions updated without a version change: {}", sourceDefinitionsToUpdate.size() + destinationDefinitionsToUpdate.size());
     }
+
     if (featureFlagClient.boolVariation(RunSupportStateUpdater.INSTANCE, new Workspace(ANONYMOUS))) {
       supportStateUpdater.updateSupportStates();
     }
+  }
 
-    LOGGER.info("New connectors added: {}", newConnectorCount);
-    LOGGER.info("Version changes applied: {}", changedConnectorCount);
+  private static String computeFingerprint(final List<ConnectorRegistrySourceDefinition> sourceDefinitions,
+                                           final List<ConnectorRegistryDestinationDefinition> destinationDefinitions,
+                                           final Optional<AirbyteProtocolVersionRange> protocolRange,
+                                           final Map<UUID, String> defaultVersionTags,
+                                           final Set<UUID> actorDefinitionIdsInUse,
+                                           final Optional<String> airbyteVersion,
+                                           final long fingerprintPeriod) {
+    // The period changes every APPLIED_FINGERPRINT_MAX_AGE, which expires the fingerprint.
+    final String fingerprintInput = String.join("\n",
+        Jsons.serialize(sourceDefinitions),
+        Jsons.serialize(destinationDefinitions),
+        protocolRange.map(range -> range.min().serialize() + "-" + range.max().serialize()).orElse(""),
+        new TreeMap<>(defaultVersionTags).toString(),
+        new TreeSet<>(actorDefinitionIdsInUse).toString(),
+        airbyteVersion.orElse(""),
+        Long.toString(fingerprintPeriod));
+    return Hashing.sha256().hashString(fingerprintInput, StandardCharsets.UTF_8).toString();
   }
 
   private void applySourceDefinition(final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsAndDefaultVersions,
                                      final ConnectorRegistrySourceDefinition newDef,
                                      final Set<UUID> actorDefinitionIdsInUse,
-                                     final boolean updateAll)
+                                     final boolean updateAll,
+                                     final Map<UUID, StandardSourceDefinition> persistedDefinitions,
+                                     final List<StandardSourceDefinition> definitionsToUpdate,
+                                     final Map<UUID, String> defaultVersionTags)
       throws IOException, JsonValidationException, ConfigNotFoundException {
     // Skip and log if unable to parse registry entry.
     final StandardSourceDefinition newSourceDef;
@@ -140,6 +252,7 @@ public class ApplyDefinitionsHelper {
     if (connectorIsNew) {
       LOGGER.info("Adding new connector {}:{}", newDef.getDockerRepository(), newDef.getDockerImageTag());
       configRepository.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef);
+      defaultVersionTags.put(newSourceDef.getSourceDefinitionId(), newADV.getDockerImageTag());
       newConnectorCount++;
       trackDefinitionProcessed(DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED);
       return;
@@ -154,10 +267,13 @@ public class ApplyDefinitionsHelper {
           currentDefaultADV.getDockerImageTag(),
           newADV.getDockerImageTag());
       configRepository.writeConnectorMetadata(newSourceDef, newADV, breakingChangesForDef);
+      defaultVersionTags.put(newSourceDef.getSourceDefinitionId(), newADV.getDockerImageTag());
       changedConnectorCount++;
       trackDefinitionProcessed(DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED);
     } else {
-      configRepository.updateStandardSourceDefinition(newSourceDef);
+      if (!isPersisted(newSourceDef, persistedDefinitions.get(newSourceDef.getSourceDefinitionId()))) {
+        definitionsToUpdate.add(newSourceDef);
+      }
       trackDefinitionProcessed(DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED);
     }
   }
@@ -165,7 +281,10 @@ public class ApplyDefinitionsHelper {
   private void applyDestinationDefinition(final Map<UUID, ActorDefinitionVersion> actorDefinitionIdsAndDefaultVersions,
                                           final ConnectorRegistryDestinationDefinition newDef,
                                           final Set<UUID> actorDefinitionIdsInUse,
-                                          final boolean updateAll)
+                                          final boolean updateAll,
+                                          final Map<UUID, StandardDestinationDefinition> persistedDefinitions,
+                                          final List<StandardDestinationDefinition> definitionsToUpdate,
+                                          final Map<UUID, String> defaultVersionTags)
       throws IOException, JsonValidationException, ConfigNotFoundException {
     // Skip and log if unable to parse registry entry.
     final StandardDestinationDefinition newDestinationDef;
@@ -185,6 +304,7 @@ public class ApplyDefinitionsHelper {
     if (connectorIsNew) {
       LOGGER.info("Adding new connector {}:{}", newDef.getDockerRepository(), newDef.getDockerImageTag());
       configRepository.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef);
+      defaultVersionTags.put(newDestinationDef.getDestinationDefinitionId(), newADV.getDockerImageTag());
       newConnectorCount++;
       trackDefinitionProcessed(DefinitionProcessingSuccessOutcome.INITIAL_VERSION_ADDED);
       return;
@@ -199,15 +319,42 @@ public class ApplyDefinitionsHelper {
           currentDefaultADV.getDockerImageTag(),
           newADV.getDockerImageTag());
       configRepository.writeConnectorMetadata(newDestinationDef, newADV, breakingChangesForDef);
+      defaultVersionTags.put(newDestinationDef.getDestinationDefinitionId(), newADV.getDockerImageTag());
       changedConnectorCount++;
       trackDefinitionProcessed(DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED);
     } else {
-      configRepository.updateStandardDestinationDefinition(newDestinationDef);
+      if (!isPersisted(newDestinationDef, persistedDefinitions.get(newDestinationDef.getDestinationDefinitionId()))) {
+        definitionsToUpdate.add(newDestinationDef);
+      }
       trackDefinitionProcessed(DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED);
     }
 
   }
 
+  /**
+   * The registry doesn't know the default version id, and the database fills in a default for a
+   * missing max seconds between messages, so both are taken from the persisted definition before
+   * comparing.
+   */
+  private static boolean isPersisted(final StandardSourceDefinition newSourceDef, final StandardSourceDefinition persistedSourceDef) {
+    if (persistedSourceDef == null) {
+      return false;
+    }
+    final StandardSourceDefinition comparable = Jsons.clone(newSourceDef).withDefaultVersionId(persistedSourceDef.getDefaultVersionId());
+    if (comparable.getMaxSecondsBetweenMessages() == null) {
+      comparable.setMaxSecondsBetweenMessages(persistedSourceDef.getMaxSecondsBetweenMessages());
+    }
+    return comparable.equals(persistedSourceDef);
+  }
+
+  private static boolean isPersisted(final StandardDestinationDefinition newDestinationDef,
+                                     final StandardDestinationDefinition persistedDestinationDef) {
+    if (persistedDestinationDef == null) {
+      return false;
+    }
+    return Jsons.clone(newDestinationDef).withDefaultVersionId(persistedDestinationDef.getDefaultVersionId()).equals(persistedDestinationDef);
+  }
+
   private boolean getShouldUpdateActorDefinitionDefaultVersion(final ActorDefinitionVersion currentDefaultADV,
                                                                final ActorDefinitionVersion newADV,
                                                                final Set<UUID> actorDefinitionIdsInUse,
@@ -9,6 +9,7 @@ import static io.airbyte.metrics.lib.OssMetricsRegistry.CONNECTOR_REGISTRY_DEFIN
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -22,6 +23,8 @@ import io.airbyte.config.BreakingChanges;
 import io.airbyte.config.ConnectorRegistryDestinationDefinition;
 import io.airbyte.config.ConnectorRegistrySourceDefinition;
 import io.airbyte.config.ConnectorReleases;
+import io.airbyte.config.StandardDestinationDefinition;
+import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.VersionBreakingChange;
 import io.airbyte.config.helpers.ConnectorRegistryConverters;
 import io.airbyte.config.init.ApplyDefinitionMetricsHelper.DefinitionProcessingFailureReason;
@@ -39,6 +42,7 @@ import io.airbyte.persistence.job.JobPersistence;
 import io.airbyte.protocol.models.ConnectorSpecification;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -50,6 +54,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 
 /**
  * Test suite for the {@link ApplyDefinitionsHelper} class.
@@ -64,6 +69,7 @@ class ApplyDefinitionsHelperTest {
 
   private MetricClient metricClient;
   private ApplyDefinitionsHelper applyDefinitionsHelper;
+  private Instant now;
 
   private static final String PROTOCOL_VERSION = "2.0.0";
 
@@ -113,8 +119,10 @@ class ApplyDefinitionsHelperTest {
     featureFlagClient = mock(TestClient.class);
     metricClient = mock(MetricClient.class);
 
-    applyDefinitionsHelper =
-        new ApplyDefinitionsHelper(definitionsProvider, jobPersistence, configRepository, featureFlagClient, metricClient, supportStateUpdater);
+    now = Instant.parse("2023-11-01T00:00:00Z");
+
+    applyDefinitionsHelper = new ApplyDefinitionsHelper(definitionsProvider, jobPersistence, configRepository, featureFlagClient, metricClient,
+        supportStateUpdater, () -> now);
 
     when(featureFlagClient.boolVariation(RunSupportStateUpdater.INSTANCE, new Workspace(ANONYMOUS))).thenReturn(true);
 
@@ -133,6 +141,15 @@ class ApplyDefinitionsHelperTest {
   private void verifyConfigRepositoryGetInteractions() throws IOException {
     verify(configRepository).getActorDefinitionIdsToDefaultVersionsMap();
     verify(configRepository).getActorDefinitionIdsInUse();
+    verify(configRepository).listStandardSourceDefinitions(true);
+    verify(configRepository).listStandardDestinationDefinitions(true);
+  }
+
+  private void verifyDefinitionsUpdated(final List<StandardSourceDefinition> sourceDefinitions,
+                                        final List<StandardDestinationDefinition> destinationDefinitions)
+      throws IOException {
+    verify(configRepository).updateStandardSourceDefinitions(sourceDefinitions);
+    verify(configRepository).updateStandardDestinationDefinitions(destinationDefinitions);
   }
 
   @ParameterizedTest
@@ -144,6 +161,7 @@ class ApplyDefinitionsHelperTest {
 
     applyDefinitionsHelper.apply(updateAll);
     verifyConfigRepositoryGetInteractions();
+    verifyDefinitionsUpdated(List.of(), List.of());
 
     verify(configRepository).writeConnectorMetadata(
         ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES),
@@ -173,6 +191,7 @@ class ApplyDefinitionsHelperTest {
 
     applyDefinitionsHelper.apply(updateAll);
     verifyConfigRepositoryGetInteractions();
+    verifyDefinitionsUpdated(List.of(), List.of());
 
     verify(configRepository).writeConnectorMetadata(
         ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
@@ -203,6 +222,7 @@ class ApplyDefinitionsHelperTest {
     verifyConfigRepositoryGetInteractions();
 
     if (updateAll) {
+      verifyDefinitionsUpdated(List.of(), List.of());
       verify(configRepository).writeConnectorMetadata(
           ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
           ConnectorRegistryConverters.toActorDefinitionVersion(SOURCE_POSTGRES_2),
@@ -214,8 +234,68 @@ class ApplyDefinitionsHelperTest {
       verify(metricClient, times(2)).count(CONNECTOR_REGISTRY_DEFINITION_PROCESSED, 1, new MetricAttribute("status", "ok"),
           new MetricAttribute("success_outcome", DefinitionProcessingSuccessOutcome.DEFAULT_VERSION_UPDATED.toString()));
     } else {
-      verify(configRepository).updateStandardSourceDefinition(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2));
-      verify(configRepository).updateStandardDestinationDefinition(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2));
+      verifyDefinitionsUpdated(List.of(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2)),
+          List.of(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2)));
+      verify(metricClient, times(2)).count(CONNECTOR_REGISTRY_DEFINITION_PROCESSED, 1, new MetricAttribute("status", "ok"),
+          new MetricAttribute("success_outcome", DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED.toString()));
+    }
+    verify(supportStateUpdater).updateSupportStates();
+
+    verifyNoMoreInteractions(configRepository, supportStateUpdater, metricClient);
+  }
+
+  @Test
+  void testUnchangedDefinitionIsNotRewritten() throws IOException, JsonValidationException, ConfigNotFoundException {
+    mockSeedInitialDefinitions();
+    when(configRepository.getActorDefinitionIdsInUse()).thenReturn(Set.of(POSTGRES_ID, S3_ID));
+    // Definitions read back from the database carry their default version id and a default max seconds between messages.
+    when(configRepository.listStandardSourceDefinitions(true))
+        .thenReturn(List.of(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2)
+            .withDefaultVersionId(UUID.randomUUID())
+            .withMaxSecondsBetweenMessages(86_400L)));
+    when(configRepository.listStandardDestinationDefinitions(true))
+        .thenReturn(List.of(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3)
+            .withDefaultVersionId(UUID.randomUUID())));
+
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES_2));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3_2));
+
+    applyDefinitionsHelper.apply();
+    verifyConfigRepositoryGetInteractions();
+
+    // Only the destination definition differs from what is persisted.
+    verifyDefinitionsUpdated(List.of(), List.of(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3_2)));
+    verify(metricClient, times(2)).count(CONNECTOR_REGISTRY_DEFINITION_PROCESSED, 1, new MetricAttribute("status", "ok"),
+        new MetricAttribute("success_outcome", DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED.toString()));
+    verify(supportStateUpdater).updateSupportStates();
+
+    verifyNoMoreInteractions(configRepository, supportStateUpdater, metricClient);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void testApplyIsSkippedIfNothingChangedSinceLastApply(final boolean updateAll)
+      throws IOException, JsonValidationException, ConfigNotFoundException {
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3));
+
+    applyDefinitionsHelper.apply();
+    final ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+    verify(jobPersistence).setAppliedDefinitionsFingerprint(fingerprint.capture());
+
+    // The next run sees the connectors the first run added.
+    reset(configRepository, metricClient, supportStateUpdater);
+    mockSeedInitialDefinitions();
+    when(jobPersistence.getAppliedDefinitionsFingerprint()).thenReturn(Optional.of(fingerprint.getValue()));
+
+    applyDefinitionsHelper.apply(updateAll);
+    verify(configRepository).getActorDefinitionIdsToDefaultVersionsMap();
+    verify(configRepository).getActorDefinitionIdsInUse();
+    if (updateAll) {
+      verify(configRepository).listStandardSourceDefinitions(true);
+      verify(configRepository).listStandardDestinationDefinitions(true);
+      verifyDefinitionsUpdated(List.of(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES)),
+          List.of(ConnectorRegistryConverters.toStandardDestinationDefinition(DESTINATION_S3)));
       verify(metricClient, times(2)).count(CONNECTOR_REGISTRY_DEFINITION_PROCESSED, 1, new MetricAttribute("status", "ok"),
           new MetricAttribute("success_outcome", DefinitionProcessingSuccessOutcome.VERSION_UNCHANGED.toString()));
     }
@@ -224,6 +304,45 @@ class ApplyDefinitionsHelperTest {
     verifyNoMoreInteractions(configRepository, supportStateUpdater, metricClient);
   }
 
+  @Test
+  void testApplyIsNotSkippedOnceTheFingerprintExpired() throws IOException, JsonValidationException, ConfigNotFoundException {
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3));
+
+    applyDefinitionsHelper.apply();
+    final ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+    verify(jobPersistence).setAppliedDefinitionsFingerprint(fingerprint.capture());
+
+    reset(configRepository);
+    mockSeedInitialDefinitions();
+    when(jobPersistence.getAppliedDefinitionsFingerprint()).thenReturn(Optional.of(fingerprint.getValue()));
+    now = now.plus(ApplyDefinitionsHelper.APPLIED_FINGERPRINT_MAX_AGE);
+
+    applyDefinitionsHelper.apply(false);
+    // Definitions are compared with the registry again, which repairs any change made to them in the database.
+    verify(configRepository).listStandardSourceDefinitions(true);
+    verify(configRepository).listStandardDestinationDefinitions(true);
+    verify(configRepository).updateStandardSourceDefinitions(List.of(ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES)));
+  }
+
+  @Test
+  void testForcedApplyIsNotSkipped() throws IOException, JsonValidationException, ConfigNotFoundException {
+    when(definitionsProvider.getSourceDefinitions()).thenReturn(List.of(SOURCE_POSTGRES));
+    when(definitionsProvider.getDestinationDefinitions()).thenReturn(List.of(DESTINATION_S3));
+
+    applyDefinitionsHelper.apply();
+    final ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+    verify(jobPersistence).setAppliedDefinitionsFingerprint(fingerprint.capture());
+
+    reset(configRepository);
+    mockSeedInitialDefinitions();
+    when(jobPersistence.getAppliedDefinitionsFingerprint()).thenReturn(Optional.of(fingerprint.getValue()));
+
+    applyDefinitionsHelper.apply();
+    verify(configRepository).listStandardSourceDefinitions(true);
+    verify(configRepository).listStandardDestinationDefinitions(true);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {false, true})
   void testDefinitionsFiltering(final boolean updateAll)
@@ -240,6 +359,7 @@ class ApplyDefinitionsHelperTest {
 
     applyDefinitionsHelper.apply(updateAll);
     verifyConfigRepositoryGetInteractions();
+    verifyDefinitionsUpdated(List.of(), List.of());
 
     List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
@@ -282,6 +402,7 @@ class ApplyDefinitionsHelperTest {
 
     applyDefinitionsHelper.apply(true);
     verifyConfigRepositoryGetInteractions();
+    verifyDefinitionsUpdated(List.of(), List.of());
 
     verify(configRepository).writeConnectorMetadata(
         ConnectorRegistryConverters.toStandardSourceDefinition(SOURCE_POSTGRES_2),
@@ -314,6 +435,7 @@ class ApplyDefinitionsHelperTest {
 
     applyDefinitionsHelper.apply(true);
     verifyConfigRepositoryGetInteractions();
+    verifyDefinitionsUpdated(List.of(), List.of());
     List.of("airbyte/source-postgres", "airbyte/destination-s3").forEach(
         dockerRepo -> verify(metricClient, times(1)).count(
             CONNECTOR_REGISTRY_DEFINITION_PROCESSED,
@@ -5,6 +5,10 @@
 package io.airbyte.config.specs;
 
 import static io.micronaut.http.HttpHeaders.ACCEPT;
+import static io.micronaut.http.HttpHeaders.ETAG;
+import static io.micronaut.http.HttpHeaders.IF_MODIFIED_SINCE;
+import static io.micronaut.http.HttpHeaders.IF_NONE_MATCH;
+import static io.micronaut.http.HttpHeaders.LAST_MODIFIED;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
@@ -41,6 +45,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This provider pulls the definitions from a remotely hosted connector registry.
+ * <p>
+ * The parsed registry is kept in memory and revalidated with a conditional request (ETag and
+ * Last-Modified) on every refresh, so an unchanged registry costs one empty 304 response and is
+ * never downloaded or parsed again. Definitions returned from the snapshot are shared and must be
+ * treated as read-only. All lookups go through the cached {@link #getRegistrySnapshot()}, so the
+ * registry is only revalidated once the cache entry expires.
  */
 @Singleton
 @CacheConfig("remote-definitions-provider")
@@ -53,6 +63,18 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
   private final URI remoteRegistryBaseUrl;
   private final DeploymentMode deploymentMode;
   private static final int NOT_FOUND = 404;
+  private static final int NOT_MODIFIED = 304;
+
+  private RegistrySnapshot registrySnapshot;
+
+  /**
+   * Parsed registry along with the validators needed to revalidate it.
+   */
+  public record RegistrySnapshot(ConnectorRegistry registry,
+                          Map<UUID, ConnectorRegistrySourceDefinition> sourceDefinitions,
+                          Map<UUID, ConnectorRegistryDestinationDefinition> destinationDefinitions,
+                          String etag,
+                          String lastModified) {}
 
   private URI parsedRemoteRegistryBaseUrlOrDefault(final String remoteRegistryBaseUrl) {
     try {
@@ -81,19 +103,11 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
   }
 
   private Map<UUID, ConnectorRegistrySourceDefinition> getSourceDefinitionsMap() {
-    final ConnectorRegistry registry = getRemoteConnectorRegistry();
-    return registry.getSources().stream().collect(Collectors.toMap(
-        ConnectorRegistrySourceDefinition::getSourceDefinitionId,
-        source -> source.withProtocolVersion(
-            AirbyteProtocolVersion.getWithDefault(source.getSpec() != null ? source.getSpec().getProtocolVersion() : null).serialize())));
+    return getRegistrySnapshot().sourceDefinitions();
   }
 
   private Map<UUID, ConnectorRegistryDestinationDefinition> getDestinationDefinitionsMap() {
-    final ConnectorRegistry catalog = getRemoteConnectorRegistry();
-    return catalog.getDestinations().stream().collect(Collectors.toMap(
-        ConnectorRegistryDestinationDefinition::getDestinationDefinitionId,
-        destination -> destination.withProtocolVersion(
-            AirbyteProtocolVersion.getWithDefault(destination.getSpec() != null ? destination.getSpec().getProtocolVersion() : null).serialize())));
+    return getRegistrySnapshot().destinationDefinitions();
   }
 
   @Override
@@ -181,18 +195,39 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
    *
    * @return ConnectorRegistry
    */
-  @Cacheable
   public ConnectorRegistry getRemoteConnectorRegistry() {
-    final Request request = new Request.Builder()
+    return getRegistrySnapshot().registry();
+  }
+
+  /**
+   * Get the registry snapshot, revalidating it against the remote registry. The registry is only
+   * downloaded and parsed again if the remote copy changed.
+   *
+   * @return RegistrySnapshot
+   */
+  @Cacheable
+  public synchronized RegistrySnapshot getRegistrySnapshot() {
+    final RegistrySnapshot cachedSnapshot = registrySnapshot;
+    final Request.Builder requestBuilder = new Request.Builder()
         .url(getRegistryUrl())
-        .header(ACCEPT, MediaType.APPLICATION_JSON)
-        .build();
+        .header(ACCEPT, MediaType.APPLICATION_JSON);
+    if (cachedSnapshot != null && cachedSnapshot.etag() != null) {
+      requestBuilder.header(IF_NONE_MATCH, cachedSnapshot.etag());
+    }
+    if (cachedSnapshot != null && cachedSnapshot.lastModified() != null) {
+      requestBuilder.header(IF_MODIFIED_SINCE, cachedSnapshot.lastModified());
+    }
 
-    try (Response response = okHttpClient.newCall(request).execute()) {
-      if (response.isSuccessful() && response.body() != null) {
+    try (Response response = okHttpClient.newCall(requestBuilder.build()).execute()) {
+      if (cachedSnapshot != null && response.code() == NOT_MODIFIED) {
+        LOGGER.debug("Remote definitions are unchanged");
+        return cachedSnapshot;
+      } else if (response.isSuccessful() && response.body() != null) {
         final String responseBody = response.body().string();
         LOGGER.info("Fetched latest remote definitions ({})", responseBody.hashCode());
-        return Jsons.deserialize(responseBody, ConnectorRegistry.class);
+        registrySnapshot = toRegistrySnapshot(Jsons.deserialize(responseBody, ConnectorRegistry.class), response.header(ETAG),
+            response.header(LAST_MODIFIED));
+        return registrySnapshot;
       } else {
         throw new IOException(
             "getRemoteConnectorRegistry request ran into status code error: " + response.code() + " with message: " + response.message());
@@ -202,6 +237,18 @@ public class RemoteDefinitionsProvider implements DefinitionsProvider {
     }
   }
 
+  private static RegistrySnapshot toRegistrySnapshot(final ConnectorRegistry registry, final String etag, final String lastModified) {
+    final Map<UUID, ConnectorRegistrySourceDefinition> sourceDefinitions = registry.getSources().stream().collect(Collectors.toMap(
+        ConnectorRegistrySourceDefinition::getSourceDefinitionId,
+        source -> source.withProtocolVersion(
+            AirbyteProtocolVersion.getWithDefault(source.getSpec() != null ? source.getSpec().getProtocolVersion() : null).serialize())));
+    final Map<UUID, ConnectorRegistryDestinationDefinition> destinationDefinitions = registry.getDestinations().stream().collect(Collectors.toMap(
+        ConnectorRegistryDestinationDefinition::getDestinationDefinitionId,
+        destination -> destination.withProtocolVersion(
+            AirbyteProtocolVersion.getWithDefault(destination.getSpec() != null ? destination.getSpec().getProtocolVersion() : null).serialize())));
+    return new RegistrySnapshot(registry, sourceDefinitions, destinationDefinitions, etag, lastModified);
+  }
+
   @VisibleForTesting
   Optional<JsonNode> getConnectorRegistryEntryJson(final String connectorName, final String version) {
     final URL registryEntryPath = getRegistryEntryUrl(connectorName, version);
@@ -5,6 +5,8 @@
 package io.airbyte.config.specs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -13,21 +15,25 @@ import com.google.common.io.Resources;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.config.Configs.DeploymentMode;
+import io.airbyte.config.ConnectorRegistry;
 import io.airbyte.config.ConnectorRegistryDestinationDefinition;
 import io.airbyte.config.ConnectorRegistrySourceDefinition;
 import io.airbyte.config.SupportLevel;
 import io.airbyte.protocol.models.ConnectorSpecification;
+import io.micronaut.context.ApplicationContext;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -41,7 +47,10 @@ class RemoteDefinitionsProviderTest {
   private static final DeploymentMode DEPLOYMENT_MODE = DeploymentMode.OSS;
   private static final String CONNECTOR_REPOSITORY = "airbyte/source-stripe";
   private static final String CONNECTOR_VERSION = "0.2.1";
+  private static final String IF_NONE_MATCH = "If-None-Match";
+  private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
   private JsonNode jsonCatalog;
+  private String jsonBody;
 
   @BeforeEach
   void setup() throws IOException {
@@ -49,7 +58,7 @@ class RemoteDefinitionsProviderTest {
     baseUrl = webServer.url("/").toString();
 
     final URL testCatalog = Resources.getResource("connector_catalog.json");
-    final String jsonBody = Resources.toString(testCatalog, Charset.defaultCharset());
+    jsonBody = Resources.toString(testCatalog, Charset.defaultCharset());
     jsonCatalog = Jsons.deserialize(jsonBody);
     validCatalogResponse = new MockResponse().setResponseCode(200)
         .addHeader("Content-Type", "application/json; charset=utf-8")
@@ -141,6 +150,81 @@ class RemoteDefinitionsProviderTest {
     assertTrue(destinationDefinitions.stream().allMatch(destDef -> destDef.getProtocolVersion().length() > 0));
   }
 
+  @Test
+  void testLookupsWithinTheCacheTtlSendOneRequest() throws Exception {
+    webServer.enqueue(validCatalogResponse);
+    try (final ApplicationContext context = ApplicationContext.builder()
+        .properties(Map.of(
+            "airbyte.connector-registry.remote.base-url", baseUrl,
+            "airbyte.connector-registry.remote.timeout-ms", TimeUnit.SECONDS.toMillis(30),
+            "micronaut.caches.remote-definitions-provider.expire-after-write", "1m"))
+        .singletons(DEPLOYMENT_MODE)
+        .start()) {
+      final RemoteDefinitionsProvider remoteDefinitionsProvider = context.getBean(RemoteDefinitionsProvider.class);
+      final UUID stripeSourceId = UUID.fromString("e094cb9a-26de-4645-8761-65c0c425d1de");
+
+      remoteDefinitionsProvider.getSourceDefinition(stripeSourceId);
+      remoteDefinitionsProvider.getSourceDefinition(stripeSourceId);
+      remoteDefinitionsProvider.getDestinationDefinitions();
+
+      assertEquals(1, webServer.getRequestCount());
+    }
+  }
+
+  @Test
+  void testUnchangedRegistryIsRevalidatedWithEtag() throws InterruptedException {
+    webServer.enqueue(validCatalogResponse.clone().addHeader("ETag", "\"v1\""));
+    webServer.enqueue(new MockResponse().setResponseCode(304));
+    final RemoteDefinitionsProvider remoteDefinitionsProvider =
+        new RemoteDefinitionsProvider(baseUrl, DEPLOYMENT_MODE, TimeUnit.SECONDS.toMillis(30));
+
+    final RemoteDefinitionsProvider.RegistrySnapshot first = remoteDefinitionsProvider.getRegistrySnapshot();
+    final RemoteDefinitionsProvider.RegistrySnapshot second = remoteDefinitionsProvider.getRegistrySnapshot();
+
+    // The 304 response reuses the parsed registry.
+    assertSame(first, second);
+    assertNull(webServer.takeRequest().getHeader(IF_NONE_MATCH));
+    assertEquals("\"v1\"", webServer.takeRequest().getHeader(IF_NONE_MATCH));
+  }
+
+  @Test
+  void testUnchangedRegistryIsRevalidatedWithLastModified() throws InterruptedException {
+    final String lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+    webServer.enqueue(validCatalogResponse.clone().addHeader("Last-Modified", lastModified));
+    webServer.enqueue(new MockResponse().setResponseCode(304));
+    final RemoteDefinitionsProvider remoteDefinitionsProvider =
+        new RemoteDefinitionsProvider(baseUrl, DEPLOYMENT_MODE, TimeUnit.SECONDS.toMillis(30));
+
+    final List<ConnectorRegistrySourceDefinition> first = remoteDefinitionsProvider.getSourceDefinitions();
+    final List<ConnectorRegistrySourceDefinition> second = remoteDefinitionsProvider.getSourceDefinitions();
+
+    assertEquals(first, second);
+    webServer.takeRequest();
+    final RecordedRequest revalidation = webServer.takeRequest();
+    assertEquals(lastModified, revalidation.getHeader(IF_MODIFIED_SINCE));
+    assertNull(revalidation.getHeader(IF_NONE_MATCH));
+  }
+
+  @Test
+  void testChangedRegistryIsFetchedAgain() throws InterruptedException {
+    final ConnectorRegistry updatedRegistry = Jsons.deserialize(jsonBody, ConnectorRegistry.class);
+    updatedRegistry.getSources().remove(0);
+    webServer.enqueue(validCatalogResponse.clone().addHeader("ETag", "\"v1\""));
+    webServer.enqueue(makeResponse(200, Jsons.serialize(updatedRegistry)).addHeader("ETag", "\"v2\""));
+    webServer.enqueue(new MockResponse().setResponseCode(304));
+    final RemoteDefinitionsProvider remoteDefinitionsProvider =
+        new RemoteDefinitionsProvider(baseUrl, DEPLOYMENT_MODE, TimeUnit.SECONDS.toMillis(30));
+    final int expectedNumberOfSources = MoreIterators.toList(jsonCatalog.get("sources").elements()).size();
+
+    assertEquals(expectedNumberOfSources, remoteDefinitionsProvider.getSourceDefinitions().size());
+    assertEquals(expectedNumberOfSources - 1, remoteDefinitionsProvider.getSourceDefinitions().size());
+    assertEquals(expectedNumberOfSources - 1, remoteDefinitionsProvider.getSourceDefinitions().size());
+
+    webServer.takeRequest();
+    assertEquals("\"v1\"", webServer.takeRequest().getHeader(IF_NONE_MATCH));
+    assertEquals("\"v2\"", webServer.takeRequest().getHeader(IF_NONE_MATCH));
+  }
+
   @Test
   void testBadResponseStatus() {
     webServer.enqueue(new MockResponse().setResponseCode(404));
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Long-lived process handling CDK requests one after the other.
+ */
+public interface CdkWorker extends AutoCloseable {
+
+  /**
+   * Handle a request.
+   *
+   * @param args command line arguments the CDK entrypoint would have been launched with
+   * @return what the CDK returned for the request
+   * @throws IOException if the worker can't handle any more requests
+   */
+  Response handle(List<String> args) throws IOException;
+
+  @Override
+  void close();
+
+  /**
+   * What the CDK returned for a request.
+   *
+   * @param lines lines written to stdout by the CDK
+   * @param exitCode code the CDK entrypoint exited with, 0 if it returned normally
+   * @param stderr what the CDK wrote to stderr
+   */
+  record Response(List<String> lines, int exitCode, String stderr) {
+
+    public boolean failed() {
+      return exitCode != 0;
+    }
+
+  }
+
+  /**
+   * Creates workers.
+   */
+  @FunctionalInterface
+  interface Factory {
+
+    CdkWorker create() throws IOException;
+
+  }
+
+}
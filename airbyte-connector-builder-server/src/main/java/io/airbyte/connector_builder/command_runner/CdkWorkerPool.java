@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of pre-warmed {@link CdkWorker}s.
+ * <p>
+ * At most {@code size} workers are alive at the same time, each handling one request at a time. A
+ * worker is retired when a request fails or the CDK exits with an error, as it may be left in an
+ * unknown state, and after {@code maxRequestsPerWorker} requests, so that state the CDK keeps
+ * across requests can't build up. Retired workers are replaced in the background, so requests
+ * rarely wait for a worker to start. A request that can't get a worker within
+ * {@code acquireTimeout} isn't handled by the pool, so that callers can fall back to a process of
+ * their own instead of queueing behind slow requests.
+ * <p>
+ * Note that a worker is a long-lived interpreter which handles the manifests and configs of
+ * different users in turn, unlike a process per request. Only the files of the current request are
+ * passed to it, but anything the CDK keeps in memory between requests is shared.
+ */
+public class CdkWorkerPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkWorkerPool.class);
+
+  private final CdkWorker.Factory factory;
+  private final int size;
+  private final int maxRequestsPerWorker;
+  private final Duration acquireTimeout;
+  private final Semaphore permits;
+  private final BlockingDeque<PooledWorker> idleWorkers = new LinkedBlockingDeque<>();
+  private final ExecutorService warmUpExecutor;
+  private final AtomicInteger startedWorkers = new AtomicInteger();
+  // workers that are idle, busy or starting
+  private final AtomicInteger liveWorkers = new AtomicInteger();
+  private volatile boolean closed;
+
+  public CdkWorkerPool(final CdkWorker.Factory factory, final int size, final int maxRequestsPerWorker, final Duration acquireTimeout) {
+    this.factory = factory;
+    this.size = size;
+    this.maxRequestsPerWorker = maxRequestsPerWorker;
+    this.acquireTimeout = acquireTimeout;
+    this.permits = new Semaphore(size, true);
+    this.warmUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "cdk-worker-warm-up");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Start all the workers of the pool in the background.
+   */
+  public void warmUp() {
+    for (int i = 0; i < size; i++) {
+      startInBackground();
+    }
+  }
+
+  /**
+   * Handle a request with one of the workers of the pool, waiting up to the acquire timeout for one
+   * to be available if all of them are busy.
+   *
+   * @return the response of the worker, or empty if no worker was available in time
+   */
+  public Optional<CdkWorker.Response> handle(final List<String> args) throws IOException {
+    try {
+      if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        return Optional.empty();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a CDK worker", e);
+    }
+    try {
+      final PooledWorker worker = borrow();
+      final CdkWorker.Response response;
+      try {
+        response = worker.worker.handle(args);
+      } catch (final IOException | RuntimeException e) {
+        LOGGER.warn("CDK worker failed to handle a request, replacing it", e);
+        retire(worker);
+        throw e;
+      }
+
+      if (response.failed()) {
+        LOGGER.warn("CDK exited with code {} while handling a request, replacing its worker", response.exitCode());
+        retire(worker);
+      } else if (++worker.requests >= maxRequestsPerWorker || closed) {
+        retire(worker);
+      } else {
+        // most recently used first, so that idle workers stay warm in the OS caches
+        idleWorkers.offerFirst(worker);
+      }
+      return Optional.of(response);
+    } finally {
+      permits.release();
+    }
+  }
+
+  @VisibleForTesting
+  int getStartedWorkers() {
+    return startedWorkers.get();
+  }
+
+  @VisibleForTesting
+  int getIdleWorkers() {
+    return idleWorkers.size();
+  }
+
+  @VisibleForTesting
+  int getLiveWorkers() {
+    return liveWorkers.get();
+  }
+
+  private PooledWorker borrow() throws IOException {
+    while (true) {
+      final PooledWorker idleWorker = idleWorkers.pollFirst();
+      if (idleWorker != null) {
+        return idleWorker;
+      }
+      // no warm worker yet: pay for the startup in this request instead of waiting on the warm up, as
+      // long as the pool isn't full
+      if (reserve()) {
+        return start();
+      }
+      // otherwise, a worker of the pool is starting in the background
+      try {
+        final PooledWorker startedWorker = idleWorkers.pollFirst(100, TimeUnit.MILLISECONDS);
+        if (startedWorker != null) {
+          return startedWorker;
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while waiting for a CDK worker", e);
+      }
+    }
+  }
+
+  private void retire(final PooledWorker worker) {
+    worker.worker.close();
+    liveWorkers.decrementAndGet();
+    startInBackground();
+  }
+
+  /**
+   * Reserve room in the pool for a new worker.
+   */
+  private boolean reserve() {
+    int live;
+    do {
+      live = liveWorkers.get();
+      if (live >= size) {
+        return false;
+      }
+    } while (!liveWorkers.compareAndSet(live, live + 1));
+    return true;
+  }
+
+  /**
+   * Start a worker, for which room was reserved in the pool.
+   */
+  private PooledWorker start() throws IOException {
+    try {
+      final PooledWorker worker = new PooledWorker(factory.create());
+      startedWorkers.incrementAndGet();
+      return worker;
+    } catch (final IOException | RuntimeException e) {
+      liveWorkers.decrementAndGet();
+      throw e;
+    }
+  }
+
+  private void startInBackground() {
+    if (closed || !reserve()) {
+      return;
+    }
+    try {
+      warmUpExecutor.submit(() -> {
+        try {
+          final PooledWorker worker = start();
+          if (closed) {
+            worker.worker.close();
+            liveWorkers.decrementAndGet();
+          } else {
+            idleWorkers.offerLast(worker);
+          }
+        } catch (final IOException | RuntimeException e) {
+          LOGGER.warn("Unable to start CDK worker", e);
+        }
+      });
+    } catch (final RejectedExecutionException e) {
+      // the pool was closed in the meantime
+      liveWorkers.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    warmUpExecutor.shutdownNow();
+    PooledWorker worker;
+    while ((worker = idleWorkers.pollFirst()) != null) {
+      worker.worker.close();
+      liveWorkers.decrementAndGet();
+    }
+  }
+
+  private static final class PooledWorker {
+
+    private final CdkWorker worker;
+    private int requests;
+
+    private PooledWorker(final CdkWorker worker) {
+      this.worker = worker;
+    }
+
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import datadog.trace.api.Trace;
+import io.airbyte.connector_builder.TracingHelper;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.connector_builder.exceptions.CdkUnknownException;
+import io.airbyte.connector_builder.file_writer.AirbyteArgument;
+import io.airbyte.connector_builder.file_writer.AirbyteFileWriter;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.internal.AirbyteStreamFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Communicates with the CDK's Connector Builder handler through a pool of pre-warmed Python
+ * workers, instead of launching a Python process per request like
+ * {@link SynchronousPythonCdkCommandRunner}. Requests for which no worker is available in time are
+ * handed over to the fallback runner.
+ */
+public class PooledPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledPythonCdkCommandRunner.class);
+
+  private final AirbyteFileWriter writer;
+  private final AirbyteStreamFactory streamFactory;
+  private final CdkWorkerPool workerPool;
+  private final SynchronousCdkCommandRunner fallback;
+
+  public PooledPythonCdkCommandRunner(
+                                      final AirbyteFileWriter writer,
+                                      final AirbyteStreamFactory streamFactory,
+                                      final CdkWorkerPool workerPool,
+                                      final SynchronousCdkCommandRunner fallback) {
+    this.writer = writer;
+    this.streamFactory = streamFactory;
+    this.workerPool = workerPool;
+    this.fallback = fallback;
+  }
+
+  /**
+   * Hand the command over to a worker of the pool, and return the parsed AirbyteRecordMessage
+   * returned by the CDK.
+   */
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public AirbyteRecordMessage runCommand(
+                                         final String cdkCommand,
+                                         final String configContents,
+                                         final String catalogContents)
+      throws IOException {
+    final AirbyteArgument catalog = write("catalog", catalogContents);
+    final AirbyteArgument config = write("config", configContents);
+    final Optional<CdkWorker.Response> response;
+    try {
+      response = workerPool.handle(List.of(
+          "read",
+          "--config",
+          config.getFilepath(),
+          "--catalog",
+          catalog.getFilepath()));
+    } finally {
+      writer.delete(config.getFilepath());
+      writer.delete(catalog.getFilepath());
+    }
+
+    if (response.isEmpty()) {
+      LOGGER.info("No CDK worker available for {}, running it in a new process", cdkCommand);
+      return fallback.runCommand(cdkCommand, configContents, catalogContents);
+    }
+
+    final Map<Type, List<AirbyteMessage>> messagesByType = streamFactory
+        .create(new BufferedReader(new StringReader(String.join(System.lineSeparator(), response.get().lines()))))
+        .collect(Collectors.groupingBy(AirbyteMessage::getType));
+
+    return new ProcessOutputParser().parse(messagesByType, cdkCommand).orElseThrow(() -> generateError(response.get(), cdkCommand));
+  }
+
+  private RuntimeException generateError(final CdkWorker.Response response, final String cdkCommand) {
+    if (!response.failed()) {
+      final String errorMessage = String.format(
+          "The CDK command `%s` completed properly but no records nor trace were found.", cdkCommand);
+      LOGGER.error(errorMessage);
+      return new CdkUnknownException(errorMessage);
+    }
+
+    final String errorMessage = String.format("CDK subprocess for %s finished with exit code %d. error=%s", cdkCommand, response.exitCode(),
+        response.stderr());
+    LOGGER.error(errorMessage);
+    return new CdkProcessException(errorMessage);
+  }
+
+  private AirbyteArgument write(final String name, final String contents) throws IOException {
+    final AirbyteArgument arg = new AirbyteArgument(this.writer);
+    arg.setUpArg(name, contents);
+    return arg;
+  }
+
+}
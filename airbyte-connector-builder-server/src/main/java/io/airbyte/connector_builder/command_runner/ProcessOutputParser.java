@@ -54,13 +54,23 @@ public class ProcessOutputParser {
       throwCdkException(process, cdkCommand);
     }
 
+    return parse(messagesByType, cdkCommand).orElseThrow(() -> generateError(process, cdkCommand));
+  }
+
+  /**
+   * Extract the record answering the request from messages already read from the CDK.
+   *
+   * @return the record, or empty if the CDK returned neither a record nor a trace
+   * @throws AirbyteCdkInvalidInputException if the CDK returned a trace
+   */
+  Optional<AirbyteRecordMessage> parse(final Map<Type, List<AirbyteMessage>> messagesByType, final String cdkCommand) {
     final Optional<AirbyteRecordMessage> record = messagesByType
         .getOrDefault(Type.RECORD, new ArrayList<>()).stream()
         .map(AirbyteMessage::getRecord)
         .findFirst();
 
     if (record.isPresent()) {
-      return record.get();
+      return record;
     }
 
     final Optional<AirbyteTraceMessage> trace = messagesByType
@@ -77,7 +87,7 @@ public class ProcessOutputParser {
       throw new AirbyteCdkInvalidInputException(
           String.format("AirbyteTraceMessage response from CDK: %s", traceMessage.getError().getMessage()), traceMessage);
     }
-    throw generateError(process, cdkCommand);
+    return Optional.empty();
   }
 
   private void throwCdkException(final Process process, final String cdkCommand) {
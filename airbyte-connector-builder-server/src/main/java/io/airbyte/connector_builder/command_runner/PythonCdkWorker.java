@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Python process running the `cdk_worker.py` script, which loads the CDK connector builder
+ * entrypoint once and then handles the requests sent over its stdin.
+ * <p>
+ * A worker that does not answer a request within the request timeout is killed, so that a hanging
+ * CDK can't hold on to a request forever.
+ */
+public class PythonCdkWorker implements CdkWorker {
+
+  static final String END_OF_RESPONSE = "__AIRBYTE_CDK_WORKER_END_OF_RESPONSE__";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PythonCdkWorker.class);
+  private static final String WORKER_SCRIPT = "cdk_worker.py";
+  private static final ScheduledExecutorService DEADLINES = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    final Thread thread = new Thread(runnable, "cdk-worker-deadlines");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private static Path workerScript;
+
+  private final Process process;
+  private final BufferedWriter stdin;
+  private final BufferedReader stdout;
+  private final Duration requestTimeout;
+  private volatile boolean timedOut;
+
+  /**
+   * Start a worker and wait until it is ready to handle requests.
+   *
+   * @param python python executable
+   * @param cdkEntrypoint path to the CDK connector builder entrypoint
+   * @param requestTimeout time after which a worker that did not answer a request is killed
+   */
+  public PythonCdkWorker(final String python, final String cdkEntrypoint, final Duration requestTimeout) throws IOException {
+    this.process = new ProcessBuilder(python, getWorkerScript().toString(), cdkEntrypoint)
+        .redirectError(ProcessBuilder.Redirect.INHERIT)
+        .start();
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    this.stdout = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+    this.requestTimeout = requestTimeout;
+
+    final long start = System.currentTimeMillis();
+    readResponse();
+    LOGGER.debug("CDK worker {} ready after {} ms", process.pid(), System.currentTimeMillis() - start);
+  }
+
+  @Override
+  public Response handle(final List<String> args) throws IOException {
+    final ScheduledFuture<?> deadline = DEADLINES.schedule(() -> {
+      LOGGER.warn("CDK worker {} did not answer within {} seconds, killing it", process.pid(), requestTimeout.toSeconds());
+      timedOut = true;
+      process.destroyForcibly();
+    }, requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    try {
+      stdin.write(Jsons.serialize(args));
+      stdin.newLine();
+      stdin.flush();
+      return readResponse();
+    } finally {
+      deadline.cancel(false);
+    }
+  }
+
+  private Response readResponse() throws IOException {
+    final List<String> lines = new ArrayList<>();
+    String line;
+    while ((line = stdout.readLine()) != null) {
+      if (line.startsWith(END_OF_RESPONSE)) {
+        final JsonNode status = Jsons.deserialize(line.substring(END_OF_RESPONSE.length()));
+        return new Response(lines, status.get("exit_code").asInt(), status.get("stderr").asText());
+      }
+      lines.add(line);
+    }
+    if (timedOut) {
+      throw new CdkProcessException(String.format("CDK worker %d did not answer within %d seconds", process.pid(), requestTimeout.toSeconds()));
+    }
+    throw new CdkProcessException(String.format("CDK worker %d exited before completing its response", process.pid()));
+  }
+
+  @Override
+  public void close() {
+    process.destroy();
+    try {
+      if (!process.waitFor(10, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    } catch (final InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static synchronized Path getWorkerScript() throws IOException {
+    if (workerScript == null) {
+      final Path script = Files.createTempFile("cdk_worker", ".py");
+      Files.writeString(script, MoreResources.readResource(WORKER_SCRIPT));
+      script.toFile().deleteOnExit();
+      workerScript = script;
+    }
+    return workerScript;
+  }
+
+}
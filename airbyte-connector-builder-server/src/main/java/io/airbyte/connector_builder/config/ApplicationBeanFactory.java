@@ -5,13 +5,21 @@
 package io.airbyte.connector_builder.config;
 
 import io.airbyte.config.EnvConfigs;
+import io.airbyte.connector_builder.command_runner.CdkWorkerPool;
+import io.airbyte.connector_builder.command_runner.PooledPythonCdkCommandRunner;
+import io.airbyte.connector_builder.command_runner.PythonCdkWorker;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Context;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
+import java.time.Duration;
 
 /**
  * Defines the instantiation of handler classes.
@@ -19,6 +27,8 @@ import jakarta.inject.Singleton;
 @Factory
 public class ApplicationBeanFactory {
 
+  private static final String CDK_WORKER_POOL = "airbyte.connector-builder-server.cdk-worker-pool";
+
   private String getPython() {
     final EnvConfigs configs = new EnvConfigs();
     if (configs.getCdkPython() == null) {
@@ -36,10 +46,55 @@ public class ApplicationBeanFactory {
   }
 
   /**
-   * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
+   * Defines the pool of pre-warmed Python processes handling CDK requests. The pool is created with
+   * the application context and its workers start in the background right away, so that the first
+   * requests don't pay for the startup. Disabled by default: each worker is a long-lived interpreter
+   * that handles the manifests and configs of many users in turn.
+   */
+  @Context
+  @Requires(property = CDK_WORKER_POOL + ".enabled",
+            value = "true")
+  @Bean(preDestroy = "close")
+  public CdkWorkerPool cdkWorkerPool(@Value("${" + CDK_WORKER_POOL + ".size}") final int size,
+                                     @Value("${" + CDK_WORKER_POOL + ".max-requests-per-worker}") final int maxRequestsPerWorker,
+                                     @Value("${" + CDK_WORKER_POOL + ".request-timeout-seconds}") final long requestTimeoutSeconds,
+                                     @Value("${" + CDK_WORKER_POOL + ".acquire-timeout-millis}") final long acquireTimeoutMillis) {
+    final String python = this.getPython();
+    final String cdkEntrypoint = this.getCdkEntrypoint();
+    final Duration requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+    final CdkWorkerPool pool = new CdkWorkerPool(() -> new PythonCdkWorker(python, cdkEntrypoint, requestTimeout), size, maxRequestsPerWorker,
+        Duration.ofMillis(acquireTimeoutMillis));
+    pool.warmUp();
+    return pool;
+  }
+
+  /**
+   * Defines the instantiation of the SynchronousCdkCommandRunner when the pool of pre-warmed CDK
+   * workers is enabled. Requests that find every worker busy are handled by a new Python process.
+   */
+  @Singleton
+  @Requires(property = CDK_WORKER_POOL + ".enabled",
+            value = "true")
+  public SynchronousCdkCommandRunner pooledPythonCdkCommandRunner(final CdkWorkerPool cdkWorkerPool) {
+    return new PooledPythonCdkCommandRunner(
+        new AirbyteFileWriterImpl(),
+        VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false),
+        cdkWorkerPool,
+        newSynchronousPythonCdkCommandRunner());
+  }
+
+  /**
+   * Defines the instantiation of the SynchronousCdkCommandRunner when the pool of pre-warmed CDK
+   * workers is disabled: each request is handled by a new Python process.
    */
   @Singleton
+  @Requires(property = CDK_WORKER_POOL + ".enabled",
+            notEquals = "true")
   public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner() {
+    return newSynchronousPythonCdkCommandRunner();
+  }
+
+  private SynchronousPythonCdkCommandRunner newSynchronousPythonCdkCommandRunner() {
     return new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
         // This should eventually be constructed via DI.
@@ -0,0 +1,83 @@
+#
+# Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Long-lived worker serving connector builder requests for the connector builder server.
+
+Usage: python cdk_worker.py <path to the CDK connector builder main.py>
+
+The CDK entrypoint is loaded once at startup, so the interpreter and the CDK imports are paid
+for by the worker rather than by every request. Each line read from stdin is a JSON array of
+the command line arguments the entrypoint would have been launched with. The entrypoint is run
+with these arguments and its output is written to stdout. The response is terminated by a line
+made of the end of response marker followed by a JSON object holding the code the entrypoint
+exited with and what it wrote to stderr. The marker is also written once the worker is ready to
+take requests.
+"""
+
+import contextlib
+import io
+import json
+import runpy
+import sys
+import traceback
+
+END_OF_RESPONSE = "__AIRBYTE_CDK_WORKER_END_OF_RESPONSE__"
+
+
+def exit_code(system_exit):
+    if system_exit.code is None:
+        return 0
+    if isinstance(system_exit.code, int):
+        return system_exit.code
+    # like the interpreter does for sys.exit("message")
+    print(system_exit.code, file=sys.stderr)
+    return 1
+
+
+def run(entrypoint, args, output, errors):
+    """Run the entrypoint as if it was launched with args, and return the code it exited with."""
+    sys.argv = [entrypoint] + args
+    with contextlib.redirect_stdout(output), contextlib.redirect_stderr(errors):
+        try:
+            # modules imported by the entrypoint are cached, so this only runs the entrypoint itself
+            runpy.run_path(entrypoint, run_name="__main__")
+        except SystemExit as system_exit:
+            return exit_code(system_exit)
+        except Exception:
+            traceback.print_exc()
+            return 1
+    return 0
+
+
+def end_response(stdout, code, stderr):
+    stdout.write(END_OF_RESPONSE + " " + json.dumps({"exit_code": code, "stderr": stderr}) + "\n")
+    stdout.flush()
+
+
+def main():
+    entrypoint = sys.argv[1]
+    stdout = sys.stdout
+
+    # warm up: import everything the entrypoint needs without handling a request
+    runpy.run_path(entrypoint, run_name="__cdk_worker_warmup__")
+    end_response(stdout, 0, "")
+
+    for line in sys.stdin:
+        if not line.strip():
+            continue
+        output = io.StringIO()
+        errors = io.StringIO()
+        code = run(entrypoint, json.loads(line), output, errors)
+        stdout.write(output.getvalue())
+        if output.getvalue() and not output.getvalue().endswith("\n"):
+            stdout.write("\n")
+        # still forward stderr to the server logs
+        sys.stderr.write(errors.getvalue())
+        sys.stderr.flush()
+        end_response(stdout, code, errors.getvalue())
+
+
+if __name__ == "__main__":
+    main()
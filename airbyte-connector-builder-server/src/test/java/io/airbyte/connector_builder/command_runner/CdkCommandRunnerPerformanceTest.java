@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
+import io.airbyte.connector_builder.requester.AirbyteCdkRequesterImpl;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the latency of resolve_manifest requests when each request launches its own Python
+ * process and when requests are handled by the pool of pre-warmed CDK workers.
+ * <p>
+ * Requires the `CDK_PYTHON` and `CDK_ENTRYPOINT` env vars to point at a local CDK install.
+ */
+public class CdkCommandRunnerPerformanceTest {
+
+  private static final Logger log = LoggerFactory.getLogger(CdkCommandRunnerPerformanceTest.class);
+
+  private static final int REQUESTS = 50;
+  private static final Path MANIFEST = Path.of("src/test/java/io/airbyte/connector_builder/fixtures/ValidManifest.json");
+
+  static long medianLatencyMs(final SynchronousCdkCommandRunner runner, final JsonNode manifest) throws IOException {
+    final AirbyteCdkRequesterImpl requester = new AirbyteCdkRequesterImpl(runner);
+    final List<Long> latencies = new ArrayList<>();
+    for (int i = 0; i < REQUESTS; i++) {
+      final long start = System.nanoTime();
+      requester.resolveManifest(manifest);
+      latencies.add((System.nanoTime() - start) / 1_000_000);
+    }
+    Collections.sort(latencies);
+    return latencies.get(latencies.size() / 2);
+  }
+
+  public static void main(final String[] args) throws IOException, InterruptedException {
+    // Run this main class from the module directory to start benchmarking.
+    final String python = System.getenv("CDK_PYTHON");
+    final String cdkEntrypoint = System.getenv("CDK_ENTRYPOINT");
+    final JsonNode manifest = new ObjectMapper().readTree(Files.readString(MANIFEST));
+
+    final SynchronousPythonCdkCommandRunner perProcessRunner = new SynchronousPythonCdkCommandRunner(
+        new AirbyteFileWriterImpl(),
+        VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false),
+        python,
+        cdkEntrypoint);
+    final long perProcess = medianLatencyMs(perProcessRunner, manifest);
+
+    try (final CdkWorkerPool pool =
+        new CdkWorkerPool(() -> new PythonCdkWorker(python, cdkEntrypoint, Duration.ofSeconds(30)), 2, 100, Duration.ofSeconds(30))) {
+      pool.warmUp();
+      final long pooled = medianLatencyMs(new PooledPythonCdkCommandRunner(
+          new AirbyteFileWriterImpl(),
+          VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory(false),
+          pool,
+          perProcessRunner), manifest);
+
+      log.info("p50 resolve_manifest latency: {} ms with a process per request, {} ms with the worker pool", perProcess, pooled);
+    }
+  }
+
+}
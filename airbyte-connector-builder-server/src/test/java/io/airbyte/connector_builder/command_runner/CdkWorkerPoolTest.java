@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CdkWorkerPoolTest {
+
+  private static final List<String> REQUEST = List.of("read", "--config", "config.json");
+  private static final Duration ACQUIRE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final List<FakeWorker> workers = new ArrayList<>();
+  private CdkWorkerPool pool;
+
+  /**
+   * Answers with its own id and the number of requests it handled, fails on requests for "fail" and
+   * exits with an error on requests for "exit".
+   */
+  private final class FakeWorker implements CdkWorker {
+
+    private final int id = workers.size();
+    private int requests;
+    private boolean closed;
+
+    @Override
+    public Response handle(final List<String> args) throws IOException {
+      if (args.contains("fail")) {
+        throw new IOException("worker died");
+      }
+      if (args.contains("exit")) {
+        return new Response(List.of(), 1, "Traceback");
+      }
+      requests++;
+      return new Response(List.of(id + ":" + requests), 0, "");
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+
+  }
+
+  private synchronized CdkWorker createWorker() {
+    final FakeWorker worker = new FakeWorker();
+    workers.add(worker);
+    return worker;
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  private void awaitIdleWorkers(final int count) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (pool.getIdleWorkers() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(count, pool.getIdleWorkers());
+  }
+
+  @Test
+  void testWarmWorkersAreReused() throws Exception {
+    pool = new CdkWorkerPool(this::createWorker, 2, 100, ACQUIRE_TIMEOUT);
+    pool.warmUp();
+    awaitIdleWorkers(2);
+
+    assertEquals(List.of("0:1"), pool.handle(REQUEST).orElseThrow().lines());
+    assertEquals(List.of("0:2"), pool.handle(REQUEST).orElseThrow().lines());
+    assertEquals(List.of("0:3"), pool.handle(REQUEST).orElseThrow().lines());
+    assertEquals(2, pool.getStartedWorkers());
+  }
+
+  @Test
+  void testWorkerIsStartedInlineWhenNoneIsWarm() throws Exception {
+    pool = new CdkWorkerPool(this::createWorker, 1, 100, ACQUIRE_TIMEOUT);
+
+    assertEquals(List.of("0:1"), pool.handle(REQUEST).orElseThrow().lines());
+    assertEquals(1, pool.getStartedWorkers());
+  }
+
+  @Test
+  void testWorkerIsRecycledAfterMaxRequests() throws Exception {
+    pool = new CdkWorkerPool(this::createWorker, 1, 2, ACQUIRE_TIMEOUT);
+    pool.warmUp();
+    awaitIdleWorkers(1);
+
+    assertEquals(List.of("0:1"), pool.handle(REQUEST).orElseThrow().lines());
+    assertEquals(List.of("0:2"), pool.handle(REQUEST).orElseThrow().lines());
+    assertTrue(workers.get(0).closed);
+
+    awaitIdleWorkers(1);
+    assertEquals(List.of("1:1"), pool.handle(REQUEST).orElseThrow().lines());
+  }
+
+  @Test
+  void testWorkerIsRecycledOnError() throws Exception {
+    pool = new CdkWorkerPool(this::createWorker, 1, 100, ACQUIRE_TIMEOUT);
+    pool.warmUp();
+    awaitIdleWorkers(1);
+
+    assertThrows(IOException.class, () -> pool.handle(List.of("fail")));
+    assertTrue(workers.get(0).closed);
+
+    awaitIdleWorkers(1);
+    assertEquals(List.of("1:1"), pool.handle(REQUEST).orElseThrow().lines());
+  }
+
+  @Test
+  void testWorkerIsRecycledWhenTheCdkExitsWithAnError() throws Exception {
+    pool = new CdkWorkerPool(this::createWorker, 1, 100, ACQUIRE_TIMEOUT);
+    pool.warmUp();
+    awaitIdleWorkers(1);
+
+    final CdkWorker.Response response = pool.handle(List.of("exit")).orElseThrow();
+    assertEquals(1, response.exitCode());
+    assertEquals("Traceback", response.stderr());
+    assertTrue(workers.get(0).closed);
+
+    awaitIdleWorkers(1);
+    assertEquals(List.of("1:1"), pool.handle(REQUEST).orElseThrow().lines());
+  }
+
+  @Test
+  void testBurstDoesNotStartMoreWorkersThanThePoolSize() throws Exception {
+    pool = new CdkWorkerPool(() -> {
+      try {
+        // slow enough for requests to arrive while the warm up is still running
+        Thread.sleep(50);
+      } catch (final InterruptedException e) {
+        throw new IOException(e);
+      }
+      return createWorker();
+    }, 2, 100, ACQUIRE_TIMEOUT);
+    pool.warmUp();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(10);
+    try {
+      final List<Future<CdkWorker.Response>> responses = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        responses.add(executor.submit(() -> pool.handle(REQUEST).orElseThrow()));
+      }
+      for (final Future<CdkWorker.Response> response : responses) {
+        assertEquals(1, response.get(5, TimeUnit.SECONDS).lines().size());
+      }
+      awaitIdleWorkers(2);
+      assertEquals(2, pool.getStartedWorkers());
+      assertEquals(2, pool.getLiveWorkers());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testConcurrentRequestsAreBoundedByThePoolSize() throws Exception {
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    pool = new CdkWorkerPool(() -> new CdkWorker() {
+
+      @Override
+      public Response handle(final List<String> args) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+          throw new IOException(e);
+        } finally {
+          inFlight.decrementAndGet();
+        }
+        return new Response(List.of(), 0, "");
+      }
+
+      @Override
+      public void close() {}
+
+    }, 2, 100, ACQUIRE_TIMEOUT);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(5);
+    try {
+      final List<Future<CdkWorker.Response>> responses = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        responses.add(executor.submit(() -> pool.handle(REQUEST).orElseThrow()));
+      }
+      Thread.sleep(200);
+      assertEquals(2, inFlight.get());
+
+      release.countDown();
+      for (final Future<CdkWorker.Response> response : responses) {
+        assertEquals(List.of(), response.get(5, TimeUnit.SECONDS).lines());
+      }
+      assertEquals(2, maxInFlight.get());
+      assertTrue(pool.getStartedWorkers() <= 2);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRequestIsNotHandledWhenNoWorkerIsAvailableInTime() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    pool = new CdkWorkerPool(() -> new CdkWorker() {
+
+      @Override
+      public Response handle(final List<String> args) throws IOException {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+          throw new IOException(e);
+        }
+        return new Response(List.of(), 0, "");
+      }
+
+      @Override
+      public void close() {}
+
+    }, 1, 100, Duration.ofMillis(50));
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<Optional<CdkWorker.Response>> busy = executor.submit(() -> pool.handle(REQUEST));
+      Thread.sleep(100);
+
+      assertEquals(Optional.empty(), pool.handle(REQUEST));
+
+      release.countDown();
+      assertTrue(busy.get(5, TimeUnit.SECONDS).isPresent());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+}
@@ -11,7 +11,9 @@ import io.airbyte.workers.storage.DocumentStoreClient;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,11 +66,13 @@ public class AsyncStateManager {
    * <p>
    * Checks terminal states first, then running, then initialized. Defaults to not started.
    * <p>
-   * The order matters here!
+   * The order matters here! All written states are fetched with a single listing of the document
+   * store.
    */
   public AsyncKubePodStatus getStatus() {
+    final Set<String> writtenKeys = new HashSet<>(documentStoreClient.list(getDocumentStoreKeyPrefix()));
     return STATUS_CHECK_ORDER.stream()
-        .filter(this::statusFileExists)
+        .filter(status -> writtenKeys.contains(getDocumentStoreKey(status)))
         .findFirst()
         .orElse(AsyncKubePodStatus.NOT_STARTED);
   }
@@ -93,12 +97,11 @@ public class AsyncStateManager {
    */
   @VisibleForTesting
   String getDocumentStoreKey(final AsyncKubePodStatus status) {
-    return kubePodInfo.namespace() + "/" + kubePodInfo.name() + "/" + status.name();
+    return getDocumentStoreKeyPrefix() + status.name();
   }
 
-  private boolean statusFileExists(final AsyncKubePodStatus status) {
-    final var key = getDocumentStoreKey(status);
-    return documentStoreClient.read(key).isPresent();
+  private String getDocumentStoreKeyPrefix() {
+    return kubePodInfo.namespace() + "/" + kubePodInfo.name() + "/";
   }
 
 }
@@ -6,7 +6,9 @@ package io.airbyte.container_orchestrator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,7 +16,12 @@ import static org.mockito.Mockito.when;
 import io.airbyte.workers.process.AsyncKubePodStatus;
 import io.airbyte.workers.process.KubeContainerInfo;
 import io.airbyte.workers.process.KubePodInfo;
+import io.airbyte.workers.storage.DockerComposeDocumentStoreClient;
 import io.airbyte.workers.storage.DocumentStoreClient;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -71,41 +78,63 @@ class AsyncStateManagerTest {
 
   @Test
   void testSuccessfulStatusRetrievalLifecycle() {
-    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.INITIALIZING))).thenReturn(Optional.empty());
     final var beforeInitializingStatus = stateManager.getStatus();
     assertEquals(AsyncKubePodStatus.NOT_STARTED, beforeInitializingStatus);
 
-    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.INITIALIZING))).thenReturn(Optional.of(""));
+    givenWrittenStatuses(AsyncKubePodStatus.INITIALIZING);
     final var initializingStatus = stateManager.getStatus();
     assertEquals(AsyncKubePodStatus.INITIALIZING, initializingStatus);
 
-    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.RUNNING))).thenReturn(Optional.of(""));
+    givenWrittenStatuses(AsyncKubePodStatus.INITIALIZING, AsyncKubePodStatus.RUNNING);
     final var runningStatus = stateManager.getStatus();
     assertEquals(AsyncKubePodStatus.RUNNING, runningStatus);
 
-    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.SUCCEEDED))).thenReturn(
-        Optional.of("output"));
+    givenWrittenStatuses(AsyncKubePodStatus.INITIALIZING, AsyncKubePodStatus.RUNNING, AsyncKubePodStatus.SUCCEEDED);
     final var succeededStatus = stateManager.getStatus();
     assertEquals(AsyncKubePodStatus.SUCCEEDED, succeededStatus);
   }
 
   @Test
   void testFailureStatusRetrievalLifecycle() {
-    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.INITIALIZING))).thenReturn(Optional.empty());
     final var beforeInitializingStatus = stateManager.getStatus();
     assertEquals(AsyncKubePodStatus.NOT_STARTED, beforeInitializingStatus);
 
-    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.INITIALIZING))).thenReturn(Optional.of(""));
+    givenWrittenStatuses(AsyncKubePodStatus.INITIALIZING);
     final var initializingStatus = stateManager.getStatus();
     assertEquals(AsyncKubePodStatus.INITIALIZING, initializingStatus);
 
-    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.RUNNING))).thenReturn(Optional.of(""));
+    givenWrittenStatuses(AsyncKubePodStatus.INITIALIZING, AsyncKubePodStatus.RUNNING);
     final var runningStatus = stateManager.getStatus();
     assertEquals(AsyncKubePodStatus.RUNNING, runningStatus);
 
-    when(documentStore.read(stateManager.getDocumentStoreKey(AsyncKubePodStatus.FAILED))).thenReturn(Optional.of("output"));
+    givenWrittenStatuses(AsyncKubePodStatus.INITIALIZING, AsyncKubePodStatus.RUNNING, AsyncKubePodStatus.FAILED);
     final var failedStatus = stateManager.getStatus();
     assertEquals(AsyncKubePodStatus.FAILED, failedStatus);
   }
 
+  @Test
+  void testStatusRetrievalFromALocalDocumentStore() throws IOException {
+    final var localStateManager = new AsyncStateManager(
+        new DockerComposeDocumentStoreClient(Files.createTempDirectory(Path.of("/tmp"), "async_state")), KUBE_POD_INFO);
+    localStateManager.write(AsyncKubePodStatus.INITIALIZING);
+    localStateManager.write(AsyncKubePodStatus.RUNNING);
+    assertEquals(AsyncKubePodStatus.RUNNING, localStateManager.getStatus());
+
+    localStateManager.write(AsyncKubePodStatus.SUCCEEDED, OUTPUT);
+    assertEquals(AsyncKubePodStatus.SUCCEEDED, localStateManager.getStatus());
+    assertEquals(OUTPUT, localStateManager.getOutput());
+  }
+
+  @Test
+  void testStatusIsRetrievedWithASingleListing() {
+    givenWrittenStatuses(AsyncKubePodStatus.INITIALIZING);
+    stateManager.getStatus();
+    verify(documentStore, times(1)).list("default/pod1/");
+    verify(documentStore, never()).read(anyString());
+  }
+
+  private void givenWrittenStatuses(final AsyncKubePodStatus... statuses) {
+    when(documentStore.list("default/pod1/")).thenReturn(Arrays.stream(statuses).map(stateManager::getDocumentStoreKey).toList());
+  }
+
 }
@@ -147,8 +147,9 @@ public class DatabaseBeanFactory {
 
   @Singleton
   @Requires(env = WorkerMode.CONTROL_PLANE)
-  public JobPersistence jobPersistence(@Named("jobsDatabase") final Database jobDatabase) {
-    return new DefaultJobPersistence(jobDatabase);
+  public JobPersistence jobPersistence(@Named("jobsDatabase") final Database jobDatabase,
+                                       @Value("${airbyte.cron.purge-job-history.batch-size}") final int purgeBatchSize) {
+    return new DefaultJobPersistence(jobDatabase, purgeBatchSize);
   }
 
   @Singleton
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.cron.jobs;
+
+import static io.airbyte.cron.MicronautCronRunner.SCHEDULED_TRACE_OPERATION_NAME;
+
+import datadog.trace.api.Trace;
+import io.airbyte.commons.temporal.config.WorkerMode;
+import io.airbyte.metrics.lib.MetricAttribute;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.persistence.job.JobPersistence;
+import io.airbyte.persistence.job.JobPersistence.PurgedJobs;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Purges old job history in bounded batches. Each batch is deleted in its own short transaction so
+ * writers are never locked out for long, and an interrupted run is simply picked up by the next one.
+ * This can be enabled by setting PURGE_JOB_HISTORY_CRON_ENABLED=true.
+ */
+@Singleton
+@Slf4j
+@Requires(env = WorkerMode.CONTROL_PLANE)
+@Requires(property = "airbyte.cron.purge-job-history.enabled",
+          value = "true")
+public class JobHistoryPurger {
+
+  private final JobPersistence jobPersistence;
+  private final MetricClient metricClient;
+  private final int batchSize;
+
+  public JobHistoryPurger(final JobPersistence jobPersistence,
+                          final MetricClient metricClient,
+                          @Value("${airbyte.cron.purge-job-history.batch-size}") final int batchSize) {
+    log.info("Creating job history purger");
+
+    this.jobPersistence = jobPersistence;
+    this.metricClient = metricClient;
+    this.batchSize = batchSize;
+  }
+
+  @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
+  @Scheduled(fixedDelay = "${airbyte.cron.purge-job-history.interval}",
+             initialDelay = "10m")
+  void purgeJobHistory() throws IOException {
+    metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "job_history_purger"));
+
+    final LocalDateTime asOfDate = LocalDateTime.now();
+    log.info("Purging job history in batches of {}", batchSize);
+
+    final List<Long> jobIds = jobPersistence.listJobIdsToPurge(asOfDate);
+    int purgedJobs = 0;
+    for (int from = 0; from < jobIds.size(); from += batchSize) {
+      final List<Long> batch = jobIds.subList(from, Math.min(from + batchSize, jobIds.size()));
+      final long start = System.currentTimeMillis();
+      final PurgedJobs purged = jobPersistence.purgeJobs(batch);
+      metricClient.distribution(OssMetricsRegistry.JOB_HISTORY_PURGE_BATCH_DURATION_MS, System.currentTimeMillis() - start);
+      metricClient.count(OssMetricsRegistry.JOB_HISTORY_PURGE_ROWS_PURGED, purged.rows());
+      purgedJobs += purged.jobs();
+      log.debug("Purged {} jobs, {} attempts and {} rows in total (up to job {})", purged.jobs(), purged.attempts(), purged.rows(),
+          batch.get(batch.size() - 1));
+    }
+    log.info("Done purging job history, {} jobs purged", purgedJobs);
+  }
+
+}
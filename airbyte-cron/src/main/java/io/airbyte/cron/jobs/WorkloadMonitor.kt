@@ -11,7 +11,9 @@ import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.LongRunningWorkloadRequest
 import io.airbyte.workload.api.client.model.generated.Workload
 import io.airbyte.workload.api.client.model.generated.WorkloadCancelRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadListCursor
 import io.airbyte.workload.api.client.model.generated.WorkloadListRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Property
@@ -42,6 +44,7 @@ open class WorkloadMonitor(
   @Property(name = "airbyte.workload.monitor.non-sync-workload-timeout") private val nonSyncWorkloadTimeout: Duration,
   @Property(name = "airbyte.workload.monitor.sync-workload-timeout") private val syncWorkloadTimeout: Duration,
   @Named("replicationNotStartedTimeout") private val nonStartedTimeout: Duration,
+  @Property(name = "airbyte.workload.monitor.page-size") private val pageSize: Int,
   private val metricClient: MetricClient,
   private val timeProvider: (ZoneId) -> OffsetDateTime = OffsetDateTime::now,
 ) {
@@ -64,15 +67,16 @@ open class WorkloadMonitor(
   open fun cancelNotStartedWorkloads() {
     logger.info { "Checking for not started workloads." }
     val oldestStartedTime = timeProvider(ZoneOffset.UTC).minusSeconds(nonStartedTimeout.seconds)
-    val notStartedWorkloads =
-      workloadApi.workloadList(
-        WorkloadListRequest(
-          status = listOf(WorkloadStatus.CLAIMED),
-          updatedBefore = oldestStartedTime,
-        ),
+    val request =
+      WorkloadListRequest(
+        status = listOf(WorkloadStatus.CLAIMED),
+        updatedBefore = oldestStartedTime,
+        pageSize = pageSize,
       )
 
-    cancelWorkloads(notStartedWorkloads.workloads, "Not started within time limit", CHECK_START)
+    forEachPage({ cursor -> workloadApi.workloadList(request.copy(cursor = cursor)) }) {
+      cancelWorkloads(it, "Not started within time limit", CHECK_START)
+    }
   }
 
   @Trace
@@ -86,15 +90,16 @@ open class WorkloadMonitor(
   open fun cancelNotClaimedWorkloads() {
     logger.info { "Checking for not claimed workloads." }
     val oldestClaimTime = timeProvider(ZoneOffset.UTC).minusSeconds(claimTimeout.seconds)
-    val notClaimedWorkloads =
-      workloadApi.workloadList(
-        WorkloadListRequest(
-          status = listOf(WorkloadStatus.PENDING),
-          updatedBefore = oldestClaimTime,
-        ),
+    val request =
+      WorkloadListRequest(
+        status = listOf(WorkloadStatus.PENDING),
+        updatedBefore = oldestClaimTime,
+        pageSize = pageSize,
       )
 
-    cancelWorkloads(notClaimedWorkloads.workloads, "Not claimed within time limit", CHECK_CLAIMS)
+    forEachPage({ cursor -> workloadApi.workloadList(request.copy(cursor = cursor)) }) {
+      cancelWorkloads(it, "Not claimed within time limit", CHECK_CLAIMS)
+    }
   }
 
   @Trace
@@ -108,15 +113,16 @@ open class WorkloadMonitor(
   open fun cancelNotHeartbeatingWorkloads() {
     logger.info { "Checking for non heartbeating workloads." }
     val oldestHeartbeatTime = timeProvider(ZoneOffset.UTC).minusSeconds(heartbeatTimeout.seconds)
-    val nonHeartbeatingWorkloads =
-      workloadApi.workloadList(
-        WorkloadListRequest(
-          status = listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED),
-          updatedBefore = oldestHeartbeatTime,
-        ),
+    val request =
+      WorkloadListRequest(
+        status = listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED),
+        updatedBefore = oldestHeartbeatTime,
+        pageSize = pageSize,
       )
 
-    cancelWorkloads(nonHeartbeatingWorkloads.workloads, "No heartbeat within time limit", CHECK_HEARTBEAT)
+    forEachPage({ cursor -> workloadApi.workloadList(request.copy(cursor = cursor)) }) {
+      cancelWorkloads(it, "No heartbeat within time limit", CHECK_HEARTBEAT)
+    }
   }
 
   @Trace
@@ -129,14 +135,15 @@ open class WorkloadMonitor(
   @Scheduled(fixedRate = "\${airbyte.workload.monitor.non-sync-age-check-rate}")
   open fun cancelRunningForTooLongNonSyncWorkloads() {
     logger.info { "Checking for workloads running for too long with timeout value $nonSyncWorkloadTimeout" }
-    val nonHeartbeatingWorkloads =
-      workloadApi.workloadListOldNonSync(
-        LongRunningWorkloadRequest(
-          createdBefore = timeProvider(ZoneOffset.UTC).minus(nonSyncWorkloadTimeout),
-        ),
+    val request =
+      LongRunningWorkloadRequest(
+        createdBefore = timeProvider(ZoneOffset.UTC).minus(nonSyncWorkloadTimeout),
+        pageSize = pageSize,
       )
 
-    cancelWorkloads(nonHeartbeatingWorkloads.workloads, "Non sync workload timeout", CHECK_NON_SYNC_TIMEOUT)
+    forEachPage({ cursor -> workloadApi.workloadListOldNonSync(request.copy(cursor = cursor)) }) {
+      cancelWorkloads(it, "Non sync workload timeout", CHECK_NON_SYNC_TIMEOUT)
+    }
   }
 
   @Trace
@@ -149,14 +156,31 @@ open class WorkloadMonitor(
   @Scheduled(fixedRate = "\${airbyte.workload.monitor.sync-age-check-rate}")
   open fun cancelRunningForTooLongSyncWorkloads() {
     logger.info { "Checking for sync workloads running for too long with timeout value $syncWorkloadTimeout" }
-    val nonHeartbeatingWorkloads =
-      workloadApi.workloadListOldSync(
-        LongRunningWorkloadRequest(
-          createdBefore = timeProvider(ZoneOffset.UTC).minus(syncWorkloadTimeout),
-        ),
+    val request =
+      LongRunningWorkloadRequest(
+        createdBefore = timeProvider(ZoneOffset.UTC).minus(syncWorkloadTimeout),
+        pageSize = pageSize,
       )
 
-    cancelWorkloads(nonHeartbeatingWorkloads.workloads, "Sync workload timeout", CHECK_SYNC_TIMEOUT)
+    forEachPage({ cursor -> workloadApi.workloadListOldSync(request.copy(cursor = cursor)) }) {
+      cancelWorkloads(it, "Sync workload timeout", CHECK_SYNC_TIMEOUT)
+    }
+  }
+
+  /**
+   * Streams through a paginated workload listing, handing each page to [consumer] before fetching the next one.
+   * Workloads are paginated by (createdAt, id), so cancelling workloads from a page does not shift later pages.
+   */
+  private fun forEachPage(
+    fetchPage: (WorkloadListCursor?) -> WorkloadListResponse,
+    consumer: (List<Workload>) -> Unit,
+  ) {
+    var cursor: WorkloadListCursor? = null
+    do {
+      val page = fetchPage(cursor)
+      consumer(page.workloads)
+      cursor = page.nextCursor
+    } while (cursor != null)
   }
 
   private fun cancelWorkloads(
@@ -0,0 +1,35 @@
+package io.airbyte.cron.jobs
+
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.airbyte.persistence.job.JobPersistence
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Test
+
+class JobHistoryPurgerTest {
+  @Test
+  fun `purges job history in batches`() {
+    val jobPersistence: JobPersistence = mockk()
+    val metricClient: MetricClient =
+      mockk<MetricClient>().also {
+        every { it.count(any(), any(), *anyVararg()) } returns Unit
+        every { it.distribution(any(), any(), *anyVararg()) } returns Unit
+      }
+    every { jobPersistence.listJobIdsToPurge(any()) } returns listOf(1L, 2L, 3L, 4L, 5L)
+    every { jobPersistence.purgeJobs(any()) } answers {
+      val batch = firstArg<List<Long>>()
+      JobPersistence.PurgedJobs(batch.size, 0, batch.size)
+    }
+
+    JobHistoryPurger(jobPersistence, metricClient, 2).purgeJobHistory()
+
+    verify(exactly = 1) { jobPersistence.purgeJobs(listOf(1L, 2L)) }
+    verify(exactly = 1) { jobPersistence.purgeJobs(listOf(3L, 4L)) }
+    verify(exactly = 1) { jobPersistence.purgeJobs(listOf(5L)) }
+    verify(exactly = 1) { jobPersistence.listJobIdsToPurge(any()) }
+    verify(exactly = 3) { metricClient.distribution(OssMetricsRegistry.JOB_HISTORY_PURGE_BATCH_DURATION_MS, any()) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.JOB_HISTORY_PURGE_ROWS_PURGED, 1) }
+  }
+}
@@ -6,6 +6,7 @@ import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadListCursor
 import io.airbyte.workload.api.client.model.generated.WorkloadListRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
@@ -48,6 +49,7 @@ class WorkloadMonitorTest {
         claimTimeout = claimTimeout,
         heartbeatTimeout = heartbeatTimeout,
         nonStartedTimeout = nonStartedTimeout,
+        pageSize = 3,
         nonSyncWorkloadTimeout = nonSyncTimeout,
         syncWorkloadTimeout = syncTimeout,
         metricClient = metricClient,
@@ -257,6 +259,24 @@ class WorkloadMonitorTest {
     }
   }
 
+  @Test
+  fun `test cancel not claimed workloads streams through every page`() {
+    val cursor = WorkloadListCursor(createdAt = OffsetDateTime.now(), id = "c")
+    val firstPage = WorkloadListResponse(workloads = listOf(getWorkload("a"), getWorkload("b"), getWorkload("c")), nextCursor = cursor)
+    val secondPage = WorkloadListResponse(workloads = listOf(getWorkload("d")))
+    currentTime = OffsetDateTime.now()
+    every { workloadApi.workloadList(match { it.cursor == null }) } returns firstPage
+    every { workloadApi.workloadList(match { it.cursor == cursor }) } returns secondPage
+    every { workloadApi.workloadCancel(any()) } returns Unit
+
+    workloadMonitor.cancelNotClaimedWorkloads()
+
+    verify(exactly = 2) { workloadApi.workloadList(match { it.pageSize == 3 && it.status == listOf(WorkloadStatus.PENDING) }) }
+    listOf("a", "b", "c", "d").forEach { id ->
+      verify(exactly = 1) { workloadApi.workloadCancel(match { it.workloadId == id }) }
+    }
+  }
+
   fun getWorkload(id: String): Workload {
     return mockkClass(Workload::class).also {
       every { it.id } returns id
@@ -7,6 +7,8 @@ package io.airbyte.data.services;
 import io.airbyte.config.Geography;
 import io.airbyte.config.StandardSync;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ConnectionSearchQuery;
+import io.airbyte.data.services.shared.ConnectionSummary;
 import io.airbyte.data.services.shared.StandardSyncQuery;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
@@ -37,6 +39,10 @@ public interface ConnectionService {
 
   List<StandardSync> listWorkspaceStandardSyncs(StandardSyncQuery standardSyncQuery) throws IOException;
 
+  List<ConnectionSummary> listWorkspaceConnectionSummaries(StandardSyncQuery standardSyncQuery) throws IOException;
+
+  List<StandardSync> searchStandardSyncs(ConnectionSearchQuery connectionSearchQuery) throws IOException;
+
   Map<UUID, List<StandardSync>> listWorkspaceStandardSyncsPaginated(List<UUID> workspaceIds, boolean includeDeleted, int pageSize, int rowOffset)
       throws IOException;
 
@@ -9,6 +9,7 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ActorSearchQuery;
 import io.airbyte.data.services.shared.DestinationAndDefinition;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.protocol.models.ConnectorSpecification;
@@ -42,6 +43,8 @@ public interface DestinationService {
   void updateStandardDestinationDefinition(StandardDestinationDefinition destinationDefinition)
       throws IOException, JsonValidationException, ConfigNotFoundException;
 
+  void updateStandardDestinationDefinitions(List<StandardDestinationDefinition> destinationDefinitions) throws IOException;
+
   DestinationConnection getDestinationConnection(UUID destinationId) throws JsonValidationException, IOException, ConfigNotFoundException;
 
   void writeDestinationConnectionNoSecrets(DestinationConnection partialDestination) throws IOException;
@@ -50,6 +53,8 @@ public interface DestinationService {
 
   List<DestinationConnection> listWorkspaceDestinationConnection(UUID workspaceId) throws IOException;
 
+  List<DestinationConnection> searchDestinationConnections(ActorSearchQuery actorSearchQuery) throws IOException;
+
   List<DestinationConnection> listWorkspacesDestinationConnections(ResourcesQueryPaginated resourcesQueryPaginated) throws IOException;
 
   List<DestinationConnection> listDestinationsForDefinition(UUID definitionId) throws IOException;
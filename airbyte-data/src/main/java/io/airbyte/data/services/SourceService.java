@@ -9,6 +9,7 @@ import io.airbyte.config.ActorDefinitionVersion;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.data.services.shared.ActorSearchQuery;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.data.services.shared.SourceAndDefinition;
 import io.airbyte.protocol.models.ConnectorSpecification;
@@ -39,6 +40,8 @@ public interface SourceService {
 
   void updateStandardSourceDefinition(StandardSourceDefinition sourceDefinition) throws IOException, JsonValidationException, ConfigNotFoundException;
 
+  void updateStandardSourceDefinitions(List<StandardSourceDefinition> sourceDefinitions) throws IOException;
+
   SourceConnection getSourceConnection(UUID sourceId) throws JsonValidationException, ConfigNotFoundException, IOException;
 
   void writeSourceConnectionNoSecrets(SourceConnection partialSource) throws IOException;
@@ -49,6 +52,8 @@ public interface SourceService {
 
   List<SourceConnection> listWorkspaceSourceConnection(UUID workspaceId) throws IOException;
 
+  List<SourceConnection> searchSourceConnections(ActorSearchQuery actorSearchQuery) throws IOException;
+
   List<SourceConnection> listWorkspacesSourceConnections(ResourcesQueryPaginated resourcesQueryPaginated) throws IOException;
 
   List<SourceConnection> listSourcesForDefinition(UUID definitionId) throws IOException;
@@ -27,6 +27,8 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
+import io.airbyte.data.services.shared.ConnectionSearchQuery;
+import io.airbyte.data.services.shared.ConnectionSummary;
 import io.airbyte.data.services.shared.StandardSyncQuery;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.db.Database;
@@ -36,6 +38,7 @@ import io.airbyte.db.instance.configs.jooq.generated.enums.AutoPropagationStatus
 import io.airbyte.db.instance.configs.jooq.generated.enums.NotificationType;
 import io.airbyte.db.instance.configs.jooq.generated.enums.ReleaseStage;
 import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
+import io.airbyte.db.instance.configs.jooq.generated.tables.Actor;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.NotificationConfigurationRecord;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.SchemaManagementRecord;
 import io.airbyte.protocol.models.CatalogHelpers;
@@ -235,6 +238,88 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
     return getStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
   }
 
+  /**
+   * List summaries of the connections for workspace via a query. Only the columns needed to list
+   * connections are read: the configured catalog, by far the largest part of a connection, is not.
+   *
+   * @param standardSyncQuery query
+   * @return list of connection summaries
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<ConnectionSummary> listWorkspaceConnectionSummaries(final StandardSyncQuery standardSyncQuery) throws IOException {
+    return database.query(ctx -> ctx
+        .select(
+            CONNECTION.ID,
+            CONNECTION.NAME,
+            CONNECTION.SOURCE_ID,
+            CONNECTION.DESTINATION_ID,
+            CONNECTION.STATUS,
+            CONNECTION.MANUAL,
+            CONNECTION.SCHEDULE,
+            CONNECTION.SCHEDULE_TYPE,
+            CONNECTION.SCHEDULE_DATA,
+            CONNECTION.SOURCE_CATALOG_ID,
+            CONNECTION.BREAKING_CHANGE)
+        .from(CONNECTION)
+        // join with source actors so that we can filter by workspaceId
+        .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
+        .where(ACTOR.WORKSPACE_ID.eq(standardSyncQuery.workspaceId())
+            .and(standardSyncQuery.destinationId() == null || standardSyncQuery.destinationId().isEmpty() ? noCondition()
+                : CONNECTION.DESTINATION_ID.in(standardSyncQuery.destinationId()))
+            .and(standardSyncQuery.sourceId() == null || standardSyncQuery.sourceId().isEmpty() ? noCondition()
+                : CONNECTION.SOURCE_ID.in(standardSyncQuery.sourceId()))
+            .and(standardSyncQuery.includeDeleted() ? noCondition()
+                : CONNECTION.STATUS.notEqual(StatusType.deprecated)))
+        .fetch())
+        .map(DbConverter::buildConnectionSummary);
+  }
+
+  /**
+   * Search connections, across all workspaces. The search criteria are applied in the database and
+   * results are ordered by connection id so that they can be paginated.
+   *
+   * @param connectionSearchQuery search criteria and pagination
+   * @return non-deprecated connections matching the search
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<StandardSync> searchStandardSyncs(final ConnectionSearchQuery connectionSearchQuery) throws IOException {
+    final Actor sourceActor = ACTOR.as("source_actor");
+    final Actor destinationActor = ACTOR.as("destination_actor");
+    final Result<Record> connectionAndOperationIdsResult = database.query(ctx -> SearchQueries.fetchPage(ctx
+        .select(
+            CONNECTION.asterisk(),
+            groupConcat(CONNECTION_OPERATION.OPERATION_ID).separator(OPERATION_IDS_AGG_DELIMITER).as(OPERATION_IDS_AGG_FIELD),
+            SCHEMA_MANAGEMENT.AUTO_PROPAGATION_STATUS)
+        .from(CONNECTION)
+        .leftJoin(CONNECTION_OPERATION).on(CONNECTION_OPERATION.CONNECTION_ID.eq(CONNECTION.ID))
+        .leftJoin(SCHEMA_MANAGEMENT).on(SCHEMA_MANAGEMENT.CONNECTION_ID.eq(CONNECTION.ID))
+        // join with both actors so that we can filter on the source and destination criteria
+        .join(sourceActor).on(CONNECTION.SOURCE_ID.eq(sourceActor.ID))
+        .join(destinationActor).on(CONNECTION.DESTINATION_ID.eq(destinationActor.ID))
+        .where(CONNECTION.STATUS.notEqual(StatusType.deprecated)
+            .and(connectionSearchQuery.connectionId() == null ? noCondition() : CONNECTION.ID.eq(connectionSearchQuery.connectionId()))
+            .and(connectionSearchQuery.name() == null || connectionSearchQuery.name().isBlank() ? noCondition()
+                : CONNECTION.NAME.eq(connectionSearchQuery.name()))
+            .and(connectionSearchQuery.sourceId() == null ? noCondition() : CONNECTION.SOURCE_ID.eq(connectionSearchQuery.sourceId()))
+            .and(connectionSearchQuery.destinationId() == null ? noCondition()
+                : CONNECTION.DESTINATION_ID.eq(connectionSearchQuery.destinationId()))
+            .and(connectionSearchQuery.status() == null ? noCondition()
+                : CONNECTION.STATUS.eq(Enums.toEnum(connectionSearchQuery.status().value(), StatusType.class).orElseThrow()))
+            .and(SearchQueries.actorMatches(sourceActor, connectionSearchQuery.source()))
+            .and(SearchQueries.actorMatches(destinationActor, connectionSearchQuery.destination())))
+        // group by connection.id so that the groupConcat above works
+        .groupBy(CONNECTION.ID, SCHEMA_MANAGEMENT.AUTO_PROPAGATION_STATUS)
+        .orderBy(CONNECTION.ID),
+        connectionSearchQuery.pageSize(),
+        connectionSearchQuery.rowOffset()));
+
+    final List<UUID> connectionIds = connectionAndOperationIdsResult.map(record -> record.get(CONNECTION.ID));
+
+    return getStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
+  }
+
   /**
    * List connections. Paginated.
    */
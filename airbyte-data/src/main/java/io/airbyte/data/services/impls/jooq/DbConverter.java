@@ -68,6 +68,7 @@ import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.SuggestedStreams;
 import io.airbyte.config.SupportLevel;
 import io.airbyte.config.WorkspaceServiceAccount;
+import io.airbyte.data.services.shared.ConnectionSummary;
 import io.airbyte.db.instance.configs.jooq.generated.enums.AutoPropagationStatus;
 import io.airbyte.db.instance.configs.jooq.generated.enums.NotificationType;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.NotificationConfigurationRecord;
@@ -145,6 +146,31 @@ public class DbConverter {
         .withNotifySchemaChangesByEmail(isEmailNotificationEnabled);
   }
 
+  /**
+   * Build a connection summary from a db record. The record does not need to contain the catalog
+   * columns of the connection.
+   *
+   * @param record db record.
+   * @return connection summary
+   */
+  public static ConnectionSummary buildConnectionSummary(final Record record) {
+    return new ConnectionSummary(
+        record.get(CONNECTION.ID),
+        record.get(CONNECTION.NAME),
+        record.get(CONNECTION.SOURCE_ID),
+        record.get(CONNECTION.DESTINATION_ID),
+        record.get(CONNECTION.STATUS) == null ? null
+            : Enums.toEnum(record.get(CONNECTION.STATUS, String.class), Status.class).orElseThrow(),
+        record.get(CONNECTION.MANUAL),
+        Jsons.deserialize(record.get(CONNECTION.SCHEDULE).data(), Schedule.class),
+        record.get(CONNECTION.SCHEDULE_TYPE) == null ? null
+            : Enums.toEnum(record.get(CONNECTION.SCHEDULE_TYPE, String.class), ScheduleType.class).orElseThrow(),
+        record.get(CONNECTION.SCHEDULE_DATA) == null ? null
+            : Jsons.deserialize(record.get(CONNECTION.SCHEDULE_DATA).data(), ScheduleData.class),
+        record.get(CONNECTION.SOURCE_CATALOG_ID),
+        record.get(CONNECTION.BREAKING_CHANGE));
+  }
+
   private static ConfiguredAirbyteCatalog parseConfiguredAirbyteCatalog(final String configuredAirbyteCatalogString) {
     final ConfiguredAirbyteCatalog configuredAirbyteCatalog = Jsons.deserialize(configuredAirbyteCatalogString, ConfiguredAirbyteCatalog.class);
     // On-the-fly migration of persisted data types related objects (protocol v0->v1)
@@ -36,6 +36,7 @@ import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SecretPersistenceConfigService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
 import io.airbyte.data.services.shared.DestinationAndDefinition;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.db.Database;
@@ -248,6 +249,23 @@ public class DestinationServiceJooqImpl implements DestinationService {
     });
   }
 
+  /**
+   * Update multiple destination definitions in one transaction. The definitions must already exist.
+   *
+   * @param destinationDefinitions destination definitions
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void updateStandardDestinationDefinitions(final List<StandardDestinationDefinition> destinationDefinitions) throws IOException {
+    if (destinationDefinitions.isEmpty()) {
+      return;
+    }
+    database.transaction(ctx -> {
+      writeStandardDestinationDefinition(destinationDefinitions, ctx);
+      return null;
+    });
+  }
+
   /**
    * Returns destination with a given id. Does not contain secrets.
    *
@@ -314,6 +332,26 @@ public class DestinationServiceJooqImpl implements DestinationService {
     return result.stream().map(DbConverter::buildDestinationConnection).collect(Collectors.toList());
   }
 
+  /**
+   * Returns the non-tombstoned destinations matching a search, ordered by id. Does not contain secrets.
+   *
+   * @param actorSearchQuery - search criteria and pagination
+   * @return destinations
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public List<DestinationConnection> searchDestinationConnections(final ActorSearchQuery actorSearchQuery) throws IOException {
+    final Result<Record> result = database.query(ctx -> SearchQueries.fetchPage(ctx.select(asterisk())
+        .from(ACTOR)
+        .where(ACTOR.ACTOR_TYPE.eq(ActorType.destination))
+        .and(ACTOR.TOMBSTONE.notEqual(true))
+        .and(SearchQueries.actorMatches(ACTOR, actorSearchQuery))
+        .orderBy(ACTOR.ID),
+        actorSearchQuery.pageSize(),
+        actorSearchQuery.rowOffset()));
+    return result.stream().map(DbConverter::buildDestinationConnection).collect(Collectors.toList());
+  }
+
   /**
    * Returns all destinations for a list of workspaces. Does not contain secrets.
    *
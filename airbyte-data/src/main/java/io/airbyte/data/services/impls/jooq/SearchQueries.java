@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.impls.jooq;
+
+import static org.jooq.impl.DSL.noCondition;
+
+import io.airbyte.data.services.shared.ActorSearchQuery;
+import io.airbyte.db.instance.configs.jooq.generated.tables.Actor;
+import org.jooq.Condition;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SelectLimitStep;
+
+/**
+ * Helpers to push search criteria down into SQL so that searches only read the matching rows.
+ */
+final class SearchQueries {
+
+  private SearchQueries() {}
+
+  /**
+   * Build the condition matching an actor search. Only the criteria set in the query are applied.
+   *
+   * @param actor actor table, possibly aliased
+   * @param query search query, may be null
+   * @return condition on the actor table
+   */
+  static Condition actorMatches(final Actor actor, final ActorSearchQuery query) {
+    if (query == null) {
+      return noCondition();
+    }
+    return (query.actorId() == null ? noCondition() : actor.ID.eq(query.actorId()))
+        .and(query.actorDefinitionId() == null ? noCondition() : actor.ACTOR_DEFINITION_ID.eq(query.actorDefinitionId()))
+        .and(query.workspaceId() == null ? noCondition() : actor.WORKSPACE_ID.eq(query.workspaceId()))
+        .and(query.name() == null || query.name().isBlank() ? noCondition() : actor.NAME.eq(query.name()));
+  }
+
+  /**
+   * Fetch a single page of an ordered select, or all its rows if no page size is given.
+   *
+   * @param select ordered select
+   * @param pageSize page size, may be null
+   * @param rowOffset row offset, may be null
+   * @param <R> record type
+   * @return fetched records
+   */
+  static <R extends Record> Result<R> fetchPage(final SelectLimitStep<R> select, final Integer pageSize, final Integer rowOffset) {
+    if (pageSize == null) {
+      return select.fetch();
+    }
+    return select.limit(pageSize).offset(rowOffset == null ? 0 : rowOffset).fetch();
+  }
+
+}
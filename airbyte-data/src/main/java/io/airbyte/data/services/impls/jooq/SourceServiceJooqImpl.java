@@ -36,6 +36,7 @@ import io.airbyte.config.secrets.persistence.RuntimeSecretPersistence;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.SecretPersistenceConfigService;
 import io.airbyte.data.services.SourceService;
+import io.airbyte.data.services.shared.ActorSearchQuery;
 import io.airbyte.data.services.shared.ResourcesQueryPaginated;
 import io.airbyte.data.services.shared.SourceAndDefinition;
 import io.airbyte.db.Database;
@@ -250,6 +251,23 @@ public class SourceServiceJooqImpl implements SourceService {
     });
   }
 
+  /**
+   * Update multiple source definitions in one transaction. The definitions must already exist.
+   *
+   * @param sourceDefinitions source definitions
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public void updateStandardSourceDefinitions(final List<StandardSourceDefinition> sourceDefinitions) throws IOException {
+    if (sourceDefinitions.isEmpty()) {
+      return;
+    }
+    database.transaction(ctx -> {
+      writeStandardSourceDefinition(sourceDefinitions, ctx);
+      return null;
+    });
+  }
+
   /**
    * Returns source with a given id. Does not contain secrets. To hydrate with secrets see { @link
    * SecretsRepositoryReader#getSourceConnectionWithSecrets(final UUID sourceId) }.
@@ -329,6 +347,26 @@ public class SourceServiceJooqImpl implements SourceService {
     return result.stream().map(DbConverter::buildSourceConnection).collect(Collectors.toList());
   }
 
+  /**
+   * Returns the non-tombstoned sources matching a search, ordered by id. Does not contain secrets.
+   *
+   * @param actorSearchQuery - search criteria and pagination
+   * @return sources
+   * @throws IOException - you never know when you IO
+   */
+  @Override
+  public List<SourceConnection> searchSourceConnections(final ActorSearchQuery actorSearchQuery) throws IOException {
+    final Result<Record> result = database.query(ctx -> SearchQueries.fetchPage(ctx.select(asterisk())
+        .from(ACTOR)
+        .where(ACTOR.ACTOR_TYPE.eq(ActorType.source))
+        .and(ACTOR.TOMBSTONE.notEqual(true))
+        .and(SearchQueries.actorMatches(ACTOR, actorSearchQuery))
+        .orderBy(ACTOR.ID),
+        actorSearchQuery.pageSize(),
+        actorSearchQuery.rowOffset()));
+    return result.stream().map(DbConverter::buildSourceConnection).collect(Collectors.toList());
+  }
+
   /**
    * Returns all sources for a set of workspaces. Does not contain secrets.
    *
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import java.util.UUID;
+
+/**
+ * Query object for searching sources/destinations. Every criterion is optional and only non-null
+ * ones are applied, as exact matches.
+ *
+ * @param actorId actor id
+ * @param actorDefinitionId actor definition id
+ * @param workspaceId workspace the actor belongs to
+ * @param name actor name
+ * @param pageSize limit, if null all matching actors are returned
+ * @param rowOffset offset, only used together with pageSize
+ */
+public record ActorSearchQuery(UUID actorId,
+                               UUID actorDefinitionId,
+                               UUID workspaceId,
+                               String name,
+                               Integer pageSize,
+                               Integer rowOffset) {
+
+}
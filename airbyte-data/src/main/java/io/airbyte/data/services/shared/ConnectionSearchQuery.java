@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import io.airbyte.config.StandardSync;
+import java.util.UUID;
+
+/**
+ * Query object for searching connections. Every criterion is optional and only non-null ones are
+ * applied, as exact matches. Deprecated connections are never returned.
+ *
+ * @param connectionId connection id
+ * @param name connection name
+ * @param sourceId source id
+ * @param destinationId destination id
+ * @param status connection status
+ * @param source criteria on the source of the connection, its pagination is ignored
+ * @param destination criteria on the destination of the connection, its pagination is ignored
+ * @param pageSize limit, if null all matching connections are returned
+ * @param rowOffset offset, only used together with pageSize
+ */
+public record ConnectionSearchQuery(UUID connectionId,
+                                    String name,
+                                    UUID sourceId,
+                                    UUID destinationId,
+                                    StandardSync.Status status,
+                                    ActorSearchQuery source,
+                                    ActorSearchQuery destination,
+                                    Integer pageSize,
+                                    Integer rowOffset) {
+
+}
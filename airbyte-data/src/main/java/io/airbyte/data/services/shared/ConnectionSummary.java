@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import io.airbyte.config.Schedule;
+import io.airbyte.config.ScheduleData;
+import io.airbyte.config.StandardSync.ScheduleType;
+import io.airbyte.config.StandardSync.Status;
+import java.util.UUID;
+
+/**
+ * Summary of a connection, as shown in connection lists.
+ * <p>
+ * Holds the columns of a connection needed to list it, but not its configured catalog, which is by
+ * far the largest part of a connection and can be loaded on demand with the full connection.
+ *
+ * @param connectionId connection id
+ * @param name connection name
+ * @param sourceId source id
+ * @param destinationId destination id
+ * @param status connection status
+ * @param manual legacy manual flag, used when the schedule type is not set
+ * @param schedule legacy schedule, used when the schedule type is not set
+ * @param scheduleType schedule type
+ * @param scheduleData schedule data
+ * @param sourceCatalogId id of the source catalog the connection was last configured with
+ * @param breakingChange whether the source schema changed in a breaking way
+ */
+public record ConnectionSummary(UUID connectionId,
+                                String name,
+                                UUID sourceId,
+                                UUID destinationId,
+                                Status status,
+                                Boolean manual,
+                                Schedule schedule,
+                                ScheduleType scheduleType,
+                                ScheduleData scheduleData,
+                                UUID sourceCatalogId,
+                                Boolean breakingChange) {
+
+}
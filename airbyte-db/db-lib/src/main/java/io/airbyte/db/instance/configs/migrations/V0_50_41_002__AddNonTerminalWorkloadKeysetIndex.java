@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds a partial index covering the keyset (created_at, id) of non-terminal workloads. The workload
+ * monitor and the launcher only ever page through pending/claimed/launched/running workloads, which
+ * are a tiny fraction of the table once it has accumulated history.
+ */
+public class V0_50_41_002__AddNonTerminalWorkloadKeysetIndex extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_50_41_002__AddNonTerminalWorkloadKeysetIndex.class);
+
+  private static final String TABLE = "workload";
+  private static final String INDEX_NAME = "workload_non_terminal_created_at_id_idx";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    ctx.createIndexIfNotExists(INDEX_NAME)
+        .on(TABLE, "created_at", "id")
+        .where(DSL.condition("status IN ('pending', 'claimed', 'launched', 'running')"))
+        .execute();
+  }
+
+}
@@ -11,6 +11,8 @@ import com.fasterxml.jackson.module.kotlin.registerKotlinModule
 import com.launchdarkly.sdk.ContextKind
 import com.launchdarkly.sdk.LDContext
 import com.launchdarkly.sdk.server.LDClient
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.MeterRegistry
 import io.micronaut.context.annotation.Property
 import io.micronaut.context.annotation.Requires
 import io.micronaut.context.annotation.Secondary
@@ -21,6 +23,8 @@ import java.lang.Thread.MIN_PRIORITY
 import java.nio.file.Path
 import java.nio.file.StandardWatchEventKinds
 import java.nio.file.WatchService
+import java.util.Collections
+import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.locks.ReentrantReadWriteLock
 import kotlin.concurrent.read
 import kotlin.concurrent.thread
@@ -150,17 +154,38 @@ class ConfigFileClient(
  * Also supports flags defined via environment-variables via the [EnvVar] class.
  *
  * @param [client] the Launch-Darkly client for interfacing with Launch-Darkly.
+ * @param [meterRegistry] optional registry the number of flag evaluations is reported to.
  */
 @Singleton
 @Requires(property = CONFIG_FF_CLIENT, value = CONFIG_FF_CLIENT_VAL_LAUNCHDARKLY)
-class LaunchDarklyClient(private val client: LDClient) : FeatureFlagClient {
+class LaunchDarklyClient(
+  private val client: LDClient,
+  private val meterRegistry: MeterRegistry? = null,
+) : FeatureFlagClient {
+  /**
+   * [ldContexts] holds the LaunchDarkly representation of the most recently evaluated contexts, as the same contexts
+   * tend to be evaluated against many flags.
+   */
+  private val ldContexts: MutableMap<Context, LDContext> =
+    Collections.synchronizedMap(
+      object : LinkedHashMap<Context, LDContext>(MAX_CACHED_CONTEXTS, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<Context, LDContext>?): Boolean = size > MAX_CACHED_CONTEXTS
+      },
+    )
+
+  /** [evaluations] holds the evaluation counter of each flag, by flag key. */
+  private val evaluations = ConcurrentHashMap<String, Counter>()
+
   override fun boolVariation(
     flag: Flag<Boolean>,
     context: Context,
   ): Boolean {
     return when (flag) {
       is EnvVar -> flag.enabled(context)
-      else -> client.boolVariation(flag.key, context.toLDContext(), flag.default)
+      else -> {
+        countEvaluation(flag)
+        client.boolVariation(flag.key, ldContext(context), flag.default)
+      }
     }
   }
 
@@ -168,14 +193,34 @@ class LaunchDarklyClient(private val client: LDClient) : FeatureFlagClient {
     flag: Flag<String>,
     context: Context,
   ): String {
-    return client.stringVariation(flag.key, context.toLDContext(), flag.default)
+    countEvaluation(flag)
+    return client.stringVariation(flag.key, ldContext(context), flag.default)
   }
 
   override fun intVariation(
     flag: Flag<Int>,
     context: Context,
   ): Int {
-    return client.intVariation(flag.key, context.toLDContext(), flag.default)
+    countEvaluation(flag)
+    return client.intVariation(flag.key, ldContext(context), flag.default)
+  }
+
+  private fun ldContext(context: Context): LDContext = ldContexts.computeIfAbsent(context) { it.toLDContext() }
+
+  private fun countEvaluation(flag: Flag<*>) {
+    meterRegistry?.let { registry ->
+      evaluations.computeIfAbsent(flag.key) { registry.counter(EVALUATIONS_METRIC_NAME, FLAG_TAG, it) }.increment()
+    }
+  }
+
+  companion object {
+    /** Upper bound of the number of contexts whose LaunchDarkly representation is kept around. */
+    private const val MAX_CACHED_CONTEXTS = 1000
+
+    /** Name of the counter incremented every time a flag is evaluated against LaunchDarkly. */
+    internal const val EVALUATIONS_METRIC_NAME = "feature_flag.evaluations"
+
+    private const val FLAG_TAG = "flag"
   }
 }
 
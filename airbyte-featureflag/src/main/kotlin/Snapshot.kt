@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.featureflag
+
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Request-scoped view of the feature-flags for a single [context].
+ *
+ * Every flag is evaluated against the [client] at most once, the first time it is requested; later
+ * requests for the same flag return the value from that first evaluation. Intended to be created at the
+ * start of a request (or any other unit of work) that would otherwise evaluate the same flags for the
+ * same context over and over, e.g. once per item of a list.
+ *
+ * A snapshot never refreshes, so it should not outlive the unit of work it was created for.
+ *
+ * @param [client] the client the flags are evaluated against.
+ * @param [context] the context every flag is evaluated for.
+ */
+class FlagSnapshot(
+  private val client: FeatureFlagClient,
+  val context: Context,
+) {
+  /** [values] holds the evaluated value of each flag, by flag key. */
+  private val values = ConcurrentHashMap<String, Any>()
+
+  /**
+   * Returns the boolean value of the [flag] for this snapshot's [context].
+   */
+  fun boolVariation(flag: Flag<Boolean>): Boolean = values.computeIfAbsent(flag.key) { client.boolVariation(flag, context) } as Boolean
+
+  /**
+   * Returns the string value of the [flag] for this snapshot's [context].
+   */
+  fun stringVariation(flag: Flag<String>): String = values.computeIfAbsent(flag.key) { client.stringVariation(flag, context) } as String
+
+  /**
+   * Returns the int value of the [flag] for this snapshot's [context].
+   */
+  fun intVariation(flag: Flag<Int>): Int = values.computeIfAbsent(flag.key) { client.intVariation(flag, context) } as Int
+}
+
+/**
+ * Creates a [FlagSnapshot] of this client for the given [context], evaluating the given [flags] up front.
+ */
+fun FeatureFlagClient.snapshot(
+  context: Context,
+  vararg flags: Flag<Boolean>,
+): FlagSnapshot = FlagSnapshot(this, context).also { snapshot -> flags.forEach { snapshot.boolVariation(it) } }
@@ -5,6 +5,7 @@ package io.airbyte.featureflag
 
 import com.launchdarkly.sdk.LDContext
 import com.launchdarkly.sdk.server.LDClient
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import io.micronaut.context.annotation.Bean
 import io.micronaut.context.annotation.Property
 import io.micronaut.context.annotation.Replaces
@@ -350,6 +351,53 @@ class LaunchDarklyClientTest {
     LaunchDarklyClient(ldClient).boolVariation(testFlag, ctxAnon)
     assertTrue(context.captured.isAnonymous)
   }
+
+  @Test
+  fun `verify contexts are converted once and evaluations are counted`() {
+    val testFlag = Temporary(key = "test-true", default = false)
+    val ctx = Workspace(workspaceId)
+
+    val ldClient: LDClient = mockk()
+    val contexts = mutableListOf<LDContext>()
+    every { ldClient.boolVariation(testFlag.key, capture(contexts), any()) } returns true
+
+    val meterRegistry = SimpleMeterRegistry()
+    val client = LaunchDarklyClient(ldClient, meterRegistry)
+    repeat(3) { assertTrue { client.boolVariation(testFlag, Workspace(workspaceId)) } }
+
+    assertEquals(3, contexts.size)
+    assertTrue(contexts.all { it === contexts.first() })
+    assertEquals(ctx.key, contexts.first().key)
+    assertEquals(3.0, meterRegistry.counter(LaunchDarklyClient.EVALUATIONS_METRIC_NAME, "flag", testFlag.key).count())
+  }
+}
+
+class FlagSnapshotTest {
+  @Test
+  fun `verify flags are evaluated once per snapshot`() {
+    val testBool = Temporary(key = "test-bool", default = false)
+    val testString = Temporary(key = "test-string", default = "default")
+    val testInt = Temporary(key = "test-int", default = 1)
+    val ctx = Workspace(workspaceId)
+
+    val client: TestClient = mockk()
+    every { client.boolVariation(testBool, ctx) } returns true
+    every { client.stringVariation(testString, ctx) } returns "override"
+    every { client.intVariation(testInt, ctx) } returns 2
+
+    val snapshot = client.snapshot(ctx, testBool)
+    repeat(3) {
+      assertTrue { snapshot.boolVariation(testBool) }
+      assertEquals("override", snapshot.stringVariation(testString))
+      assertEquals(2, snapshot.intVariation(testInt))
+    }
+
+    verify(exactly = 1) {
+      client.boolVariation(testBool, ctx)
+      client.stringVariation(testString, ctx)
+      client.intVariation(testInt, ctx)
+    }
+  }
 }
 
 class TestClientTest {
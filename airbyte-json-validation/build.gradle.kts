@@ -10,9 +10,13 @@ dependencies {
     // needed so that we can follow $ref when parsing json. jackson does not support this natively.
     implementation("me.andrz.jackson:jackson-json-reference-core:0.3.2")
 
+    testAnnotationProcessor(libs.jmh.annotations)
+
     testRuntimeOnly(libs.junit.jupiter.engine)
     testImplementation(libs.bundles.junit)
     testImplementation(libs.assertj.core)
 
     testImplementation(libs.junit.pioneer)
+    testImplementation(libs.jmh.core)
+    testImplementation(libs.jmh.annotations)
 }
@@ -7,6 +7,8 @@ package io.airbyte.validation.json;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.networknt.schema.JsonMetaSchema;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
@@ -18,9 +20,9 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import me.andrz.jackson.JsonContext;
 import me.andrz.jackson.JsonReferenceException;
@@ -37,6 +39,18 @@ public class JsonSchemaValidator {
   // This URI just needs to point at any path in the same directory as /app/WellKnownTypes.json
   // It's required for the JsonSchema#validate method to resolve $ref correctly.
   private static final URI DEFAULT_BASE_URI;
+  private static final int MAX_CACHED_SCHEMAS = 500;
+
+  /**
+   * Compiled schemas, shared by all validators since most of them are short-lived. Keyed by the
+   * content of the schema rather than its identity, as callers usually deserialize the same schema
+   * again for every call.
+   */
+  private static final Cache<CompiledSchemaKey, JsonSchema> COMPILED_SCHEMAS = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_SCHEMAS)
+      .build();
+
+  private record CompiledSchemaKey(URI baseUri, JsonNode schemaJson) {}
 
   static {
     try {
@@ -48,7 +62,7 @@ public class JsonSchemaValidator {
 
   private final JsonSchemaFactory jsonSchemaFactory;
   private final URI baseUri;
-  private final Map<String, JsonSchema> schemaToValidators = new HashMap<>();
+  private final Map<String, JsonSchema> schemaToValidators = new ConcurrentHashMap<>();
 
   public JsonSchemaValidator() {
     this(DEFAULT_BASE_URI);
@@ -103,17 +117,14 @@ public class JsonSchemaValidator {
   /**
    * Test if a JSON object conforms to a given JSONSchema.
    * <p>
-   * WARNING
-   * <p>
-   * The following methods perform JSON validation **by re-creating a validator each time**. This is
-   * both CPU and GC expensive, and should be used carefully.
+   * The following methods reuse the validator compiled for an identical schema when it is still
+   * cached, and only compile the schema otherwise.
    * <p>
    *
    * @param schemaJson JSONSchema to test against
    * @param objectJson object to test
    * @return true if objectJson conforms to the JSONSchema. Otherwise, false.
    */
-  // todo(davin): Rewrite this section to cache schemas.
   public boolean test(final JsonNode schemaJson, final JsonNode objectJson) {
     final Set<ValidationMessage> validationMessages = validateInternal(schemaJson, objectJson);
 
@@ -180,14 +191,37 @@ public class JsonSchemaValidator {
     Preconditions.checkNotNull(schemaJson);
     Preconditions.checkNotNull(objectJson);
 
-    final JsonSchema schema = getSchemaValidator(schemaJson);
+    final JsonSchema schema = getCachedSchemaValidator(schemaJson);
     return schema.validate(objectJson);
   }
 
+  private JsonSchema getCachedSchemaValidator(final JsonNode schemaJson) {
+    final JsonSchema cached = COMPILED_SCHEMAS.getIfPresent(new CompiledSchemaKey(baseUri, schemaJson));
+    if (cached != null) {
+      return cached;
+    }
+    // compile a copy so that later changes to the caller's schema can't affect the cached schema
+    final JsonNode schemaCopy = schemaJson.deepCopy();
+    final JsonSchema schema = getSchemaValidator(schemaCopy);
+    COMPILED_SCHEMAS.put(new CompiledSchemaKey(baseUri, schemaCopy), schema);
+    return schema;
+  }
+
+  @VisibleForTesting
+  static long getCompiledSchemaCacheSize() {
+    return COMPILED_SCHEMAS.size();
+  }
+
+  @VisibleForTesting
+  static void clearCompiledSchemaCache() {
+    COMPILED_SCHEMAS.invalidateAll();
+  }
+
   /**
    * Return a schema validator for a json schema, defaulting to the V7 Json schema.
    */
-  private JsonSchema getSchemaValidator(JsonNode schemaJson) {
+  @VisibleForTesting
+  JsonSchema getSchemaValidator(final JsonNode schemaJson) {
     // Default to draft-07, but have handling for the other metaschemas that networknt supports
     final JsonMetaSchema metaschema;
     final JsonNode metaschemaNode = schemaJson.get("$schema");
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.validation.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+import io.airbyte.commons.json.Jsons;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares validating a connector config against its spec, as done on every check, discover and
+ * sync, with compiling the spec's schema, which repeated validations used to pay for every time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class JsonSchemaValidatorBenchmark {
+
+  private static final String SPEC = """
+                                     {
+                                       "$schema": "http://json-schema.org/draft-07/schema#",
+                                       "title": "Postgres Source Spec",
+                                       "type": "object",
+                                       "required": ["host", "port", "database", "username"],
+                                       "properties": {
+                                         "host": {"type": "string"},
+                                         "port": {"type": "integer", "minimum": 0, "maximum": 65536},
+                                         "database": {"type": "string"},
+                                         "schemas": {"type": "array", "items": {"type": "string"}, "minItems": 0, "uniqueItems": true},
+                                         "username": {"type": "string"},
+                                         "password": {"type": "string", "airbyte_secret": true},
+                                         "jdbc_url_params": {"type": "string"},
+                                         "ssl_mode": {
+                                           "type": "object",
+                                           "oneOf": [
+                                             {"properties": {"mode": {"type": "string", "const": "disable"}}, "required": ["mode"]},
+                                             {"properties": {"mode": {"type": "string", "const": "require"}}, "required": ["mode"]},
+                                             {
+                                               "properties": {
+                                                 "mode": {"type": "string", "const": "verify-ca"},
+                                                 "ca_certificate": {"type": "string", "airbyte_secret": true}
+                                               },
+                                               "required": ["mode", "ca_certificate"]
+                                             }
+                                           ]
+                                         },
+                                         "replication_method": {
+                                           "type": "object",
+                                           "oneOf": [
+                                             {"properties": {"method": {"type": "string", "const": "Standard"}}, "required": ["method"]},
+                                             {
+                                               "properties": {
+                                                 "method": {"type": "string", "const": "CDC"},
+                                                 "replication_slot": {"type": "string"},
+                                                 "publication": {"type": "string"},
+                                                 "initial_waiting_seconds": {"type": "integer", "minimum": 120, "maximum": 1200}
+                                               },
+                                               "required": ["method", "replication_slot", "publication"]
+                                             }
+                                           ]
+                                         }
+                                       }
+                                     }
+                                     """;
+
+  private static final String CONFIG = """
+                                       {
+                                         "host": "localhost",
+                                         "port": 5432,
+                                         "database": "postgres",
+                                         "schemas": ["public"],
+                                         "username": "postgres",
+                                         "password": "password",
+                                         "ssl_mode": {"mode": "require"},
+                                         "replication_method": {"method": "CDC", "replication_slot": "slot", "publication": "pub"}
+                                       }
+                                       """;
+
+  private JsonSchemaValidator validator;
+  private JsonNode spec;
+  private JsonNode config;
+
+  @Setup
+  public void setup() {
+    validator = new JsonSchemaValidator();
+    spec = Jsons.deserialize(SPEC);
+    config = Jsons.deserialize(CONFIG);
+  }
+
+  /**
+   * Validation against a schema that was already validated against, as callers do repeatedly.
+   */
+  @Benchmark
+  public Set<String> validateRepeatedSchema() {
+    return validator.validate(spec, config);
+  }
+
+  /**
+   * Validation against a schema read again for every call, e.g. from the database.
+   */
+  @Benchmark
+  public Set<String> validateDeserializedSchema() {
+    return validator.validate(Jsons.deserialize(SPEC), config);
+  }
+
+  /**
+   * What every validation used to cost: compiling the schema before validating.
+   */
+  @Benchmark
+  public Set<String> compileAndValidate() {
+    final JsonSchema schema = validator.getSchemaValidator(spec);
+    return schema.validate(config).stream().map(ValidationMessage::getMessage).collect(Collectors.toSet());
+  }
+
+  public static void main(final String[] args) throws Exception {
+    // Run this main class to start benchmarking.
+    org.openjdk.jmh.Main.main(args);
+  }
+
+}
@@ -12,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import java.io.IOException;
@@ -167,4 +168,35 @@ class JsonSchemaValidatorTest {
     assert !errorMessages.isEmpty();
   }
 
+  @Test
+  void testCompiledSchemasAreCachedByContent() {
+    JsonSchemaValidator.clearCompiledSchemaCache();
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    final JsonNode goodJson = Jsons.deserialize("{\"host\":\"abc\"}");
+
+    assertTrue(validator.test(VALID_SCHEMA, goodJson));
+    // the same schema deserialized again, used by another validator, reuses the compiled schema
+    assertTrue(new JsonSchemaValidator().validate(Jsons.clone(VALID_SCHEMA), goodJson).isEmpty());
+    assertEquals(1, JsonSchemaValidator.getCompiledSchemaCacheSize());
+
+    // validators resolving $ref against another base uri don't share compiled schemas
+    new JsonSchemaValidator(URI.create("file:///other/base.json")).validate(VALID_SCHEMA, goodJson);
+    assertEquals(2, JsonSchemaValidator.getCompiledSchemaCacheSize());
+  }
+
+  @Test
+  void testCachedSchemaIsNotAffectedByChangesToTheCallersSchema() {
+    JsonSchemaValidator.clearCompiledSchemaCache();
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    final JsonNode schema = Jsons.clone(VALID_SCHEMA);
+    final JsonNode portOnlyJson = Jsons.deserialize("{\"port\":1}");
+
+    assertFalse(validator.test(schema, portOnlyJson));
+
+    ((ObjectNode) schema).putArray("required").add("port");
+    assertTrue(validator.test(schema, portOnlyJson));
+    assertFalse(validator.test(VALID_SCHEMA, portOnlyJson));
+    assertEquals(2, JsonSchemaValidator.getCompiledSchemaCacheSize());
+  }
+
 }
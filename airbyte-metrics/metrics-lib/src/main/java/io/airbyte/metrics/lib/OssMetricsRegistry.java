@@ -138,6 +138,12 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       MetricEmittingApps.WORKER,
       "job_failed_by_release_stage",
       "increments when a job fails. jobs are double counted as this is tagged by release stage."),
+  JOB_HISTORY_PURGE_BATCH_DURATION_MS(MetricEmittingApps.CRON,
+      "job_history_purge_batch_duration_ms",
+      "time taken to purge one batch of job history"),
+  JOB_HISTORY_PURGE_ROWS_PURGED(MetricEmittingApps.CRON,
+      "job_history_purge_rows_purged",
+      "number of rows deleted by the job history purge across all job tables"),
   JOB_SUCCEEDED_BY_RELEASE_STAGE(
       MetricEmittingApps.WORKER,
       "job_succeeded_by_release_stage",
@@ -354,6 +360,12 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   WORKFLOWS_HEALED(MetricEmittingApps.CRON,
       "workflows_healed",
       "number of workflow the self healing cron healed"),
+  WORKFLOWS_HEALED_RESTART_DURATION_MS(MetricEmittingApps.CRON,
+      "workflows_healed_restart_duration_ms",
+      "time taken by the self healing cron to restart the closed workflows it found"),
+  WORKFLOWS_HEALED_SCAN_DURATION_MS(MetricEmittingApps.CRON,
+      "workflows_healed_scan_duration_ms",
+      "time taken by the self healing cron to list the closed workflows to restart"),
   WORKLOAD_MONITOR_RUN(MetricEmittingApps.CRON,
       "workload_monitor_run",
       "number of cron run for the workload_monitor"),
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.reporter;
+
+import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
+import io.airbyte.db.instance.jobs.jooq.generated.enums.JobConfigType;
+import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Snapshot of the pending and running jobs, read with a single query by
+ * {@link MetricRepository#activeJobs()}, from which all the job gauges are computed.
+ */
+final class ActiveJobs {
+
+  // We have to report gauge metric with value 0 if they are not showing up in the DB,
+  // otherwise datadog will use previous reported value.
+  // Another option we didn't use here is to build this into SQL query - it will lead SQL much less
+  // readable while not decreasing any complexity.
+  private static final List<String> REGISTERED_ATTEMPT_QUEUE = List.of("SYNC", "AWS_PARIS_SYNC", "null");
+  private static final List<String> REGISTERED_GEOGRAPHY = List.of("US", "AUTO", "EU");
+
+  /**
+   * A pending or running job, joined with its connection and its running attempt when they exist.
+   * A job with several running attempts appears once per attempt.
+   */
+  record Row(long jobId,
+             JobStatus status,
+             String scope,
+             JobConfigType configType,
+             double jobAgeSecs,
+             String geography,
+             StatusType connectionStatus,
+             Long attemptId,
+             String taskQueue,
+             Double attemptAgeSecs) {
+
+    boolean hasConnection() {
+      return connectionStatus != null;
+    }
+
+    boolean hasRunningAttempt() {
+      return attemptId != null;
+    }
+
+  }
+
+  /**
+   * A running sync attempt, and how long it has been running.
+   */
+  record RunningSyncAttempt(String connectionId, double runningSecs) {}
+
+  private final List<Row> rows;
+  private final Map<Long, Row> jobs;
+
+  ActiveJobs(final List<Row> rows) {
+    this.rows = rows;
+    this.jobs = new LinkedHashMap<>();
+    rows.forEach(row -> jobs.putIfAbsent(row.jobId(), row));
+  }
+
+  Map<String, Integer> numberOfPendingJobsByGeography() {
+    final Map<String, Integer> result = new HashMap<>();
+    jobs(JobStatus.pending, Row::hasConnection).forEach(job -> result.merge(job.geography(), 1, Integer::sum));
+    return withDefaults(result, REGISTERED_GEOGRAPHY, 0);
+  }
+
+  Map<String, Integer> numberOfRunningJobsByTaskQueue() {
+    final Map<String, Integer> result = new HashMap<>();
+    runningAttempts(row -> row.hasConnection() && row.connectionStatus() == StatusType.active)
+        .forEach(row -> result.merge(row.taskQueue(), 1, Integer::sum));
+    return withDefaults(result, REGISTERED_ATTEMPT_QUEUE, 0);
+  }
+
+  // This is a rare case and not likely to be related to data planes; So we will monitor them as a
+  // whole.
+  int numberOfOrphanRunningJobs() {
+    return jobs(JobStatus.running, row -> row.hasConnection() && row.connectionStatus() != StatusType.active).size();
+  }
+
+  Map<String, Double> oldestPendingJobAgeSecsByGeography() {
+    final Map<String, Double> result = new HashMap<>();
+    jobs(JobStatus.pending, Row::hasConnection).forEach(job -> result.merge(job.geography(), job.jobAgeSecs(), Math::max));
+    return withDefaults(result, REGISTERED_GEOGRAPHY, 0.0);
+  }
+
+  Map<String, Double> oldestRunningJobAgeSecsByTaskQueue() {
+    final Map<String, Double> result = new HashMap<>();
+    runningAttempts(row -> true).forEach(row -> result.merge(row.taskQueue(), row.jobAgeSecs(), Math::max));
+    return withDefaults(result, REGISTERED_ATTEMPT_QUEUE, 0.0);
+  }
+
+  List<RunningSyncAttempt> runningSyncAttempts() {
+    return runningAttempts(row -> row.configType() == JobConfigType.sync).stream()
+        .map(row -> new RunningSyncAttempt(row.scope(), row.attemptAgeSecs()))
+        .toList();
+  }
+
+  private List<Row> jobs(final JobStatus status, final Predicate<Row> filter) {
+    return jobs.values().stream().filter(job -> job.status() == status && filter.test(job)).toList();
+  }
+
+  private List<Row> runningAttempts(final Predicate<Row> filter) {
+    final List<Row> result = new ArrayList<>();
+    for (final Row row : rows) {
+      if (row.status() == JobStatus.running && row.hasRunningAttempt() && filter.test(row)) {
+        result.add(row);
+      }
+    }
+    return result;
+  }
+
+  private static <T> Map<String, T> withDefaults(final Map<String, T> values, final List<String> keys, final T defaultValue) {
+    for (final String key : keys) {
+      values.putIfAbsent(key, defaultValue);
+    }
+    return values;
+  }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.reporter;
+
+import jakarta.inject.Singleton;
+import java.time.Duration;
+
+/**
+ * Shares one {@link ActiveJobs} snapshot between all the emitters reporting at the same time, so
+ * that the jobs table is queried once per reporting tick rather than once per metric.
+ */
+@Singleton
+class ActiveJobsCache {
+
+  // Below the 15 seconds between two ticks, so that every tick reads a fresh snapshot.
+  static final Duration MAX_AGE = Duration.ofSeconds(10);
+
+  private final MetricRepository db;
+  private ActiveJobs activeJobs;
+  private long fetchedAtNanos;
+
+  ActiveJobsCache(final MetricRepository db) {
+    this.db = db;
+  }
+
+  synchronized ActiveJobs get() {
+    final long now = System.nanoTime();
+    if (activeJobs == null || now - fetchedAtNanos > MAX_AGE.toNanos()) {
+      activeJobs = db.activeJobs();
+      fetchedAtNanos = now;
+    }
+    return activeJobs;
+  }
+
+}
@@ -19,9 +19,9 @@ import org.slf4j.LoggerFactory;
 @Singleton
 final class NumPendingJobs extends Emitter {
 
-  public NumPendingJobs(final MetricClient client, final MetricRepository db) {
+  public NumPendingJobs(final MetricClient client, final ActiveJobsCache activeJobs) {
     super(client, () -> {
-      db.numberOfPendingJobsByGeography().forEach((geography, count) -> client.gauge(
+      activeJobs.get().numberOfPendingJobsByGeography().forEach((geography, count) -> client.gauge(
           OssMetricsRegistry.NUM_PENDING_JOBS,
           count,
           new MetricAttribute(MetricTags.GEOGRAPHY, geography)));
@@ -36,9 +36,9 @@ final class NumPendingJobs extends Emitter {
 @Singleton
 final class NumRunningJobs extends Emitter {
 
-  public NumRunningJobs(final MetricClient client, final MetricRepository db) {
+  public NumRunningJobs(final MetricClient client, final ActiveJobsCache activeJobs) {
     super(client, () -> {
-      db.numberOfRunningJobsByTaskQueue().forEach((attemptQueue, count) -> client.gauge(
+      activeJobs.get().numberOfRunningJobsByTaskQueue().forEach((attemptQueue, count) -> client.gauge(
           OssMetricsRegistry.NUM_RUNNING_JOBS,
           count,
           new MetricAttribute(MetricTags.ATTEMPT_QUEUE, attemptQueue)));
@@ -52,9 +52,9 @@ final class NumRunningJobs extends Emitter {
 @Singleton
 final class NumOrphanRunningJobs extends Emitter {
 
-  NumOrphanRunningJobs(final MetricClient client, final MetricRepository db) {
+  NumOrphanRunningJobs(final MetricClient client, final ActiveJobsCache activeJobs) {
     super(client, () -> {
-      final var orphaned = db.numberOfOrphanRunningJobs();
+      final var orphaned = activeJobs.get().numberOfOrphanRunningJobs();
       client.gauge(OssMetricsRegistry.NUM_ORPHAN_RUNNING_JOBS, orphaned);
       return null;
     });
@@ -66,9 +66,9 @@ final class NumOrphanRunningJobs extends Emitter {
 @Singleton
 final class OldestRunningJob extends Emitter {
 
-  OldestRunningJob(final MetricClient client, final MetricRepository db) {
+  OldestRunningJob(final MetricClient client, final ActiveJobsCache activeJobs) {
     super(client, () -> {
-      db.oldestRunningJobAgeSecsByTaskQueue().forEach((attemptQueue, count) -> client.gauge(
+      activeJobs.get().oldestRunningJobAgeSecsByTaskQueue().forEach((attemptQueue, count) -> client.gauge(
           OssMetricsRegistry.OLDEST_RUNNING_JOB_AGE_SECS,
           count,
           new MetricAttribute(MetricTags.ATTEMPT_QUEUE, attemptQueue)));
@@ -82,9 +82,9 @@ final class OldestRunningJob extends Emitter {
 @Singleton
 final class OldestPendingJob extends Emitter {
 
-  OldestPendingJob(final MetricClient client, final MetricRepository db) {
+  OldestPendingJob(final MetricClient client, final ActiveJobsCache activeJobs) {
     super(client, () -> {
-      db.oldestPendingJobAgeSecsByGeography().forEach((geographyType, count) -> client.gauge(
+      activeJobs.get().oldestPendingJobAgeSecsByGeography().forEach((geographyType, count) -> client.gauge(
           OssMetricsRegistry.OLDEST_PENDING_JOB_AGE_SECS,
           count,
           new MetricAttribute(MetricTags.GEOGRAPHY, geographyType)));
@@ -114,9 +114,9 @@ final class NumActiveConnectionsPerWorkspace extends Emitter {
 @Singleton
 final class NumAbnormalScheduledSyncs extends Emitter {
 
-  NumAbnormalScheduledSyncs(final MetricClient client, final MetricRepository db) {
+  NumAbnormalScheduledSyncs(final MetricClient client, final SyncHistory history) {
     super(client, () -> {
-      final var count = db.numberOfJobsNotRunningOnScheduleInLastDay();
+      final var count = history.numberOfJobsNotRunningOnScheduleInLastDay();
       client.gauge(OssMetricsRegistry.NUM_ABNORMAL_SCHEDULED_SYNCS_IN_LAST_DAY, count);
       return null;
     });
@@ -133,9 +133,9 @@ final class NumAbnormalScheduledSyncs extends Emitter {
 @Singleton
 final class NumUnusuallyLongSyncs extends Emitter {
 
-  NumUnusuallyLongSyncs(final MetricClient client, final MetricRepository db) {
+  NumUnusuallyLongSyncs(final MetricClient client, final SyncHistory history, final ActiveJobsCache activeJobs) {
     super(client, () -> {
-      final var count = db.numberOfJobsRunningUnusuallyLong();
+      final var count = history.numberOfJobsRunningUnusuallyLong(activeJobs.get());
       client.gauge(OssMetricsRegistry.NUM_UNUSUALLY_LONG_SYNCS, count);
       return null;
     });
@@ -7,18 +7,20 @@ package io.airbyte.metrics.reporter;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ATTEMPTS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOBS;
-import static org.jooq.impl.DSL.asterisk;
-import static org.jooq.impl.DSL.count;
-import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.SQLDataType.VARCHAR;
 
-import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.AttemptStatus;
+import io.airbyte.db.instance.jobs.jooq.generated.enums.JobConfigType;
 import io.airbyte.db.instance.jobs.jooq.generated.enums.JobStatus;
+import io.airbyte.metrics.reporter.SyncHistory.ScheduledConnection;
+import io.airbyte.metrics.reporter.SyncHistory.SucceededSyncAttempt;
+import io.airbyte.metrics.reporter.SyncHistory.SyncJob;
 import jakarta.inject.Singleton;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.impl.DSL;
@@ -28,114 +30,39 @@ class MetricRepository {
 
   private final DSLContext ctx;
 
-  // We have to report gauge metric with value 0 if they are not showing up in the DB,
-  // otherwise datadog will use previous reported value.
-  // Another option we didn't use here is to build this into SQL query - it will lead SQL much less
-  // readable while not decreasing any complexity.
-  private static final List<String> REGISTERED_ATTEMPT_QUEUE = List.of("SYNC", "AWS_PARIS_SYNC", "null");
-  private static final List<String> REGISTERED_GEOGRAPHY = List.of("US", "AUTO", "EU");
-
   MetricRepository(final DSLContext ctx) {
     this.ctx = ctx;
   }
 
-  Map<String, Integer> numberOfPendingJobsByGeography() {
-    String geographyResultAlias = "geography";
-    String countResultAlias = "result";
-    var result = ctx.select(CONNECTION.GEOGRAPHY.cast(String.class).as(geographyResultAlias), count(asterisk()).as(countResultAlias))
-        .from(JOBS)
-        .join(CONNECTION)
-        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
-        .where(JOBS.STATUS.eq(JobStatus.pending))
-        .groupBy(CONNECTION.GEOGRAPHY);
-    Field<String> geographyResultField = DSL.field(name(geographyResultAlias), String.class);
-    Field<Integer> countResultField = DSL.field(name(countResultAlias), Integer.class);
-    Map<String, Integer> queriedMap = result.fetchMap(geographyResultField, countResultField);
-    for (final String potentialGeography : REGISTERED_GEOGRAPHY) {
-      if (!queriedMap.containsKey(potentialGeography)) {
-        queriedMap.put(potentialGeography, 0);
-      }
-    }
-    return queriedMap;
-  }
-
-  Map<String, Integer> numberOfRunningJobsByTaskQueue() {
-    String countFieldName = "count";
-    var result = ctx.select(ATTEMPTS.PROCESSING_TASK_QUEUE, count(asterisk()).as(countFieldName))
-        .from(JOBS)
-        .join(CONNECTION)
-        .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
-        .join(ATTEMPTS)
-        .on(ATTEMPTS.JOB_ID.eq(JOBS.ID))
-        .where(JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.eq(StatusType.active)))
-        .and(ATTEMPTS.STATUS.eq(AttemptStatus.running))
-        .groupBy(ATTEMPTS.PROCESSING_TASK_QUEUE);
-
-    Field<Integer> countResultField = DSL.field(name(countFieldName), Integer.class);
-    Map<String, Integer> queriedMap = result.fetchMap(ATTEMPTS.PROCESSING_TASK_QUEUE, countResultField);
-    for (final String potentialAttemptQueue : REGISTERED_ATTEMPT_QUEUE) {
-      if (!queriedMap.containsKey(potentialAttemptQueue)) {
-        queriedMap.put(potentialAttemptQueue, 0);
-      }
-    }
-    return queriedMap;
-  }
-
-  // This is a rare case and not likely to be related to data planes; So we will monitor them as a
-  // whole.
-  int numberOfOrphanRunningJobs() {
-    return ctx.selectCount()
+  /**
+   * Read all the pending and running jobs, with their connection and running attempts, in a single
+   * query. These are the jobs all the job gauges are computed from, see {@link ActiveJobs}.
+   */
+  ActiveJobs activeJobs() {
+    final Field<Double> jobAgeSecs = DSL.field("extract(epoch from (current_timestamp - {0}))", Double.class, JOBS.CREATED_AT).as("job_age_secs");
+    final Field<Double> attemptAgeSecs =
+        DSL.field("extract(epoch from (current_timestamp - {0}))", Double.class, ATTEMPTS.CREATED_AT).as("attempt_age_secs");
+    final Field<String> geography = CONNECTION.GEOGRAPHY.cast(String.class).as("geography");
+    final var rows = ctx.select(JOBS.ID, JOBS.STATUS, JOBS.SCOPE, JOBS.CONFIG_TYPE, jobAgeSecs, geography, CONNECTION.STATUS, ATTEMPTS.ID,
+        ATTEMPTS.PROCESSING_TASK_QUEUE, attemptAgeSecs)
         .from(JOBS)
-        .join(CONNECTION)
+        .leftJoin(CONNECTION)
         .on(CONNECTION.ID.cast(VARCHAR(255)).eq(JOBS.SCOPE))
-        .where(JOBS.STATUS.eq(JobStatus.running).and(CONNECTION.STATUS.ne(StatusType.active)))
-        .fetchOne(0, int.class);
-  }
-
-  Map<String, Double> oldestPendingJobAgeSecsByGeography() {
-    final var query =
-        """
-        SELECT
-          cast(connection.geography as varchar) AS geography,
-          MAX(EXTRACT(EPOCH FROM (current_timestamp - jobs.created_at))) AS run_duration_seconds
-        FROM jobs
-        JOIN connection
-        ON jobs.scope::uuid = connection.id
-        WHERE jobs.status = 'pending'
-        GROUP BY geography;
-        """;
-    final var result = ctx.fetch(query);
-    Field<String> geographyResultField = DSL.field(name("geography"), String.class);
-    Field<Double> runDurationSecondsField = DSL.field(name("run_duration_seconds"), Double.class);
-    Map<String, Double> queriedMap = result.intoMap(geographyResultField, runDurationSecondsField);
-    for (final String potentialGeography : REGISTERED_GEOGRAPHY) {
-      if (!queriedMap.containsKey(potentialGeography)) {
-        queriedMap.put(potentialGeography, 0.0);
-      }
-    }
-    return queriedMap;
-  }
-
-  Map<String, Double> oldestRunningJobAgeSecsByTaskQueue() {
-    final var query =
-        """
-        SELECT attempts.processing_task_queue AS task_queue, MAX(EXTRACT(EPOCH FROM (current_timestamp - jobs.created_at))) AS run_duration_seconds
-        FROM jobs
-        JOIN attempts
-        ON jobs.id = attempts.job_id
-        WHERE jobs.status = 'running' AND attempts.status = 'running'
-        GROUP BY task_queue;
-        """;
-    final var result = ctx.fetch(query);
-    Field<String> taskQueueResultField = DSL.field(name("task_queue"), String.class);
-    Field<Double> runDurationSecondsField = DSL.field(name("run_duration_seconds"), Double.class);
-    Map<String, Double> queriedMap = result.intoMap(taskQueueResultField, runDurationSecondsField);
-    for (final String potentialAttemptQueue : REGISTERED_ATTEMPT_QUEUE) {
-      if (!queriedMap.containsKey(potentialAttemptQueue)) {
-        queriedMap.put(potentialAttemptQueue, 0.0);
-      }
-    }
-    return queriedMap;
+        .leftJoin(ATTEMPTS)
+        .on(ATTEMPTS.JOB_ID.eq(JOBS.ID).and(ATTEMPTS.STATUS.eq(AttemptStatus.running)))
+        .where(JOBS.STATUS.in(JobStatus.pending, JobStatus.running))
+        .fetch(record -> new ActiveJobs.Row(
+            record.get(JOBS.ID),
+            record.get(JOBS.STATUS),
+            record.get(JOBS.SCOPE),
+            record.get(JOBS.CONFIG_TYPE),
+            record.get(jobAgeSecs),
+            record.get(geography),
+            record.get(CONNECTION.STATUS),
+            record.get(ATTEMPTS.ID),
+            record.get(ATTEMPTS.PROCESSING_TASK_QUEUE),
+            record.get(attemptAgeSecs)));
+    return new ActiveJobs(rows);
   }
 
   List<Long> numberOfActiveConnPerWorkspace() {
@@ -165,122 +92,50 @@ class MetricRepository {
     return ctx.fetchOne(queryForTotalConnections).get("connection_count", long.class);
   }
 
-  long numberOfJobsNotRunningOnScheduleInLastDay() {
-    // This query finds all sync jobs ran in last 24 hours and count how many times they have run.
-    // Comparing this to the expected number of runs (24 hours divide by configured cadence in hours),
-    // if it runs below that expected number it will be considered as abnormal instance.
-    // For example, if it's configured to run every 6 hours but in last 24 hours it only has 3 runs,
-    // it will be considered as 1 abnormal instance.
-    final var queryForAbnormalSyncInHoursInLastDay = """
-                                                     select count(1) as cnt
-                                                     from (
-                                                       select
-                                                         c.id,
-                                                         count(*) as cnt
-                                                       from connection c
-                                                       left join jobs j on j.scope::uuid = c.id
-                                                       where
-                                                         c.schedule is not null
-                                                         and c.schedule != 'null'
-                                                         and j.created_at > now() - interval '24 hours 1 minutes'
-                                                         and c.status = 'active'
-                                                         and j.config_type = 'sync'
-                                                         and c.updated_at < now() - interval '24 hours 1 minutes'
-                                                         and cast(c.schedule::jsonb->'timeUnit' as text) = '"hours"'
-                                                       group by 1
-                                                       having count(*) < 24 / cast(c.schedule::jsonb->'units' as integer)
-                                                     ) as abnormal_jobs
-                                                     """;
+  List<ScheduledConnection> activeScheduledConnections() {
+    final var query = """
+                      select
+                        c.id,
+                        c.schedule::jsonb->>'timeUnit' as time_unit,
+                        cast(c.schedule::jsonb->>'units' as integer) as units
+                      from connection c
+                      where
+                        c.schedule is not null
+                        and c.schedule != 'null'
+                        and c.status = 'active'
+                        and c.updated_at < now() - interval '24 hours 1 minutes'
+                        and c.schedule::jsonb->>'timeUnit' in ('hours', 'minutes')
+                      """;
+    return ctx.fetch(query).map(record -> new ScheduledConnection(
+        record.get("id", UUID.class),
+        record.get("time_unit", String.class),
+        record.get("units", int.class)));
+  }
 
-    // Similar to the query above, this finds if the connection cadence's timeUnit is minutes.
-    // thus we use 1440 (=24 hours x 60 minutes) to divide the configured cadence.
-    final var queryForAbnormalSyncInMinutesInLastDay = """
-                                                       select count(1) as cnt
-                                                       from (
-                                                         select
-                                                           c.id,
-                                                           count(*) as cnt
-                                                         from
-                                                           connection c
-                                                         left join Jobs j on
-                                                           j.scope::uuid = c.id
-                                                         where
-                                                           c.schedule is not null
-                                                           and c.schedule != 'null'
-                                                           and j.created_at > now() - interval '24 hours 1 minutes'
-                                                           and c.status = 'active'
-                                                           and j.config_type = 'sync'
-                                                           and c.updated_at < now() - interval '24 hours 1 minutes'
-                                                           and cast(c.schedule::jsonb->'timeUnit' as text) = '"minutes"'
-                                                         group by 1
-                                                         having count(*) < 1440 / cast(c.schedule::jsonb->'units' as integer)
-                                                       ) as abnormal_jobs
-                                                       """;
-    return ctx.fetchOne(queryForAbnormalSyncInHoursInLastDay).get("cnt", long.class)
-        + ctx.fetchOne(queryForAbnormalSyncInMinutesInLastDay).get("cnt", long.class);
+  List<SyncJob> syncJobsCreatedAfter(final OffsetDateTime createdAfter) {
+    return ctx.select(JOBS.ID, JOBS.SCOPE, JOBS.CREATED_AT)
+        .from(JOBS)
+        .where(JOBS.CREATED_AT.greaterThan(createdAfter))
+        .and(JOBS.CONFIG_TYPE.eq(JobConfigType.sync))
+        .fetch(record -> new SyncJob(record.get(JOBS.ID), record.get(JOBS.SCOPE), record.get(JOBS.CREATED_AT)));
   }
 
-  long numberOfJobsRunningUnusuallyLong() {
-    // Definition of unusually long means runtime is more than 2x historic avg run time or 15
-    // minutes more than avg run time, whichever is greater.
-    // It will skip jobs with fewer than 4 runs in last week to make sure the historic avg run is
-    // meaningful and consistent.
-    final var query =
-        """
-        -- pick average running time and last sync running time in attempts table.
-          select
-            current_running_attempts.connection_id,
-            current_running_attempts.running_time,
-            historic_avg_running_attempts.avg_run_sec
-            from
-              (
-             -- Sub-query-1: query the currently running attempt's running time.
-                (
-                  select
-                    jobs.scope as connection_id,
-                    extract(epoch from age(NOW(), attempts.created_at)) as running_time
-                  from
-                    jobs
-                  join attempts on
-                    jobs.id = attempts.job_id
-                  where
-                    jobs.status = 'running'
-                    and attempts.status = 'running'
-                    and jobs.config_type = 'sync' )
-                        as current_running_attempts
-              join
-            -- Sub-query-2: query historic attempts' average running time within last week.
-                (
-                  select
-                    jobs.scope as connection_id,
-                    avg(extract(epoch from age(attempts.updated_at, attempts.created_at))) as avg_run_sec
-                  from
-                    jobs
-                  join attempts on
-                    jobs.id = attempts.job_id
-                  where
-                  -- 168 hours is 1 week: we look for all attempts in last week to calculate its average running time.
-                    attempts.updated_at >= NOW() - interval '168 HOUR'
-                    and jobs.status = 'succeeded'
-                    and attempts.status = 'succeeded'
-                    and jobs.config_type = 'sync'
-                  group by
-                    connection_id
-                  having
-                    count(*) > 4
-                ) as historic_avg_running_attempts
-              on
-                current_running_attempts.connection_id = historic_avg_running_attempts.connection_id)
-          where
-          -- Find if currently running time takes 2x more time than average running time,
-          -- and it's 15 minutes (900 seconds) more than average running time so it won't alert on noises for quick sync jobs.
-            current_running_attempts.running_time > greatest(
-              historic_avg_running_attempts.avg_run_sec * 2,
-              historic_avg_running_attempts.avg_run_sec + 900
-            )
-        """;
-    final var queryResults = ctx.fetch(query);
-    return queryResults.getValues("connection_id").size();
+  List<SucceededSyncAttempt> succeededSyncAttemptsUpdatedAfter(final OffsetDateTime updatedAfter) {
+    final Field<Double> runSecs = DSL.field("extract(epoch from ({0} - {1}))", Double.class, ATTEMPTS.UPDATED_AT, ATTEMPTS.CREATED_AT)
+        .as("run_secs");
+    return ctx.select(ATTEMPTS.ID, JOBS.SCOPE, ATTEMPTS.UPDATED_AT, runSecs)
+        .from(JOBS)
+        .join(ATTEMPTS)
+        .on(ATTEMPTS.JOB_ID.eq(JOBS.ID))
+        .where(ATTEMPTS.UPDATED_AT.greaterOrEqual(updatedAfter))
+        .and(JOBS.STATUS.eq(JobStatus.succeeded))
+        .and(ATTEMPTS.STATUS.eq(AttemptStatus.succeeded))
+        .and(JOBS.CONFIG_TYPE.eq(JobConfigType.sync))
+        .fetch(record -> new SucceededSyncAttempt(
+            record.get(ATTEMPTS.ID),
+            record.get(JOBS.SCOPE),
+            record.get(ATTEMPTS.UPDATED_AT),
+            record.get(runSecs)));
   }
 
   Map<JobStatus, Double> overallJobRuntimeForTerminalJobsInLastHour() {
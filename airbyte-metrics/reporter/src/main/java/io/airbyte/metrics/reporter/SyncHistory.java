@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.metrics.reporter;
+
+import io.airbyte.metrics.reporter.ActiveJobs.RunningSyncAttempt;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory history of the recent syncs, used by the metrics that aggregate days of jobs.
+ * <p>
+ * Instead of re-aggregating the whole window on every report, each report only reads the rows
+ * that changed since the previous one (its high-water mark) and drops the rows that left the
+ * window. The read starts {@link #OVERLAP} before the high-water mark, as rows are not committed
+ * in the order of their timestamps and the database clock may drift from ours; rows read twice
+ * are deduplicated by id.
+ * <p>
+ * Succeeded attempts are only kept as per-connection run time totals in hourly buckets, so memory
+ * grows with the number of connections times the hours of the window rather than with the number
+ * of attempts. Whole buckets leave the window, so it is up to an hour longer than
+ * {@link #RUNTIME_WINDOW}. Only the ids of the attempts that can still be read again through the
+ * overlap are remembered for deduplication.
+ */
+@Singleton
+class SyncHistory {
+
+  // 168 hours is 1 week: we look for all attempts in last week to calculate its average running time.
+  static final Duration RUNTIME_WINDOW = Duration.ofHours(168);
+  static final Duration RUN_WINDOW = Duration.ofHours(24).plusMinutes(1);
+  static final Duration OVERLAP = Duration.ofMinutes(5);
+
+  // It will skip connections with fewer than 5 runs in last week to make sure the historic avg run
+  // is meaningful and consistent.
+  private static final int MIN_RUNS_FOR_AVERAGE = 5;
+
+  /**
+   * A succeeded attempt of a succeeded sync job.
+   */
+  record SucceededSyncAttempt(long attemptId, String connectionId, OffsetDateTime updatedAt, double runSecs) {}
+
+  /**
+   * A sync job, identified by when it was created.
+   */
+  record SyncJob(long jobId, String connectionId, OffsetDateTime createdAt) {}
+
+  /**
+   * An active connection scheduled to run every {@code units} {@code timeUnit}.
+   */
+  record ScheduledConnection(UUID connectionId, String timeUnit, int units) {}
+
+  private final MetricRepository db;
+  // hour since the epoch -> connection id -> run time totals of the attempts updated in that hour
+  private final NavigableMap<Long, Map<String, RunTotals>> hourlyRunTotals = new TreeMap<>();
+  // attempts that the next read can return again, with when they were updated
+  private final Map<Long, OffsetDateTime> recentAttempts = new HashMap<>();
+  private final Map<Long, SyncJob> syncJobs = new HashMap<>();
+  private OffsetDateTime attemptsHighWaterMark;
+  private OffsetDateTime jobsHighWaterMark;
+
+  SyncHistory(final MetricRepository db) {
+    this.db = db;
+  }
+
+  /**
+   * Count the running sync attempts that take unusually long. Definition of unusually long means
+   * runtime is more than 2x historic avg run time or 15 minutes more than avg run time, whichever is
+   * greater.
+   */
+  synchronized long numberOfJobsRunningUnusuallyLong(final ActiveJobs activeJobs) {
+    refreshSucceededAttempts();
+
+    final Map<String, RunTotals> connectionRunTotals = new HashMap<>();
+    for (final Map<String, RunTotals> hour : hourlyRunTotals.values()) {
+      hour.forEach((connectionId, totals) -> connectionRunTotals.computeIfAbsent(connectionId, id -> new RunTotals()).add(totals));
+    }
+
+    long count = 0;
+    for (final RunningSyncAttempt attempt : activeJobs.runningSyncAttempts()) {
+      final RunTotals totals = connectionRunTotals.get(attempt.connectionId());
+      if (totals == null || totals.runs < MIN_RUNS_FOR_AVERAGE) {
+        continue;
+      }
+      final double avgRunSecs = totals.runSecs / totals.runs;
+      // 900 seconds so it won't alert on noises for quick sync jobs.
+      if (attempt.runningSecs() > Math.max(avgRunSecs * 2, avgRunSecs + 900)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Count the scheduled connections that ran fewer times in the last day than their schedule
+   * expects. For example, if it's configured to run every 6 hours but in last 24 hours it only has 3
+   * runs, it will be considered as 1 abnormal instance. Connections without any run in the last day
+   * are not counted.
+   */
+  synchronized long numberOfJobsNotRunningOnScheduleInLastDay() {
+    refreshSyncJobs();
+
+    final Map<String, Integer> runs = new HashMap<>();
+    syncJobs.values().forEach(job -> runs.merge(job.connectionId(), 1, Integer::sum));
+
+    long count = 0;
+    for (final ScheduledConnection connection : db.activeScheduledConnections()) {
+      final Integer connectionRuns = runs.get(connection.connectionId().toString());
+      if (connectionRuns == null || connection.units() <= 0) {
+        continue;
+      }
+      // 1440 (=24 hours x 60 minutes) for connections scheduled in minutes.
+      final int expectedRuns = ("hours".equals(connection.timeUnit()) ? 24 : 1440) / connection.units();
+      if (connectionRuns < expectedRuns) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private void refreshSucceededAttempts() {
+    final OffsetDateTime now = OffsetDateTime.now();
+    final OffsetDateTime windowStart = now.minus(RUNTIME_WINDOW);
+    for (final SucceededSyncAttempt attempt : db.succeededSyncAttemptsUpdatedAfter(readFrom(attemptsHighWaterMark, windowStart))) {
+      if (recentAttempts.putIfAbsent(attempt.attemptId(), attempt.updatedAt()) == null) {
+        hourlyRunTotals.computeIfAbsent(hourOf(attempt.updatedAt()), hour -> new HashMap<>())
+            .computeIfAbsent(attempt.connectionId(), connectionId -> new RunTotals())
+            .add(attempt.runSecs());
+      }
+    }
+    // the bucket of the window start is kept whole
+    hourlyRunTotals.headMap(hourOf(windowStart)).clear();
+    // the next read starts at the overlap before now, older attempts can't be read again
+    final OffsetDateTime nextReadFrom = now.minus(OVERLAP);
+    recentAttempts.values().removeIf(updatedAt -> updatedAt.isBefore(nextReadFrom));
+    attemptsHighWaterMark = now;
+  }
+
+  private static long hourOf(final OffsetDateTime dateTime) {
+    return dateTime.toEpochSecond() / Duration.ofHours(1).toSeconds();
+  }
+
+  private void refreshSyncJobs() {
+    final OffsetDateTime now = OffsetDateTime.now();
+    final OffsetDateTime windowStart = now.minus(RUN_WINDOW);
+    for (final SyncJob job : db.syncJobsCreatedAfter(readFrom(jobsHighWaterMark, windowStart))) {
+      syncJobs.put(job.jobId(), job);
+    }
+    syncJobs.values().removeIf(job -> !job.createdAt().isAfter(windowStart));
+    jobsHighWaterMark = now;
+  }
+
+  private static OffsetDateTime readFrom(final OffsetDateTime highWaterMark, final OffsetDateTime windowStart) {
+    if (highWaterMark == null) {
+      return windowStart;
+    }
+    final OffsetDateTime overlapStart = highWaterMark.minus(OVERLAP);
+    return overlapStart.isAfter(windowStart) ? overlapStart : windowStart;
+  }
+
+  /**
+   * Run time totals of the succeeded attempts of a connection.
+   */
+  private static final class RunTotals {
+
+    private double runSecs;
+    private int runs;
+
+    private void add(final double attemptRunSecs) {
+      runSecs += attemptRunSecs;
+      runs++;
+    }
+
+    private void add(final RunTotals totals) {
+      runSecs += totals.runSecs;
+      runs += totals.runs;
+    }
+
+  }
+
+}
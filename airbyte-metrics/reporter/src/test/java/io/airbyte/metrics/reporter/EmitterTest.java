@@ -6,6 +6,7 @@ package io.airbyte.metrics.reporter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +26,9 @@ class EmitterTest {
 
   private MetricClient client;
   private MetricRepository repo;
+  private ActiveJobs activeJobs;
+  private ActiveJobsCache activeJobsCache;
+  private SyncHistory history;
 
   private static final String SYNC_QUEUE = "SYNC";
   private static final String AWS_QUEUE = "AWS";
@@ -36,18 +40,22 @@ class EmitterTest {
   void setUp() {
     client = mock(MetricClient.class);
     repo = mock(MetricRepository.class);
+    activeJobs = mock(ActiveJobs.class);
+    activeJobsCache = mock(ActiveJobsCache.class);
+    when(activeJobsCache.get()).thenReturn(activeJobs);
+    history = mock(SyncHistory.class);
   }
 
   @Test
   void TestNumPendingJobs() {
     final var value = Map.of(AUTO_REGION, 101, EU_REGION, 20);
-    when(repo.numberOfPendingJobsByGeography()).thenReturn(value);
+    when(activeJobs.numberOfPendingJobsByGeography()).thenReturn(value);
 
-    final var emitter = new NumPendingJobs(client, repo);
+    final var emitter = new NumPendingJobs(client, activeJobsCache);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).numberOfPendingJobsByGeography();
+    verify(activeJobs).numberOfPendingJobsByGeography();
     verify(client).gauge(OssMetricsRegistry.NUM_PENDING_JOBS, 101,
         new MetricAttribute(MetricTags.GEOGRAPHY, AUTO_REGION));
     verify(client).gauge(OssMetricsRegistry.NUM_PENDING_JOBS, 20,
@@ -58,13 +66,13 @@ class EmitterTest {
   @Test
   void TestNumRunningJobs() {
     final var value = Map.of(SYNC_QUEUE, 101, AWS_QUEUE, 20);
-    when(repo.numberOfRunningJobsByTaskQueue()).thenReturn(value);
+    when(activeJobs.numberOfRunningJobsByTaskQueue()).thenReturn(value);
 
-    final var emitter = new NumRunningJobs(client, repo);
+    final var emitter = new NumRunningJobs(client, activeJobsCache);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).numberOfRunningJobsByTaskQueue();
+    verify(activeJobs).numberOfRunningJobsByTaskQueue();
     verify(client).gauge(OssMetricsRegistry.NUM_RUNNING_JOBS, 101,
         new MetricAttribute(MetricTags.ATTEMPT_QUEUE, SYNC_QUEUE));
     verify(client).gauge(OssMetricsRegistry.NUM_RUNNING_JOBS, 20,
@@ -75,13 +83,13 @@ class EmitterTest {
   @Test
   void TestNumOrphanRunningJobs() {
     final var value = 101;
-    when(repo.numberOfOrphanRunningJobs()).thenReturn(value);
+    when(activeJobs.numberOfOrphanRunningJobs()).thenReturn(value);
 
-    final var emitter = new NumOrphanRunningJobs(client, repo);
+    final var emitter = new NumOrphanRunningJobs(client, activeJobsCache);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).numberOfOrphanRunningJobs();
+    verify(activeJobs).numberOfOrphanRunningJobs();
     verify(client).gauge(OssMetricsRegistry.NUM_ORPHAN_RUNNING_JOBS, value);
     verify(client).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
   }
@@ -89,13 +97,13 @@ class EmitterTest {
   @Test
   void TestOldestRunningJob() {
     final var value = Map.of(SYNC_QUEUE, 101.0, AWS_QUEUE, 20.0);
-    when(repo.oldestRunningJobAgeSecsByTaskQueue()).thenReturn(value);
+    when(activeJobs.oldestRunningJobAgeSecsByTaskQueue()).thenReturn(value);
 
-    final var emitter = new OldestRunningJob(client, repo);
+    final var emitter = new OldestRunningJob(client, activeJobsCache);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).oldestRunningJobAgeSecsByTaskQueue();
+    verify(activeJobs).oldestRunningJobAgeSecsByTaskQueue();
     verify(client).gauge(OssMetricsRegistry.OLDEST_RUNNING_JOB_AGE_SECS, 101,
         new MetricAttribute(MetricTags.ATTEMPT_QUEUE, SYNC_QUEUE));
     verify(client).gauge(OssMetricsRegistry.OLDEST_RUNNING_JOB_AGE_SECS, 20,
@@ -106,13 +114,13 @@ class EmitterTest {
   @Test
   void TestOldestPendingJob() {
     final var value = Map.of(AUTO_REGION, 101.0, EU_REGION, 20.0);
-    when(repo.oldestPendingJobAgeSecsByGeography()).thenReturn(value);
+    when(activeJobs.oldestPendingJobAgeSecsByGeography()).thenReturn(value);
 
-    final var emitter = new OldestPendingJob(client, repo);
+    final var emitter = new OldestPendingJob(client, activeJobsCache);
     emitter.emit();
 
     assertEquals(Duration.ofSeconds(15), emitter.getDuration());
-    verify(repo).oldestPendingJobAgeSecsByGeography();
+    verify(activeJobs).oldestPendingJobAgeSecsByGeography();
     verify(client).gauge(OssMetricsRegistry.OLDEST_PENDING_JOB_AGE_SECS, 101,
         new MetricAttribute(MetricTags.GEOGRAPHY, AUTO_REGION));
     verify(client).gauge(OssMetricsRegistry.OLDEST_PENDING_JOB_AGE_SECS, 20,
@@ -140,17 +148,31 @@ class EmitterTest {
   @Test
   void TestNumAbnormalScheduledSyncs() {
     final var value = 101;
-    when(repo.numberOfJobsNotRunningOnScheduleInLastDay()).thenReturn((long) value);
+    when(history.numberOfJobsNotRunningOnScheduleInLastDay()).thenReturn((long) value);
 
-    final var emitter = new NumAbnormalScheduledSyncs(client, repo);
+    final var emitter = new NumAbnormalScheduledSyncs(client, history);
     emitter.emit();
 
     assertEquals(Duration.ofHours(1), emitter.getDuration());
-    verify(repo).numberOfJobsNotRunningOnScheduleInLastDay();
+    verify(history).numberOfJobsNotRunningOnScheduleInLastDay();
     verify(client).gauge(OssMetricsRegistry.NUM_ABNORMAL_SCHEDULED_SYNCS_IN_LAST_DAY, value);
     verify(client).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
   }
 
+  @Test
+  void TestNumUnusuallyLongSyncs() {
+    final var value = 101;
+    when(history.numberOfJobsRunningUnusuallyLong(activeJobs)).thenReturn((long) value);
+
+    final var emitter = new NumUnusuallyLongSyncs(client, history, activeJobsCache);
+    emitter.emit();
+
+    assertEquals(Duration.ofMinutes(15), emitter.getDuration());
+    verify(history).numberOfJobsRunningUnusuallyLong(activeJobs);
+    verify(client).gauge(OssMetricsRegistry.NUM_UNUSUALLY_LONG_SYNCS, value);
+    verify(client).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
+  }
+
   @Test
   void TestTotalScheduledSyncs() {
     final var value = 101;
@@ -184,4 +206,23 @@ class EmitterTest {
     verify(client).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
   }
 
+  @Test
+  void TestActiveJobsAreQueriedOncePerTick() {
+    when(repo.activeJobs()).thenReturn(activeJobs);
+    when(activeJobs.numberOfPendingJobsByGeography()).thenReturn(Map.of());
+    when(activeJobs.numberOfRunningJobsByTaskQueue()).thenReturn(Map.of());
+    when(activeJobs.oldestRunningJobAgeSecsByTaskQueue()).thenReturn(Map.of());
+    when(activeJobs.oldestPendingJobAgeSecsByGeography()).thenReturn(Map.of());
+    final var cache = new ActiveJobsCache(repo);
+
+    new NumPendingJobs(client, cache).emit();
+    new NumRunningJobs(client, cache).emit();
+    new NumOrphanRunningJobs(client, cache).emit();
+    new OldestRunningJob(client, cache).emit();
+    new OldestPendingJob(client, cache).emit();
+
+    verify(repo, times(1)).activeJobs();
+    verify(client, times(5)).count(OssMetricsRegistry.EST_NUM_METRICS_EMITTED_BY_REPORTER, 1);
+  }
+
 }
@@ -148,11 +148,11 @@ class MetricRepositoryTest {
           .values(5L, inactiveConnectionId.toString(), JobStatus.running)
           .execute();
 
-      assertEquals(1, db.numberOfRunningJobsByTaskQueue().get(SYNC_QUEUE));
-      assertEquals(1, db.numberOfRunningJobsByTaskQueue().get(AWS_SYNC_QUEUE));
+      assertEquals(1, db.activeJobs().numberOfRunningJobsByTaskQueue().get(SYNC_QUEUE));
+      assertEquals(1, db.activeJobs().numberOfRunningJobsByTaskQueue().get(AWS_SYNC_QUEUE));
       // To test we send 0 for 'null' to overwrite previous bug.
-      assertEquals(0, db.numberOfRunningJobsByTaskQueue().get("null"));
-      assertEquals(1, db.numberOfOrphanRunningJobs());
+      assertEquals(0, db.activeJobs().numberOfRunningJobsByTaskQueue().get("null"));
+      assertEquals(1, db.activeJobs().numberOfOrphanRunningJobs());
     }
 
     @Test
@@ -161,7 +161,7 @@ class MetricRepositoryTest {
       ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS).values(1L, "", JobStatus.pending).execute();
       ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS).values(2L, "", JobStatus.failed).execute();
 
-      final var result = db.numberOfRunningJobsByTaskQueue();
+      final var result = db.activeJobs().numberOfRunningJobsByTaskQueue();
       assertEquals(result.get(SYNC_QUEUE), 0);
       assertEquals(result.get(AWS_SYNC_QUEUE), 0);
     }
@@ -185,7 +185,7 @@ class MetricRepositoryTest {
           .values(4L, connectionUuid.toString(), JobStatus.running)
           .execute();
 
-      final var res = db.numberOfPendingJobsByGeography();
+      final var res = db.activeJobs().numberOfPendingJobsByGeography();
       assertEquals(2, res.get(EU_REGION));
       assertEquals(0, res.get(AUTO_REGION));
     }
@@ -207,7 +207,7 @@ class MetricRepositoryTest {
           .values(2L, connectionUuid.toString(), JobStatus.failed)
           .execute();
 
-      final var result = db.numberOfPendingJobsByGeography();
+      final var result = db.activeJobs().numberOfPendingJobsByGeography();
       assertEquals(result.get(AUTO_REGION), 0);
       assertEquals(result.get(EU_REGION), 0);
     }
@@ -243,7 +243,7 @@ class MetricRepositoryTest {
           .values(4L, connectionUuid.toString(), JobStatus.failed)
           .execute();
 
-      final Double result = db.oldestPendingJobAgeSecsByGeography().get(EU_REGION);
+      final Double result = db.activeJobs().oldestPendingJobAgeSecsByGeography().get(EU_REGION);
       // expected age is 1000 seconds, but allow for +/- 1 second to account for timing/rounding errors
       assertTrue(999 < result && result < 1001);
     }
@@ -264,7 +264,7 @@ class MetricRepositoryTest {
           .values(2L, connectionUuid.toString(), JobStatus.running)
           .values(3L, connectionUuid.toString(), JobStatus.failed).execute();
 
-      final var result = db.oldestPendingJobAgeSecsByGeography();
+      final var result = db.activeJobs().oldestPendingJobAgeSecsByGeography();
       assertEquals(result.get(EU_REGION), 0.0);
       assertEquals(result.get(AUTO_REGION), 0.0);
     }
@@ -294,7 +294,7 @@ class MetricRepositoryTest {
           .values(4L, "", JobStatus.failed)
           .execute();
 
-      final var result = db.oldestRunningJobAgeSecsByTaskQueue();
+      final var result = db.activeJobs().oldestRunningJobAgeSecsByTaskQueue();
       // expected age is 1000 seconds, but allow for +/- 1 second to account for timing/rounding errors
       assertTrue(9999 < result.get(SYNC_QUEUE) && result.get(SYNC_QUEUE) < 10001L);
       assertEquals(result.get(AWS_SYNC_QUEUE), 0.0);
@@ -310,7 +310,7 @@ class MetricRepositoryTest {
           .values(3L, "", JobStatus.failed)
           .execute();
 
-      final var result = db.oldestRunningJobAgeSecsByTaskQueue();
+      final var result = db.activeJobs().oldestRunningJobAgeSecsByTaskQueue();
       assertEquals(result.get(SYNC_QUEUE), 0.0);
       assertEquals(result.get(AWS_SYNC_QUEUE), 0.0);
     }
@@ -533,7 +533,7 @@ class MetricRepositoryTest {
       final var totalConnectionResult = db.numScheduledActiveConnectionsInLastDay();
       assertEquals(1, totalConnectionResult);
 
-      final var abnormalConnectionResult = db.numberOfJobsNotRunningOnScheduleInLastDay();
+      final var abnormalConnectionResult = new SyncHistory(db).numberOfJobsNotRunningOnScheduleInLastDay();
       assertEquals(1, abnormalConnectionResult);
     }
 
@@ -565,10 +565,40 @@ class MetricRepositoryTest {
       final var totalConnectionResult = db.numScheduledActiveConnectionsInLastDay();
       assertEquals(1, totalConnectionResult);
 
-      final var abnormalConnectionResult = db.numberOfJobsNotRunningOnScheduleInLastDay();
+      final var abnormalConnectionResult = new SyncHistory(db).numberOfJobsNotRunningOnScheduleInLastDay();
       assertEquals(0, abnormalConnectionResult);
     }
 
+    @Test
+    void shouldPickUpNewJobsIncrementally() {
+      final var updateAt = OffsetDateTime.now().minus(300, ChronoUnit.HOURS);
+      final var connectionId = UUID.randomUUID();
+      final var syncConfigType = JobConfigType.sync;
+
+      ctx.insertInto(CONNECTION, CONNECTION.ID, CONNECTION.NAMESPACE_DEFINITION, CONNECTION.SOURCE_ID, CONNECTION.DESTINATION_ID,
+          CONNECTION.NAME, CONNECTION.CATALOG, CONNECTION.SCHEDULE, CONNECTION.MANUAL, CONNECTION.STATUS, CONNECTION.CREATED_AT,
+          CONNECTION.UPDATED_AT)
+          .values(connectionId, NamespaceDefinitionType.source, UUID.randomUUID(), UUID.randomUUID(), CONN, JSONB.valueOf("{}"),
+              JSONB.valueOf("{\"units\": 6, \"timeUnit\": \"hours\"}"), false, StatusType.active, updateAt, updateAt)
+          .execute();
+      ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.CREATED_AT, JOBS.UPDATED_AT, JOBS.CONFIG_TYPE)
+          .values(1L, connectionId.toString(), JobStatus.succeeded, OffsetDateTime.now().minus(20, ChronoUnit.HOURS), updateAt, syncConfigType)
+          .values(2L, connectionId.toString(), JobStatus.succeeded, OffsetDateTime.now().minus(10, ChronoUnit.HOURS), updateAt, syncConfigType)
+          .values(3L, connectionId.toString(), JobStatus.succeeded, OffsetDateTime.now().minus(5, ChronoUnit.HOURS), updateAt, syncConfigType)
+          .execute();
+
+      final var history = new SyncHistory(db);
+      assertEquals(1, history.numberOfJobsNotRunningOnScheduleInLastDay());
+
+      // the job created since the previous report is read from the high-water mark, the older ones are
+      // kept in memory
+      ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.CREATED_AT, JOBS.UPDATED_AT, JOBS.CONFIG_TYPE)
+          .values(4L, connectionId.toString(), JobStatus.succeeded, OffsetDateTime.now(), updateAt, syncConfigType)
+          .execute();
+      assertEquals(0, history.numberOfJobsNotRunningOnScheduleInLastDay());
+      assertEquals(0, history.numberOfJobsNotRunningOnScheduleInLastDay());
+    }
+
   }
 
   @Nested
@@ -612,7 +642,7 @@ class MetricRepositoryTest {
               OffsetDateTime.now().minus(12, ChronoUnit.HOURS))
           .execute();
 
-      final var numOfJubsRunningUnusallyLong = db.numberOfJobsRunningUnusuallyLong();
+      final var numOfJubsRunningUnusallyLong = new SyncHistory(db).numberOfJobsRunningUnusuallyLong(db.activeJobs());
       assertEquals(1, numOfJubsRunningUnusallyLong);
     }
 
@@ -655,10 +685,44 @@ class MetricRepositoryTest {
               OffsetDateTime.now().minus(14, ChronoUnit.MINUTES))
           .execute();
 
-      final var numOfJubsRunningUnusallyLong = db.numberOfJobsRunningUnusuallyLong();
+      final var numOfJubsRunningUnusallyLong = new SyncHistory(db).numberOfJobsRunningUnusuallyLong(db.activeJobs());
       assertEquals(0, numOfJubsRunningUnusallyLong);
     }
 
+    @Test
+    void shouldNotCountAttemptsReadAgainThroughTheOverlap() throws SQLException {
+      final var connectionId = UUID.randomUUID();
+      final var syncConfigType = JobConfigType.sync;
+
+      // The 3 succeeded attempts are recent enough to be read again by the next report. Counting them
+      // twice would make enough runs for an average, and the running job would be unusually long.
+      ctx.insertInto(JOBS, JOBS.ID, JOBS.SCOPE, JOBS.STATUS, JOBS.CREATED_AT, JOBS.UPDATED_AT, JOBS.CONFIG_TYPE)
+          .values(1L, connectionId.toString(), JobStatus.succeeded, OffsetDateTime.now().minus(4, ChronoUnit.MINUTES),
+              OffsetDateTime.now().minus(3, ChronoUnit.MINUTES), syncConfigType)
+          .values(2L, connectionId.toString(), JobStatus.succeeded, OffsetDateTime.now().minus(3, ChronoUnit.MINUTES),
+              OffsetDateTime.now().minus(2, ChronoUnit.MINUTES), syncConfigType)
+          .values(3L, connectionId.toString(), JobStatus.succeeded, OffsetDateTime.now().minus(2, ChronoUnit.MINUTES),
+              OffsetDateTime.now().minus(1, ChronoUnit.MINUTES), syncConfigType)
+          .values(4L, connectionId.toString(), JobStatus.running, OffsetDateTime.now().minus(12, ChronoUnit.HOURS),
+              OffsetDateTime.now().minus(12, ChronoUnit.HOURS), syncConfigType)
+          .execute();
+
+      ctx.insertInto(ATTEMPTS, ATTEMPTS.ID, ATTEMPTS.JOB_ID, ATTEMPTS.STATUS, ATTEMPTS.CREATED_AT, ATTEMPTS.UPDATED_AT)
+          .values(1L, 1L, AttemptStatus.succeeded, OffsetDateTime.now().minus(4, ChronoUnit.MINUTES),
+              OffsetDateTime.now().minus(3, ChronoUnit.MINUTES))
+          .values(2L, 2L, AttemptStatus.succeeded, OffsetDateTime.now().minus(3, ChronoUnit.MINUTES),
+              OffsetDateTime.now().minus(2, ChronoUnit.MINUTES))
+          .values(3L, 3L, AttemptStatus.succeeded, OffsetDateTime.now().minus(2, ChronoUnit.MINUTES),
+              OffsetDateTime.now().minus(1, ChronoUnit.MINUTES))
+          .values(4L, 4L, AttemptStatus.running, OffsetDateTime.now().minus(12, ChronoUnit.HOURS),
+              OffsetDateTime.now().minus(12, ChronoUnit.HOURS))
+          .execute();
+
+      final var history = new SyncHistory(db);
+      assertEquals(0, history.numberOfJobsRunningUnusuallyLong(db.activeJobs()));
+      assertEquals(0, history.numberOfJobsRunningUnusuallyLong(db.activeJobs()));
+    }
+
     @Test
     void shouldSkipInsufficientJobRuns() throws SQLException {
       final var connectionId = UUID.randomUUID();
@@ -683,7 +747,7 @@ class MetricRepositoryTest {
               OffsetDateTime.now().minus(1, ChronoUnit.HOURS))
           .execute();
 
-      final var numOfJubsRunningUnusallyLong = db.numberOfJobsRunningUnusuallyLong();
+      final var numOfJubsRunningUnusallyLong = new SyncHistory(db).numberOfJobsRunningUnusuallyLong(db.activeJobs());
       assertEquals(0, numOfJubsRunningUnusallyLong);
     }
 
@@ -7,7 +7,9 @@ package io.airbyte.persistence.job;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.ATTEMPTS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.JOBS;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.NORMALIZATION_SUMMARIES;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.RETRY_STATES;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.STREAM_STATS;
+import static io.airbyte.db.instance.jobs.jooq.generated.Tables.STREAM_STATUSES;
 import static io.airbyte.db.instance.jobs.jooq.generated.Tables.SYNC_STATS;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -65,6 +67,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -94,6 +97,7 @@ public class DefaultJobPersistence implements JobPersistence {
   private static final String AND = " AND ";
   private static final String SCOPE_CLAUSE = "scope = ? AND ";
   private static final String DEPLOYMENT_ID_KEY = "deployment_id";
+  private static final String APPLIED_DEFINITIONS_FINGERPRINT_KEY = "applied_definitions_fingerprint";
   private static final String METADATA_KEY_COL = "key";
   private static final String METADATA_VAL_COL = "value";
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
@@ -101,6 +105,7 @@ public class DefaultJobPersistence implements JobPersistence {
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
   private static final String ORDER_BY_JOB_CREATED_AT_DESC = "ORDER BY jobs.created_at DESC ";
   private static final String LIMIT_1 = "LIMIT 1 ";
+  public static final int DEFAULT_JOB_HISTORY_PURGE_BATCH_SIZE = 1000;
   private static final String JOB_STATUS_IS_NON_TERMINAL = String.format("status IN (%s) ",
       JobStatus.NON_TERMINAL_STATUSES.stream()
           .map(DefaultJobPersistence::toSqlName)
@@ -118,6 +123,25 @@ public class DefaultJobPersistence implements JobPersistence {
                                                  attempts.updated_at AS attempt_updated_at,
                                                  attempts.ended_at AS attempt_ended_at
                                                """;
+  // Summary projections drop what job history lists never read: the json schemas of the configured
+  // catalog, the output catalog and state of attempts, and the attempt sync config.
+  private static final String ATTEMPT_SUMMARY_FIELDS = """
+                                                         attempts.attempt_number AS attempt_number,
+                                                         NULL AS attempt_sync_config,
+                                                         attempts.log_path AS log_path,
+                                                         attempts.output #- '{sync,output_catalog}' #- '{sync,state}' AS attempt_output,
+                                                         attempts.status AS attempt_status,
+                                                         attempts.processing_task_queue AS processing_task_queue,
+                                                         attempts.failure_summary AS attempt_failure_summary,
+                                                         attempts.created_at AS attempt_created_at,
+                                                         attempts.updated_at AS attempt_updated_at,
+                                                         attempts.ended_at AS attempt_ended_at
+                                                       """;
+  private static final String JOB_SUMMARY_CONFIG_FIELD = "CASE CAST(jobs.config_type AS VARCHAR)"
+      + " WHEN '" + toSqlName(ConfigType.SYNC) + "' THEN " + withoutStreamSchemas("jobs.config", "{sync,configuredAirbyteCatalog,streams}")
+      + " WHEN '" + toSqlName(ConfigType.RESET_CONNECTION) + "' THEN "
+      + withoutStreamSchemas("jobs.config", "{resetConnection,configuredAirbyteCatalog,streams}")
+      + " ELSE jobs.config END";
   @VisibleForTesting
   static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs");
   private static final String ATTEMPT_SELECT =
@@ -126,6 +150,7 @@ public class DefaultJobPersistence implements JobPersistence {
   private final int jobHistoryMinimumAgeInDays;
   private final int jobHistoryMinimumRecency;
   private final int jobHistoryExcessiveNumberOfJobs;
+  private final int jobHistoryPurgeBatchSize;
   private final ExceptionWrappingDatabase jobDatabase;
   private final Supplier<Instant> timeSupplier;
 
@@ -134,32 +159,62 @@ public class DefaultJobPersistence implements JobPersistence {
                         final Supplier<Instant> timeSupplier,
                         final int minimumAgeInDays,
                         final int excessiveNumberOfJobs,
-                        final int minimumRecencyCount) {
+                        final int minimumRecencyCount,
+                        final int purgeBatchSize) {
     this.jobDatabase = new ExceptionWrappingDatabase(jobDatabase);
     this.timeSupplier = timeSupplier;
     jobHistoryMinimumAgeInDays = minimumAgeInDays;
     jobHistoryExcessiveNumberOfJobs = excessiveNumberOfJobs;
     jobHistoryMinimumRecency = minimumRecencyCount;
+    jobHistoryPurgeBatchSize = purgeBatchSize;
+  }
+
+  @VisibleForTesting
+  DefaultJobPersistence(final Database jobDatabase,
+                        final Supplier<Instant> timeSupplier,
+                        final int minimumAgeInDays,
+                        final int excessiveNumberOfJobs,
+                        final int minimumRecencyCount) {
+    this(jobDatabase, timeSupplier, minimumAgeInDays, excessiveNumberOfJobs, minimumRecencyCount, DEFAULT_JOB_HISTORY_PURGE_BATCH_SIZE);
   }
 
   public DefaultJobPersistence(final Database jobDatabase) {
-    this(jobDatabase, Instant::now, 30, 500, 10);
+    this(jobDatabase, DEFAULT_JOB_HISTORY_PURGE_BATCH_SIZE);
+  }
+
+  public DefaultJobPersistence(final Database jobDatabase, final int purgeBatchSize) {
+    this(jobDatabase, Instant::now, 30, 500, 10, purgeBatchSize);
   }
 
   private static String jobSelectAndJoin(final String jobsSubquery) {
+    return jobSelectAndJoin(jobsSubquery, false);
+  }
+
+  private static String jobSelectAndJoin(final String jobsSubquery, final boolean summary) {
     return "SELECT\n"
         + "jobs.id AS job_id,\n"
         + "jobs.config_type AS config_type,\n"
         + "jobs.scope AS scope,\n"
-        + "jobs.config AS config,\n"
+        + (summary ? JOB_SUMMARY_CONFIG_FIELD : "jobs.config") + " AS config,\n"
         + "jobs.status AS job_status,\n"
         + "jobs.started_at AS job_started_at,\n"
         + "jobs.created_at AS job_created_at,\n"
         + "jobs.updated_at AS job_updated_at,\n"
-        + ATTEMPT_FIELDS
+        + (summary ? ATTEMPT_SUMMARY_FIELDS : ATTEMPT_FIELDS)
         + "FROM " + jobsSubquery + " LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
   }
 
+  /**
+   * Build a sql expression that removes the json schema of every stream in the catalog found at the
+   * given path of a jsonb column. Stream names, namespaces and sync modes are kept, so the result
+   * still describes which streams are enabled.
+   */
+  private static String withoutStreamSchemas(final String column, final String streamsPath) {
+    return "CASE WHEN jsonb_typeof(" + column + " #> '" + streamsPath + "') = 'array' THEN jsonb_set(" + column + ", '" + streamsPath + "', "
+        + "COALESCE((SELECT jsonb_agg(streams.stream #- '{stream,json_schema}' ORDER BY streams.idx) FROM jsonb_array_elements("
+        + column + " #> '" + streamsPath + "') WITH ORDINALITY AS streams(stream, idx)), '[]'::jsonb), false) ELSE " + column + " END";
+  }
+
   private static void saveToSyncStatsTable(final OffsetDateTime now, final SyncStats syncStats, final Long attemptId, final DSLContext ctx) {
     // Although JOOQ supports upsert using the onConflict statement, we cannot use it as the table
     // currently has duplicate records and also doesn't contain the unique constraint on the attempt_id
@@ -378,10 +433,16 @@ public class DefaultJobPersistence implements JobPersistence {
 
   // Retrieves only Job information from the record, without any attempt info
   private static Job getJobFromRecord(final Record record) {
-    return new Job(record.get(JOB_ID, Long.class),
+    return getJobFromRecord(record, DefaultJobPersistence::parseJobConfigFromString);
+  }
+
+  // The config is only deserialized (and migrated) if a caller actually reads it.
+  private static Job getJobFromRecord(final Record record, final Function<String, JobConfig> configParser) {
+    final String jobConfigString = record.get("config", String.class);
+    return Job.withLazyConfig(record.get(JOB_ID, Long.class),
         Enums.toEnum(record.get("config_type", String.class), ConfigType.class).orElseThrow(),
         record.get("scope", String.class),
-        parseJobConfigFromString(record.get("config", String.class)),
+        () -> configParser.apply(jobConfigString),
         new ArrayList<Attempt>(),
         JobStatus.valueOf(record.get("job_status", String.class).toUpperCase()),
         Optional.ofNullable(record.get("job_started_at")).map(value -> getEpoch(record, "started_at")).orElse(null),
@@ -405,14 +466,19 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   private static Attempt getAttemptFromRecord(final Record record) {
+    return getAttemptFromRecord(record, DefaultJobPersistence::parseJobOutputFromString);
+  }
+
+  // The output is only deserialized (and migrated) if a caller actually reads it.
+  private static Attempt getAttemptFromRecord(final Record record, final Function<String, JobOutput> outputParser) {
     final String attemptOutputString = record.get("attempt_output", String.class);
-    return new Attempt(
+    return Attempt.withLazyOutput(
         record.get(ATTEMPT_NUMBER, int.class),
         record.get(JOB_ID, Long.class),
         Path.of(record.get("log_path", String.class)),
         record.get("attempt_sync_config", String.class) == null ? null
             : Jsons.deserialize(record.get("attempt_sync_config", String.class), AttemptSyncConfig.class),
-        attemptOutputString == null ? null : parseJobOutputFromString(attemptOutputString),
+        () -> attemptOutputString == null ? null : outputParser.apply(attemptOutputString),
         Enums.toEnum(record.get("attempt_status", String.class), AttemptStatus.class).orElseThrow(),
         record.get("processing_task_queue", String.class),
         record.get("attempt_failure_summary", String.class) == null ? null
@@ -448,16 +514,26 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   private static List<Job> getJobsFromResult(final Result<Record> result) {
+    return getJobsFromResult(result, false);
+  }
+
+  private static List<Job> getJobsFromResult(final Result<Record> result, final boolean summary) {
+    // summaries have their catalogs stripped of json schemas, so there is nothing to migrate
+    final Function<String, JobConfig> configParser =
+        summary ? configString -> Jsons.deserialize(configString, JobConfig.class) : DefaultJobPersistence::parseJobConfigFromString;
+    final Function<String, JobOutput> outputParser =
+        summary ? outputString -> Jsons.deserialize(outputString, JobOutput.class) : DefaultJobPersistence::parseJobOutputFromString;
+
     // keeps results strictly in order so the sql query controls the sort
     final List<Job> jobs = new ArrayList<>();
     Job currentJob = null;
     for (final Record entry : result) {
       if (currentJob == null || currentJob.getId() != entry.get(JOB_ID, Long.class)) {
-        currentJob = getJobFromRecord(entry);
+        currentJob = getJobFromRecord(entry, configParser);
         jobs.add(currentJob);
       }
       if (entry.getValue(ATTEMPT_NUMBER) != null) {
-        currentJob.getAttempts().add(getAttemptFromRecord(entry));
+        currentJob.getAttempts().add(getAttemptFromRecord(entry, outputParser));
       }
     }
 
@@ -873,6 +949,11 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize) throws IOException {
+    return listJobs(configTypes, configId, pagesize, false);
+  }
+
+  private List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize, final boolean summary)
+      throws IOException {
     return jobDatabase.query(ctx -> {
       final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
@@ -881,7 +962,7 @@ public class DefaultJobPersistence implements JobPersistence {
           .limit(pagesize)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + ORDER_BY_JOB_TIME_ATTEMPT_TIME));
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery, summary) + ORDER_BY_JOB_TIME_ATTEMPT_TIME), summary);
     });
   }
 
@@ -898,6 +979,40 @@ public class DefaultJobPersistence implements JobPersistence {
                             final String orderByField,
                             final String orderByMethod)
       throws IOException {
+    return listJobs(configTypes, configId, limit, offset, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd, orderByField,
+        orderByMethod, false);
+  }
+
+  @Override
+  public List<Job> listJobSummaries(final Set<ConfigType> configTypes,
+                                    final String configId,
+                                    final int limit,
+                                    final int offset,
+                                    final JobStatus status,
+                                    final OffsetDateTime createdAtStart,
+                                    final OffsetDateTime createdAtEnd,
+                                    final OffsetDateTime updatedAtStart,
+                                    final OffsetDateTime updatedAtEnd,
+                                    final String orderByField,
+                                    final String orderByMethod)
+      throws IOException {
+    return listJobs(configTypes, configId, limit, offset, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd, orderByField,
+        orderByMethod, true);
+  }
+
+  private List<Job> listJobs(final Set<ConfigType> configTypes,
+                             final String configId,
+                             final int limit,
+                             final int offset,
+                             final JobStatus status,
+                             final OffsetDateTime createdAtStart,
+                             final OffsetDateTime createdAtEnd,
+                             final OffsetDateTime updatedAtStart,
+                             final OffsetDateTime updatedAtEnd,
+                             final String orderByField,
+                             final String orderByMethod,
+                             final boolean summary)
+      throws IOException {
     return jobDatabase.query(ctx -> {
       final String jobsSubquery = "(" + ctx.select(DSL.asterisk()).from(JOBS)
           .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
@@ -914,7 +1029,8 @@ public class DefaultJobPersistence implements JobPersistence {
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
       LOGGER.debug("jobs subquery: {}", jobsSubquery);
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + buildJobOrderByString(orderByField, orderByMethod)));
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery, summary) + buildJobOrderByString(orderByField, orderByMethod)),
+          summary);
     });
   }
 
@@ -931,7 +1047,40 @@ public class DefaultJobPersistence implements JobPersistence {
                             final String orderByField,
                             final String orderByMethod)
       throws IOException {
+    return listJobs(configTypes, workspaceIds, limit, offset, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd, orderByField,
+        orderByMethod, false);
+  }
 
+  @Override
+  public List<Job> listJobSummaries(final Set<ConfigType> configTypes,
+                                    final List<UUID> workspaceIds,
+                                    final int limit,
+                                    final int offset,
+                                    final JobStatus status,
+                                    final OffsetDateTime createdAtStart,
+                                    final OffsetDateTime createdAtEnd,
+                                    final OffsetDateTime updatedAtStart,
+                                    final OffsetDateTime updatedAtEnd,
+                                    final String orderByField,
+                                    final String orderByMethod)
+      throws IOException {
+    return listJobs(configTypes, workspaceIds, limit, offset, status, createdAtStart, createdAtEnd, updatedAtStart, updatedAtEnd, orderByField,
+        orderByMethod, true);
+  }
+
+  private List<Job> listJobs(final Set<ConfigType> configTypes,
+                             final List<UUID> workspaceIds,
+                             final int limit,
+                             final int offset,
+                             final JobStatus status,
+                             final OffsetDateTime createdAtStart,
+                             final OffsetDateTime createdAtEnd,
+                             final OffsetDateTime updatedAtStart,
+                             final OffsetDateTime updatedAtEnd,
+                             final String orderByField,
+                             final String orderByMethod,
+                             final boolean summary)
+      throws IOException {
     return jobDatabase.query(ctx -> {
       final String jobsSubquery = "(" + ctx.select(JOBS.asterisk()).from(JOBS)
           .join(Tables.CONNECTION)
@@ -951,7 +1100,8 @@ public class DefaultJobPersistence implements JobPersistence {
           .offset(offset)
           .getSQL(ParamType.INLINED) + ") AS jobs";
 
-      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery) + buildJobOrderByString(orderByField, orderByMethod)));
+      return getJobsFromResult(ctx.fetch(jobSelectAndJoin(jobsSubquery, summary) + buildJobOrderByString(orderByField, orderByMethod)),
+          summary);
     });
   }
 
@@ -968,6 +1118,24 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public List<Job> listJobsIncludingId(final Set<ConfigType> configTypes, final String connectionId, final long includingJobId, final int pagesize)
       throws IOException {
+    return listJobsIncludingId(configTypes, connectionId, includingJobId, pagesize, false);
+  }
+
+  @Override
+  public List<Job> listJobSummariesIncludingId(final Set<ConfigType> configTypes,
+                                               final String connectionId,
+                                               final long includingJobId,
+                                               final int pagesize)
+      throws IOException {
+    return listJobsIncludingId(configTypes, connectionId, includingJobId, pagesize, true);
+  }
+
+  private List<Job> listJobsIncludingId(final Set<ConfigType> configTypes,
+                                        final String connectionId,
+                                        final long includingJobId,
+                                        final int pagesize,
+                                        final boolean summary)
+      throws IOException {
     final Optional<OffsetDateTime> includingJobCreatedAt = jobDatabase.query(ctx -> ctx.select(JOBS.CREATED_AT).from(JOBS)
         .where(JOBS.CONFIG_TYPE.in(configTypeSqlNames(configTypes)))
         .and(JOBS.SCOPE.eq(connectionId))
@@ -989,7 +1157,7 @@ public class DefaultJobPersistence implements JobPersistence {
 
     // calculate the multiple of `pagesize` that includes the target job
     final int pageSizeThatIncludesJob = (countIncludingJob / pagesize + 1) * pagesize;
-    return listJobs(configTypes, connectionId, pageSizeThatIncludesJob);
+    return listJobs(configTypes, connectionId, pageSizeThatIncludesJob, summary);
   }
 
   @Override
@@ -1263,6 +1431,16 @@ public class DefaultJobPersistence implements JobPersistence {
         max.orElse(AirbyteProtocolVersion.DEFAULT_AIRBYTE_PROTOCOL_VERSION)));
   }
 
+  @Override
+  public Optional<String> getAppliedDefinitionsFingerprint() throws IOException {
+    return getMetadata(APPLIED_DEFINITIONS_FINGERPRINT_KEY).findFirst();
+  }
+
+  @Override
+  public void setAppliedDefinitionsFingerprint(final String fingerprint) throws IOException {
+    setMetadata(APPLIED_DEFINITIONS_FINGERPRINT_KEY, fingerprint);
+  }
+
   private Stream<String> getMetadata(final String keyName) throws IOException {
     return jobDatabase.query(ctx -> ctx.select()
         .from(AIRBYTE_METADATA_TABLE)
@@ -1326,25 +1504,55 @@ public class DefaultJobPersistence implements JobPersistence {
 
   /**
    * Purge job history from N days before a given date. Only purge jobs that are not the last job for
-   * the connection.
+   * the connection. Eligible jobs are listed once, then deleted in batches of the configured size,
+   * each in its own transaction.
    *
    * @param asOfDate date to purge before
    */
   @VisibleForTesting
   public void purgeJobHistory(final LocalDateTime asOfDate) {
     try {
-      final String jobHistoryPurgeSql = MoreResources.readResource("job_history_purge.sql");
-      // interval '?' days cannot use a ? bind, so we're using %d instead.
-      final String sql = String.format(jobHistoryPurgeSql, (jobHistoryMinimumAgeInDays - 1));
-      jobDatabase.query(ctx -> ctx.execute(sql,
-          asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd")),
-          jobHistoryExcessiveNumberOfJobs,
-          jobHistoryMinimumRecency));
+      for (final List<Long> batch : Lists.partition(listJobIdsToPurge(asOfDate), jobHistoryPurgeBatchSize)) {
+        purgeJobs(batch);
+      }
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  @Override
+  public List<Long> listJobIdsToPurge(final LocalDateTime asOfDate) throws IOException {
+    final String jobHistoryPurgeCandidatesSql = MoreResources.readResource("job_history_purge_candidates.sql");
+    // interval '?' days cannot use a ? bind, so we're using %d instead.
+    final String sql = String.format(jobHistoryPurgeCandidatesSql, (jobHistoryMinimumAgeInDays - 1));
+    return jobDatabase.query(ctx -> ctx.fetch(sql,
+        asOfDate.format(DateTimeFormatter.ofPattern("YYYY-MM-dd")),
+        jobHistoryExcessiveNumberOfJobs,
+        jobHistoryMinimumRecency)
+        .getValues(0, Long.class));
+  }
+
+  @Override
+  public PurgedJobs purgeJobs(final List<Long> jobIds) throws IOException {
+    if (jobIds.isEmpty()) {
+      return new PurgedJobs(0, 0, 0);
+    }
+    return jobDatabase.transaction(ctx -> {
+      // select the attempts in the deletes rather than binding their ids, as a batch of jobs can have
+      // more attempts than Postgres accepts bind parameters
+      final var attemptIds = DSL.select(ATTEMPTS.ID).from(ATTEMPTS).where(ATTEMPTS.JOB_ID.in(jobIds));
+      // children first, as none of the foreign keys cascade
+      int rows = ctx.deleteFrom(STREAM_STATS).where(STREAM_STATS.ATTEMPT_ID.in(attemptIds)).execute();
+      rows += ctx.deleteFrom(SYNC_STATS).where(SYNC_STATS.ATTEMPT_ID.in(attemptIds)).execute();
+      rows += ctx.deleteFrom(NORMALIZATION_SUMMARIES).where(NORMALIZATION_SUMMARIES.ATTEMPT_ID.in(attemptIds)).execute();
+      final int attempts = ctx.deleteFrom(ATTEMPTS).where(ATTEMPTS.JOB_ID.in(jobIds)).execute();
+      rows += ctx.deleteFrom(STREAM_STATUSES).where(STREAM_STATUSES.JOB_ID.in(jobIds)).execute();
+      rows += ctx.deleteFrom(RETRY_STATES).where(RETRY_STATES.JOB_ID.in(jobIds)).execute();
+      final int jobs = ctx.deleteFrom(JOBS).where(JOBS.ID.in(jobIds)).execute();
+      return new PurgedJobs(jobs, attempts, rows + attempts + jobs);
+    });
+  }
+
   /**
    * Removes unsupported unicode characters (as defined by Postgresql) from the provided input string.
    *
@@ -24,6 +24,7 @@ import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -282,6 +283,55 @@ public interface JobPersistence {
                      String orderByMethod)
       throws IOException;
 
+  /**
+   * Same as {@link #listJobs(Set, String, int, int, JobStatus, OffsetDateTime, OffsetDateTime,
+   * OffsetDateTime, OffsetDateTime, String, String)}, but returns job summaries: catalogs in the job
+   * config have no json schemas, attempt outputs have no output catalog or state, and attempts have
+   * no sync config. Config and outputs are only deserialized when read.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configId - id of that config
+   * @return lists job summaries in descending order by created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobSummaries(
+                             Set<JobConfig.ConfigType> configTypes,
+                             String configId,
+                             int limit,
+                             int offset,
+                             JobStatus status,
+                             OffsetDateTime createdAtStart,
+                             OffsetDateTime createdAtEnd,
+                             OffsetDateTime updatedAtStart,
+                             OffsetDateTime updatedAtEnd,
+                             String orderByField,
+                             String orderByMethod)
+      throws IOException;
+
+  /**
+   * Same as {@link #listJobs(Set, List, int, int, JobStatus, OffsetDateTime, OffsetDateTime,
+   * OffsetDateTime, OffsetDateTime, String, String)}, but returns job summaries (see
+   * {@code listJobSummaries} for a connection).
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param workspaceIds - ids of requested workspaces
+   * @return lists job summaries in descending order by created_at
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobSummaries(
+                             Set<JobConfig.ConfigType> configTypes,
+                             List<UUID> workspaceIds,
+                             int limit,
+                             int offset,
+                             JobStatus status,
+                             OffsetDateTime createdAtStart,
+                             OffsetDateTime createdAtEnd,
+                             OffsetDateTime updatedAtStart,
+                             OffsetDateTime updatedAtEnd,
+                             String orderByField,
+                             String orderByMethod)
+      throws IOException;
+
   /**
    * List jobs of a config type after a certain time.
    *
@@ -306,6 +356,13 @@ public interface JobPersistence {
    */
   List<Job> listJobsIncludingId(Set<JobConfig.ConfigType> configTypes, String connectionId, long includingJobId, int pagesize) throws IOException;
 
+  /**
+   * Same as {@link #listJobsIncludingId(Set, String, long, int)}, but returns job summaries (see
+   * {@code listJobSummaries} for a connection).
+   */
+  List<Job> listJobSummariesIncludingId(Set<JobConfig.ConfigType> configTypes, String connectionId, long includingJobId, int pagesize)
+      throws IOException;
+
   List<Job> listJobsWithStatus(JobStatus status) throws IOException;
 
   List<Job> listJobsWithStatus(Set<JobConfig.ConfigType> configTypes, JobStatus status) throws IOException;
@@ -393,6 +450,16 @@ public interface JobPersistence {
    */
   Optional<AirbyteProtocolVersionRange> getCurrentProtocolVersionRange() throws IOException;
 
+  /**
+   * Get the fingerprint of the connector definitions that were last applied from the registry.
+   */
+  Optional<String> getAppliedDefinitionsFingerprint() throws IOException;
+
+  /**
+   * Set the fingerprint of the connector definitions that were last applied from the registry.
+   */
+  void setAppliedDefinitionsFingerprint(String fingerprint) throws IOException;
+
   /**
    * Returns a deployment UUID.
    */
@@ -407,6 +474,29 @@ public interface JobPersistence {
    * Purges job history while ensuring that the latest saved-state information is maintained.
    */
   void purgeJobHistory();
+
+  /**
+   * List the ids of the jobs that are eligible for purging as of the given date, in ascending order.
+   * Eligibility follows the same rules as {@link #purgeJobHistory()} and is evaluated once, so the
+   * ids can then be handed to {@link #purgeJobs(List)} in batches without the jobs purged by earlier
+   * batches changing which jobs are eligible.
+   *
+   * @param asOfDate date to purge before
+   * @return ids of jobs to purge
+   * @throws IOException exception while interacting with the db
+   */
+  List<Long> listJobIdsToPurge(LocalDateTime asOfDate) throws IOException;
+
+  /**
+   * Delete the given jobs along with their attempts, stats, normalization summaries, stream statuses
+   * and retry states in a single transaction. Deleting already deleted jobs is a no-op, so an
+   * interrupted purge can simply be resumed.
+   *
+   * @param jobIds ids of jobs to delete. callers should keep this bounded.
+   * @return counts of purged rows
+   * @throws IOException exception while interacting with the db
+   */
+  PurgedJobs purgeJobs(List<Long> jobIds) throws IOException;
   // a deployment references a setup of airbyte. it is created the first time the docker compose or
   // K8s is ready.
 
@@ -422,6 +512,17 @@ public interface JobPersistence {
 
   }
 
+  /**
+   * Result of purging a batch of jobs.
+   *
+   * @param jobs number of jobs deleted
+   * @param attempts number of attempts deleted
+   * @param rows total number of rows deleted across all tables
+   */
+  record PurgedJobs(int jobs, int attempts, int rows) {
+
+  }
+
   /**
    * Pair of the job id and attempt number.
    *
@@ -57,6 +57,9 @@ import io.airbyte.persistence.job.models.Job;
 import io.airbyte.persistence.job.models.JobStatus;
 import io.airbyte.persistence.job.models.JobStatusSummary;
 import io.airbyte.persistence.job.models.JobWithStatusAndTimestamp;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.test.utils.Databases;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -603,6 +606,17 @@ class DefaultJobPersistenceTest {
     assertEquals(Optional.of(new AirbyteProtocolVersionRange(v1, v2)), range3);
   }
 
+  @Test
+  void testAppliedDefinitionsFingerprintMetadata() throws IOException {
+    assertTrue(jobPersistence.getAppliedDefinitionsFingerprint().isEmpty());
+
+    jobPersistence.setAppliedDefinitionsFingerprint("abc");
+    assertEquals("abc", jobPersistence.getAppliedDefinitionsFingerprint().orElseThrow());
+
+    jobPersistence.setAppliedDefinitionsFingerprint("def");
+    assertEquals("def", jobPersistence.getAppliedDefinitionsFingerprint().orElseThrow());
+  }
+
   private long createJobAt(final Instant createdAt) throws IOException {
     when(timeSupplier.get()).thenReturn(createdAt);
     return jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
@@ -2023,6 +2037,52 @@ class DefaultJobPersistenceTest {
       assertEquals(List.of(), actualList);
     }
 
+    @Test
+    @DisplayName("Should return job summaries without json schemas, output catalogs or state")
+    void testListJobSummaries() throws IOException {
+      final AirbyteStream stream = new AirbyteStream()
+          .withName("users")
+          .withNamespace("public")
+          .withJsonSchema(Jsons.deserialize("{\"type\": \"object\", \"properties\": {\"id\": {\"type\": \"integer\"}}}"));
+      final JobConfig syncJobConfig = new JobConfig()
+          .withConfigType(ConfigType.SYNC)
+          .withSync(new JobSyncConfig().withConfiguredAirbyteCatalog(new ConfiguredAirbyteCatalog()
+              .withStreams(List.of(new ConfiguredAirbyteStream().withStream(stream)))));
+      final StandardSyncSummary syncSummary = new StandardSyncSummary().withBytesSynced(100L).withRecordsSynced(10L);
+      final JobOutput jobOutput = new JobOutput()
+          .withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput()
+              .withStandardSyncSummary(syncSummary)
+              .withState(new State().withState(Jsons.jsonNode(Map.of("cursor", 1))))
+              .withOutputCatalog(new ConfiguredAirbyteCatalog().withStreams(List.of(new ConfiguredAirbyteStream().withStream(stream)))));
+
+      final long jobId = jobPersistence.enqueueJob(SCOPE, syncJobConfig).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
+      jobPersistence.writeAttemptSyncConfig(jobId, attemptNumber, new AttemptSyncConfig().withSourceConfiguration(Jsons.emptyObject()));
+
+      final List<Job> summaries = jobPersistence.listJobSummaries(Set.of(ConfigType.SYNC), SCOPE, 10, 0, null, null, null, null, null, null, null);
+
+      assertEquals(1, summaries.size());
+      final Job summary = summaries.get(0);
+      final AirbyteStream summaryStream = summary.getConfig().getSync().getConfiguredAirbyteCatalog().getStreams().get(0).getStream();
+      assertEquals("users", summaryStream.getName());
+      assertEquals("public", summaryStream.getNamespace());
+      assertNull(summaryStream.getJsonSchema());
+
+      final Attempt summaryAttempt = summary.getAttempts().get(0);
+      final StandardSyncOutput summaryOutput = summaryAttempt.getOutput().orElseThrow().getSync();
+      assertEquals(syncSummary, summaryOutput.getStandardSyncSummary());
+      assertNull(summaryOutput.getOutputCatalog());
+      assertNull(summaryOutput.getState());
+      assertTrue(summaryAttempt.getSyncConfig().isEmpty());
+
+      // the full read path is unchanged
+      final Job job = jobPersistence.getJob(jobId);
+      assertEquals(syncJobConfig, job.getConfig());
+      assertEquals(Optional.of(jobOutput), job.getAttempts().get(0).getOutput());
+    }
+
   }
 
   @Nested
@@ -2334,6 +2394,68 @@ class DefaultJobPersistenceTest {
       assertTrue(afterPurge.contains(lastJobWithState), goalOfTestScenario + " - Missing last job with saved state after deletion.");
     }
 
+    @Test
+    @DisplayName("Should purge job history one page of jobs at a time")
+    void testPurgeJobHistoryInSeveralBatches() throws IOException, SQLException {
+      final String currentScope = UUID.randomUUID().toString();
+      final DefaultJobPersistence jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, 5, 100, 2, 2);
+      final LocalDateTime fakeNow = LocalDateTime.of(2021, 6, 20, 0, 0);
+      final List<Job> allJobs = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        allJobs.add(persistJobForJobHistoryTesting(currentScope, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow.minusDays(i)));
+      }
+
+      jobPersistence.purgeJobHistory(fakeNow);
+
+      assertEquals(allJobs.subList(0, 5).stream().map(Job::getId).toList(),
+          jobPersistence.listJobs(Set.of(ConfigType.SYNC), currentScope, 9999).stream().map(Job::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should decide which jobs to purge once, before purging any batch")
+    void testPurgeJobHistoryOfExcessiveJobsInSeveralBatches() throws IOException, SQLException {
+      final String currentScope = UUID.randomUUID().toString();
+      // all jobs are too recent to be purged by age, only the excessive number of jobs makes them eligible
+      final DefaultJobPersistence jobPersistence = new DefaultJobPersistence(jobDatabase, timeSupplier, 30, 5, 2, 3);
+      final LocalDateTime fakeNow = LocalDateTime.of(2021, 6, 20, 0, 0);
+      final List<Job> allJobs = new ArrayList<>();
+      for (int i = 0; i < 12; i++) {
+        allJobs.add(persistJobForJobHistoryTesting(currentScope, SYNC_JOB_CONFIG, JobStatus.FAILED, fakeNow.minusDays(i)));
+      }
+
+      jobPersistence.purgeJobHistory(fakeNow);
+
+      // trimmed down to the recency count, not just below the excessive number of jobs
+      assertEquals(allJobs.subList(0, 2).stream().map(Job::getId).toList(),
+          jobPersistence.listJobs(Set.of(ConfigType.SYNC), currentScope, 9999).stream().map(Job::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should delete jobs together with their attempts and stats")
+    void testPurgeJobs() throws IOException, SQLException {
+      final long purgedJobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int purgedAttemptNumber = jobPersistence.createAttempt(purgedJobId, LOG_PATH);
+      jobPersistence.writeStats(purgedJobId, purgedAttemptNumber, 1000L, 1000L, 1000L, 1000L, 1000L, 1000L, List.of());
+      jobPersistence.failAttempt(purgedJobId, purgedAttemptNumber);
+      jobPersistence.createAttempt(purgedJobId, LOG_PATH);
+
+      final long keptJobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int keptAttemptNumber = jobPersistence.createAttempt(keptJobId, LOG_PATH);
+
+      final JobPersistence.PurgedJobs purged = jobPersistence.purgeJobs(List.of(purgedJobId));
+
+      assertEquals(1, purged.jobs());
+      assertEquals(2, purged.attempts());
+      assertEquals(4, purged.rows());
+      assertEquals(List.of(keptJobId), jobPersistence.listJobs(Set.of(ConfigType.SYNC), SCOPE, 10).stream().map(Job::getId).toList());
+      assertEquals(0, jobDatabase.query(ctx -> ctx.fetchCount(ATTEMPTS, ATTEMPTS.JOB_ID.eq(purgedJobId))));
+      assertEquals(1, jobDatabase.query(ctx -> ctx.fetchCount(ATTEMPTS, ATTEMPTS.JOB_ID.eq(keptJobId))));
+      assertEquals(keptAttemptNumber, jobPersistence.getJob(keptJobId).getAttempts().get(0).getAttemptNumber());
+
+      // purging is idempotent, so an interrupted purge can be resumed
+      assertEquals(new JobPersistence.PurgedJobs(0, 0, 0), jobPersistence.purgeJobs(List.of(purgedJobId)));
+    }
+
     private Job addStateToJob(final Job job) throws IOException, SQLException {
       persistAttemptForJobHistoryTesting(job, LOG_PATH.toString(),
           LocalDateTime.ofEpochSecond(job.getCreatedAtInSecond(), 0, ZoneOffset.UTC), true);
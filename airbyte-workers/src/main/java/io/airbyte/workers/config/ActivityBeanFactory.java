@@ -17,6 +17,7 @@ import io.airbyte.workers.temporal.scheduling.activities.FeatureFlagFetchActivit
 import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity;
 import io.airbyte.workers.temporal.scheduling.activities.NotifyActivity;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RetryStatePersistenceActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueActivity;
@@ -72,7 +73,8 @@ public class ActivityBeanFactory {
                                                   final FeatureFlagFetchActivity featureFlagFetchActivity,
                                                   final CheckRunProgressActivity checkRunProgressActivity,
                                                   final RetryStatePersistenceActivity retryStatePersistenceActivity,
-                                                  final AppendToAttemptLogActivity appendToAttemptLogActivity) {
+                                                  final AppendToAttemptLogActivity appendToAttemptLogActivity,
+                                                  final PrepareSyncActivity prepareSyncActivity) {
     return List.of(generateInputActivity,
         jobCreationAndStatusUpdateActivity,
         configFetchActivity,
@@ -85,7 +87,8 @@ public class ActivityBeanFactory {
         featureFlagFetchActivity,
         checkRunProgressActivity,
         retryStatePersistenceActivity,
-        appendToAttemptLogActivity);
+        appendToAttemptLogActivity,
+        prepareSyncActivity);
   }
 
   @Singleton
@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.config;
 
+import io.airbyte.api.client.AirbyteApiClient;
 import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.commons.features.FeatureFlags;
 import io.airbyte.commons.version.AirbyteProtocolVersionRange;
@@ -13,7 +14,10 @@ import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricClientFactory;
 import io.airbyte.metrics.lib.MetricEmittingApps;
+import io.airbyte.workers.ReplicationInputHydrator;
+import io.airbyte.workers.helper.SecretPersistenceConfigCache;
 import io.airbyte.workers.internal.stateaggregator.StateAggregatorFactory;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Prototype;
 import io.micronaut.context.annotation.Value;
@@ -21,6 +25,7 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
@@ -76,6 +81,18 @@ public class ApplicationBeanFactory {
     return Executors.newSingleThreadScheduledExecutor();
   }
 
+  @Singleton
+  public SecretPersistenceConfigCache secretPersistenceConfigCache(final AirbyteApiClient airbyteApiClient) {
+    return new SecretPersistenceConfigCache(airbyteApiClient.getSecretPersistenceConfigApi());
+  }
+
+  @Singleton
+  @Named("replicationInputHydrationExecutor")
+  @Bean(preDestroy = "shutdown")
+  public ExecutorService replicationInputHydrationExecutor(@Value("${airbyte.worker.hydration.fetch-parallelism:10}") final int fetchParallelism) {
+    return ReplicationInputHydrator.newFetchExecutor(fetchParallelism);
+  }
+
   @Singleton
   public StateAggregatorFactory stateAggregatorFactory() {
     return new StateAggregatorFactory();
@@ -50,6 +50,7 @@ import io.airbyte.workers.Worker;
 import io.airbyte.workers.exception.WorkerException;
 import io.airbyte.workers.general.DefaultCheckConnectionWorker;
 import io.airbyte.workers.helper.GsonPksExtractor;
+import io.airbyte.workers.helper.SecretPersistenceConfigCache;
 import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
 import io.airbyte.workers.models.CheckConnectionInput;
@@ -123,7 +124,8 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
                                      final GsonPksExtractor gsonPksExtractor,
                                      final WorkloadApi workloadApi,
                                      final WorkloadIdGenerator workloadIdGenerator,
-                                     final JobOutputDocStore jobOutputDocStore) {
+                                     final JobOutputDocStore jobOutputDocStore,
+                                     final SecretPersistenceConfigCache secretPersistenceConfigCache) {
     this(workerConfigsProvider,
         processFactory,
         secretsRepositoryReader,
@@ -142,7 +144,7 @@ public class CheckConnectionActivityImpl implements CheckConnectionActivity {
         jobOutputDocStore,
         new CheckConnectionInputHydrator(
             secretsRepositoryReader,
-            airbyteApiClient.getSecretPersistenceConfigApi(),
+            secretPersistenceConfigCache,
             featureFlagClient));
   }
 
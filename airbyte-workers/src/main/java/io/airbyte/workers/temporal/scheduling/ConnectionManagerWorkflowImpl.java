@@ -70,6 +70,9 @@ import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpd
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobFailureInput;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobSuccessInputWithAttemptNumber;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.ReportJobStartInput;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity.PrepareSyncInput;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity.PrepareSyncOutput;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity.FailureCause;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity.RecordMetricInput;
@@ -84,7 +87,9 @@ import io.airbyte.workers.temporal.scheduling.activities.RouteToSyncTaskQueueAct
 import io.airbyte.workers.temporal.scheduling.activities.StreamResetActivity;
 import io.airbyte.workers.temporal.scheduling.activities.StreamResetActivity.DeleteStreamResetRecordsForJobInput;
 import io.airbyte.workers.temporal.scheduling.activities.WorkflowConfigActivity;
+import io.temporal.activity.LocalActivityOptions;
 import io.temporal.api.enums.v1.ParentClosePolicy;
+import io.temporal.common.RetryOptions;
 import io.temporal.failure.ActivityFailure;
 import io.temporal.failure.CanceledFailure;
 import io.temporal.failure.ChildWorkflowFailure;
@@ -122,6 +127,23 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   private static final String GET_FEATURE_FLAGS_TAG = "get_feature_flags";
   private static final int GET_FEATURE_FLAGS_CURRENT_VERSION = 1;
 
+  private static final String RECORD_METRIC_LOCALLY_TAG = "record_metric_locally";
+  private static final int RECORD_METRIC_LOCALLY_CURRENT_VERSION = 1;
+
+  private static final String PREPARE_SYNC_TAG = "prepare_sync";
+  private static final int PREPARE_SYNC_CURRENT_VERSION = 1;
+
+  /**
+   * Metrics are recorded through a local activity: it runs on this worker as part of the workflow
+   * task, so each metric costs a single marker event instead of a scheduled activity task.
+   */
+  private static final LocalActivityOptions RECORD_METRIC_LOCAL_ACTIVITY_OPTIONS = LocalActivityOptions.newBuilder()
+      .setStartToCloseTimeout(Duration.ofSeconds(30))
+      .setRetryOptions(RetryOptions.newBuilder()
+          .setMaximumAttempts(3)
+          .build())
+      .build();
+
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
   private GenerateInputActivity getSyncInputActivity;
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
@@ -134,6 +156,7 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   private StreamResetActivity streamResetActivity;
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
   private RecordMetricActivity recordMetricActivity;
+  private RecordMetricActivity localRecordMetricActivity;
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
   private WorkflowConfigActivity workflowConfigActivity;
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
@@ -146,6 +169,8 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   private RetryStatePersistenceActivity retryStatePersistenceActivity;
   @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
   private AppendToAttemptLogActivity appendToAttemptLogActivity;
+  @TemporalActivityStub(activityOptionsBeanName = "shortActivityOptions")
+  private PrepareSyncActivity prepareSyncActivity;
 
   private CancellationScope cancellableSyncWorkflow;
 
@@ -262,15 +287,20 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
         reportCancelledAndContinueWith(false, connectionUpdaterInput);
       }
 
-      // re-hydrate retry manager on run-start because FFs may have changed
-      retryManager = hydrateRetryManager();
+      final int prepareSyncVersion = Workflow.getVersion(PREPARE_SYNC_TAG, Workflow.DEFAULT_VERSION, PREPARE_SYNC_CURRENT_VERSION);
+      if (prepareSyncVersion >= PREPARE_SYNC_CURRENT_VERSION) {
+        prepareSync(connectionUpdaterInput);
+      } else {
+        // re-hydrate retry manager on run-start because FFs may have changed
+        retryManager = hydrateRetryManager();
 
-      // This var is unused since not feature flags are currently required in this workflow
-      // We keep the activity around to get any feature flags that might be needed in the future
-      final Map<String, Boolean> featureFlags = getFeatureFlags(connectionUpdaterInput.getConnectionId());
+        // This var is unused since not feature flags are currently required in this workflow
+        // We keep the activity around to get any feature flags that might be needed in the future
+        final Map<String, Boolean> featureFlags = getFeatureFlags(connectionUpdaterInput.getConnectionId());
 
-      workflowInternalState.setJobId(getOrCreateJobId(connectionUpdaterInput));
-      workflowInternalState.setAttemptNumber(createAttempt(workflowInternalState.getJobId()));
+        workflowInternalState.setJobId(getOrCreateJobId(connectionUpdaterInput));
+        workflowInternalState.setAttemptNumber(createAttempt(workflowInternalState.getJobId()));
+      }
 
       JobInput jobInputs = null;
       final boolean shouldRunCheckInputGeneration = shouldRunCheckInputGeneration();
@@ -799,20 +829,39 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
   }
 
   private void recordMetric(final RecordMetricInput recordMetricInput) {
-    runMandatoryActivity(recordMetricActivity::recordWorkflowCountMetric, recordMetricInput);
+    runMandatoryActivity(getRecordMetricActivity()::recordWorkflowCountMetric, recordMetricInput);
   }
 
   /**
    * Unlike `recordMetric` above, we won't fail the attempt if this metric recording fails.
    */
   private void tryRecordCountMetric(final RecordMetricInput recordMetricInput) {
+    final RecordMetricActivity activity = getRecordMetricActivity();
     try {
-      recordMetricActivity.recordWorkflowCountMetric(recordMetricInput);
+      activity.recordWorkflowCountMetric(recordMetricInput);
     } catch (final Exception e) {
-      logActivityFailure(recordMetricActivity.getClass().getName(), "recordWorkflowCountMetric");
+      logActivityFailure(activity.getClass().getName(), "recordWorkflowCountMetric");
     }
   }
 
+  /**
+   * Workflows started before metrics were recorded locally keep using the regular activity so that
+   * their history can still be replayed.
+   */
+  private RecordMetricActivity getRecordMetricActivity() {
+    final int recordMetricLocallyVersion =
+        Workflow.getVersion(RECORD_METRIC_LOCALLY_TAG, Workflow.DEFAULT_VERSION, RECORD_METRIC_LOCALLY_CURRENT_VERSION);
+
+    if (recordMetricLocallyVersion < RECORD_METRIC_LOCALLY_CURRENT_VERSION) {
+      return recordMetricActivity;
+    }
+
+    if (localRecordMetricActivity == null) {
+      localRecordMetricActivity = Workflow.newLocalActivityStub(RecordMetricActivity.class, RECORD_METRIC_LOCAL_ACTIVITY_OPTIONS);
+    }
+    return localRecordMetricActivity;
+  }
+
   /**
    * Creates a new job if it is not present in the input. If the jobId is specified in the input of
    * the connectionManagerWorkflow, we will return it. Otherwise we will create a job and return its
@@ -832,6 +881,25 @@ public class ConnectionManagerWorkflowImpl implements ConnectionManagerWorkflow
     return jobCreationOutput.getJobId();
   }
 
+  /**
+   * Re-hydrate the retry manager, since FFs may have changed while waiting, and create the job (if
+   * needed) and the attempt to run, all in one activity.
+   */
+  private void prepareSync(final ConnectionUpdaterInput connectionUpdaterInput) {
+    final PrepareSyncOutput prepareSyncOutput = runMandatoryActivityWithOutput(
+        prepareSyncActivity::prepareSync,
+        new PrepareSyncInput(connectionUpdaterInput.getConnectionId(), connectionUpdaterInput.getJobId()));
+
+    retryManager = prepareSyncOutput.getRetryManager();
+    if (retryManager == null) {
+      logActivityFailure(PrepareSyncActivity.class.getName(), "hydrateRetryState");
+    }
+
+    connectionUpdaterInput.setJobId(prepareSyncOutput.getJobId());
+    workflowInternalState.setJobId(prepareSyncOutput.getJobId());
+    workflowInternalState.setAttemptNumber(prepareSyncOutput.getAttemptNumber());
+  }
+
   private Map<String, Boolean> getFeatureFlags(final UUID connectionId) {
     final int getFeatureFlagsVersion =
         Workflow.getVersion(GET_FEATURE_FLAGS_TAG, Workflow.DEFAULT_VERSION, GET_FEATURE_FLAGS_CURRENT_VERSION);
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal.scheduling.activities;
+
+import io.airbyte.commons.temporal.exception.RetryableException;
+import io.airbyte.commons.temporal.scheduling.retries.RetryManager;
+import io.temporal.activity.ActivityInterface;
+import io.temporal.activity.ActivityMethod;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Activity that gathers everything the ConnectionManagerWorkflow needs to launch an attempt once it
+ * is done waiting, in a single activity task instead of one per step.
+ */
+@ActivityInterface
+public interface PrepareSyncActivity {
+
+  /**
+   * Prepare sync input.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  class PrepareSyncInput {
+
+    private UUID connectionId;
+    /**
+     * Job to create the attempt for. A new job is created if null.
+     */
+    private Long jobId;
+
+  }
+
+  /**
+   * Prepare sync output.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  class PrepareSyncOutput {
+
+    /**
+     * Hydrated retry manager, or null if the retry state could not be hydrated.
+     */
+    private RetryManager retryManager;
+    private Long jobId;
+    private Integer attemptNumber;
+
+  }
+
+  /**
+   * Progress of a prepare sync activity, recorded as its heartbeat details so that a retry of the
+   * activity picks up the job and attempt it already created instead of creating new ones.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  class PrepareSyncProgress {
+
+    private Long jobId;
+    private Integer attemptNumber;
+
+  }
+
+  /**
+   * Hydrate the retry state, create the job if needed and create a new attempt for it.
+   */
+  @ActivityMethod
+  PrepareSyncOutput prepareSync(PrepareSyncInput input) throws RetryableException;
+
+}
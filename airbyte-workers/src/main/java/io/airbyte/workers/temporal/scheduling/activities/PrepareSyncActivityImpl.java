@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal.scheduling.activities;
+
+import static io.airbyte.metrics.lib.ApmTraceConstants.ACTIVITY_TRACE_OPERATION_NAME;
+
+import datadog.trace.api.Trace;
+import io.airbyte.commons.temporal.config.WorkerMode;
+import io.airbyte.commons.temporal.exception.RetryableException;
+import io.airbyte.commons.temporal.scheduling.retries.RetryManager;
+import io.airbyte.metrics.lib.ApmTraceUtils;
+import io.airbyte.workers.context.AttemptContext;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.AttemptCreationInput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCreationInput;
+import io.airbyte.workers.temporal.scheduling.activities.RetryStatePersistenceActivity.HydrateInput;
+import io.micronaut.context.annotation.Requires;
+import io.temporal.activity.Activity;
+import io.temporal.activity.ActivityExecutionContext;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prepares a sync by running the steps of the individual activities in process, one after the
+ * other.
+ *
+ * <p>
+ * The job and attempt are recorded in the heartbeat details once created, so that a retry of this
+ * activity, e.g. after the attempt creation failed, reuses them rather than leaving a job behind.
+ */
+@Slf4j
+@Singleton
+@Requires(env = WorkerMode.CONTROL_PLANE)
+public class PrepareSyncActivityImpl implements PrepareSyncActivity {
+
+  private final RetryStatePersistenceActivity retryStatePersistenceActivity;
+  private final JobCreationAndStatusUpdateActivity jobCreationAndStatusUpdateActivity;
+
+  public PrepareSyncActivityImpl(final RetryStatePersistenceActivity retryStatePersistenceActivity,
+                                 final JobCreationAndStatusUpdateActivity jobCreationAndStatusUpdateActivity) {
+    this.retryStatePersistenceActivity = retryStatePersistenceActivity;
+    this.jobCreationAndStatusUpdateActivity = jobCreationAndStatusUpdateActivity;
+  }
+
+  @Trace(operationName = ACTIVITY_TRACE_OPERATION_NAME)
+  @Override
+  public PrepareSyncOutput prepareSync(final PrepareSyncInput input) throws RetryableException {
+    new AttemptContext(input.getConnectionId(), input.getJobId(), null).addTagsToTrace();
+
+    final ActivityExecutionContext context = Activity.getExecutionContext();
+    final PrepareSyncProgress progress = context.getHeartbeatDetails(PrepareSyncProgress.class)
+        // only trust the progress of a previous run of this activity for the same job
+        .filter(previous -> input.getJobId() == null || input.getJobId().equals(previous.getJobId()))
+        .orElseGet(() -> new PrepareSyncProgress(input.getJobId(), null));
+
+    final RetryManager retryManager = hydrateRetryManager(input);
+
+    if (progress.getJobId() == null) {
+      progress.setJobId(jobCreationAndStatusUpdateActivity.createNewJob(new JobCreationInput(input.getConnectionId())).getJobId());
+      context.heartbeat(progress);
+    }
+    if (progress.getAttemptNumber() == null) {
+      progress.setAttemptNumber(
+          jobCreationAndStatusUpdateActivity.createNewAttemptNumber(new AttemptCreationInput(progress.getJobId())).getAttemptNumber());
+      context.heartbeat(progress);
+    }
+
+    return new PrepareSyncOutput(retryManager, progress.getJobId(), progress.getAttemptNumber());
+  }
+
+  /**
+   * The retry state is optional to a sync, so failing to hydrate it should not prevent the sync from
+   * starting. This mirrors the fallback the workflow uses when hydrating it through its own activity.
+   */
+  private RetryManager hydrateRetryManager(final PrepareSyncInput input) {
+    try {
+      return retryStatePersistenceActivity.hydrateRetryState(new HydrateInput(input.getJobId(), input.getConnectionId())).getManager();
+    } catch (final Exception e) {
+      ApmTraceUtils.addExceptionToTrace(e);
+      log.error("Unable to hydrate the retry state for connection {}", input.getConnectionId(), e);
+      return null;
+    }
+  }
+
+}
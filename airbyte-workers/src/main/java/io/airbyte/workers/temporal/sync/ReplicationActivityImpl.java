@@ -37,6 +37,7 @@ import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.workers.ReplicationInputHydrator;
 import io.airbyte.workers.Worker;
 import io.airbyte.workers.helper.BackfillHelper;
+import io.airbyte.workers.helper.SecretPersistenceConfigCache;
 import io.airbyte.workers.models.ReplicationActivityInput;
 import io.airbyte.workers.orchestrator.OrchestratorHandleFactory;
 import io.airbyte.workers.orchestrator.OrchestratorNameGenerator;
@@ -56,6 +57,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -101,13 +103,17 @@ public class ReplicationActivityImpl implements ReplicationActivity {
                                  final OrchestratorHandleFactory orchestratorHandleFactory,
                                  final OrchestratorNameGenerator orchestratorNameGenerator,
                                  final MetricClient metricClient,
-                                 final FeatureFlagClient featureFlagClient) {
+                                 final FeatureFlagClient featureFlagClient,
+                                 final SecretPersistenceConfigCache secretPersistenceConfigCache,
+                                 @Named("replicationInputHydrationExecutor") final ExecutorService replicationInputHydrationExecutor) {
     this.secretsRepositoryReader = secretsRepositoryReader;
     this.replicationInputHydrator = new ReplicationInputHydrator(airbyteApiClient.getConnectionApi(),
         airbyteApiClient.getJobsApi(),
         airbyteApiClient.getStateApi(),
-        airbyteApiClient.getSecretPersistenceConfigApi(), secretsRepositoryReader,
-        featureFlagClient);
+        secretPersistenceConfigCache,
+        secretsRepositoryReader,
+        featureFlagClient,
+        replicationInputHydrationExecutor);
     this.workspaceRoot = workspaceRoot;
     this.workerEnvironment = workerEnvironment;
     this.logConfigs = logConfigs;
@@ -27,6 +27,7 @@ import io.airbyte.config.FailureReason.FailureOrigin;
 import io.airbyte.config.FailureReason.FailureType;
 import io.airbyte.config.StandardCheckConnectionInput;
 import io.airbyte.config.StandardSyncInput;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.micronaut.temporal.TemporalProxyHelper;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
@@ -46,11 +47,14 @@ import io.airbyte.workers.temporal.scheduling.activities.FeatureFlagFetchActivit
 import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivity.SyncInputWithAttemptNumber;
 import io.airbyte.workers.temporal.scheduling.activities.GenerateInputActivityImpl;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.AttemptCreationInput;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.AttemptNumberCreationOutput;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.AttemptNumberFailureInput;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCancelledInputWithAttemptNumber;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCreationOutput;
 import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobSuccessInputWithAttemptNumber;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivityImpl;
 import io.airbyte.workers.temporal.scheduling.activities.RecordMetricActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RetryStatePersistenceActivity;
 import io.airbyte.workers.temporal.scheduling.activities.RetryStatePersistenceActivity.HydrateInput;
@@ -80,6 +84,7 @@ import io.micronaut.inject.BeanIdentifier;
 import io.temporal.activity.ActivityOptions;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
 import io.temporal.api.filter.v1.WorkflowExecutionFilter;
+import io.temporal.api.history.v1.HistoryEvent;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.client.WorkflowClient;
@@ -258,6 +263,14 @@ class ConnectionManagerWorkflowTest {
     temporalProxyHelper = new TemporalProxyHelper(List.of(activityOptionsBeanRegistration));
   }
 
+  /**
+   * Prepares syncs through the individual activity mocks, so tests can keep stubbing and verifying
+   * each step on its own.
+   */
+  private static PrepareSyncActivity newPrepareSyncActivity() {
+    return new PrepareSyncActivityImpl(mRetryStatePersistenceActivity, mJobCreationAndStatusUpdateActivity);
+  }
+
   private void returnTrueForLastJobOrAttemptFailure() throws Exception {
     when(mJobCreationAndStatusUpdateActivity.isLastJobOrAttemptFailure(Mockito.any()))
         .thenReturn(true);
@@ -350,6 +363,26 @@ class ConnectionManagerWorkflowTest {
           .isEmpty();
     }
 
+    @Test
+    @Timeout(value = 10,
+             unit = TimeUnit.SECONDS)
+    @DisplayName("Test that workflow metrics are recorded through a local activity")
+    void recordMetricsLocally() throws Exception {
+      returnTrueForLastJobOrAttemptFailure();
+
+      final ConnectionUpdaterInput input = testInputBuilder().build();
+
+      startWorkflowAndWaitUntilReady(workflow, input);
+      testEnv.sleep(Duration.ofMinutes(1));
+
+      Mockito.verify(mRecordMetricActivity, Mockito.atLeastOnce())
+          .recordWorkflowCountMetric(Mockito.argThat(metricInput -> metricInput.getMetricName() == OssMetricsRegistry.TEMPORAL_WORKFLOW_ATTEMPT));
+      Assertions.assertThat(client.fetchHistory(WORKFLOW_ID).getEvents())
+          .filteredOn(HistoryEvent::hasActivityTaskScheduledEventAttributes)
+          .extracting(event -> event.getActivityTaskScheduledEventAttributes().getActivityType().getName())
+          .doesNotContain("RecordWorkflowCountMetric");
+    }
+
     @Test
     @Timeout(value = 10,
              unit = TimeUnit.SECONDS)
@@ -1492,6 +1525,31 @@ class ConnectionManagerWorkflowTest {
       setupSimpleConnectionManagerWorkflow();
     }
 
+    @Test
+    @Timeout(value = 10,
+             unit = TimeUnit.SECONDS)
+    @DisplayName("A retry creates a new attempt on the job of the failed attempt")
+    void retryCreatesAttemptOnExistingJob() throws Exception {
+      // a different id than the input's, so that creating a new job can't go unnoticed
+      when(mJobCreationAndStatusUpdateActivity.createNewJob(Mockito.any()))
+          .thenReturn(new JobCreationOutput(JOB_ID + 1));
+      // run right away, then wait "forever" once continued as new
+      when(mConfigFetchActivity.getTimeToWait(Mockito.any()))
+          .thenReturn(new ScheduleRetrieverOutput(Duration.ZERO))
+          .thenReturn(new ScheduleRetrieverOutput(Duration.ofDays(100 * 365)));
+
+      final var input = testInputBuilder()
+          .jobId(JOB_ID)
+          .attemptNumber(2)
+          .build();
+
+      setupSuccessfulWorkflow(input);
+      testEnv.sleep(Duration.ofMinutes(1));
+
+      Mockito.verify(mJobCreationAndStatusUpdateActivity, Mockito.never()).createNewJob(Mockito.any());
+      Mockito.verify(mJobCreationAndStatusUpdateActivity).createNewAttemptNumber(new AttemptCreationInput(JOB_ID));
+    }
+
     @ParameterizedTest
     @Timeout(value = 10,
              unit = TimeUnit.SECONDS)
@@ -1948,7 +2006,7 @@ class ConnectionManagerWorkflowTest {
     managerWorker.registerActivitiesImplementations(mConfigFetchActivity, mGenerateInputActivityImpl,
         mJobCreationAndStatusUpdateActivity, mAutoDisableConnectionActivity, mRecordMetricActivity, mWorkflowConfigActivity,
         mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity, mCheckRunProgressActivity, mRetryStatePersistenceActivity,
-        mAppendToAttemptLogActivity);
+        mAppendToAttemptLogActivity, newPrepareSyncActivity());
 
     client = testEnv.getWorkflowClient();
     testEnv.start();
@@ -2048,7 +2106,7 @@ class ConnectionManagerWorkflowTest {
     managerWorker.registerActivitiesImplementations(mConfigFetchActivity, mGenerateInputActivityImpl,
         mJobCreationAndStatusUpdateActivity, mAutoDisableConnectionActivity, mRecordMetricActivity, mWorkflowConfigActivity,
         mRouteToSyncTaskQueueActivity, mFeatureFlagFetchActivity, mCheckRunProgressActivity, mRetryStatePersistenceActivity,
-        mAppendToAttemptLogActivity);
+        mAppendToAttemptLogActivity, newPrepareSyncActivity());
 
     client = testEnv.getWorkflowClient();
     workflow = client.newWorkflowStub(ConnectionManagerWorkflow.class,
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.temporal.scheduling.activities;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.temporal.exception.RetryableException;
+import io.airbyte.commons.temporal.scheduling.retries.RetryManager;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.AttemptCreationInput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.AttemptNumberCreationOutput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCreationInput;
+import io.airbyte.workers.temporal.scheduling.activities.JobCreationAndStatusUpdateActivity.JobCreationOutput;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity.PrepareSyncInput;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity.PrepareSyncOutput;
+import io.airbyte.workers.temporal.scheduling.activities.PrepareSyncActivity.PrepareSyncProgress;
+import io.airbyte.workers.temporal.scheduling.activities.RetryStatePersistenceActivity.HydrateInput;
+import io.airbyte.workers.temporal.scheduling.activities.RetryStatePersistenceActivity.HydrateOutput;
+import io.temporal.activity.ActivityOptions;
+import io.temporal.common.RetryOptions;
+import io.temporal.failure.ActivityFailure;
+import io.temporal.testing.TestActivityEnvironment;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class PrepareSyncActivityTest {
+
+  private static final UUID CONNECTION_ID = UUID.randomUUID();
+  private static final long JOB_ID = 123L;
+  private static final int ATTEMPT_NUMBER = 2;
+
+  private RetryStatePersistenceActivity retryStatePersistenceActivity;
+  private JobCreationAndStatusUpdateActivity jobCreationAndStatusUpdateActivity;
+  private TestActivityEnvironment testEnv;
+  private PrepareSyncActivity prepareSyncActivity;
+
+  @BeforeEach
+  void setUp() {
+    retryStatePersistenceActivity = mock(RetryStatePersistenceActivity.class);
+    jobCreationAndStatusUpdateActivity = mock(JobCreationAndStatusUpdateActivity.class);
+
+    when(jobCreationAndStatusUpdateActivity.createNewAttemptNumber(new AttemptCreationInput(JOB_ID)))
+        .thenReturn(new AttemptNumberCreationOutput(ATTEMPT_NUMBER));
+
+    testEnv = TestActivityEnvironment.newInstance();
+    testEnv.registerActivitiesImplementations(new PrepareSyncActivityImpl(retryStatePersistenceActivity, jobCreationAndStatusUpdateActivity));
+    prepareSyncActivity = testEnv.newActivityStub(PrepareSyncActivity.class, ActivityOptions.newBuilder()
+        .setStartToCloseTimeout(Duration.ofMinutes(1))
+        .setRetryOptions(RetryOptions.newBuilder().setMaximumAttempts(1).build())
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    testEnv.close();
+  }
+
+  @Test
+  void testCreatesJobAndAttempt() {
+    final RetryManager manager = RetryManager.builder().build();
+    when(retryStatePersistenceActivity.hydrateRetryState(new HydrateInput(null, CONNECTION_ID))).thenReturn(new HydrateOutput(manager));
+    when(jobCreationAndStatusUpdateActivity.createNewJob(new JobCreationInput(CONNECTION_ID))).thenReturn(new JobCreationOutput(JOB_ID));
+
+    final PrepareSyncOutput output = prepareSyncActivity.prepareSync(new PrepareSyncInput(CONNECTION_ID, null));
+
+    Assertions.assertNotNull(output.getRetryManager());
+    Assertions.assertEquals(JOB_ID, output.getJobId());
+    Assertions.assertEquals(ATTEMPT_NUMBER, output.getAttemptNumber());
+  }
+
+  @Test
+  void testReusesExistingJob() {
+    when(retryStatePersistenceActivity.hydrateRetryState(new HydrateInput(JOB_ID, CONNECTION_ID)))
+        .thenReturn(new HydrateOutput(RetryManager.builder().build()));
+
+    final PrepareSyncOutput output = prepareSyncActivity.prepareSync(new PrepareSyncInput(CONNECTION_ID, JOB_ID));
+
+    Assertions.assertEquals(JOB_ID, output.getJobId());
+    Assertions.assertEquals(ATTEMPT_NUMBER, output.getAttemptNumber());
+    verify(jobCreationAndStatusUpdateActivity, never()).createNewJob(Mockito.any());
+  }
+
+  @Test
+  void testRetryStateHydrationFailureIsTolerated() {
+    when(retryStatePersistenceActivity.hydrateRetryState(Mockito.any())).thenThrow(new RetryableException(new RuntimeException("boom")));
+
+    final PrepareSyncOutput output = prepareSyncActivity.prepareSync(new PrepareSyncInput(CONNECTION_ID, JOB_ID));
+
+    Assertions.assertNull(output.getRetryManager());
+    Assertions.assertEquals(ATTEMPT_NUMBER, output.getAttemptNumber());
+  }
+
+  @Test
+  void testAttemptCreationFailureFailsTheActivity() {
+    when(jobCreationAndStatusUpdateActivity.createNewAttemptNumber(Mockito.any())).thenThrow(new RetryableException(new RuntimeException("boom")));
+
+    Assertions.assertThrows(ActivityFailure.class, () -> prepareSyncActivity.prepareSync(new PrepareSyncInput(CONNECTION_ID, JOB_ID)));
+  }
+
+  @Test
+  void testRetryReusesTheJobCreatedByThePreviousRun() {
+    // a previous run of the activity created the job, then failed to create the attempt
+    testEnv.setHeartbeatDetails(new PrepareSyncProgress(JOB_ID, null));
+
+    final PrepareSyncOutput output = prepareSyncActivity.prepareSync(new PrepareSyncInput(CONNECTION_ID, null));
+
+    Assertions.assertEquals(JOB_ID, output.getJobId());
+    Assertions.assertEquals(ATTEMPT_NUMBER, output.getAttemptNumber());
+    verify(jobCreationAndStatusUpdateActivity, never()).createNewJob(Mockito.any());
+  }
+
+  @Test
+  void testRetryReusesTheAttemptCreatedByThePreviousRun() {
+    testEnv.setHeartbeatDetails(new PrepareSyncProgress(JOB_ID, ATTEMPT_NUMBER));
+
+    final PrepareSyncOutput output = prepareSyncActivity.prepareSync(new PrepareSyncInput(CONNECTION_ID, JOB_ID));
+
+    Assertions.assertEquals(ATTEMPT_NUMBER, output.getAttemptNumber());
+    verify(jobCreationAndStatusUpdateActivity, never()).createNewAttemptNumber(Mockito.any());
+  }
+
+}
@@ -409,6 +409,16 @@ open class WorkloadApi(
       content = [Content(schema = Schema(implementation = WorkloadListRequest::class))],
     ) workloadListRequest: WorkloadListRequest,
   ): WorkloadListResponse {
+    val pageSize = workloadListRequest.pageSize
+    if (pageSize != null) {
+      return workloadHandler.getWorkloadsPage(
+        workloadListRequest.dataplane,
+        workloadListRequest.status,
+        workloadListRequest.updatedBefore,
+        pageSize,
+        workloadListRequest.cursor,
+      )
+    }
     return WorkloadListResponse(
       workloadHandler.getWorkloads(
         workloadListRequest.dataplane,
@@ -437,6 +447,16 @@ open class WorkloadApi(
       content = [Content(schema = Schema(implementation = LongRunningWorkloadRequest::class))],
     ) longRunningWorkloadRequest: LongRunningWorkloadRequest,
   ): WorkloadListResponse {
+    val pageSize = longRunningWorkloadRequest.pageSize
+    if (pageSize != null) {
+      return workloadHandler.getWorkloadsRunningCreatedBeforePage(
+        longRunningWorkloadRequest.dataplane,
+        listOf(WorkloadType.CHECK, WorkloadType.DISCOVER, WorkloadType.SPEC),
+        longRunningWorkloadRequest.createdBefore,
+        pageSize,
+        longRunningWorkloadRequest.cursor,
+      )
+    }
     return WorkloadListResponse(
       workloadHandler.getWorkloadsRunningCreatedBefore(
         longRunningWorkloadRequest.dataplane,
@@ -465,6 +485,16 @@ open class WorkloadApi(
       content = [Content(schema = Schema(implementation = LongRunningWorkloadRequest::class))],
     ) longRunningWorkloadRequest: LongRunningWorkloadRequest,
   ): WorkloadListResponse {
+    val pageSize = longRunningWorkloadRequest.pageSize
+    if (pageSize != null) {
+      return workloadHandler.getWorkloadsRunningCreatedBeforePage(
+        longRunningWorkloadRequest.dataplane,
+        listOf(WorkloadType.SYNC),
+        longRunningWorkloadRequest.createdBefore,
+        pageSize,
+        longRunningWorkloadRequest.cursor,
+      )
+    }
     return WorkloadListResponse(
       workloadHandler.getWorkloadsRunningCreatedBefore(
         longRunningWorkloadRequest.dataplane,
@@ -5,4 +5,7 @@ import java.time.OffsetDateTime
 data class LongRunningWorkloadRequest(
   var dataplane: List<String>? = null,
   var createdBefore: OffsetDateTime? = null,
+  // When set, results are paginated by (createdAt, id) and at most pageSize workloads are returned.
+  var pageSize: Int? = null,
+  var cursor: WorkloadListCursor? = null,
 )
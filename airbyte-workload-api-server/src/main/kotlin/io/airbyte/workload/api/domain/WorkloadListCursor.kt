@@ -0,0 +1,12 @@
+package io.airbyte.workload.api.domain
+
+import java.time.OffsetDateTime
+
+/**
+ * Position of the last workload returned by a paginated list call. Workloads are paginated by (createdAt, id), so
+ * passing the cursor of a page back returns the workloads that come strictly after it.
+ */
+data class WorkloadListCursor(
+  var createdAt: OffsetDateTime? = null,
+  var id: String? = null,
+)
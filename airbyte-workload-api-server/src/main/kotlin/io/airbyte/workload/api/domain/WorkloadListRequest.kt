@@ -6,4 +6,8 @@ data class WorkloadListRequest(
   var dataplane: List<String>? = null,
   var status: List<WorkloadStatus>? = null,
   var updatedBefore: OffsetDateTime? = null,
+  // When set, results are paginated by (createdAt, id) and at most pageSize workloads are returned. Paginated requests
+  // without a status only return non-terminal workloads.
+  var pageSize: Int? = null,
+  var cursor: WorkloadListCursor? = null,
 )
@@ -2,4 +2,6 @@ package io.airbyte.workload.api.domain
 
 data class WorkloadListResponse(
   var workloads: List<Workload> = ArrayList(),
+  // Only set on paginated requests when more workloads may be available.
+  var nextCursor: WorkloadListCursor? = null,
 )
@@ -3,6 +3,8 @@ package io.airbyte.workload.handler
 import io.airbyte.config.WorkloadType
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadListCursor
+import io.airbyte.workload.api.domain.WorkloadListResponse
 import jakarta.transaction.Transactional
 import java.time.OffsetDateTime
 import java.util.UUID
@@ -21,6 +23,14 @@ interface WorkloadHandler {
     updatedBefore: OffsetDateTime?,
   ): List<Workload>
 
+  fun getWorkloadsPage(
+    dataplaneId: List<String>?,
+    workloadStatus: List<ApiWorkloadStatus>?,
+    updatedBefore: OffsetDateTime?,
+    pageSize: Int,
+    cursor: WorkloadListCursor?,
+  ): WorkloadListResponse
+
   fun workloadAlreadyExists(workloadId: String): Boolean
 
   fun createWorkload(
@@ -64,4 +74,12 @@ interface WorkloadHandler {
     workloadType: List<ApiWorkloadType>?,
     createdBefore: OffsetDateTime?,
   ): List<Workload>
+
+  fun getWorkloadsRunningCreatedBeforePage(
+    dataplaneId: List<String>?,
+    workloadType: List<ApiWorkloadType>?,
+    createdBefore: OffsetDateTime?,
+    pageSize: Int,
+    cursor: WorkloadListCursor?,
+  ): WorkloadListResponse
 }
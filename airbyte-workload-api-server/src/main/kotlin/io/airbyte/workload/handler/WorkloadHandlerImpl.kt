@@ -3,6 +3,8 @@ package io.airbyte.workload.handler
 import io.airbyte.config.WorkloadType
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadListCursor
+import io.airbyte.workload.api.domain.WorkloadListResponse
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
@@ -15,6 +17,14 @@ import java.util.UUID
 
 private val logger = KotlinLogging.logger {}
 
+// Lower bound of the (created_at, id) keyset, used when no cursor is provided.
+private val FIRST_PAGE_CREATED_AT: OffsetDateTime = OffsetDateTime.parse("1970-01-01T00:00:00Z")
+private const val FIRST_PAGE_ID = ""
+
+// Statuses paged through by default, matching the workload_non_terminal_created_at_id_idx partial index.
+private val NON_TERMINAL_STATUSES =
+  listOf(WorkloadStatus.PENDING, WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING)
+
 /**
  * Interface layer between the API and Persistence layers.
  */
@@ -46,6 +56,26 @@ class WorkloadHandlerImpl(
     return domainWorkloads.map { it.toApi() }
   }
 
+  override fun getWorkloadsPage(
+    dataplaneId: List<String>?,
+    workloadStatus: List<ApiWorkloadStatus>?,
+    updatedBefore: OffsetDateTime?,
+    pageSize: Int,
+    cursor: WorkloadListCursor?,
+  ): WorkloadListResponse {
+    val statuses = workloadStatus?.map { it.toDomain() } ?: NON_TERMINAL_STATUSES
+    val afterCreatedAt = cursor?.createdAt ?: FIRST_PAGE_CREATED_AT
+    val afterId = cursor?.id ?: FIRST_PAGE_ID
+    val domainWorkloads =
+      if (NON_TERMINAL_STATUSES.containsAll(statuses)) {
+        workloadRepository.searchNonTerminalPage(dataplaneId, statuses, updatedBefore, afterCreatedAt, afterId, pageSize)
+      } else {
+        workloadRepository.searchPage(dataplaneId, statuses, updatedBefore, afterCreatedAt, afterId, pageSize)
+      }
+
+    return toPage(domainWorkloads, pageSize)
+  }
+
   override fun workloadAlreadyExists(workloadId: String): Boolean {
     return workloadRepository.existsById(workloadId)
   }
@@ -234,4 +264,44 @@ class WorkloadHandlerImpl(
 
     return domainWorkloads.map { it.toApi() }
   }
+
+  override fun getWorkloadsRunningCreatedBeforePage(
+    dataplaneId: List<String>?,
+    workloadType: List<ApiWorkloadType>?,
+    createdBefore: OffsetDateTime?,
+    pageSize: Int,
+    cursor: WorkloadListCursor?,
+  ): WorkloadListResponse {
+    val domainWorkloads =
+      workloadRepository.searchByTypeStatusAndCreationDatePage(
+        dataplaneId,
+        listOf(WorkloadStatus.RUNNING),
+        workloadType?.map { it.toDomain() },
+        createdBefore,
+        cursor?.createdAt ?: FIRST_PAGE_CREATED_AT,
+        cursor?.id ?: FIRST_PAGE_ID,
+        pageSize,
+      )
+
+    return toPage(domainWorkloads, pageSize)
+  }
+
+  /**
+   * A full page means there may be more results, in which case the position of the last workload is handed back as
+   * the cursor for the next page.
+   */
+  private fun toPage(
+    domainWorkloads: List<DomainWorkload>,
+    pageSize: Int,
+  ): WorkloadListResponse {
+    val nextCursor =
+      domainWorkloads.lastOrNull()
+        ?.takeIf { domainWorkloads.size >= pageSize }
+        ?.let { WorkloadListCursor(createdAt = it.createdAt, id = it.id) }
+
+    return WorkloadListResponse(
+      workloads = domainWorkloads.map { it.toApi() },
+      nextCursor = nextCursor,
+    )
+  }
 }
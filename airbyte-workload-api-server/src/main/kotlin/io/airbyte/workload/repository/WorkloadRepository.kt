@@ -50,6 +50,85 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     createdBefore: OffsetDateTime?,
   ): List<Workload>
 
+  /**
+   * Keyset-paginated variant of [search]. Rows are returned ordered by (created_at, id) and only rows strictly after
+   * ([afterCreatedAt], [afterId]) are considered, so callers can stream through an arbitrarily large result set with
+   * a constant memory footprint and without the cost of OFFSET scans. Statuses are mandatory; prefer
+   * [searchNonTerminalPage] when they are all non-terminal, as this query cannot use the non-terminal partial index.
+   */
+  @Query(
+    """
+      SELECT * FROM workload
+      WHERE status = ANY(CAST(ARRAY[:statuses] AS workload_status[]))
+      AND ((:dataplaneIds) IS NULL OR dataplane_id IN (:dataplaneIds))
+      AND (CAST(:updatedBefore AS timestamptz) IS NULL OR updated_at < CAST(:updatedBefore AS timestamptz))
+      AND (created_at, id) > (CAST(:afterCreatedAt AS timestamptz), :afterId)
+      ORDER BY created_at, id
+      LIMIT :limit
+      """,
+  )
+  fun searchPage(
+    @Expandable dataplaneIds: List<String>?,
+    @Expandable statuses: List<WorkloadStatus>,
+    updatedBefore: OffsetDateTime?,
+    afterCreatedAt: OffsetDateTime,
+    afterId: String,
+    limit: Int,
+  ): List<Workload>
+
+  /**
+   * Variant of [searchPage] restricted to non-terminal workloads. The literal status predicate repeats the one of the
+   * workload_non_terminal_created_at_id_idx partial index so that the planner can use it whatever the bound
+   * [statuses] are, including with a generic plan. Terminal statuses in [statuses] never match.
+   */
+  @Query(
+    """
+      SELECT * FROM workload
+      WHERE status IN ('pending', 'claimed', 'launched', 'running')
+      AND status = ANY(CAST(ARRAY[:statuses] AS workload_status[]))
+      AND ((:dataplaneIds) IS NULL OR dataplane_id IN (:dataplaneIds))
+      AND (CAST(:updatedBefore AS timestamptz) IS NULL OR updated_at < CAST(:updatedBefore AS timestamptz))
+      AND (created_at, id) > (CAST(:afterCreatedAt AS timestamptz), :afterId)
+      ORDER BY created_at, id
+      LIMIT :limit
+      """,
+  )
+  fun searchNonTerminalPage(
+    @Expandable dataplaneIds: List<String>?,
+    @Expandable statuses: List<WorkloadStatus>,
+    updatedBefore: OffsetDateTime?,
+    afterCreatedAt: OffsetDateTime,
+    afterId: String,
+    limit: Int,
+  ): List<Workload>
+
+  /**
+   * Keyset-paginated variant of [searchByTypeStatusAndCreationDate], restricted to non-terminal workloads like
+   * [searchNonTerminalPage]. See [searchPage] for the pagination contract.
+   */
+  @Query(
+    """
+      SELECT * FROM workload
+      WHERE status IN ('pending', 'claimed', 'launched', 'running')
+      AND status = ANY(CAST(ARRAY[:statuses] AS workload_status[]))
+      AND ((:dataplaneIds) IS NULL OR dataplane_id IN (:dataplaneIds))
+      AND ((:types) IS NULL OR type = ANY(CAST(ARRAY[:types] AS workload_type[])))
+      AND (CAST(:createdBefore AS timestamptz) IS NULL OR created_at < CAST(:createdBefore AS timestamptz))
+      AND (created_at, id) > (CAST(:afterCreatedAt AS timestamptz), :afterId)
+      ORDER BY created_at, id
+      LIMIT :limit
+      """,
+  )
+  fun searchByTypeStatusAndCreationDatePage(
+    @Expandable dataplaneIds: List<String>?,
+    @Expandable statuses: List<WorkloadStatus>,
+    @Expandable types: List<WorkloadType>?,
+    createdBefore: OffsetDateTime?,
+    afterCreatedAt: OffsetDateTime,
+    afterId: String,
+    limit: Int,
+  ): List<Workload>
+
   fun update(
     @Id id: String,
     status: WorkloadStatus,
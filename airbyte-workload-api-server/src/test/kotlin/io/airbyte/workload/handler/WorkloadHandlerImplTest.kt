@@ -1,6 +1,7 @@
 package io.airbyte.workload.handler
 
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadListCursor
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
@@ -20,6 +21,7 @@ import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
@@ -566,6 +568,90 @@ class WorkloadHandlerImplTest {
     }
   }
 
+  @Test
+  fun `test get workloads page returns a cursor when the page is full`() {
+    val createdAt = OffsetDateTime.now()
+    val domainWorkloads =
+      listOf("workload1", "workload2").map {
+        Fixtures.workload(id = it, status = WorkloadStatus.CLAIMED).apply { this.createdAt = createdAt }
+      }
+    every { workloadRepository.searchNonTerminalPage(any(), any(), any(), any(), any(), any()) }.returns(domainWorkloads)
+
+    val page = workloadHandler.getWorkloadsPage(listOf(DATAPLANE_ID), listOf(ApiWorkloadStatus.CLAIMED), null, 2, null)
+
+    assertEquals(listOf("workload1", "workload2"), page.workloads.map { it.id })
+    assertEquals(WorkloadListCursor(createdAt, "workload2"), page.nextCursor)
+    verify {
+      workloadRepository.searchNonTerminalPage(
+        listOf(DATAPLANE_ID),
+        listOf(WorkloadStatus.CLAIMED),
+        null,
+        OffsetDateTime.parse("1970-01-01T00:00:00Z"),
+        "",
+        2,
+      )
+    }
+  }
+
+  @Test
+  fun `test get workloads page continues from the cursor and stops on a partial page`() {
+    val cursor = WorkloadListCursor(OffsetDateTime.now(), "workload2")
+    every { workloadRepository.searchNonTerminalPage(any(), any(), any(), any(), any(), any()) }
+      .returns(listOf(Fixtures.workload(id = "workload3", status = WorkloadStatus.CLAIMED)))
+
+    val page = workloadHandler.getWorkloadsPage(null, null, null, 2, cursor)
+
+    assertEquals(listOf("workload3"), page.workloads.map { it.id })
+    assertNull(page.nextCursor)
+    verify {
+      workloadRepository.searchNonTerminalPage(
+        null,
+        listOf(WorkloadStatus.PENDING, WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING),
+        null,
+        cursor.createdAt!!,
+        "workload2",
+        2,
+      )
+    }
+  }
+
+  @Test
+  fun `test get workloads page with terminal statuses does not use the non terminal query`() {
+    every { workloadRepository.searchPage(any(), any(), any(), any(), any(), any()) }
+      .returns(listOf(Fixtures.workload(id = "workload1", status = WorkloadStatus.SUCCESS)))
+
+    val page = workloadHandler.getWorkloadsPage(null, listOf(ApiWorkloadStatus.RUNNING, ApiWorkloadStatus.SUCCESS), null, 2, null)
+
+    assertEquals(listOf("workload1"), page.workloads.map { it.id })
+    verify(exactly = 0) { workloadRepository.searchNonTerminalPage(any(), any(), any(), any(), any(), any()) }
+    verify {
+      workloadRepository.searchPage(null, listOf(WorkloadStatus.RUNNING, WorkloadStatus.SUCCESS), null, any(), "", 2)
+    }
+  }
+
+  @Test
+  fun `test get workload running before page`() {
+    every { workloadRepository.searchByTypeStatusAndCreationDatePage(any(), any(), any(), any(), any(), any(), any()) }
+      .returns(listOf())
+    val createdBefore = OffsetDateTime.now()
+
+    val page = workloadHandler.getWorkloadsRunningCreatedBeforePage(null, listOf(ApiWorkloadType.SYNC), createdBefore, 5, null)
+
+    assertTrue(page.workloads.isEmpty())
+    assertNull(page.nextCursor)
+    verify {
+      workloadRepository.searchByTypeStatusAndCreationDatePage(
+        null,
+        listOf(WorkloadStatus.RUNNING),
+        listOf(WorkloadType.SYNC),
+        createdBefore,
+        any(),
+        "",
+        5,
+      )
+    }
+  }
+
   object Fixtures {
     val workloadRepository = mockk<WorkloadRepository>()
     const val WORKLOAD_ID = "test"
@@ -13,6 +13,7 @@ import io.micronaut.test.extensions.junit5.annotation.MicronautTest
 import io.micronaut.transaction.jdbc.DelegatingDataSource
 import org.jooq.DSLContext
 import org.jooq.SQLDialect
+import org.jooq.impl.DSL
 import org.junit.jupiter.api.AfterAll
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.Assertions.assertEquals
@@ -341,6 +342,108 @@ internal class WorkloadRepositoryTest {
     assertEquals(0, resultSearch.size)
   }
 
+  @Test
+  fun `test search page walks the keyset in created at and id order`() {
+    val createdAt = OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS)
+    listOf("workload3", "workload1", "workload2", "workload4").forEach {
+      workloadRepo.save(Fixtures.workload(id = it, dataplaneId = "dataplane1", status = WorkloadStatus.CLAIMED))
+    }
+    workloadRepo.save(Fixtures.workload(id = "workload5", dataplaneId = "dataplane1", status = WorkloadStatus.SUCCESS))
+    // Force identical creation times so that ties are broken by id.
+    jooqDslContext.execute("UPDATE workload SET created_at = '$createdAt'")
+
+    val statuses = listOf(WorkloadStatus.CLAIMED)
+    val firstPage = workloadRepo.searchPage(null, statuses, null, OffsetDateTime.parse("1970-01-01T00:00:00Z"), "", 3)
+    assertEquals(listOf("workload1", "workload2", "workload3"), firstPage.map { it.id })
+
+    val last = firstPage.last()
+    val secondPage = workloadRepo.searchPage(listOf("dataplane1"), statuses, null, last.createdAt!!, last.id, 3)
+    assertEquals(listOf("workload4"), secondPage.map { it.id })
+
+    val emptyPage = workloadRepo.searchPage(null, statuses, createdAt.minusDays(1), OffsetDateTime.parse("1970-01-01T00:00:00Z"), "", 3)
+    assertTrue(emptyPage.isEmpty())
+  }
+
+  @Test
+  fun `test search non terminal page skips terminal workloads`() {
+    workloadRepo.save(Fixtures.workload(id = "workload1", status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "workload2", status = WorkloadStatus.SUCCESS))
+    workloadRepo.save(Fixtures.workload(id = "workload3", status = WorkloadStatus.RUNNING))
+    val start = OffsetDateTime.parse("1970-01-01T00:00:00Z")
+
+    val page =
+      workloadRepo.searchNonTerminalPage(null, listOf(WorkloadStatus.CLAIMED, WorkloadStatus.SUCCESS), null, start, "", 10)
+    assertEquals(listOf("workload1"), page.map { it.id })
+
+    val allStatusesPage = workloadRepo.searchPage(null, listOf(WorkloadStatus.CLAIMED, WorkloadStatus.SUCCESS), null, start, "", 10)
+    assertEquals(setOf("workload1", "workload2"), allStatusesPage.map { it.id }.toSet())
+  }
+
+  @Test
+  fun `test search non terminal page uses the partial index with a generic plan`() {
+    // Same predicates as searchNonTerminalPage. The generic plan is forced as it is the one the planner falls back to
+    // once a prepared statement has been executed a few times, and it cannot see the bound statuses.
+    val plan =
+      jooqDslContext.transactionResult { configuration ->
+        val ctx = DSL.using(configuration)
+        ctx.execute("SET LOCAL enable_seqscan = off")
+        ctx.execute("SET LOCAL plan_cache_mode = force_generic_plan")
+        ctx.execute(
+          """
+          PREPARE non_terminal_page AS
+          SELECT * FROM workload
+          WHERE status IN ('pending', 'claimed', 'launched', 'running')
+          AND status = ANY(CAST($1 AS workload_status[]))
+          AND (created_at, id) > (CAST($2 AS timestamptz), $3)
+          ORDER BY created_at, id
+          LIMIT $4
+          """.trimIndent(),
+        )
+        val explain =
+          ctx.fetch("EXPLAIN EXECUTE non_terminal_page(CAST(ARRAY['claimed'] AS workload_status[]), '1970-01-01T00:00:00Z', '', 100)")
+            .joinToString("\n") { it.get(0, String::class.java) }
+        ctx.execute("DEALLOCATE non_terminal_page")
+        explain
+      }
+
+    assertTrue(plan.contains("workload_non_terminal_created_at_id_idx"), plan)
+  }
+
+  @Test
+  fun `test search by type status and creation date page`() {
+    workloadRepo.save(Fixtures.workload(id = "workload1", status = WorkloadStatus.RUNNING, type = WorkloadType.CHECK))
+    workloadRepo.save(Fixtures.workload(id = "workload2", status = WorkloadStatus.RUNNING, type = WorkloadType.SYNC))
+    workloadRepo.save(Fixtures.workload(id = "workload3", status = WorkloadStatus.RUNNING, type = WorkloadType.CHECK))
+    val now = OffsetDateTime.now()
+    val start = OffsetDateTime.parse("1970-01-01T00:00:00Z")
+
+    val firstPage =
+      workloadRepo.searchByTypeStatusAndCreationDatePage(
+        null,
+        listOf(WorkloadStatus.RUNNING),
+        listOf(WorkloadType.CHECK),
+        now.plusDays(1),
+        start,
+        "",
+        1,
+      )
+    assertEquals(1, firstPage.size)
+
+    val last = firstPage.last()
+    val secondPage =
+      workloadRepo.searchByTypeStatusAndCreationDatePage(
+        null,
+        listOf(WorkloadStatus.RUNNING),
+        listOf(WorkloadType.CHECK),
+        now.plusDays(1),
+        last.createdAt!!,
+        last.id,
+        10,
+      )
+    assertEquals(1, secondPage.size)
+    assertEquals(setOf("workload1", "workload3"), (firstPage + secondPage).map { it.id }.toSet())
+  }
+
   object Fixtures {
     const val WORKLOAD_ID = "test"
 
@@ -9,8 +9,8 @@ import datadog.trace.api.Trace
 import io.airbyte.metrics.lib.ApmTraceUtils
 import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.workload.api.client.generated.WorkloadApi
+import io.airbyte.workload.api.client.model.generated.WorkloadListCursor
 import io.airbyte.workload.api.client.model.generated.WorkloadListRequest
-import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
 import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
 import io.airbyte.workload.launcher.metrics.MeterFilterFactory
@@ -38,26 +38,36 @@ class ClaimedProcessor(
   private val metricPublisher: CustomMetricPublisher,
   @Value("\${airbyte.data-plane-id}") private val dataplaneId: String,
   @Value("\${airbyte.workload-launcher.parallelism}") parallelism: Int,
+  @Value("\${airbyte.workload-launcher.claimed-page-size}") private val pageSize: Int,
 ) {
   private val scheduler = Schedulers.newParallel("process-claimed-scheduler", parallelism)
 
   @Trace(operationName = RESUME_CLAIMED_OPERATION_NAME)
   fun retrieveAndProcess() {
     addTagsToTrace()
-    val workloadListRequest =
-      WorkloadListRequest(
-        listOf(dataplaneId),
-        listOf(WorkloadStatus.CLAIMED),
-      )
+    var cursor: WorkloadListCursor? = null
+    var total = 0
+    // Claims are re-hydrated one page at a time so that a large backlog of claimed workloads is never held in memory
+    // all at once. Each page is fully processed before the next one is requested.
+    do {
+      val workloadList =
+        apiClient.workloadList(
+          WorkloadListRequest(
+            dataplane = listOf(dataplaneId),
+            status = listOf(WorkloadStatus.CLAIMED),
+            pageSize = pageSize,
+            cursor = cursor,
+          ),
+        )
 
-    val workloadList: WorkloadListResponse =
-      apiClient.workloadList(workloadListRequest)
+      logger.info { "Re-hydrating ${workloadList.workloads.size} workload claim(s)..." }
+      total += workloadList.workloads.size
 
-    logger.info { "Re-hydrating ${workloadList.workloads.size} workload claim(s)..." }
+      processMessages(workloadList.workloads.map { it.toLauncherInput() })
+      cursor = workloadList.nextCursor
+    } while (cursor != null)
 
-    val msgs = workloadList.workloads.map { it.toLauncherInput() }
-
-    processMessages(msgs)
+    logger.info { "Re-hydrated $total workload claim(s) in total." }
   }
 
   @VisibleForTesting
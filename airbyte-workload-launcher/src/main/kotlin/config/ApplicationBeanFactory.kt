@@ -17,8 +17,14 @@ import io.airbyte.metrics.lib.MetricClientFactory
 import io.airbyte.metrics.lib.MetricEmittingApps
 import io.airbyte.workers.CheckConnectionInputHydrator
 import io.airbyte.workers.ReplicationInputHydrator
+import io.airbyte.workers.helper.SecretPersistenceConfigCache
+import io.micronaut.context.annotation.Bean
 import io.micronaut.context.annotation.Factory
+import io.micronaut.context.annotation.Value
+import jakarta.inject.Named
 import jakarta.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.ExecutorService
 
 /**
  * Micronaut bean factory for general application beans.
@@ -36,27 +42,54 @@ class ApplicationBeanFactory {
     return MetricClientFactory.getMetricClient()
   }
 
+  @Singleton
+  fun secretPersistenceConfigCache(
+    secretsPersistenceConfigApi: SecretsPersistenceConfigApi,
+    @Value("\${airbyte.workload-launcher.hydration.secret-persistence-cache-expiry}") expiry: Duration,
+    @Value("\${airbyte.workload-launcher.hydration.secret-persistence-cache-size}") maxSize: Long,
+  ): SecretPersistenceConfigCache {
+    return SecretPersistenceConfigCache(secretsPersistenceConfigApi, expiry, maxSize)
+  }
+
+  @Singleton
+  @Named("replicationInputHydrationExecutor")
+  @Bean(preDestroy = "shutdown")
+  fun replicationInputHydrationExecutor(
+    @Value("\${airbyte.workload-launcher.hydration.fetch-parallelism}") fetchParallelism: Int,
+  ): ExecutorService {
+    return ReplicationInputHydrator.newFetchExecutor(fetchParallelism)
+  }
+
   @Singleton
   fun replicationInputHydrator(
     connectionApi: ConnectionApi,
     jobsApi: JobsApi,
     stateApi: StateApi,
-    secretsPersistenceConfigApi: SecretsPersistenceConfigApi,
+    secretPersistenceConfigCache: SecretPersistenceConfigCache,
     secretsRepositoryReader: SecretsRepositoryReader,
     featureFlagClient: FeatureFlagClient,
+    @Named("replicationInputHydrationExecutor") fetchExecutor: ExecutorService,
   ): ReplicationInputHydrator {
-    return ReplicationInputHydrator(connectionApi, jobsApi, stateApi, secretsPersistenceConfigApi, secretsRepositoryReader, featureFlagClient)
+    return ReplicationInputHydrator(
+      connectionApi,
+      jobsApi,
+      stateApi,
+      secretPersistenceConfigCache,
+      secretsRepositoryReader,
+      featureFlagClient,
+      fetchExecutor,
+    )
   }
 
   @Singleton
   fun checkInputHydrator(
-    secretsPersistenceConfigApi: SecretsPersistenceConfigApi,
     secretsRepositoryReader: SecretsRepositoryReader,
     featureFlagClient: FeatureFlagClient,
+    secretPersistenceConfigCache: SecretPersistenceConfigCache,
   ): CheckConnectionInputHydrator {
     return CheckConnectionInputHydrator(
       secretsRepositoryReader,
-      secretsPersistenceConfigApi,
+      secretPersistenceConfigCache,
       featureFlagClient,
     )
   }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher
+
+import io.airbyte.workload.api.client.generated.WorkloadApi
+import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadListCursor
+import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
+import io.airbyte.workload.api.client.model.generated.WorkloadStatus
+import io.airbyte.workload.api.client.model.generated.WorkloadType
+import io.airbyte.workload.launcher.fixtures.SharedMocks.Companion.metricPublisher
+import io.mockk.every
+import io.mockk.just
+import io.mockk.mockk
+import io.mockk.runs
+import io.mockk.spyk
+import io.mockk.verify
+import org.junit.jupiter.api.Test
+import java.time.OffsetDateTime
+import java.util.UUID
+
+class ClaimedProcessorTest {
+  @Test
+  fun `retrieveAndProcess processes every page of claimed workloads`() {
+    val apiClient: WorkloadApi = mockk()
+    val cursor = WorkloadListCursor(createdAt = OffsetDateTime.now(), id = "2")
+    every { apiClient.workloadList(match { it.cursor == null }) } returns
+      WorkloadListResponse(workloads = listOf(workload("1"), workload("2")), nextCursor = cursor)
+    every { apiClient.workloadList(match { it.cursor == cursor }) } returns
+      WorkloadListResponse(workloads = listOf(workload("3")))
+
+    val processor = spyk(ClaimedProcessor(apiClient, mockk(), metricPublisher, "dataplane_id", 1, 2))
+    every { processor.processMessages(any()) } just runs
+
+    processor.retrieveAndProcess()
+
+    verify(exactly = 2) {
+      apiClient.workloadList(
+        match { it.pageSize == 2 && it.dataplane == listOf("dataplane_id") && it.status == listOf(WorkloadStatus.CLAIMED) },
+      )
+    }
+    verify { processor.processMessages(match { msgs -> msgs.map { it.workloadId } == listOf("1", "2") }) }
+    verify { processor.processMessages(match { msgs -> msgs.map { it.workloadId } == listOf("3") }) }
+  }
+
+  private fun workload(id: String) =
+    Workload(
+      id = id,
+      labels = listOf(),
+      inputPayload = "",
+      logPath = "/",
+      geography = "AUTO",
+      type = WorkloadType.SYNC,
+      autoId = UUID.randomUUID(),
+    )
+}
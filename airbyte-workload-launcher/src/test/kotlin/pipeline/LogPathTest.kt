@@ -76,6 +76,7 @@ class LogPathTest {
         metricPublisher,
         "dataplane_id",
         parallelism,
+        100,
       )
 
     val msgs = inputMsgs()